@@ -0,0 +1,287 @@
+package com.autopia4j.framework.webdriver.core;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.autopia4j.framework.core.AutopiaException;
+import com.autopia4j.framework.utils.ExcelDataAccess;
+
+
+/**
+ * Class to encapsulate an immutable, in-memory snapshot of a datasheet<br>
+ * The snapshot mirrors the read operations of {@link ExcelDataAccess}, and may be shared safely across threads
+ * @author vj
+ */
+public class DatasheetSnapshot {
+	private static final int CELL_OVERHEAD_BYTES = 40;
+	
+	private final long lastModified;
+	private final List<String[]> rows;
+	private final Map<String, Integer> columnNumbers;
+	private final Map<String, TestcaseRows> testcaseIndex;
+	private final long estimatedSize;
+	
+	/**
+	 * Constructor to initialize the {@link DatasheetSnapshot} object
+	 * @param lastModified The last modified time of the datasheet at the time of loading
+	 * @param rows The rows of the datasheet, including the header row
+	 */
+	public DatasheetSnapshot(long lastModified, List<String[]> rows) {
+		this.lastModified = lastModified;
+		this.rows = Collections.unmodifiableList(rows);
+		
+		Map<String, Integer> headers = new HashMap<>();
+		long size = 0;
+		for (int currentRowNum = 0; currentRowNum < rows.size(); currentRowNum++) {
+			String[] row = rows.get(currentRowNum);
+			for (int currentColumnNum = 0; currentColumnNum < row.length; currentColumnNum++) {
+				if (currentRowNum == 0) {
+					headers.putIfAbsent(row[currentColumnNum], currentColumnNum);
+				}
+				size += CELL_OVERHEAD_BYTES + 2L * row[currentColumnNum].length();
+			}
+		}
+		this.columnNumbers = Collections.unmodifiableMap(headers);
+		this.testcaseIndex = Collections.unmodifiableMap(indexTestcases());
+		this.estimatedSize = size;
+	}
+	
+	private Map<String, TestcaseRows> indexTestcases() {
+		// Assumption: The rows of a test case are contiguous, with the test case name in column 0 and the iteration in column 1
+		Map<String, TestcaseRows> index = new HashMap<>();
+		
+		int currentRowNum = 0;
+		while (currentRowNum < rows.size()) {
+			String testcase = getValue(currentRowNum, 0);
+			int startRowNum = currentRowNum;
+			while (currentRowNum < rows.size() && testcase.equals(getValue(currentRowNum, 0))) {
+				currentRowNum++;
+			}
+			if ("".equals(testcase)) {
+				continue;
+			}
+			
+			int nFirstIterationRows = 0;
+			while (startRowNum + nFirstIterationRows < currentRowNum &&
+					"1".equals(getValue(startRowNum + nFirstIterationRows, 1))) {
+				nFirstIterationRows++;
+			}
+			
+			// Only the first block of rows is indexed, consistent with ExcelDataAccess.getRowNum()
+			index.putIfAbsent(testcase,
+					new TestcaseRows(startRowNum, currentRowNum - startRowNum, nFirstIterationRows));
+		}
+		
+		return index;
+	}
+	
+	/**
+	 * Function to get the last modified time of the workbook from which the snapshot was loaded
+	 * @return The last modified time of the workbook
+	 */
+	public long getLastModified() {
+		return lastModified;
+	}
+	
+	/**
+	 * Function to get the approximate heap footprint of the snapshot
+	 * @return The estimated size of the snapshot in bytes
+	 */
+	public long getEstimatedSize() {
+		return estimatedSize;
+	}
+	
+	/**
+	 * Function to get the last row number within the datasheet
+	 * @return The last row number
+	 */
+	public int getLastRowNum() {
+		return rows.size() - 1;
+	}
+	
+	/**
+	 * Function to get the row number of the first row containing the given key within the specified column
+	 * @param key The value to be searched for
+	 * @param columnNum The column number within which the key is to be searched
+	 * @param startRowNum The row number from which the search is to be started
+	 * @return The row number, or -1 if the key is not found
+	 */
+	public int getRowNum(String key, int columnNum, int startRowNum) {
+		for (int currentRowNum = startRowNum; currentRowNum < rows.size(); currentRowNum++) {
+			if (key.equals(getValue(currentRowNum, columnNum))) {
+				return currentRowNum;
+			}
+		}
+		
+		return -1;
+	}
+	
+	/**
+	 * Function to get the row number of the first row containing the given key within the specified column
+	 * @param key The value to be searched for
+	 * @param columnNum The column number within which the key is to be searched
+	 * @return The row number, or -1 if the key is not found
+	 */
+	public int getRowNum(String key, int columnNum) {
+		if (columnNum == 0) {
+			TestcaseRows testcaseRows = testcaseIndex.get(key);
+			return (testcaseRows == null) ? -1 : testcaseRows.getStartRowNum();
+		}
+		
+		return getRowNum(key, columnNum, 0);
+	}
+	
+	/**
+	 * Function to get the number of contiguous rows containing the given key within the specified column
+	 * @param key The value to be searched for
+	 * @param columnNum The column number within which the key is to be searched
+	 * @param startRowNum The row number from which the search is to be started
+	 * @return The number of contiguous rows containing the key
+	 */
+	public int getRowCount(String key, int columnNum, int startRowNum) {
+		int rowCount = 0;
+		boolean keyFound = false;
+		
+		for (int currentRowNum = startRowNum; currentRowNum < rows.size(); currentRowNum++) {
+			if (key.equals(getValue(currentRowNum, columnNum))) {
+				rowCount++;
+				keyFound = true;
+			} else if (keyFound) {
+				break;	// Assumption: Keys always appear in contiguous rows
+			}
+		}
+		
+		return rowCount;
+	}
+	
+	/**
+	 * Function to get the number of contiguous rows containing the given key within the specified column
+	 * @param key The value to be searched for
+	 * @param columnNum The column number within which the key is to be searched
+	 * @return The number of contiguous rows containing the key
+	 */
+	public int getRowCount(String key, int columnNum) {
+		if (columnNum == 0) {
+			TestcaseRows testcaseRows = testcaseIndex.get(key);
+			return (testcaseRows == null) ? 0 : testcaseRows.getRowCount();
+		}
+		
+		return getRowCount(key, columnNum, 0);
+	}
+	
+	/**
+	 * Function to get the indexed row range of the given test case
+	 * @param testcase The name of the test case
+	 * @return The {@link TestcaseRows} corresponding to the test case, or null if the test case is not found
+	 */
+	public TestcaseRows getTestcaseRows(String testcase) {
+		return testcaseIndex.get(testcase);
+	}
+	
+	/**
+	 * Function to get the column number corresponding to the given column header
+	 * @param columnHeader The column header
+	 * @return The column number, or -1 if the column header is not found
+	 */
+	public int getColumnNum(String columnHeader) {
+		Integer columnNum = columnNumbers.get(columnHeader);
+		return (columnNum == null) ? -1 : columnNum;
+	}
+	
+	/**
+	 * Function to get the value within the specified cell
+	 * @param rowNum The row number of the cell
+	 * @param columnNum The column number of the cell
+	 * @return The cell value (an empty string if the cell is blank)
+	 */
+	public String getValue(int rowNum, int columnNum) {
+		if (rowNum < 0 || rowNum >= rows.size()) {
+			return "";
+		}
+		String[] row = rows.get(rowNum);
+		if (columnNum < 0 || columnNum >= row.length) {
+			return "";
+		}
+		
+		return row[columnNum];
+	}
+	
+	/**
+	 * Function to get the value within the specified cell
+	 * @param rowNum The row number of the cell
+	 * @param columnHeader The column header of the cell
+	 * @return The cell value (an empty string if the cell is blank)
+	 */
+	public String getValue(int rowNum, String columnHeader) {
+		int columnNum = getColumnNum(columnHeader);
+		if (columnNum == -1) {
+			throw new AutopiaException("Column header " + columnHeader + " is not found in the datasheet!");
+		}
+		
+		return getValue(rowNum, columnNum);
+	}
+	
+	
+	/**
+	 * Class to encapsulate the range of rows occupied by a test case within a datasheet
+	 * @author vj
+	 */
+	public static class TestcaseRows {
+		private final int startRowNum;
+		private final int rowCount;
+		private final int subIterationCount;
+		
+		private TestcaseRows(int startRowNum, int rowCount, int subIterationCount) {
+			this.startRowNum = startRowNum;
+			this.rowCount = rowCount;
+			this.subIterationCount = subIterationCount;
+		}
+		
+		/**
+		 * Function to get the row number of the first row of the test case
+		 * @return The start row number
+		 */
+		public int getStartRowNum() {
+			return startRowNum;
+		}
+		
+		/**
+		 * Function to get the number of rows occupied by the test case
+		 * @return The row count
+		 */
+		public int getRowCount() {
+			return rowCount;
+		}
+		
+		/**
+		 * Function to get the number of sub-iterations within each iteration of the test case
+		 * (i.e., the number of rows whose iteration column is 1)
+		 * @return The sub-iteration count
+		 */
+		public int getSubIterationCount() {
+			return subIterationCount;
+		}
+		
+		/**
+		 * Function to get the number of iterations of the test case, assuming that every iteration has the same number of sub-iterations
+		 * @return The iteration count
+		 */
+		public int getIterationCount() {
+			if (subIterationCount == 0) {
+				return rowCount;
+			}
+			return rowCount / subIterationCount;
+		}
+		
+		/**
+		 * Function to get the row number of the first row of the specified iteration, assuming that every iteration has the same number of sub-iterations
+		 * @param iteration The iteration (1-based)
+		 * @return The row number of the first row of the iteration
+		 */
+		public int getIterationStartRowNum(int iteration) {
+			return startRowNum + (iteration - 1) * Math.max(subIterationCount, 1);
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,172 @@
+package com.autopia4j.framework.webdriver.core;
+
+import java.io.File;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.autopia4j.framework.core.AutopiaException;
+import com.autopia4j.framework.webdriver.datatable.DatatableBackend;
+import com.autopia4j.framework.webdriver.datatable.DatatableFormat;
+
+
+/**
+ * Singleton class that caches read-only {@link DatasheetSnapshot}s across the test instances within a batch<br>
+ * Each datasheet is loaded only once (even when requested concurrently by several threads),
+ * and is reloaded if the underlying workbook is modified. The least recently used snapshots are evicted
+ * once the total size of the cache exceeds the "datatable.cache.size.mb" setting (default: 64 MB).
+ * The datasheets are read through the {@link DatatableBackend} configured for each workbook
+ * @author vj
+ */
+public class DatatableCache {
+	private static final long DEFAULT_CACHE_SIZE_MB = 64;
+	
+	private final Logger logger = LoggerFactory.getLogger(DatatableCache.class);
+	
+	private final Map<String, DatasheetSnapshot> datasheets = new LinkedHashMap<>(16, 0.75f, true);
+	private final Map<String, FutureTask<DatasheetSnapshot>> pendingLoads = new ConcurrentHashMap<>();
+	private long cacheSize;
+	private long maxCacheSize = DEFAULT_CACHE_SIZE_MB * 1024 * 1024;
+	
+	private static final DatatableCache DATATABLE_CACHE = new DatatableCache();
+	
+	private DatatableCache() {
+		// To prevent external instantiation of this class
+	}
+	
+	/**
+	 * Function to return the singleton instance of the {@link DatatableCache} object
+	 * @return Instance of the {@link DatatableCache} object
+	 */
+	public static DatatableCache getInstance() {
+		return DATATABLE_CACHE;
+	}
+	
+	@Override
+	public Object clone() throws CloneNotSupportedException {
+		throw new CloneNotSupportedException();
+	}
+	
+	
+	/**
+	 * Function to get the {@link DatasheetSnapshot} corresponding to the specified datasheet
+	 * @param datatablePath The path where the datatable is stored
+	 * @param workbookName The name of the workbook (without the extension)
+	 * @param sheetName The name of the datasheet
+	 * @return The {@link DatasheetSnapshot}
+	 */
+	public DatasheetSnapshot getDatasheet(String datatablePath, String workbookName, String sheetName) {
+		return getDatasheet(datatablePath, workbookName, sheetName,
+											DatatableFormat.forWorkbook(workbookName).getBackend());
+	}
+	
+	/**
+	 * Function to get the {@link DatasheetSnapshot} corresponding to the specified datasheet,
+	 * read through the given {@link DatatableBackend}
+	 * @param datatablePath The path where the datatable is stored
+	 * @param workbookName The name of the workbook (without the extension)
+	 * @param sheetName The name of the datasheet
+	 * @param datatableBackend The {@link DatatableBackend} through which the workbook is stored
+	 * @return The {@link DatasheetSnapshot}
+	 */
+	public DatasheetSnapshot getDatasheet(String datatablePath, String workbookName, String sheetName,
+											DatatableBackend datatableBackend) {
+		File datasheetFile = datatableBackend.getDatasheetFile(datatablePath, workbookName, sheetName);
+		long lastModified = datasheetFile.lastModified();
+		String datasheetKey = datasheetFile.getAbsolutePath() + "#" + sheetName;
+		
+		synchronized (this) {
+			DatasheetSnapshot datasheet = datasheets.get(datasheetKey);
+			if (datasheet != null) {
+				if (datasheet.getLastModified() == lastModified) {
+					return datasheet;
+				}
+				logger.info("Datasheet {} has been modified. Reloading...", datasheetKey);
+				remove(datasheetKey);
+			}
+		}
+		
+		String loadKey = datasheetKey + "@" + lastModified;
+		FutureTask<DatasheetSnapshot> loadTask = new FutureTask<>(() ->
+				new DatasheetSnapshot(lastModified,
+						datatableBackend.readDatasheet(datatablePath, workbookName, sheetName)));
+		FutureTask<DatasheetSnapshot> pendingLoad = pendingLoads.putIfAbsent(loadKey, loadTask);
+		if (pendingLoad == null) {
+			pendingLoad = loadTask;
+			logger.info("Loading datasheet {}", datasheetKey);
+			loadTask.run();
+		}
+		
+		try {
+			DatasheetSnapshot datasheet = pendingLoad.get();
+			put(datasheetKey, datasheet);
+			return datasheet;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			String errorDescription = "Interrupted while loading the datasheet " + datasheetKey;
+			logger.error(errorDescription, e);
+			throw new AutopiaException(errorDescription);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof AutopiaException) {
+				throw (AutopiaException) e.getCause();
+			}
+			String errorDescription = "Error while loading the datasheet " + datasheetKey;
+			logger.error(errorDescription, e);
+			throw new AutopiaException(errorDescription);
+		} finally {
+			pendingLoads.remove(loadKey, loadTask);
+		}
+	}
+	
+	/**
+	 * Function to set the maximum total size of the snapshots retained within the cache
+	 * @param maxCacheSizeInMb The maximum size of the cache in MB
+	 */
+	public synchronized void setMaxCacheSize(long maxCacheSizeInMb) {
+		this.maxCacheSize = maxCacheSizeInMb * 1024 * 1024;
+	}
+	
+	/**
+	 * Function to remove all the snapshots from the cache
+	 */
+	public synchronized void clear() {
+		datasheets.clear();
+		cacheSize = 0;
+	}
+	
+	private synchronized void put(String datasheetKey, DatasheetSnapshot datasheet) {
+		DatasheetSnapshot cachedDatasheet = datasheets.get(datasheetKey);
+		if (cachedDatasheet != null && cachedDatasheet.getLastModified() >= datasheet.getLastModified()) {
+			return;
+		}
+		
+		remove(datasheetKey);
+		datasheets.put(datasheetKey, datasheet);
+		cacheSize += datasheet.getEstimatedSize();
+		
+		// Evict the least recently used snapshots, but always retain the one just added
+		Iterator<Map.Entry<String, DatasheetSnapshot>> iterator = datasheets.entrySet().iterator();
+		while (cacheSize > maxCacheSize && datasheets.size() > 1 && iterator.hasNext()) {
+			Map.Entry<String, DatasheetSnapshot> eldest = iterator.next();
+			if (eldest.getValue() == datasheet) {
+				continue;
+			}
+			logger.info("Evicting datasheet {} from the datatable cache", eldest.getKey());
+			cacheSize -= eldest.getValue().getEstimatedSize();
+			iterator.remove();
+		}
+	}
+	
+	private void remove(String datasheetKey) {
+		DatasheetSnapshot datasheet = datasheets.remove(datasheetKey);
+		if (datasheet != null) {
+			cacheSize -= datasheet.getEstimatedSize();
+		}
+	}
+}
\ No newline at end of file
@@ -2,6 +2,8 @@ package com.autopia4j.framework.webdriver.core;
 
 import java.util.Properties;
 
+import org.openqa.selenium.WebDriver;
+
 import com.autopia4j.framework.core.AutopiaException;
 import com.autopia4j.framework.core.FrameworkParameters;
 import com.autopia4j.framework.core.OnError;
@@ -16,6 +18,7 @@ import com.autopia4j.framework.webdriver.reporting.WebDriverReport;
 public abstract class DriverScript {
 	protected final WebDriverTestParameters testParameters;
 	protected WebDriverReport report;
+	protected WebDriver driver;
 	
 	protected final FrameworkParameters frameworkParameters = FrameworkParameters.getInstance();
 	protected Properties properties = Settings.getInstance();
@@ -24,6 +27,8 @@ public abstract class DriverScript {
 	
 	protected String executionTime;
 	
+	private volatile String abortReason;
+	
 	/**
 	 * DriverScript constructor
 	 * @param testParameters A {@link WebDriverTestParameters} object
@@ -72,6 +77,28 @@ public abstract class DriverScript {
 		return executionTime;
 	}
 	
+	/**
+	 * Function to get the reason for which the test execution was aborted
+	 * @return The abort reason, or null if the test execution was not aborted
+	 */
+	public String getAbortReason() {
+		return abortReason;
+	}
+	
+	/**
+	 * Function to abort the test execution, typically because it has exceeded its time budget<br>
+	 * The WebDriver session is force-quit so that any pending WebDriver command fails immediately
+	 * @param abortReason The reason for which the test execution is being aborted
+	 */
+	public void abort(String abortReason) {
+		this.abortReason = abortReason;
+		
+		WebDriver currentDriver = driver;
+		if (currentDriver != null) {
+			TestHarness.forceQuitWebDriver(currentDriver);
+		}
+	}
+	
 	/**
 	 * Function to initialize the iteration settings for the given test case
 	 * @param datatablePath The path where the datatable is stored
@@ -119,6 +146,12 @@ public abstract class DriverScript {
 	 * @param exceptionName The name of the Exception to be reported
 	 */
 	protected void handleExceptionInCurrentIteration(Exception ex, String exceptionName) {
+		if (abortReason != null) {
+			report.updateTestLog("Watchdog", "Test execution aborted: " + abortReason, Status.FAIL);
+			currentIteration = testParameters.getEndIteration();
+			return;
+		}
+		
 		// Error reporting
 		String exceptionDescription = ex.getMessage();
 		if(exceptionDescription == null) {
@@ -0,0 +1,142 @@
+package com.autopia4j.framework.webdriver.core;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.autopia4j.framework.core.AutopiaException;
+import com.autopia4j.framework.utils.Util;
+
+import io.github.lukehutch.fastclasspathscanner.FastClasspathScanner;
+
+
+/**
+ * Singleton class that resolves and caches the keywords (i.e., methods within {@link ReusableLibrary} classes) available to the keyword driven implementations<br>
+ * The reusable libraries are expected to reside within the [base package].pages and [base package].flows packages
+ * @author vj
+ */
+public class KeywordRegistry {
+	private final Logger logger = LoggerFactory.getLogger(KeywordRegistry.class);
+	
+	private final Map<String, List<Class<?>>> reusableLibraries = new ConcurrentHashMap<>();
+	private final Map<String, Keyword> keywords = new ConcurrentHashMap<>();
+	
+	private static final KeywordRegistry KEYWORD_REGISTRY = new KeywordRegistry();
+	
+	private KeywordRegistry() {
+		// To prevent external instantiation of this class
+	}
+	
+	/**
+	 * Function to return the singleton instance of the {@link KeywordRegistry} object
+	 * @return Instance of the {@link KeywordRegistry} object
+	 */
+	public static KeywordRegistry getInstance() {
+		return KEYWORD_REGISTRY;
+	}
+	
+	@Override
+	public Object clone() throws CloneNotSupportedException {
+		throw new CloneNotSupportedException();
+	}
+	
+	
+	/**
+	 * Function to get the {@link Keyword} corresponding to the given keyword name
+	 * @param basePackageName The base package name of the test project
+	 * @param keywordName The name of the keyword
+	 * @return The corresponding {@link Keyword}, or null if the keyword is not found
+	 */
+	public Keyword getKeyword(String basePackageName, String keywordName) {
+		String methodName = Util.unCapitalizeFirstLetter(keywordName);
+		String keywordKey = basePackageName + "#" + methodName;
+		
+		Keyword keyword = keywords.get(keywordKey);
+		if (keyword == null) {
+			keyword = findKeyword(basePackageName, methodName);
+			if (keyword != null) {
+				keywords.putIfAbsent(keywordKey, keyword);
+			}
+		}
+		
+		return keyword;
+	}
+	
+	private Keyword findKeyword(String basePackageName, String methodName) {
+		for (Class<?> testLibrary : getReusableLibraries(basePackageName)) {
+			try {
+				return new Keyword(testLibrary, testLibrary.getMethod(methodName, (Class<?>[]) null));
+			} catch(NoSuchMethodException ex) {
+				// If the method is not found in this class, search the next class
+				logger.trace("Method " + methodName + " not found. Continuing search...", ex);
+			}
+		}
+		
+		return null;
+	}
+	
+	private List<Class<?>> getReusableLibraries(String basePackageName) {
+		return reusableLibraries.computeIfAbsent(basePackageName, this::scanReusableLibraries);
+	}
+	
+	private List<Class<?>> scanReusableLibraries(String basePackageName) {
+		logger.info("Scanning the classpath for reusable libraries");
+		
+		String pagesPackage = basePackageName + ".pages";
+		String flowsPackage = basePackageName + ".flows";
+		List<String> classNames =
+				new FastClasspathScanner(pagesPackage, flowsPackage)
+			    .scan()
+			    .getNamesOfSubclassesOf(ReusableLibrary.class);
+		
+		List<Class<?>> testLibraries = new ArrayList<>();
+		for (String className : classNames) {
+			try {
+				testLibraries.add(Class.forName(className));
+			} catch (ClassNotFoundException e) {
+				String errorDescription = "Error while loading the reusable library " + className;
+				logger.error(errorDescription, e);
+				throw new AutopiaException(errorDescription);
+			}
+		}
+		
+		return Collections.unmodifiableList(testLibraries);
+	}
+	
+	
+	/**
+	 * Class to encapsulate a keyword, along with the {@link ReusableLibrary} class within which it was found
+	 * @author vj
+	 */
+	public static class Keyword {
+		private final Class<?> reusableLibrary;
+		private final Method method;
+		
+		private Keyword(Class<?> reusableLibrary, Method method) {
+			this.reusableLibrary = reusableLibrary;
+			this.method = method;
+		}
+		
+		/**
+		 * Function to get the {@link ReusableLibrary} class within which the keyword was found
+		 * @return The {@link ReusableLibrary} class
+		 */
+		public Class<?> getReusableLibrary() {
+			return reusableLibrary;
+		}
+		
+		/**
+		 * Function to get the {@link Method} implementing the keyword
+		 * @return The {@link Method} implementing the keyword
+		 */
+		public Method getMethod() {
+			return method;
+		}
+	}
+}
\ No newline at end of file
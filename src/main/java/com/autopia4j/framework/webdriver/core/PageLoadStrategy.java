@@ -0,0 +1,30 @@
+package com.autopia4j.framework.webdriver.core;
+
+/**
+ * Enumeration to represent the page load strategy to be used by the browser
+ * @author vj
+ */
+public enum PageLoadStrategy {
+	/**
+	 * Navigation returns once the page has loaded completely (readyState 'complete')
+	 */
+	NORMAL("normal"),
+	/**
+	 * Navigation returns as soon as the DOM is usable (readyState 'interactive'), without waiting for images, stylesheets and frames
+	 */
+	EAGER("eager"),
+	/**
+	 * Navigation returns as soon as the initial page content is received
+	 */
+	NONE("none");
+	
+	private String value;
+	
+	PageLoadStrategy(String value) {
+		this.value = value;
+	}
+	
+	public String getValue() {
+		return value;
+	}
+}
\ No newline at end of file
@@ -12,7 +12,11 @@ import com.autopia4j.framework.webdriver.utils.WebDriverUtil;
 
 
 /**
- * Abstract base class for reusable libraries created by the user
+ * Abstract base class for reusable libraries created by the user<br>
+ * The {@link WebDriverUtil} and {@link GalenUtil} objects are created only on first use, via {@link #getDriverUtil()}
+ * and {@link #getGalenUtil()}. Reusable libraries which still use the deprecated driverUtil and galenUtil fields
+ * should be migrated by replacing each reference to driverUtil with getDriverUtil() (and galenUtil with getGalenUtil());
+ * until then, the "reusable.library.fields.enabled" setting may be set to true to populate the fields for every library
  * @author vj
  */
 public abstract class ReusableLibrary {
@@ -39,11 +43,17 @@ public abstract class ReusableLibrary {
 	protected final WebDriver driver;
 	/**
 	 * The {@link WebDriverUtil} object (passed from the test script)
+	 * @deprecated Use {@link #getDriverUtil()} instead, which creates the {@link WebDriverUtil} object only on first use.
+	 * This field is null unless the "reusable.library.fields.enabled" setting is true (default: false)
 	 */
+	@Deprecated
 	protected final WebDriverUtil driverUtil;
 	/**
 	 * The {@link GalenUtil} object (passed from the test script)
+	 * @deprecated Use {@link #getGalenUtil()} instead, which creates the {@link GalenUtil} object only on first use.
+	 * This field is null unless the "reusable.library.fields.enabled" setting is true (default: false)
 	 */
+	@Deprecated
 	protected final GalenUtil galenUtil;
 	
 	/**
@@ -67,10 +77,35 @@ public abstract class ReusableLibrary {
 		dataTable = scriptHelper.getDataTable();
 		report = scriptHelper.getReport();
 		driver = scriptHelper.getDriver();
-		driverUtil = scriptHelper.getDriverUtil();
-		galenUtil = scriptHelper.getGalenUtil();
+		
+		WebDriverSettings settings = TestBatchHarness.getInstance().getWebDriverSettings(testParameters);
+		if (settings.getReusableLibraryFieldsEnabled()) {
+			driverUtil = scriptHelper.getDriverUtil();
+			galenUtil = scriptHelper.getGalenUtil();
+		} else {
+			driverUtil = null;
+			galenUtil = null;
+		}
 		
 		properties = Settings.getInstance();
 		frameworkParameters = FrameworkParameters.getInstance();
 	}
-}
\ No newline at end of file
+	
+	/**
+	 * Function to get the {@link WebDriverUtil} object (passed from the test script)<br>
+	 * The {@link WebDriverUtil} object is created on first use
+	 * @return The {@link WebDriverUtil} object
+	 */
+	protected WebDriverUtil getDriverUtil() {
+		return scriptHelper.getDriverUtil();
+	}
+	
+	/**
+	 * Function to get the {@link GalenUtil} object (passed from the test script)<br>
+	 * The {@link GalenUtil} object is created on first use
+	 * @return The {@link GalenUtil} object
+	 */
+	protected GalenUtil getGalenUtil() {
+		return scriptHelper.getGalenUtil();
+	}
+}
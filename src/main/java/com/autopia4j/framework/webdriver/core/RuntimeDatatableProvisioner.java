@@ -0,0 +1,183 @@
+package com.autopia4j.framework.webdriver.core;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+
+import org.apache.commons.io.FileUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.autopia4j.framework.core.AutopiaException;
+import com.autopia4j.framework.webdriver.datatable.DatatableBackend;
+import com.autopia4j.framework.webdriver.datatable.DatatableFormat;
+
+
+/**
+ * Singleton class that provisions the run-time copies of the datatables within the report folder<br>
+ * Each datatable is copied at most once, by whichever thread claims it first. Other threads requesting the same datatable
+ * wait only for that copy, and threads requesting other datatables are not blocked at all.
+ * The copy is written to a temporary file and atomically renamed, so a partially copied datatable is never visible
+ * @author vj
+ */
+public class RuntimeDatatableProvisioner {
+	private final Logger logger = LoggerFactory.getLogger(RuntimeDatatableProvisioner.class);
+	private final Map<String, FutureTask<Void>> provisionedDatatables = new ConcurrentHashMap<>();
+	
+	private static final RuntimeDatatableProvisioner RUNTIME_DATATABLE_PROVISIONER =
+															new RuntimeDatatableProvisioner();
+	
+	private RuntimeDatatableProvisioner() {
+		// To prevent external instantiation of this class
+	}
+	
+	/**
+	 * Function to return the singleton instance of the {@link RuntimeDatatableProvisioner} object
+	 * @return Instance of the {@link RuntimeDatatableProvisioner} object
+	 */
+	public static RuntimeDatatableProvisioner getInstance() {
+		return RUNTIME_DATATABLE_PROVISIONER;
+	}
+	
+	@Override
+	public Object clone() throws CloneNotSupportedException {
+		throw new CloneNotSupportedException();
+	}
+	
+	
+	/**
+	 * Function to provision the run-time copy of the specified datatable, if it does not exist already<br>
+	 * For workbooks stored in a {@link DatatableFormat} other than Excel, the corresponding file (or directory) is provisioned as well
+	 * @param datatablePath The base datatable path
+	 * @param runTimeDatatablePath The run-time datatable path
+	 * @param workbookName The name of the workbook (without the extension)
+	 */
+	public void provision(String datatablePath, String runTimeDatatablePath, String workbookName) {
+		DatatableFormat datatableFormat = DatatableFormat.forWorkbook(workbookName);
+		DatatableBackend excelBackend = DatatableFormat.EXCEL.getBackend();
+		File datatable = excelBackend.getWorkbookFile(datatablePath, workbookName);
+		if (datatableFormat == DatatableFormat.EXCEL || datatable.exists()) {
+			provision(datatable, excelBackend.getWorkbookFile(runTimeDatatablePath, workbookName));
+		}
+		
+		if (datatableFormat != DatatableFormat.EXCEL) {
+			DatatableBackend datatableBackend = datatableFormat.getBackend();
+			provision(datatableBackend.getWorkbookFile(datatablePath, workbookName),
+						datatableBackend.getWorkbookFile(runTimeDatatablePath, workbookName));
+		}
+	}
+	
+	private void provision(File datatable, File runTimeDatatable) {
+		String provisionKey = runTimeDatatable.getAbsolutePath();
+		
+		FutureTask<Void> provisionTask = provisionedDatatables.get(provisionKey);
+		if (provisionTask == null) {
+			if (runTimeDatatable.exists()) {
+				return;
+			}
+			
+			FutureTask<Void> newProvisionTask = new FutureTask<>(() -> {
+				if (!runTimeDatatable.exists()) {
+					copyAtomically(datatable, runTimeDatatable);
+				}
+				return null;
+			});
+			provisionTask = provisionedDatatables.putIfAbsent(provisionKey, newProvisionTask);
+			if (provisionTask == null) {
+				provisionTask = newProvisionTask;
+				newProvisionTask.run();
+			}
+		}
+		
+		try {
+			provisionTask.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new AutopiaException("Interrupted while creating the run-time datatable " + provisionKey);
+		} catch (ExecutionException e) {
+			provisionedDatatables.remove(provisionKey, provisionTask);	// Allow a subsequent retry
+			String errorDescription = "Error in creating run-time datatable: Copying the datatable " +
+															datatable.getName() + " failed...";
+			logger.error(errorDescription, e);
+			throw new AutopiaException(errorDescription);
+		}
+	}
+	
+	/**
+	 * Function to provision the run-time copies of the specified datatables in parallel
+	 * @param datatablePath The base datatable path
+	 * @param runTimeDatatablePath The run-time datatable path
+	 * @param workbookNames The names of the workbooks (without the extension)
+	 * @param nThreads The number of parallel threads to be used for the provisioning
+	 * @throws InterruptedException Exception thrown in case of issues waiting for the provisioning to complete
+	 */
+	public void provisionAll(String datatablePath, String runTimeDatatablePath,
+						Collection<String> workbookNames, int nThreads) throws InterruptedException {
+		logger.info("Provisioning {} run-time datatable(s)", workbookNames.size());
+		
+		List<Callable<Void>> provisionTasks = new ArrayList<>();
+		for (String workbookName : workbookNames) {
+			provisionTasks.add(() -> {
+				provision(datatablePath, runTimeDatatablePath, workbookName);
+				return null;
+			});
+		}
+		
+		ExecutorService provisionExecutor = Executors.newFixedThreadPool(nThreads);
+		try {
+			for (Future<Void> provisionResult : provisionExecutor.invokeAll(provisionTasks)) {
+				try {
+					provisionResult.get();
+				} catch (ExecutionException e) {
+					// Not fatal here; the affected tests will retry and report the failure themselves
+					logger.error("Error while provisioning the run-time datatables", e.getCause());
+				}
+			}
+		} finally {
+			provisionExecutor.shutdown();
+		}
+	}
+	
+	private void copyAtomically(File datatable, File runTimeDatatable) throws IOException {
+		// Note: Hard links are deliberately avoided, since run-time datatables are written to during the test execution
+		Path targetPath = runTimeDatatable.toPath();
+		Path targetDirectory = targetPath.toAbsolutePath().getParent();
+		Files.createDirectories(targetDirectory);
+		
+		Path tempPath;
+		if (datatable.isDirectory()) {
+			// Directory based formats (e.g., CSV) are copied in full before being renamed into place
+			tempPath = Files.createTempDirectory(targetDirectory, runTimeDatatable.getName());
+			FileUtils.copyDirectory(datatable, tempPath.toFile());
+		} else {
+			tempPath = Files.createTempFile(targetDirectory, runTimeDatatable.getName(), ".tmp");
+			Files.copy(datatable.toPath(), tempPath,
+						StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.COPY_ATTRIBUTES);
+		}
+		
+		try {
+			try {
+				Files.move(tempPath, targetPath, StandardCopyOption.ATOMIC_MOVE);
+			} catch (AtomicMoveNotSupportedException e) {
+				logger.trace("Atomic move not supported. Falling back to a regular move...", e);
+				Files.move(tempPath, targetPath);
+			}
+		} finally {
+			FileUtils.deleteQuietly(tempPath.toFile());
+		}
+	}
+}
\ No newline at end of file
@@ -2,9 +2,9 @@ package com.autopia4j.framework.webdriver.core;
 
 import org.openqa.selenium.WebDriver;
 
-import com.autopia4j.framework.core.FrameworkParameters;
 import com.autopia4j.framework.datatable.BaseDatatable;
 import com.autopia4j.framework.webdriver.reporting.WebDriverReport;
+import com.autopia4j.framework.webdriver.utils.AsyncWebDriver;
 import com.autopia4j.framework.webdriver.utils.GalenUtil;
 import com.autopia4j.framework.webdriver.utils.WebDriverUtil;
 
@@ -18,8 +18,9 @@ public class ScriptHelper {
 	private final BaseDatatable dataTable;
 	private final WebDriverReport report;
 	private final WebDriver driver;
-	private final WebDriverUtil driverUtil;
-	private final GalenUtil galenUtil;
+	private WebDriverUtil driverUtil;
+	private AsyncWebDriver asyncDriver;
+	private GalenUtil galenUtil;
 	
 	
 	/**
@@ -35,13 +36,6 @@ public class ScriptHelper {
 		this.dataTable = dataTable;
 		this.report = report;
 		this.driver = driver;
-		
-		FrameworkParameters frameworkParameters = FrameworkParameters.getInstance();
-		long objectSyncTimeout = frameworkParameters.getObjectSyncTimeout();
-		long pageLoadTimeout = frameworkParameters.getPageLoadTimeout();
-		
-		driverUtil = new WebDriverUtil(driver, objectSyncTimeout, pageLoadTimeout);
-		galenUtil = new GalenUtil(driver, report);
 	}
 	
 	/**
@@ -77,18 +71,50 @@ public class ScriptHelper {
 	}
 	
 	/**
-	 * Function to get the {@link WebDriverUtil} object
+	 * Function to get the {@link WebDriverUtil} object<br>
+	 * The {@link WebDriverUtil} object is created on first use
 	 * @return The {@link WebDriverUtil} object
 	 */
-	public WebDriverUtil getDriverUtil() {
+	public synchronized WebDriverUtil getDriverUtil() {
+		if (driverUtil == null) {
+			WebDriverSettings settings = TestBatchHarness.getInstance().getWebDriverSettings(testParameters);
+			driverUtil = new WebDriverUtil(driver, settings.getObjectSyncTimeout(), settings.getPageLoadTimeout(),
+											settings.getImplicitWaitTimeout(), settings.getScriptTimeout());
+			driverUtil.setElementCacheEnabled(settings.getElementCacheEnabled());
+		}
 		return driverUtil;
 	}
 	
 	/**
-	 * Function to get the {@link GalenUtil} object
+	 * Function to get the {@link AsyncWebDriver} object, which provides an asynchronous facade over the {@link WebDriver}<br>
+	 * The {@link AsyncWebDriver} object is created on first use, and runs its commands on the default (shared) executor
+	 * @return The {@link AsyncWebDriver} object
+	 */
+	public synchronized AsyncWebDriver getAsyncDriver() {
+		if (asyncDriver == null) {
+			WebDriverSettings settings = TestBatchHarness.getInstance().getWebDriverSettings(testParameters);
+			asyncDriver = new AsyncWebDriver(driver, settings.getObjectSyncTimeout());
+		}
+		return asyncDriver;
+	}
+	
+	/**
+	 * Function to get the {@link GalenUtil} object<br>
+	 * The {@link GalenUtil} object is created on first use
 	 * @return The {@link GalenUtil} object
 	 */
-	public GalenUtil getGalenUtil() {
+	public synchronized GalenUtil getGalenUtil() {
+		if (galenUtil == null) {
+			galenUtil = new GalenUtil(driver, report);
+		}
+		return galenUtil;
+	}
+	
+	/**
+	 * Function to return the {@link GalenUtil} object only if it has already been created
+	 * @return The {@link GalenUtil} object, or null if it has not been used during the test
+	 */
+	synchronized GalenUtil getGalenUtilIfUsed() {
 		return galenUtil;
 	}
 }
\ No newline at end of file
@@ -0,0 +1,28 @@
+package com.autopia4j.framework.webdriver.core;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation to mark a keyword (i.e., a method within a {@link ReusableLibrary}) as session-idempotent<br>
+ * A session-idempotent keyword leaves the application in the same state every time it is run with the same inputs,
+ * and is hence executed only once per WebDriver session by the keyword driven implementations
+ * @author vj
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface SessionIdempotent {
+	/**
+	 * The name of the datasheet which contains the inputs of the keyword
+	 * @return The datasheet name
+	 */
+	String datasheet() default "";
+	
+	/**
+	 * The names of the datatable fields which are the inputs of the keyword
+	 * @return The datatable field names
+	 */
+	String[] fields() default {};
+}
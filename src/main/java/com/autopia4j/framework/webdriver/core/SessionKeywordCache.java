@@ -0,0 +1,123 @@
+package com.autopia4j.framework.webdriver.core;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.internal.WrapsDriver;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.SessionId;
+
+import com.autopia4j.framework.datatable.BaseDatatable;
+
+/**
+ * Singleton class to keep track of the {@link SessionIdempotent} keywords which have already been executed successfully on each WebDriver session<br>
+ * The completed keywords are keyed by the WebDriver session id across the whole batch, so that they apply to any test which runs on the same session.
+ * Since the test harness starts a fresh session for every test and releases its entry when the session is quit, the keywords are typically skipped
+ * when the business flow repeats them within one test (e.g., across the sub-iterations of a keyword driven test)
+ * @author vj
+ */
+public class SessionKeywordCache {
+	private final Map<String, Set<String>> completedKeywords = new ConcurrentHashMap<>();
+	
+	private static final SessionKeywordCache SESSION_KEYWORD_CACHE = new SessionKeywordCache();
+	
+	private SessionKeywordCache() {
+		// To prevent external instantiation of this class
+	}
+	
+	/**
+	 * Function to return the singleton instance of the {@link SessionKeywordCache} object
+	 * @return Instance of the {@link SessionKeywordCache} object
+	 */
+	public static SessionKeywordCache getInstance() {
+		return SESSION_KEYWORD_CACHE;
+	}
+	
+	@Override
+	public Object clone() throws CloneNotSupportedException {
+		throw new CloneNotSupportedException();
+	}
+	
+	
+	/**
+	 * Function to get the key identifying the given keyword along with its current datatable inputs
+	 * @param keyword The name of the keyword
+	 * @param sessionIdempotent The {@link SessionIdempotent} annotation of the keyword
+	 * @param dataTable The {@link BaseDatatable} object from which the keyword inputs are to be read
+	 * @return The key identifying the keyword invocation
+	 */
+	public String getKey(String keyword, SessionIdempotent sessionIdempotent, BaseDatatable dataTable) {
+		StringBuilder key = new StringBuilder(keyword);
+		for (String field : sessionIdempotent.fields()) {
+			key.append('|').append(field).append('=');
+			if (dataTable != null) {
+				key.append(dataTable.getData(sessionIdempotent.datasheet(), field));
+			}
+		}
+		return key.toString();
+	}
+	
+	/**
+	 * Function to check whether the given keyword invocation has already completed successfully on the session of the given driver
+	 * @param driver The {@link WebDriver} object whose session is to be checked
+	 * @param key The key identifying the keyword invocation
+	 * @return Boolean value indicating whether the keyword invocation has already completed
+	 */
+	public Boolean hasCompleted(WebDriver driver, String key) {
+		String sessionId = getSessionId(driver);
+		if ("".equals(sessionId)) {
+			return false;
+		}
+		
+		Set<String> sessionKeywords = completedKeywords.get(sessionId);
+		return sessionKeywords != null && sessionKeywords.contains(key);
+	}
+	
+	/**
+	 * Function to record that the given keyword invocation has completed successfully on the session of the given driver
+	 * @param driver The {@link WebDriver} object whose session is to be updated
+	 * @param key The key identifying the keyword invocation
+	 */
+	public void markCompleted(WebDriver driver, String key) {
+		String sessionId = getSessionId(driver);
+		if ("".equals(sessionId)) {
+			return;
+		}
+		
+		completedKeywords.computeIfAbsent(sessionId, id -> ConcurrentHashMap.newKeySet()).add(key);
+	}
+	
+	/**
+	 * Function to invalidate all the keyword invocations recorded against the session of the given driver<br>
+	 * This function should also be invoked before the session is quit, so that the batch does not retain entries for sessions which no longer exist
+	 * @param driver The {@link WebDriver} object whose session is to be invalidated
+	 */
+	public void invalidate(WebDriver driver) {
+		String sessionId = getSessionId(driver);
+		if (!"".equals(sessionId)) {
+			completedKeywords.remove(sessionId);
+		}
+	}
+	
+	private String getSessionId(WebDriver driver) {
+		WebDriver sessionDriver = driver;
+		while (sessionDriver instanceof WrapsDriver) {
+			sessionDriver = ((WrapsDriver) sessionDriver).getWrappedDriver();
+		}
+		
+		if (sessionDriver == null) {
+			return "";
+		}
+		if (sessionDriver instanceof RemoteWebDriver) {
+			SessionId remoteSessionId = ((RemoteWebDriver) sessionDriver).getSessionId();
+			if (remoteSessionId == null) {
+				return "";
+			}
+			return remoteSessionId.toString();
+		} else {
+			return Integer.toString(System.identityHashCode(sessionDriver));
+		}
+	}
+}
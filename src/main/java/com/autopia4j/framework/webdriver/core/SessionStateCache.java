@@ -0,0 +1,111 @@
+package com.autopia4j.framework.webdriver.core;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.autopia4j.framework.core.FrameworkParameters;
+import com.autopia4j.framework.datatable.BaseDatatable;
+import com.autopia4j.framework.webdriver.utils.WebDriverSessionState;
+
+
+/**
+ * Singleton class that caches the session state captured by {@link SessionStateSnapshot} keywords across the tests in a batch
+ * @author vj
+ */
+public class SessionStateCache {
+	private final Logger logger = LoggerFactory.getLogger(SessionStateCache.class);
+	private final Map<String, WebDriverSessionState> sessionStates = new ConcurrentHashMap<>();
+	
+	private static final SessionStateCache SESSION_STATE_CACHE = new SessionStateCache();
+	
+	private SessionStateCache() {
+		// To prevent external instantiation of this class
+	}
+	
+	/**
+	 * Function to return the singleton instance of the {@link SessionStateCache} object
+	 * @return Instance of the {@link SessionStateCache} object
+	 */
+	public static SessionStateCache getInstance() {
+		return SESSION_STATE_CACHE;
+	}
+	
+	@Override
+	public Object clone() throws CloneNotSupportedException {
+		throw new CloneNotSupportedException();
+	}
+	
+	
+	/**
+	 * Function to get the key identifying the session state produced by the given keyword for the current user and execution environment
+	 * @param keyword The name of the keyword
+	 * @param sessionStateSnapshot The {@link SessionStateSnapshot} annotation of the keyword
+	 * @param dataTable The {@link BaseDatatable} object from which the user is to be read
+	 * @return The key identifying the session state
+	 */
+	public String getKey(String keyword, SessionStateSnapshot sessionStateSnapshot, BaseDatatable dataTable) {
+		String user = "";
+		if (dataTable != null && !"".equals(sessionStateSnapshot.userField())) {
+			user = dataTable.getData(sessionStateSnapshot.datasheet(), sessionStateSnapshot.userField());
+		}
+		
+		return keyword + "|" + user + "|" +
+				FrameworkParameters.getInstance().getExecutionEnvironment();
+	}
+	
+	/**
+	 * Function to restore the session state cached against the given key into the given WebDriver session
+	 * @param key The key identifying the session state
+	 * @param sessionStateSnapshot The {@link SessionStateSnapshot} annotation of the keyword
+	 * @param driver The {@link WebDriver} object
+	 * @return Boolean value indicating whether the session state was restored successfully
+	 */
+	public Boolean restore(String key, SessionStateSnapshot sessionStateSnapshot, WebDriver driver) {
+		WebDriverSessionState sessionState = sessionStates.get(key);
+		if (sessionState == null) {
+			return false;
+		}
+		if (sessionState.isExpired(sessionStateSnapshot.timeToLive())) {
+			logger.info("Cached session state for {} has expired", key);
+			sessionStates.remove(key, sessionState);
+			return false;
+		}
+		
+		try {
+			if (sessionState.restore(driver)) {
+				return true;
+			}
+			logger.info("Cached session state for {} was rejected by the application", key);
+		} catch (Exception ex) {
+			logger.error("Error while restoring the cached session state for " + key, ex);
+		}
+		
+		sessionStates.remove(key, sessionState);
+		return false;
+	}
+	
+	/**
+	 * Function to capture the session state of the given WebDriver session against the given key
+	 * @param key The key identifying the session state
+	 * @param driver The {@link WebDriver} object
+	 */
+	public void capture(String key, WebDriver driver) {
+		try {
+			sessionStates.put(key, WebDriverSessionState.capture(driver));
+		} catch (Exception ex) {
+			logger.error("Error while capturing the session state for " + key, ex);
+		}
+	}
+	
+	/**
+	 * Function to invalidate the session state cached against the given key
+	 * @param key The key identifying the session state
+	 */
+	public void invalidate(String key) {
+		sessionStates.remove(key);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,34 @@
+package com.autopia4j.framework.webdriver.core;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation to mark a keyword (i.e., a method within a {@link ReusableLibrary}) whose resulting session state may be reused across tests<br>
+ * Once such a keyword completes, the cookies, localStorage and sessionStorage of the current origin are captured.
+ * Subsequent tests running the keyword for the same user and execution environment have this state restored instead
+ * @author vj
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface SessionStateSnapshot {
+	/**
+	 * The name of the datasheet which contains the user field
+	 * @return The datasheet name
+	 */
+	String datasheet() default "";
+	
+	/**
+	 * The name of the datatable field which identifies the user logged in by the keyword
+	 * @return The datatable field name
+	 */
+	String userField() default "";
+	
+	/**
+	 * The number of seconds for which the captured session state may be reused
+	 * @return The time to live in seconds
+	 */
+	long timeToLive() default 1800;
+}
\ No newline at end of file
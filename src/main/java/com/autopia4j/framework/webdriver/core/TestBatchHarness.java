@@ -3,7 +3,12 @@ package com.autopia4j.framework.webdriver.core;
 import java.io.File;
 import java.io.IOException;
 import java.util.Date;
+import java.util.LinkedHashSet;
 import java.util.Properties;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.apache.commons.io.FileUtils;
 import org.slf4j.Logger;
@@ -15,9 +20,13 @@ import com.autopia4j.framework.core.TimeStamp;
 import com.autopia4j.framework.reporting.ReportSettings;
 import com.autopia4j.framework.reporting.ReportTheme;
 import com.autopia4j.framework.reporting.ReportThemeFactory;
-import com.autopia4j.framework.reporting.ReportThemeFactory.Theme;
 import com.autopia4j.framework.utils.Util;
+import com.autopia4j.framework.webdriver.datatable.DatatableWriteBuffer;
 import com.autopia4j.framework.webdriver.reporting.WebDriverReport;
+import com.autopia4j.framework.webdriver.utils.CommandTelemetry;
+import com.autopia4j.framework.webdriver.utils.CommandTelemetry.CommandStatistic;
+import com.autopia4j.framework.webdriver.utils.LocatorAnalysis;
+import com.autopia4j.framework.webdriver.utils.WaitStatistics;
 
 
 /**
@@ -25,13 +34,21 @@ import com.autopia4j.framework.webdriver.reporting.WebDriverReport;
  * @author vj
  */
 public class TestBatchHarness {
+	private static final int SLOWEST_WAITS_REPORTED = 50;
+	private static final int COSTLIEST_LOCATORS_REPORTED_PER_PAGE = 20;
+	
 	private final Logger logger = LoggerFactory.getLogger(TestBatchHarness.class);
 	private WebDriverReport summaryReport;
+	private final Queue<Runnable> pendingResultSummaryUpdates = new ConcurrentLinkedQueue<>();
+	private final ReentrantLock resultSummaryLock = new ReentrantLock();
+	private final CommandTelemetry batchCommandTelemetry = new CommandTelemetry();
 	
 	private Date overallStartTime;
 	
 	private FrameworkParameters frameworkParameters = FrameworkParameters.getInstance();
 	private Properties properties;
+	private WebDriverSettings webDriverSettings;
+	private Boolean resident = false;
 	
 	private static final TestBatchHarness TEST_BATCH_HARNESS = new TestBatchHarness();
 	
@@ -53,6 +70,15 @@ public class TestBatchHarness {
 	}
 	
 	
+	/**
+	 * Function to indicate whether the test batches are being executed within a long-lived process
+	 * (in which case the batch-scoped caches are retained across test batches)
+	 * @param resident Boolean variable indicating whether the test batches are being executed within a long-lived process
+	 */
+	public void setResident(Boolean resident) {
+		this.resident = resident;
+	}
+	
 	/**
 	 * Function to initialize the test batch execution
 	 */
@@ -61,6 +87,8 @@ public class TestBatchHarness {
 		
 		logger.info("Starting test batch execution");
 		initializeFrameworkParameters();
+		
+		DatatableWriteBuffer.getInstance().recover();
 	}
 	
 	private void initializeFrameworkParameters() {
@@ -71,6 +99,7 @@ public class TestBatchHarness {
 		initializeRunConfiguration();
 		initializeExecutionEnvironment();
 		initializeDateFormat();
+		initializeWebDriverSettings();
 	}
 	
 	private void initializeBasePath() {
@@ -103,14 +132,59 @@ public class TestBatchHarness {
 		}
 	}
 	
+	private void initializeWebDriverSettings() {
+		webDriverSettings = WebDriverSettings.load(properties);
+		frameworkParameters.setObjectSyncTimeout(webDriverSettings.getObjectSyncTimeout());
+		frameworkParameters.setPageLoadTimeout(webDriverSettings.getPageLoadTimeout());
+		WaitStatistics.getInstance().setEnabled(webDriverSettings.getWaitStatisticsEnabled(),
+													webDriverSettings.getLearnedWaitTimeoutsEnabled());
+		LocatorAnalysis.getInstance().setEnabled(webDriverSettings.getLocatorAnalysisEnabled());
+		DatatableCache.getInstance().setMaxCacheSize(webDriverSettings.getDatatableCacheSize());
+	}
+	
+	/**
+	 * Function to return the {@link WebDriverSettings} which are applicable for the test batch
+	 * @return The {@link WebDriverSettings} which are applicable for the test batch
+	 */
+	public synchronized WebDriverSettings getWebDriverSettings() {
+		if (webDriverSettings == null) {
+			// The test is being executed outside of a test batch (e.g., directly via the DriverScript)
+			webDriverSettings = WebDriverSettings.load(Settings.getInstance());
+		}
+		return webDriverSettings;
+	}
+	
+	/**
+	 * Function to return the {@link WebDriverSettings} which are applicable for the given test instance
+	 * @param testParameters The {@link WebDriverTestParameters} object containing the details of the test instance
+	 * @return The {@link WebDriverSettings} overridden for the test instance, if any, or else those of the test batch
+	 */
+	public WebDriverSettings getWebDriverSettings(WebDriverTestParameters testParameters) {
+		if (testParameters.getSettings() != null) {
+			return testParameters.getSettings();
+		}
+		return getWebDriverSettings();
+	}
+	
+	/**
+	 * Function to return the absolute path where the datatables are stored
+	 * @return The absolute path where the datatables are stored
+	 */
+	public String getDatatablePath() {
+		return frameworkParameters.getBasePath() +
+				Util.getFileSeparator() + "src" +
+				Util.getFileSeparator() + "test" +
+				Util.getFileSeparator() + "resources" +
+				Util.getFileSeparator() + "datatables";
+	}
+	
 	/**
 	 * Function to initialize the summary report
 	 * @param nThreads The number of parallel threads configured for the test batch execution
 	 */
 	public void initializeSummaryReport(int nThreads) {
 		ReportSettings reportSettings = initializeReportSettings();
-		ReportTheme reportTheme =
-				ReportThemeFactory.getReportsTheme(Theme.valueOf(properties.getProperty("report.theme")));
+		ReportTheme reportTheme = ReportThemeFactory.getReportsTheme(webDriverSettings.getReportTheme());
 		
 		summaryReport = new WebDriverReport(reportSettings, reportTheme);
 		
@@ -130,10 +204,10 @@ public class TestBatchHarness {
 		
 		ReportSettings reportSettings = new ReportSettings(reportPath, "Summary");
 		
-		reportSettings.setDateFormatString(properties.getProperty("date.format.string"));
-		reportSettings.setProjectName(properties.getProperty("project.name"));
-		reportSettings.setGenerateExcelReports(Boolean.parseBoolean(properties.getProperty("report.excel.enable")));
-		reportSettings.setGenerateHtmlReports(Boolean.parseBoolean(properties.getProperty("report.html.enable")));
+		reportSettings.setDateFormatString(webDriverSettings.getDateFormatString());
+		reportSettings.setProjectName(webDriverSettings.getProjectName());
+		reportSettings.setGenerateExcelReports(webDriverSettings.getGenerateExcelReports());
+		reportSettings.setGenerateHtmlReports(webDriverSettings.getGenerateHtmlReports());
 		reportSettings.setLinkTestLogsToSummary(true);
 		
 		return reportSettings;
@@ -144,7 +218,7 @@ public class TestBatchHarness {
 											" - Automation Execution Results Summary");
 		summaryReport.addResultSummarySubHeading("Date & Time",
 								": " + Util.getFormattedTime(overallStartTime,
-								properties.getProperty("date.format.string")),
+								webDriverSettings.getDateFormatString()),
 								"OnError", ": " + properties.getProperty("on.error"));
 		summaryReport.addResultSummarySubHeading("Run Configuration",
 								": " + frameworkParameters.getRunConfiguration(),
@@ -153,6 +227,26 @@ public class TestBatchHarness {
 		summaryReport.addResultSummaryTableHeadings();
 	}
 	
+	/**
+	 * Function to provision the run-time datatables for the given modules in parallel, based on the "report.datatable.include" setting
+	 * @param modules The modules to be executed within the test batch
+	 * @param nThreads The number of parallel threads configured for the test batch execution
+	 * @throws InterruptedException Exception thrown in case of issues waiting for the provisioning to complete
+	 */
+	public void provisionRuntimeDatatables(Set<String> modules, int nThreads) throws InterruptedException {
+		if (!webDriverSettings.getIncludeTestDataInReport() || modules.isEmpty()) {
+			return;
+		}
+		
+		String runTimeDatatablePath = summaryReport.getReportSettings().getReportPath() +
+												Util.getFileSeparator() + "datatables";
+		Set<String> workbookNames = new LinkedHashSet<>(modules);
+		workbookNames.add("Common Testdata");
+		
+		RuntimeDatatableProvisioner.getInstance().provisionAll(getDatatablePath(),
+											runTimeDatatablePath, workbookNames, nThreads);
+	}
+	
 	/**
 	 * Function to update the results summary with the status of the test instance which was executed
 	 * @param testParameters The {@link WebDriverTestParameters} object containing the details of the test instance which was executed
@@ -164,8 +258,34 @@ public class TestBatchHarness {
 												String executionTime, String testStatus) {
 		logger.info("Updating summary report");
 		
-		summaryReport.updateResultSummary(testParameters, testReportName,
-													executionTime, testStatus);
+		pendingResultSummaryUpdates.add(() -> summaryReport.updateResultSummary(testParameters,
+													testReportName, executionTime, testStatus));
+		drainResultSummaryUpdates(false);
+	}
+	
+	private void drainResultSummaryUpdates(Boolean waitForLock) {
+		// The summary report is not thread-safe, so whichever thread holds the lock writes the queued rows on behalf of the others
+		do {
+			if (waitForLock) {
+				resultSummaryLock.lock();
+			} else if (!resultSummaryLock.tryLock()) {
+				return;
+			}
+			
+			try {
+				Runnable resultSummaryUpdate;
+				while ((resultSummaryUpdate = pendingResultSummaryUpdates.poll()) != null) {
+					try {
+						resultSummaryUpdate.run();
+					} catch (RuntimeException ex) {
+						// The failed row must not break the teardown of an unrelated test, or strand the rows queued behind it
+						logger.error("Error while updating the result summary", ex);
+					}
+				}
+			} finally {
+				resultSummaryLock.unlock();
+			}
+		} while (!pendingResultSummaryUpdates.isEmpty());
 	}
 	
 	/**
@@ -174,6 +294,7 @@ public class TestBatchHarness {
 	 */
 	public void wrapUp(Boolean testExecutedInUnitTestFramework) {
 		logger.info("Test batch execution complete");
+		drainResultSummaryUpdates(true);
 		
 		Date overallEndTime = Util.getCurrentTime();
 		String totalExecutionTime = Util.getTimeDifference(overallStartTime, overallEndTime);
@@ -183,7 +304,58 @@ public class TestBatchHarness {
 			copyTestNgResults();
 		}
 		
+		DatatableWriteBuffer.getInstance().awaitPendingWrites();
+		saveWaitStatistics();
+		saveCommandTelemetry();
+		saveLocatorAnalysis();
 		summaryReport.copyLogFile();
+		
+		if (!resident) {
+			DatatableCache.getInstance().clear();
+		}
+	}
+	
+	private void saveWaitStatistics() {
+		WaitStatistics waitStatistics = WaitStatistics.getInstance();
+		if (waitStatistics.isEnabled()) {
+			File slowestWaitsReport = new File(summaryReport.getReportSettings().getReportPath() +
+													Util.getFileSeparator() + "Slowest Waits.csv");
+			waitStatistics.writeSlowestWaitsReport(slowestWaitsReport, SLOWEST_WAITS_REPORTED);
+			waitStatistics.save();
+			waitStatistics.clear();
+		}
+	}
+	
+	/**
+	 * Function to add the WebDriver command telemetry of a completed test to the batch totals
+	 * @param telemetry The {@link CommandTelemetry} recorded for the test
+	 */
+	public void recordCommandTelemetry(CommandTelemetry telemetry) {
+		batchCommandTelemetry.merge(telemetry);
+	}
+	
+	private void saveCommandTelemetry() {
+		if (batchCommandTelemetry.isEmpty()) {
+			return;
+		}
+		
+		for (CommandStatistic commandStatistic : batchCommandTelemetry.getStatistics()) {
+			logger.info("WebDriver command latency: {}", commandStatistic);
+		}
+		File commandLatencyReport = new File(summaryReport.getReportSettings().getReportPath() +
+												Util.getFileSeparator() + "Command Latency.csv");
+		batchCommandTelemetry.writeReport(commandLatencyReport);
+		batchCommandTelemetry.clear();
+	}
+	
+	private void saveLocatorAnalysis() {
+		LocatorAnalysis locatorAnalysis = LocatorAnalysis.getInstance();
+		if (locatorAnalysis.isEnabled()) {
+			File locatorAnalysisReport = new File(summaryReport.getReportSettings().getReportPath() +
+													Util.getFileSeparator() + "Locator Analysis.csv");
+			locatorAnalysis.writeReport(locatorAnalysisReport, COSTLIEST_LOCATORS_REPORTED_PER_PAGE);
+			locatorAnalysis.clear();
+		}
 	}
 	
 	private void copyTestNgResults() {
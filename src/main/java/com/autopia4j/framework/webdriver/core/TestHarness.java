@@ -1,43 +1,43 @@
 package com.autopia4j.framework.webdriver.core;
 
-import java.io.File;
-import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
 import java.util.Date;
-import java.util.Properties;
 import java.util.concurrent.TimeUnit;
 
-import org.apache.commons.io.FileUtils;
-import org.openqa.selenium.Platform;
 import org.openqa.selenium.WebDriver;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.autopia4j.framework.core.AutopiaException;
-import com.autopia4j.framework.core.FrameworkParameters;
 import com.autopia4j.framework.core.IterationOptions;
-import com.autopia4j.framework.core.Settings;
 import com.autopia4j.framework.core.TimeStamp;
 import com.autopia4j.framework.reporting.ReportSettings;
 import com.autopia4j.framework.reporting.ReportTheme;
 import com.autopia4j.framework.reporting.ReportThemeFactory;
-import com.autopia4j.framework.reporting.ReportThemeFactory.Theme;
+import com.autopia4j.framework.reporting.Status;
 import com.autopia4j.framework.utils.Util;
+import com.autopia4j.framework.webdriver.datatable.BufferedDatatable;
 import com.autopia4j.framework.webdriver.mobile.AppiumWebDriverFactory;
 import com.autopia4j.framework.webdriver.mobile.PerfectoWebDriverFactory;
 import com.autopia4j.framework.webdriver.mobile.PerfectoWebDriverUtil;
 import com.autopia4j.framework.webdriver.reporting.WebDriverReport;
+import com.autopia4j.framework.webdriver.utils.CommandTelemetry;
+import com.autopia4j.framework.webdriver.utils.CommandTelemetry.CommandStatistic;
 import com.autopia4j.framework.webdriver.utils.GalenUtil;
+import com.autopia4j.framework.webdriver.utils.InstrumentedWebDriver;
+import com.autopia4j.framework.webdriver.utils.LocatorAnalysis;
 import com.autopia4j.framework.webdriver.utils.WebDriverFactory;
-import com.autopia4j.framework.webdriver.utils.WebDriverProxy;
 
 public class TestHarness {
 	
 	private final Logger logger = LoggerFactory.getLogger(TestHarness.class);
 	
-	private FrameworkParameters frameworkParameters = FrameworkParameters.getInstance();
-	private Properties properties = Settings.getInstance();
+	private TestBatchHarness testBatchHarness = TestBatchHarness.getInstance();
 	
 	private Date startTime;
+	private long startAllocatedBytes;
+	private long allocatedBytes = -1;
 	
 	
 	/**
@@ -45,6 +45,7 @@ public class TestHarness {
 	 */
 	public TestHarness() {
 		startTime = Util.getCurrentTime();
+		startAllocatedBytes = getCurrentThreadAllocatedBytes();
 		
 		logger.info("Starting test execution");
 	}
@@ -59,26 +60,17 @@ public class TestHarness {
 		WebDriverTestParameters testParameters = new WebDriverTestParameters(currentModule, currentTestcase);
 		
 		logger.info("Initializing test parameters to default values");
+		WebDriverSettings settings = testBatchHarness.getWebDriverSettings();
 		
 		testParameters.setIterationMode(IterationOptions.RUN_ALL_ITERATIONS);
-		
-		String defaultExecutionMode = properties.getProperty("execution.mode.default");
-		testParameters.setExecutionMode(ExecutionMode.valueOf(defaultExecutionMode));
-		
-		String defaultDeviceName = properties.getProperty("device.name.default");
-		testParameters.setDeviceName(defaultDeviceName);
-		
-		String defaultBrowser = properties.getProperty("browser.default");
-		testParameters.setBrowser(Browser.valueOf(defaultBrowser));
-		
-		String defaultPlatform = properties.getProperty("platform.default");
-		testParameters.setPlatform(Platform.valueOf(defaultPlatform));
-		
-		String defaultDeviceType = properties.getProperty("device.type.default");
-		testParameters.setDeviceType(DeviceType.valueOf(defaultDeviceType));
-		
-		String defaultRemoteUrl = properties.getProperty("remote.url.default");
-		testParameters.setRemoteUrl(defaultRemoteUrl);
+		testParameters.setExecutionMode(settings.getDefaultExecutionMode());
+		testParameters.setDeviceName(settings.getDefaultDeviceName());
+		testParameters.setBrowser(settings.getDefaultBrowser());
+		testParameters.setPlatform(settings.getDefaultPlatform());
+		testParameters.setDeviceType(settings.getDefaultDeviceType());
+		testParameters.setRemoteUrl(settings.getDefaultRemoteUrl());
+		testParameters.setTestTimeout(settings.getTestTimeout());
+		testParameters.setKeywordTimeout(settings.getKeywordTimeout());
 		
 		return testParameters;
 	}
@@ -88,6 +80,8 @@ public class TestHarness {
 	 * @param testParameters The {@link WebDriverTestParameters} object
 	 */
 	public void setDefaultTestParameters(WebDriverTestParameters testParameters) {
+		WebDriverSettings settings = testBatchHarness.getWebDriverSettings(testParameters);
+		
 		if (testParameters.getCurrentTestDescription() == "") {
 			logger.info("Test description unspecified. Setting to default value: <Test name>");
 			testParameters.setCurrentTestDescription(testParameters.getCurrentTestcase());
@@ -99,39 +93,41 @@ public class TestHarness {
 		}
 		
 		if (testParameters.getExecutionMode() == null) {
-			String defaultExecutionMode = properties.getProperty("execution.mode.default");
-			logger.info("Execution mode unspecified. Setting to default value: {}", defaultExecutionMode);
-			testParameters.setExecutionMode(ExecutionMode.valueOf(defaultExecutionMode));
+			logger.info("Execution mode unspecified. Setting to default value: {}", settings.getDefaultExecutionMode());
+			testParameters.setExecutionMode(settings.getDefaultExecutionMode());
 		}
 		
 		if (testParameters.getDeviceName() == null) {
-			String defaultDeviceName = properties.getProperty("device.name.default");
-			logger.info("Device name unspecified. Setting to default value: {}", defaultDeviceName);
-			testParameters.setDeviceName(defaultDeviceName);
+			logger.info("Device name unspecified. Setting to default value: {}", settings.getDefaultDeviceName());
+			testParameters.setDeviceName(settings.getDefaultDeviceName());
 		}
 		
 		if (testParameters.getBrowser() == null) {
-			String defaultBrowser = properties.getProperty("browser.default");
-			logger.info("Browser unspecified. Setting to default value: {}", defaultBrowser);
-			testParameters.setBrowser(Browser.valueOf(defaultBrowser));
+			logger.info("Browser unspecified. Setting to default value: {}", settings.getDefaultBrowser());
+			testParameters.setBrowser(settings.getDefaultBrowser());
 		}
 		
 		if (testParameters.getPlatform() == null) {
-			String defaultPlatform = properties.getProperty("platform.default");
-			logger.info("Platform unspecified. Setting to default value: {}", defaultPlatform);
-			testParameters.setPlatform(Platform.valueOf(defaultPlatform));
+			logger.info("Platform unspecified. Setting to default value: {}", settings.getDefaultPlatform());
+			testParameters.setPlatform(settings.getDefaultPlatform());
 		}
 		
 		if (testParameters.getDeviceType() == null) {
-			String defaultDeviceType = properties.getProperty("device.type.default");
-			logger.info("Device Type unspecified. Setting to default value: {}", defaultDeviceType);
-			testParameters.setDeviceType(DeviceType.valueOf(defaultDeviceType));
+			logger.info("Device Type unspecified. Setting to default value: {}", settings.getDefaultDeviceType());
+			testParameters.setDeviceType(settings.getDefaultDeviceType());
 		}
 		
 		if(testParameters.getRemoteUrl() == null) {
-			String defaultRemoteUrl = properties.getProperty("remote.url.default");
-			logger.info("Remote URL unspecified. Setting to default value: {}", defaultRemoteUrl);
-			testParameters.setRemoteUrl(defaultRemoteUrl);
+			logger.info("Remote URL unspecified. Setting to default value: {}", settings.getDefaultRemoteUrl());
+			testParameters.setRemoteUrl(settings.getDefaultRemoteUrl());
+		}
+		
+		if (testParameters.getTestTimeout() == 0) {
+			testParameters.setTestTimeout(settings.getTestTimeout());
+		}
+		
+		if (testParameters.getKeywordTimeout() == 0) {
+			testParameters.setKeywordTimeout(settings.getKeywordTimeout());
 		}
 	}
 	
@@ -140,11 +136,7 @@ public class TestHarness {
 	 * @return The absolute path where the datatables are stored
 	 */
 	public String getDatatablePath() {
-		return frameworkParameters.getBasePath() +
-				Util.getFileSeparator() + "src" +
-				Util.getFileSeparator() + "test" +
-				Util.getFileSeparator() + "resources" +
-				Util.getFileSeparator() + "datatables";
+		return TestBatchHarness.getInstance().getDatatablePath();
 	}
 	
 	/**
@@ -154,47 +146,42 @@ public class TestHarness {
 	 */
 	public WebDriver initializeWebDriver(WebDriverTestParameters testParameters) {
 		logger.info("Initializing WebDriver");
+		WebDriverSettings settings = testBatchHarness.getWebDriverSettings(testParameters);
 		
 		WebDriver driver;
 		switch(testParameters.getExecutionMode()) {
 		case LOCAL:
-			initializeWebDriverFactory();
-			driver = WebDriverFactory.getWebDriver(testParameters.getBrowser());
+			driver = WebDriverFactory.getWebDriver(testParameters.getBrowser(), settings);
 			break;
 			
 		case REMOTE:
-			initializeWebDriverFactory();
 			driver = WebDriverFactory.getRemoteWebDriver(testParameters.getBrowser(),
-															testParameters.getRemoteUrl());
+															testParameters.getRemoteUrl(), settings);
 			break;
 			
 		case LOCAL_EMULATED_DEVICE:
-			initializeWebDriverFactory();
 			testParameters.setBrowser(Browser.CHROME);	// Mobile emulation supported only on Chrome
-			driver = WebDriverFactory.getEmulatedWebDriver(testParameters.getDeviceName());
+			driver = WebDriverFactory.getEmulatedWebDriver(testParameters.getDeviceName(), settings);
 			break;
 			
 		case REMOTE_EMULATED_DEVICE:
-			initializeWebDriverFactory();
 			testParameters.setBrowser(Browser.CHROME);	// Mobile emulation supported only on Chrome
 			driver = WebDriverFactory.getEmulatedRemoteWebDriver(testParameters.getDeviceName(), 
-																	testParameters.getRemoteUrl());
+																	testParameters.getRemoteUrl(), settings);
 			break;
 			
 		case GRID:
-			initializeWebDriverFactory();
 			driver = WebDriverFactory.getRemoteWebDriver(testParameters.getBrowser(),
 													testParameters.getBrowserVersion(),
 													testParameters.getPlatform(),
-													testParameters.getRemoteUrl());
+													testParameters.getRemoteUrl(), settings);
 			break;
 			
 		case PERFECTO_DEVICE:
-			initializePerfectoWebDriverFactory();
 			driver = PerfectoWebDriverFactory.getPerfectoRemoteWebDriver(testParameters.getPerfectoDeviceId(),
 																testParameters.getDeviceType(),
 																testParameters.getBrowser(),
-																testParameters.getRemoteUrl());
+																testParameters.getRemoteUrl(), settings);
 			break;
 			
 		case APPIUM_DEVICE:
@@ -209,55 +196,24 @@ public class TestHarness {
 			throw new AutopiaException("Unhandled Execution Mode!");
 		}
 		
-		long objectSyncTimeout =
-				Long.parseLong(properties.get("timeout.object.sync").toString());
-		frameworkParameters.setObjectSyncTimeout(objectSyncTimeout);
-		driver.manage().timeouts().implicitlyWait(objectSyncTimeout, TimeUnit.SECONDS);
+		// Force-quit the session if the test or keyword being executed exceeds its time budget
+		final WebDriver sessionDriver = driver;
+		TestWatchdog.getInstance().onAbort(abortReason -> forceQuitWebDriver(sessionDriver));
 		
-		long pageLoadTimeout =
-				Long.parseLong(properties.get("timeout.page.load").toString());
-		frameworkParameters.setPageLoadTimeout(pageLoadTimeout);
-		driver.manage().timeouts().pageLoadTimeout(pageLoadTimeout, TimeUnit.SECONDS);
+		driver.manage().timeouts().implicitlyWait(settings.getImplicitWaitTimeout(), TimeUnit.SECONDS);
+		driver.manage().timeouts().pageLoadTimeout(settings.getPageLoadTimeout(), TimeUnit.SECONDS);
+		driver.manage().timeouts().setScriptTimeout(settings.getScriptTimeout(), TimeUnit.SECONDS);
 		
 		if(testParameters.getDeviceType().getValue().contains("desktop")) {
 			driver.manage().window().maximize();
 		}
 		
-		return driver;
-	}
-	
-	private void initializeWebDriverFactory() {
-		logger.info("Initializing WebDriverFactory");
-		
-		WebDriverFactory.setAcceptAllSslCertificates(Boolean.parseBoolean(properties.getProperty("ssl.certs.accept.all")));
-		WebDriverFactory.setIntroduceFlakinessInternetExplorer(Boolean.parseBoolean(properties.getProperty("internet.explorer.introduce.flakiness")));
-		WebDriverFactory.setTurnOffPopupBlockerInternetExplorer(Boolean.parseBoolean(properties.getProperty("internet.explorer.popupblocker.turnoff")));
-		
-		Boolean proxyRequired = Boolean.parseBoolean(properties.getProperty("proxy.required"));
-		WebDriverFactory.setProxyRequired(proxyRequired);
-		
-		if (proxyRequired) {
-			WebDriverProxy proxy = new WebDriverProxy();
-			proxy.setHost(properties.getProperty("proxy.host"));
-			proxy.setPort(Integer.parseInt(properties.getProperty("proxy.port")));
-			
-			Boolean authRequired = Boolean.parseBoolean(properties.getProperty("proxy.auth.required"));
-			proxy.setAuthRequired(authRequired);
-			if(authRequired) {
-				proxy.setDomain(properties.getProperty("proxy.auth.domain"));
-				proxy.setUserName(properties.getProperty("proxy.auth.username"));
-				proxy.setPassword(properties.getProperty("proxy.auth.password"));
-			}
-			WebDriverFactory.setProxy(proxy);
+		Boolean locatorAnalysisEnabled = LocatorAnalysis.getInstance().isEnabled();
+		if (settings.getCommandTelemetryEnabled() || locatorAnalysisEnabled) {
+			driver = new InstrumentedWebDriver(driver, settings.getCommandTelemetryEnabled(), locatorAnalysisEnabled);
 		}
-	}
-	
-	private void initializePerfectoWebDriverFactory() {
-		logger.info("Initializing PerfectoWebDriverFactory");
 		
-		PerfectoWebDriverFactory.setAcceptAllSslCertificates(Boolean.parseBoolean(properties.getProperty("ssl.certs.accept.all")));
-		PerfectoWebDriverFactory.setUserName(properties.getProperty("perfecto.username"));
-		PerfectoWebDriverFactory.setPassword(properties.getProperty("perfecto.password"));
+		return driver;
 	}
 	
 	/**
@@ -269,9 +225,9 @@ public class TestHarness {
 	public WebDriverReport initializeTestReport(WebDriverTestParameters testParameters, WebDriver driver) {
 		logger.info("Initializing test log");
 		
-		ReportSettings reportSettings = initializeReportSettings(testParameters);
-		ReportTheme reportTheme =
-				ReportThemeFactory.getReportsTheme(Theme.valueOf(properties.getProperty("report.theme")));
+		WebDriverSettings settings = testBatchHarness.getWebDriverSettings(testParameters);
+		ReportSettings reportSettings = initializeReportSettings(testParameters, settings);
+		ReportTheme reportTheme = ReportThemeFactory.getReportsTheme(settings.getReportTheme());
 		
 		WebDriverReport report = new WebDriverReport(reportSettings, reportTheme);
 		
@@ -283,7 +239,8 @@ public class TestHarness {
 		return report;
 	}
 	
-	private ReportSettings initializeReportSettings(WebDriverTestParameters testParameters) {
+	private ReportSettings initializeReportSettings(WebDriverTestParameters testParameters,
+																WebDriverSettings settings) {
 		String reportPath;
 		if(System.getProperty("autopia.report.path") != null) {
 			reportPath = System.getProperty("autopia.report.path");
@@ -295,13 +252,12 @@ public class TestHarness {
 							"_" + testParameters.getCurrentTestInstance();
 		
 		ReportSettings reportSettings = new ReportSettings(reportPath, reportName);
-		reportSettings.setDateFormatString(properties.getProperty("date.format.string"));
-		reportSettings.setLogLevel(Integer.parseInt(properties.getProperty("report.level")));
-		reportSettings.setProjectName(properties.getProperty("project.name"));
-		reportSettings.setGenerateExcelReports(Boolean.parseBoolean(properties.getProperty("report.excel.enable")));
-		reportSettings.setGenerateHtmlReports(Boolean.parseBoolean(properties.getProperty("report.html.enable")));
-		reportSettings.setConsolidateScreenshotsInWordDoc(
-				Boolean.parseBoolean(properties.getProperty("report.screenshots.consolidate.worddoc")));
+		reportSettings.setDateFormatString(settings.getDateFormatString());
+		reportSettings.setLogLevel(settings.getReportLevel());
+		reportSettings.setProjectName(settings.getProjectName());
+		reportSettings.setGenerateExcelReports(settings.getGenerateExcelReports());
+		reportSettings.setGenerateHtmlReports(settings.getGenerateHtmlReports());
+		reportSettings.setConsolidateScreenshotsInWordDoc(settings.getConsolidateScreenshotsInWordDoc());
 		if (testParameters.getBrowser().equals(Browser.HTML_UNIT)) {
 			// Screenshots not supported in headless mode
 			reportSettings.setLinkScreenshotsToTestLog(false);
@@ -313,12 +269,13 @@ public class TestHarness {
 	}
 	
 	private void createTestLogHeader(WebDriverReport report, WebDriverTestParameters testParameters) {
+		WebDriverSettings settings = testBatchHarness.getWebDriverSettings(testParameters);
 		ReportSettings reportSettings = report.getReportSettings();
 		report.addTestLogHeading(reportSettings.getProjectName() +
 									" - " + reportSettings.getReportName() +
 									" Automation Execution Results");
 		report.addTestLogSubHeading("Date & Time",
-										": " + Util.getFormattedTime(startTime, properties.getProperty("date.format.string")),
+										": " + Util.getFormattedTime(startTime, settings.getDateFormatString()),
 										"Iteration Mode", ": " + testParameters.getIterationMode());
 		report.addTestLogSubHeading("Start Iteration", ": " + testParameters.getStartIteration(),
 									"End Iteration", ": " + testParameters.getEndIteration());
@@ -356,7 +313,7 @@ public class TestHarness {
             		"Executed on", ": " + "Perfecto MobileCloud @ " + testParameters.getRemoteUrl()); 
             report.addTestLogSubHeading("Device Name/ID", ": " + testParameters.getDeviceName() +
             		" (" + testParameters.getPerfectoDeviceId() + ")",
-            		"Perfecto User", ": " + properties.getProperty("perfecto.username")); 
+            		"Perfecto User", ": " + settings.getPerfectoUserName()); 
             break;
             
 		case APPIUM_DEVICE:
@@ -384,50 +341,14 @@ public class TestHarness {
 													WebDriverTestParameters testParameters) {
 		logger.info("Initializing runtime datatable path");
 		String runTimeDatatablePath;
-		Boolean includeTestDataInReport =
-				Boolean.parseBoolean(properties.getProperty("report.datatable.include"));
-		if (includeTestDataInReport) {
+		if (testBatchHarness.getWebDriverSettings(testParameters).getIncludeTestDataInReport()) {
 			runTimeDatatablePath = report.getReportSettings().getReportPath() +
 											Util.getFileSeparator() + "datatables";
 			
-			File runTimeDatatable = new File(runTimeDatatablePath + Util.getFileSeparator() +
-												testParameters.getCurrentModule() + ".xls");
-			if (!runTimeDatatable.exists()) {
-				synchronized (TestHarness.class) {
-					if (!runTimeDatatable.exists()) {
-						File datatable = new File(datatablePath + Util.getFileSeparator() +
-													testParameters.getCurrentModule() + ".xls");
-						
-						try {
-							FileUtils.copyFile(datatable, runTimeDatatable);
-						} catch (IOException e) {
-							String errorDescription = "Error in creating run-time datatable: Copying the datatable failed...";
-							logger.error(errorDescription, e);
-							throw new AutopiaException(errorDescription);
-						}
-					}
-				}
-			}
-			
-			File runTimeCommonDatatable = new File(runTimeDatatablePath +
-													Util.getFileSeparator() +
-													"Common Testdata.xls");
-			if (!runTimeCommonDatatable.exists()) {
-				synchronized (TestHarness.class) {
-					if (!runTimeCommonDatatable.exists()) {
-						File commonDatatable = new File(datatablePath +
-												Util.getFileSeparator() + "Common Testdata.xls");
-						
-						try {
-							FileUtils.copyFile(commonDatatable, runTimeCommonDatatable);
-						} catch (IOException e) {
-							String errorDescription = "Error in creating run-time datatable: Copying the common datatable failed...";
-							logger.error(errorDescription, e);
-							throw new AutopiaException(errorDescription);
-						}
-					}
-				}
-			}
+			RuntimeDatatableProvisioner runtimeDatatableProvisioner = RuntimeDatatableProvisioner.getInstance();
+			runtimeDatatableProvisioner.provision(datatablePath, runTimeDatatablePath,
+														testParameters.getCurrentModule());
+			runtimeDatatableProvisioner.provision(datatablePath, runTimeDatatablePath, "Common Testdata");
 		} else {
 			runTimeDatatablePath = datatablePath;
 		}
@@ -451,6 +372,7 @@ public class TestHarness {
 	 */
 	public void quitWebDriver(WebDriver driver) {
 		logger.info("Quitting WebDriver");
+		SessionKeywordCache.getInstance().invalidate(driver);
 		
 		try {
 			driver.quit();
@@ -459,6 +381,23 @@ public class TestHarness {
 		}
 	}
 	
+	/**
+	 * Function to quit the given {@link WebDriver} object asynchronously, since its session may be unresponsive<br>
+	 * Any pending WebDriver command on the session fails as soon as the session is quit
+	 * @param driver The {@link WebDriver} object
+	 */
+	static void forceQuitWebDriver(WebDriver driver) {
+		Thread quitThread = new Thread(() -> {
+			try {
+				driver.quit();
+			} catch (Exception ex) {
+				LoggerFactory.getLogger(TestHarness.class).error("Exception while force-quitting the browser", ex);
+			}
+		}, "autopia-abort");
+		quitThread.setDaemon(true);
+		quitThread.start();
+	}
+	
 	/**
 	 * Function to tear-down the {@link TestHarness} object
 	 * @param scriptHelper The {@link ScriptHelper} object
@@ -467,24 +406,86 @@ public class TestHarness {
 	public String tearDown(ScriptHelper scriptHelper) {
 		logger.info("Test execution complete");
 		
+		if (scriptHelper.getDataTable() instanceof BufferedDatatable) {
+			((BufferedDatatable) scriptHelper.getDataTable()).flush();
+		}
+		
 		Date endTime = Util.getCurrentTime();
+		logMemoryUsage();
 		return Util.getTimeDifference(startTime, endTime);
 	}
 	
+	private void logMemoryUsage() {
+		long endAllocatedBytes = getCurrentThreadAllocatedBytes();
+		if (startAllocatedBytes >= 0 && endAllocatedBytes >= 0) {
+			allocatedBytes = endAllocatedBytes - startAllocatedBytes;
+		}
+		
+		Runtime runtime = Runtime.getRuntime();
+		long usedHeapBytes = runtime.totalMemory() - runtime.freeMemory();
+		logger.info("Memory allocated by the test: {} KB; heap in use: {} KB",
+								allocatedBytes < 0 ? "N/A" : allocatedBytes / 1024, usedHeapBytes / 1024);
+	}
+	
+	private static long getCurrentThreadAllocatedBytes() {
+		ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+		if (threadMXBean instanceof com.sun.management.ThreadMXBean) {
+			com.sun.management.ThreadMXBean allocationMXBean = (com.sun.management.ThreadMXBean) threadMXBean;
+			if (allocationMXBean.isThreadAllocatedMemorySupported() &&
+												allocationMXBean.isThreadAllocatedMemoryEnabled()) {
+				return allocationMXBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+			}
+		}
+		return -1;
+	}
+	
+	/**
+	 * Function to get the number of bytes allocated on the heap by the thread executing the test, from the creation of this {@link TestHarness} to its tear-down
+	 * @return The number of bytes allocated by the test (-1 if the test has not been torn down, or if the JVM does not support allocation accounting)
+	 */
+	public long getAllocatedBytes() {
+		return allocatedBytes;
+	}
+	
 	/**
 	 * Function to close the test report
 	 * @param scriptHelper The {@link ScriptHelper} object
 	 * @param executionTime The script execution time
 	 */
 	public void closeTestReport(ScriptHelper scriptHelper, String executionTime) {
-		GalenUtil galenUtil = scriptHelper.getGalenUtil();
-		galenUtil.exportGalenReports();
+		GalenUtil galenUtil = scriptHelper.getGalenUtilIfUsed();
+		if (galenUtil != null) {
+			galenUtil.exportGalenReports();
+		}
 		
 		WebDriverReport report = scriptHelper.getReport();
 		if (report.getReportSettings().shouldConsolidateScreenshotsInWordDoc()) {
 			report.consolidateScreenshotsInWordDoc();
 		}
 		
+		if (scriptHelper.getDriver() instanceof InstrumentedWebDriver) {
+			CommandTelemetry telemetry = ((InstrumentedWebDriver) scriptHelper.getDriver()).getTelemetry();
+			addCommandTelemetryToTestLog(report, telemetry);
+			testBatchHarness.recordCommandTelemetry(telemetry);
+		}
+		
 		report.addTestLogFooter(executionTime);
 	}
+	
+	private void addCommandTelemetryToTestLog(WebDriverReport report, CommandTelemetry telemetry) {
+		if (telemetry.isEmpty()) {
+			return;
+		}
+		
+		report.addTestLogSection("WebDriver Command Latency");
+		for (CommandStatistic commandStatistic : telemetry.getStatistics()) {
+			report.updateTestLog(commandStatistic.getCommand(),
+									"Count: " + commandStatistic.getCount() +
+									", Errors: " + commandStatistic.getErrorCount() +
+									", Total: " + commandStatistic.getTotalDuration() + " ms" +
+									", Mean: " + commandStatistic.getMeanDuration() + " ms" +
+									", p90: " + commandStatistic.getPercentile(90) + " ms" +
+									", Max: " + commandStatistic.getMaxDuration() + " ms", Status.DONE);
+		}
+	}
 }
\ No newline at end of file
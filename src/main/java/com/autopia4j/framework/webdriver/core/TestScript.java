@@ -4,6 +4,8 @@ import org.testng.ITestContext;
 import org.testng.annotations.AfterSuite;
 import org.testng.annotations.BeforeSuite;
 
+import com.autopia4j.framework.webdriver.core.TestWatchdog.Watch;
+
 /**
  * Abstract base class for test scripts developed using the autopia4j framework
  * @author vj
@@ -15,6 +17,8 @@ public abstract class TestScript {
 	 */
 	protected TestBatchHarness testBatchHarness = TestBatchHarness.getInstance();
 	
+	private final ThreadLocal<Watch> currentTestWatch = new ThreadLocal<>();
+	
 	
 	/**
 	 * Function to do the required framework setup activities before executing the overall test suite
@@ -41,6 +45,34 @@ public abstract class TestScript {
 		testBatchHarness.initializeSummaryReport(nThreads);
 	}
 	
+	/**
+	 * Function to start enforcing the time budget of the current test method<br>
+	 * <u>Note</u>: TestNG test methods rely on {@link ThreadLocal} state, and hence cannot be moved to a separate thread
+	 * and abandoned as in the batch runner. When the budget expires, the WebDriver sessions created for the test are force-quit,
+	 * so that the pending WebDriver command fails; however, a command blocked on an unresponsive remote node may only return
+	 * once its socket times out
+	 * @param timeoutInSeconds The time budget in seconds (0 or less disables the time budget)
+	 * @param description The description of the test (used in the abort reason)
+	 */
+	protected void startTestWatch(long timeoutInSeconds, String description) {
+		currentTestWatch.set(TestWatchdog.getInstance().watch(timeoutInSeconds, description));
+	}
+	
+	/**
+	 * Function to stop enforcing the time budget of the current test method
+	 * @return The reason for which the test was aborted, or null if the test did not exceed its time budget
+	 */
+	protected String stopTestWatch() {
+		Watch testWatch = currentTestWatch.get();
+		currentTestWatch.remove();
+		if (testWatch == null) {
+			return null;
+		}
+		
+		TestWatchdog.getInstance().release(testWatch);
+		return testWatch.getAbortReason();
+	}
+	
 	/**
 	 * Function to do the required framework tear-down activities after executing the overall test suite
 	 */
@@ -0,0 +1,198 @@
+package com.autopia4j.framework.webdriver.core;
+
+import java.lang.reflect.Constructor;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.autopia4j.framework.core.AutopiaException;
+import com.autopia4j.framework.core.FrameworkParameters;
+import com.autopia4j.framework.utils.Util;
+
+
+/**
+ * Singleton class that resolves and caches the test script classes used during a batch execution
+ * @author vj
+ */
+public class TestScriptCatalogue {
+	private final Logger logger = LoggerFactory.getLogger(TestScriptCatalogue.class);
+	
+	private final Map<Class<?>, TestScriptInfo> testScriptInfos = new ConcurrentHashMap<>();
+	private final Map<String, Constructor<?>> testScriptConstructors = new ConcurrentHashMap<>();
+	
+	private static final TestScriptCatalogue TEST_SCRIPT_CATALOGUE = new TestScriptCatalogue();
+	
+	private TestScriptCatalogue() {
+		// To prevent external instantiation of this class
+	}
+	
+	/**
+	 * Function to return the singleton instance of the {@link TestScriptCatalogue} object
+	 * @return Instance of the {@link TestScriptCatalogue} object
+	 */
+	public static TestScriptCatalogue getInstance() {
+		return TEST_SCRIPT_CATALOGUE;
+	}
+	
+	@Override
+	public Object clone() throws CloneNotSupportedException {
+		throw new CloneNotSupportedException();
+	}
+	
+	
+	/**
+	 * Function to get the {@link TestScriptInfo} corresponding to the given test script class<br>
+	 * The test script is expected to reside within a package named [base package].testscripts.[module];
+	 * otherwise, the base package is the package of the test script itself, and the module is not resolved
+	 * @param testScriptClass The test script class
+	 * @return The {@link TestScriptInfo} corresponding to the given test script class
+	 */
+	public TestScriptInfo getTestScriptInfo(Class<?> testScriptClass) {
+		return testScriptInfos.computeIfAbsent(testScriptClass, TestScriptInfo::new);
+	}
+	
+	/**
+	 * Function to get a new instance of the test script corresponding to the given module and test case
+	 * @param module The name of the module
+	 * @param testcase The name of the test case
+	 * @param testScriptType The expected type of the test script
+	 * @param <T> The expected type of the test script
+	 * @return A new instance of the test script
+	 */
+	public <T> T getTestScriptInstance(String module, String testcase, Class<T> testScriptType) {
+		Constructor<?> testScriptConstructor = getTestScriptConstructor(module, testcase);
+		
+		try {
+			return testScriptType.cast(testScriptConstructor.newInstance());
+		} catch (Exception e) {
+			String errorDescription = "Error while instantiating the specified test script";
+			logger.error(errorDescription, e);
+			throw new AutopiaException(errorDescription);
+		}
+	}
+	
+	private Constructor<?> getTestScriptConstructor(String module, String testcase) {
+		String testScriptClassName = getTestScriptClassName(module, testcase);
+		Constructor<?> testScriptConstructor = testScriptConstructors.get(testScriptClassName);
+		if (testScriptConstructor == null) {
+			testScriptConstructor = resolveTestScriptConstructor(testScriptClassName);
+			testScriptConstructors.putIfAbsent(testScriptClassName, testScriptConstructor);
+		}
+		
+		return testScriptConstructor;
+	}
+	
+	private String getTestScriptClassName(String module, String testcase) {
+		return FrameworkParameters.getInstance().getBasePackageName() +
+					".testscripts." + Util.unCapitalizeFirstLetter(module) +
+					"." + testcase;
+	}
+	
+	private Constructor<?> resolveTestScriptConstructor(String testScriptClassName) {
+		Class<?> testScriptClass;
+		try {
+			testScriptClass = Class.forName(testScriptClassName);
+		} catch (ClassNotFoundException e) {
+			String errorDescription = "The specified test case " + testScriptClassName + " is not found!";
+			logger.error(errorDescription, e);
+			throw new AutopiaException(errorDescription);
+		}
+		
+		try {
+			return testScriptClass.getDeclaredConstructor();
+		} catch (NoSuchMethodException e) {
+			String errorDescription = "The specified test case " + testScriptClassName +
+															" does not have a default constructor!";
+			logger.error(errorDescription, e);
+			throw new AutopiaException(errorDescription);
+		}
+	}
+	
+	/**
+	 * Function to resolve the test scripts corresponding to all the given test instances upfront,
+	 * so that any missing test scripts are reported before the test batch execution begins<br>
+	 * Each distinct test script is resolved only once, even if several of the given test instances refer to it
+	 * @param testInstances The list of {@link WebDriverTestParameters} corresponding to the test instances to be executed
+	 * @return A {@link Map} of the test instances whose test scripts could not be resolved, along with the corresponding error
+	 */
+	public Map<WebDriverTestParameters, String> validateTestScripts(List<WebDriverTestParameters> testInstances) {
+		Map<String, String> testScriptErrors = new HashMap<>();
+		Map<WebDriverTestParameters, String> invalidTestInstances = new IdentityHashMap<>();
+		for (WebDriverTestParameters testParameters : testInstances) {
+			String testScriptClassName = getTestScriptClassName(testParameters.getCurrentModule(),
+																testParameters.getCurrentTestcase());
+			String error = testScriptErrors.computeIfAbsent(testScriptClassName, className -> {
+				try {
+					getTestScriptConstructor(testParameters.getCurrentModule(),
+												testParameters.getCurrentTestcase());
+					return "";
+				} catch (AutopiaException ex) {
+					return ex.getMessage();
+				}
+			});
+			
+			if (!"".equals(error)) {
+				invalidTestInstances.put(testParameters, error);
+			}
+		}
+		
+		return invalidTestInstances;
+	}
+	
+	
+	/**
+	 * Class to encapsulate the base package, module and test names derived from a test script class
+	 * @author vj
+	 */
+	public static class TestScriptInfo {
+		private final String basePackageName;
+		private final String module;
+		private final String test;
+		
+		private TestScriptInfo(Class<?> testScriptClass) {
+			String packageName = "";
+			if (testScriptClass.getPackage() != null) {
+				packageName = testScriptClass.getPackage().getName();
+			}
+			String[] currentPackageSplit = packageName.split(".testscripts.");
+			
+			basePackageName = currentPackageSplit[0];
+			if (currentPackageSplit.length < 2 || "".equals(currentPackageSplit[1])) {
+				module = null;
+			} else {
+				module = Util.capitalizeFirstLetter(currentPackageSplit[1]);
+			}
+			test = testScriptClass.getSimpleName();
+		}
+		
+		/**
+		 * Function to get the base package name
+		 * @return The base package name
+		 */
+		public String getBasePackageName() {
+			return basePackageName;
+		}
+		
+		/**
+		 * Function to get the name of the module
+		 * @return The name of the module (null if the test script does not reside within a package named
+		 * [base package].testscripts.[module])
+		 */
+		public String getModule() {
+			return module;
+		}
+		
+		/**
+		 * Function to get the name of the test
+		 * @return The name of the test
+		 */
+		public String getTest() {
+			return test;
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,253 @@
+package com.autopia4j.framework.webdriver.core;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.autopia4j.framework.core.AutopiaException;
+
+
+/**
+ * Singleton class that enforces wall-clock time budgets on test and keyword executions<br>
+ * A budgeted execution runs on a separate thread, so that the calling thread regains control as soon as the budget expires,
+ * even if the execution is blocked on an unresponsive WebDriver session. The expired execution is then aborted
+ * (which force-quits its WebDriver session) and abandoned, and the calling thread never receives an interrupt.<br>
+ * Executions which must remain on the calling thread (e.g., TestNG test methods which rely on {@link ThreadLocal} state)
+ * may only be watched: the abort handlers are invoked when the budget expires, but the calling thread keeps running
+ * until the aborted session fails its pending WebDriver command
+ * @author vj
+ */
+public class TestWatchdog {
+	private final Logger logger = LoggerFactory.getLogger(TestWatchdog.class);
+	private final AtomicInteger threadCount = new AtomicInteger();
+	private final ExecutorService executor =
+			Executors.newCachedThreadPool(runnable -> {
+				Thread budgetedThread = new Thread(runnable, "autopia-budgeted-" + threadCount.incrementAndGet());
+				budgetedThread.setDaemon(true);
+				return budgetedThread;
+			});
+	private final ScheduledThreadPoolExecutor scheduler =
+			new ScheduledThreadPoolExecutor(1, runnable -> {
+				Thread watchdogThread = new Thread(runnable, "autopia-watchdog");
+				watchdogThread.setDaemon(true);
+				return watchdogThread;
+			});
+	private final ThreadLocal<Watch> currentWatch = new ThreadLocal<>();
+	
+	private static final TestWatchdog TEST_WATCHDOG = new TestWatchdog();
+	
+	private TestWatchdog() {
+		// To prevent external instantiation of this class
+		scheduler.setRemoveOnCancelPolicy(true);
+	}
+	
+	/**
+	 * Function to return the singleton instance of the {@link TestWatchdog} object
+	 * @return Instance of the {@link TestWatchdog} object
+	 */
+	public static TestWatchdog getInstance() {
+		return TEST_WATCHDOG;
+	}
+	
+	@Override
+	public Object clone() throws CloneNotSupportedException {
+		throw new CloneNotSupportedException();
+	}
+	
+	
+	/**
+	 * Function to execute the given task within the given time budget<br>
+	 * If the budget expires, the abort handlers of the execution (and of any enclosing watched execution) are invoked,
+	 * the task is abandoned, and an {@link AutopiaException} is thrown on the calling thread
+	 * @param timeoutInSeconds The time budget in seconds (0 or less executes the task on the calling thread without any budget)
+	 * @param description The description of the execution (used in the abort reason)
+	 * @param abortHandler The handler to be invoked with the abort reason if the time budget expires (may be null)
+	 * @param task The {@link BudgetedTask} to be executed
+	 * @param <T> The type of the result of the task
+	 * @param <E> The type of the checked exception thrown by the task
+	 * @return The result of the task
+	 * @throws E The checked exception thrown by the task
+	 */
+	public <T, E extends Exception> T execute(long timeoutInSeconds, String description,
+											Consumer<String> abortHandler, BudgetedTask<T, E> task) throws E {
+		if (timeoutInSeconds <= 0) {
+			return task.call();
+		}
+		
+		Watch watch = new Watch(description, timeoutInSeconds, currentWatch.get());
+		if (abortHandler != null) {
+			watch.onAbort(abortHandler);
+		}
+		
+		Future<T> execution = executor.submit(() -> {
+			currentWatch.set(watch);
+			try {
+				return task.call();
+			} finally {
+				currentWatch.remove();
+			}
+		});
+		
+		try {
+			return execution.get(timeoutInSeconds, TimeUnit.SECONDS);
+		} catch (TimeoutException e) {
+			if (!execution.cancel(true)) {
+				// The task completed just as the budget expired
+				return getCompletedResult(execution);
+			}
+			watch.expire();
+			throw new AutopiaException(watch.getAbortReason());
+		} catch (InterruptedException e) {
+			execution.cancel(true);
+			Thread.currentThread().interrupt();
+			throw new AutopiaException(description + " interrupted");
+		} catch (ExecutionException e) {
+			throw this.<E>rethrow(e.getCause());
+		}
+	}
+	
+	private <T> T getCompletedResult(Future<T> execution) {
+		try {
+			return execution.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new AutopiaException("Interrupted while retrieving the result of a budgeted execution");
+		} catch (ExecutionException e) {
+			throw this.<RuntimeException>rethrow(e.getCause());
+		}
+	}
+	
+	@SuppressWarnings("unchecked")
+	private <E extends Exception> E rethrow(Throwable cause) throws E {
+		if (cause instanceof Error) {
+			throw (Error) cause;
+		}
+		throw (E) cause;	// The task may only throw unchecked exceptions or exceptions of type E
+	}
+	
+	/**
+	 * Function to start watching the execution on the calling thread<br>
+	 * Since the calling thread cannot be reclaimed, the expiry of the budget only invokes the registered abort handlers
+	 * @param timeoutInSeconds The time budget in seconds
+	 * @param description The description of the execution being watched (used in the abort reason)
+	 * @return The {@link Watch}, which should be released once the execution completes, or null if no time budget is applicable
+	 */
+	public Watch watch(long timeoutInSeconds, String description) {
+		if (timeoutInSeconds <= 0) {
+			return null;
+		}
+		
+		Watch watch = new Watch(description, timeoutInSeconds, currentWatch.get());
+		watch.expiry = scheduler.schedule(watch::expire, timeoutInSeconds, TimeUnit.SECONDS);
+		currentWatch.set(watch);
+		return watch;
+	}
+	
+	/**
+	 * Function to stop watching an execution started using {@link #watch(long, String)}
+	 * @param watch The {@link Watch} returned when the execution was started
+	 */
+	public void release(Watch watch) {
+		if (watch != null) {
+			watch.expiry.cancel(false);
+			if (currentWatch.get() == watch) {
+				if (watch.parent == null) {
+					currentWatch.remove();
+				} else {
+					currentWatch.set(watch.parent);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Function to register a handler to be invoked if the execution on the calling thread exceeds its time budget<br>
+	 * This function has no effect if the calling thread is not within a budgeted or watched execution
+	 * @param abortHandler The handler to be invoked with the abort reason
+	 */
+	public void onAbort(Consumer<String> abortHandler) {
+		Watch watch = currentWatch.get();
+		if (watch != null) {
+			watch.onAbort(abortHandler);
+		}
+	}
+	
+	
+	/**
+	 * Interface representing a task whose execution is subject to a time budget
+	 * @param <T> The type of the result of the task
+	 * @param <E> The type of the checked exception thrown by the task
+	 * @author vj
+	 */
+	@FunctionalInterface
+	public interface BudgetedTask<T, E extends Exception> {
+		/**
+		 * Function to execute the task
+		 * @return The result of the task
+		 * @throws E The checked exception thrown by the task
+		 */
+		T call() throws E;
+	}
+	
+	/**
+	 * Class to track the time budget of an execution along with the handlers to be invoked if it expires
+	 * @author vj
+	 */
+	public class Watch {
+		private final String description;
+		private final long timeoutInSeconds;
+		private final Watch parent;
+		private final List<Consumer<String>> abortHandlers = new CopyOnWriteArrayList<>();
+		private ScheduledFuture<?> expiry;
+		private volatile String abortReason;
+		
+		private Watch(String description, long timeoutInSeconds, Watch parent) {
+			this.description = description;
+			this.timeoutInSeconds = timeoutInSeconds;
+			this.parent = parent;
+		}
+		
+		private void onAbort(Consumer<String> abortHandler) {
+			abortHandlers.add(abortHandler);
+		}
+		
+		private void expire() {
+			abortReason = description + " exceeded its time budget of " + timeoutInSeconds + " seconds";
+			logger.error("Watchdog expired: {}", abortReason);
+			
+			// The enclosing executions (e.g., the test running the expired keyword) are aborted as well
+			for (Watch watch = this; watch != null; watch = watch.parent) {
+				if (watch.abortReason == null) {
+					watch.abortReason = abortReason;
+				}
+				for (Consumer<String> abortHandler : watch.abortHandlers) {
+					try {
+						abortHandler.accept(abortReason);
+					} catch (RuntimeException ex) {
+						logger.error("Exception while aborting " + description, ex);
+					}
+				}
+			}
+		}
+		
+		/**
+		 * Function to get the reason for which the execution was aborted
+		 * @return The abort reason, or null if the execution has not exceeded its time budget
+		 */
+		public String getAbortReason() {
+			return abortReason;
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,531 @@
+package com.autopia4j.framework.webdriver.core;
+
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import org.openqa.selenium.Platform;
+
+import com.autopia4j.framework.core.AutopiaException;
+import com.autopia4j.framework.reporting.ReportThemeFactory.Theme;
+import com.autopia4j.framework.utils.Util;
+import com.autopia4j.framework.webdriver.utils.WebDriverProxy;
+
+
+/**
+ * Class to encapsulate a typed, pre-validated snapshot of the framework settings used during test execution<br>
+ * The snapshot is built once per batch by the {@link TestBatchHarness}, and may be overridden for a specific test instance
+ * using the {@link WebDriverSettingsBuilder}
+ * @author vj
+ */
+public class WebDriverSettings {
+	ExecutionMode defaultExecutionMode;
+	String defaultDeviceName;
+	Browser defaultBrowser;
+	Platform defaultPlatform;
+	DeviceType defaultDeviceType;
+	URL defaultRemoteUrl;
+	
+	long objectSyncTimeout;
+	long pageLoadTimeout;
+	long scriptTimeout;
+	long testTimeout;
+	long keywordTimeout;
+	Boolean implicitWaitEnabled;
+	PageLoadStrategy pageLoadStrategy;
+	Boolean elementCacheEnabled;
+	Boolean commandTelemetryEnabled;
+	Boolean reusableLibraryFieldsEnabled;
+	Boolean waitStatisticsEnabled;
+	Boolean learnedWaitTimeoutsEnabled;
+	Boolean locatorAnalysisEnabled;
+	long datatableCacheSize;
+	
+	Boolean acceptAllSslCertificates;
+	Boolean introduceFlakinessInternetExplorer;
+	Boolean turnOffPopupBlockerInternetExplorer;
+	Boolean proxyRequired;
+	WebDriverProxy proxy;
+	String perfectoUserName;
+	String perfectoPassword;
+	
+	Theme reportTheme;
+	String dateFormatString;
+	int reportLevel;
+	String projectName;
+	Boolean generateExcelReports;
+	Boolean generateHtmlReports;
+	Boolean consolidateScreenshotsInWordDoc;
+	Boolean includeTestDataInReport;
+	
+	
+	WebDriverSettings() {
+		// Instances are created by the load() function or the WebDriverSettingsBuilder
+	}
+	
+	/**
+	 * Function to build and validate a {@link WebDriverSettings} snapshot from the given properties
+	 * @param properties The framework settings
+	 * @return The {@link WebDriverSettings} snapshot
+	 */
+	public static WebDriverSettings load(Properties properties) {
+		WebDriverSettings settings = new WebDriverSettings();
+		List<String> errors = new ArrayList<>();
+		
+		settings.defaultExecutionMode =
+				parseEnum(properties, "execution.mode.default", ExecutionMode.class, errors);
+		settings.defaultDeviceName = properties.getProperty("device.name.default");
+		settings.defaultBrowser = parseEnum(properties, "browser.default", Browser.class, errors);
+		settings.defaultPlatform = parseEnum(properties, "platform.default", Platform.class, errors);
+		settings.defaultDeviceType = parseEnum(properties, "device.type.default", DeviceType.class, errors);
+		String defaultRemoteUrl = properties.getProperty("remote.url.default");
+		if (defaultRemoteUrl != null && !"".equals(defaultRemoteUrl)) {
+			try {
+				settings.defaultRemoteUrl = Util.getUrl(defaultRemoteUrl);
+			} catch (RuntimeException ex) {
+				errors.add("remote.url.default: invalid URL \"" + defaultRemoteUrl + "\"");
+			}
+		}
+		
+		settings.objectSyncTimeout = parseLong(properties, "timeout.object.sync", null, errors);
+		settings.pageLoadTimeout = parseLong(properties, "timeout.page.load", null, errors);
+		settings.scriptTimeout = parseLong(properties, "timeout.script", "30", errors);
+		settings.testTimeout = parseLong(properties, "timeout.test", "0", errors);
+		settings.keywordTimeout = parseLong(properties, "timeout.keyword", "0", errors);
+		settings.implicitWaitEnabled =
+				Boolean.parseBoolean(properties.getProperty("timeout.implicit.wait.enabled", "true"));
+		settings.pageLoadStrategy = PageLoadStrategy.NORMAL;
+		if (properties.getProperty("page.load.strategy") != null) {
+			settings.pageLoadStrategy = parseEnum(properties, "page.load.strategy", PageLoadStrategy.class, errors);
+		}
+		settings.elementCacheEnabled = Boolean.parseBoolean(properties.getProperty("element.cache.enabled"));
+		settings.commandTelemetryEnabled = Boolean.parseBoolean(properties.getProperty("telemetry.commands.enabled"));
+		settings.reusableLibraryFieldsEnabled =
+				Boolean.parseBoolean(properties.getProperty("reusable.library.fields.enabled"));
+		settings.waitStatisticsEnabled = Boolean.parseBoolean(properties.getProperty("wait.statistics.enabled"));
+		settings.learnedWaitTimeoutsEnabled = settings.waitStatisticsEnabled &&
+				Boolean.parseBoolean(properties.getProperty("wait.timeouts.learned"));
+		settings.locatorAnalysisEnabled = Boolean.parseBoolean(properties.getProperty("locator.analysis.enabled"));
+		settings.datatableCacheSize = parseLong(properties, "datatable.cache.size.mb", "64", errors);
+		
+		settings.acceptAllSslCertificates =
+				Boolean.parseBoolean(properties.getProperty("ssl.certs.accept.all"));
+		settings.introduceFlakinessInternetExplorer =
+				Boolean.parseBoolean(properties.getProperty("internet.explorer.introduce.flakiness"));
+		settings.turnOffPopupBlockerInternetExplorer =
+				Boolean.parseBoolean(properties.getProperty("internet.explorer.popupblocker.turnoff"));
+		settings.proxyRequired = Boolean.parseBoolean(properties.getProperty("proxy.required"));
+		if (settings.proxyRequired) {
+			settings.proxy = loadProxy(properties, errors);
+		}
+		settings.perfectoUserName = properties.getProperty("perfecto.username");
+		settings.perfectoPassword = properties.getProperty("perfecto.password");
+		
+		settings.reportTheme = parseEnum(properties, "report.theme", Theme.class, errors);
+		settings.dateFormatString = properties.getProperty("date.format.string");
+		settings.reportLevel = (int) parseLong(properties, "report.level", null, errors);
+		settings.projectName = properties.getProperty("project.name");
+		settings.generateExcelReports = Boolean.parseBoolean(properties.getProperty("report.excel.enable"));
+		settings.generateHtmlReports = Boolean.parseBoolean(properties.getProperty("report.html.enable"));
+		settings.consolidateScreenshotsInWordDoc =
+				Boolean.parseBoolean(properties.getProperty("report.screenshots.consolidate.worddoc"));
+		settings.includeTestDataInReport =
+				Boolean.parseBoolean(properties.getProperty("report.datatable.include"));
+		
+		if (!errors.isEmpty()) {
+			throw new AutopiaException("Invalid framework settings: " + String.join("; ", errors));
+		}
+		
+		return settings;
+	}
+	
+	private static WebDriverProxy loadProxy(Properties properties, List<String> errors) {
+		WebDriverProxy proxy = new WebDriverProxy();
+		proxy.setHost(properties.getProperty("proxy.host"));
+		proxy.setPort((int) parseLong(properties, "proxy.port", null, errors));
+		
+		Boolean authRequired = Boolean.parseBoolean(properties.getProperty("proxy.auth.required"));
+		proxy.setAuthRequired(authRequired);
+		if (authRequired) {
+			proxy.setDomain(properties.getProperty("proxy.auth.domain"));
+			proxy.setUserName(properties.getProperty("proxy.auth.username"));
+			proxy.setPassword(properties.getProperty("proxy.auth.password"));
+		}
+		
+		return proxy;
+	}
+	
+	private static <T extends Enum<T>> T parseEnum(Properties properties, String key,
+													Class<T> enumType, List<String> errors) {
+		String value = properties.getProperty(key);
+		if (value == null || "".equals(value)) {
+			errors.add(key + ": value unspecified");
+			return null;
+		}
+		
+		try {
+			return Enum.valueOf(enumType, value);
+		} catch (IllegalArgumentException ex) {
+			errors.add(key + ": invalid value \"" + value + "\"");
+			return null;
+		}
+	}
+	
+	private static long parseLong(Properties properties, String key, String defaultValue, List<String> errors) {
+		String value = properties.getProperty(key, defaultValue);
+		if (value == null || "".equals(value)) {
+			errors.add(key + ": value unspecified");
+			return 0;
+		}
+		
+		try {
+			return Long.parseLong(value.trim());
+		} catch (NumberFormatException ex) {
+			errors.add(key + ": invalid number \"" + value + "\"");
+			return 0;
+		}
+	}
+	
+	WebDriverSettings copy() {
+		WebDriverSettings settings = new WebDriverSettings();
+		
+		settings.defaultExecutionMode = defaultExecutionMode;
+		settings.defaultDeviceName = defaultDeviceName;
+		settings.defaultBrowser = defaultBrowser;
+		settings.defaultPlatform = defaultPlatform;
+		settings.defaultDeviceType = defaultDeviceType;
+		settings.defaultRemoteUrl = defaultRemoteUrl;
+		settings.objectSyncTimeout = objectSyncTimeout;
+		settings.pageLoadTimeout = pageLoadTimeout;
+		settings.scriptTimeout = scriptTimeout;
+		settings.testTimeout = testTimeout;
+		settings.keywordTimeout = keywordTimeout;
+		settings.implicitWaitEnabled = implicitWaitEnabled;
+		settings.pageLoadStrategy = pageLoadStrategy;
+		settings.elementCacheEnabled = elementCacheEnabled;
+		settings.commandTelemetryEnabled = commandTelemetryEnabled;
+		settings.reusableLibraryFieldsEnabled = reusableLibraryFieldsEnabled;
+		settings.waitStatisticsEnabled = waitStatisticsEnabled;
+		settings.learnedWaitTimeoutsEnabled = learnedWaitTimeoutsEnabled;
+		settings.locatorAnalysisEnabled = locatorAnalysisEnabled;
+		settings.datatableCacheSize = datatableCacheSize;
+		settings.acceptAllSslCertificates = acceptAllSslCertificates;
+		settings.introduceFlakinessInternetExplorer = introduceFlakinessInternetExplorer;
+		settings.turnOffPopupBlockerInternetExplorer = turnOffPopupBlockerInternetExplorer;
+		settings.proxyRequired = proxyRequired;
+		settings.proxy = proxy;
+		settings.perfectoUserName = perfectoUserName;
+		settings.perfectoPassword = perfectoPassword;
+		settings.reportTheme = reportTheme;
+		settings.dateFormatString = dateFormatString;
+		settings.reportLevel = reportLevel;
+		settings.projectName = projectName;
+		settings.generateExcelReports = generateExcelReports;
+		settings.generateHtmlReports = generateHtmlReports;
+		settings.consolidateScreenshotsInWordDoc = consolidateScreenshotsInWordDoc;
+		settings.includeTestDataInReport = includeTestDataInReport;
+		
+		return settings;
+	}
+	
+	/**
+	 * Function to get the default {@link ExecutionMode}
+	 * @return The default {@link ExecutionMode}
+	 */
+	public ExecutionMode getDefaultExecutionMode() {
+		return defaultExecutionMode;
+	}
+	
+	/**
+	 * Function to get the default device name
+	 * @return The default device name
+	 */
+	public String getDefaultDeviceName() {
+		return defaultDeviceName;
+	}
+	
+	/**
+	 * Function to get the default {@link Browser}
+	 * @return The default {@link Browser}
+	 */
+	public Browser getDefaultBrowser() {
+		return defaultBrowser;
+	}
+	
+	/**
+	 * Function to get the default {@link Platform}
+	 * @return The default {@link Platform}
+	 */
+	public Platform getDefaultPlatform() {
+		return defaultPlatform;
+	}
+	
+	/**
+	 * Function to get the default {@link DeviceType}
+	 * @return The default {@link DeviceType}
+	 */
+	public DeviceType getDefaultDeviceType() {
+		return defaultDeviceType;
+	}
+	
+	/**
+	 * Function to get the default Remote WebDriver Server URL
+	 * @return The default Remote WebDriver Server URL (null if unspecified)
+	 */
+	public URL getDefaultRemoteUrl() {
+		return defaultRemoteUrl;
+	}
+	
+	/**
+	 * Function to get the object synchronization timeout
+	 * @return The object synchronization timeout in seconds
+	 */
+	public long getObjectSyncTimeout() {
+		return objectSyncTimeout;
+	}
+	
+	/**
+	 * Function to get the page load timeout
+	 * @return The page load timeout in seconds
+	 */
+	public long getPageLoadTimeout() {
+		return pageLoadTimeout;
+	}
+	
+	/**
+	 * Function to get the timeout for asynchronous scripts
+	 * @return The script timeout in seconds
+	 */
+	public long getScriptTimeout() {
+		return scriptTimeout;
+	}
+	
+	/**
+	 * Function to get whether the object synchronization timeout is applied as the WebDriver implicit wait<br>
+	 * If disabled, the implicit wait is zero, and element lookups which are expected to wait should use explicit waits
+	 * (such as WebDriverUtil.findWithin())
+	 * @return Boolean value indicating whether the implicit wait is enabled
+	 */
+	public Boolean getImplicitWaitEnabled() {
+		return implicitWaitEnabled;
+	}
+	
+	/**
+	 * Function to get the WebDriver implicit wait
+	 * @return The implicit wait in seconds (the object synchronization timeout, or 0 if the implicit wait is disabled)
+	 */
+	public long getImplicitWaitTimeout() {
+		return implicitWaitEnabled ? objectSyncTimeout : 0;
+	}
+	
+	/**
+	 * Function to get the page load strategy to be used by the browser<br>
+	 * The EAGER strategy returns from navigation as soon as the DOM is usable, and is typically combined with
+	 * WebDriverUtil.waitUntilNetworkIdle() for single-page applications
+	 * @return The {@link PageLoadStrategy} (NORMAL unless specified otherwise)
+	 */
+	public PageLoadStrategy getPageLoadStrategy() {
+		return pageLoadStrategy;
+	}
+	
+	/**
+	 * Function to get whether the page-scoped element cache of the WebDriverUtil is enabled
+	 * @return Boolean value indicating whether the element cache is enabled
+	 */
+	public Boolean getElementCacheEnabled() {
+		return elementCacheEnabled;
+	}
+	
+	/**
+	 * Function to get whether the latency of the WebDriver commands is to be recorded<br>
+	 * If enabled, the WebDriver is wrapped within an InstrumentedWebDriver, and the command statistics are included in the test log
+	 * and the result summary folder; if disabled, the WebDriver is not wrapped at all (unless the locator analysis is enabled)
+	 * @return Boolean value indicating whether the command telemetry is enabled
+	 */
+	public Boolean getCommandTelemetryEnabled() {
+		return commandTelemetryEnabled;
+	}
+	
+	/**
+	 * Function to get whether the deprecated driverUtil and galenUtil fields of the ReusableLibrary are to be populated<br>
+	 * Populating the fields creates the WebDriverUtil and GalenUtil objects for every reusable library,
+	 * and hence should be enabled only until the reusable libraries are migrated to the getDriverUtil() and getGalenUtil() accessors
+	 * @return Boolean value indicating whether the deprecated fields are to be populated (false unless specified otherwise)
+	 */
+	public Boolean getReusableLibraryFieldsEnabled() {
+		return reusableLibraryFieldsEnabled;
+	}
+	
+	/**
+	 * Function to get whether the observed time taken by each wait is to be recorded (and persisted across runs)<br>
+	 * This setting applies to the test batch as a whole
+	 * @return Boolean value indicating whether the wait statistics are to be recorded
+	 */
+	public Boolean getWaitStatisticsEnabled() {
+		return waitStatisticsEnabled;
+	}
+	
+	/**
+	 * Function to get whether the waits are to time out at the (tighter) timeouts learned from their earlier observations<br>
+	 * This setting applies to the test batch as a whole, and only if the wait statistics are enabled
+	 * @return Boolean value indicating whether the learned timeouts are enabled
+	 */
+	public Boolean getLearnedWaitTimeoutsEnabled() {
+		return learnedWaitTimeoutsEnabled;
+	}
+	
+	/**
+	 * Function to get whether the cost of each distinct locator is to be analyzed<br>
+	 * This setting applies to the test batch as a whole
+	 * @return Boolean value indicating whether the locator analysis is enabled
+	 */
+	public Boolean getLocatorAnalysisEnabled() {
+		return locatorAnalysisEnabled;
+	}
+	
+	/**
+	 * Function to get the maximum total size of the datasheets retained within the datatable cache<br>
+	 * This setting applies to the test batch as a whole
+	 * @return The datatable cache size in MB
+	 */
+	public long getDatatableCacheSize() {
+		return datatableCacheSize;
+	}
+	
+	/**
+	 * Function to get the default wall-clock time budget for each test
+	 * @return The test timeout in seconds (0 indicates that no timeout is applicable)
+	 */
+	public long getTestTimeout() {
+		return testTimeout;
+	}
+	
+	/**
+	 * Function to get the default wall-clock time budget for each keyword
+	 * @return The keyword timeout in seconds (0 indicates that no timeout is applicable)
+	 */
+	public long getKeywordTimeout() {
+		return keywordTimeout;
+	}
+	
+	/**
+	 * Function to check whether all SSL certificates are to be accepted
+	 * @return Boolean value indicating whether all SSL certificates are to be accepted
+	 */
+	public Boolean getAcceptAllSslCertificates() {
+		return acceptAllSslCertificates;
+	}
+	
+	/**
+	 * Function to check whether flakiness is to be introduced in Internet Explorer
+	 * @return Boolean value indicating whether flakiness is to be introduced in Internet Explorer
+	 */
+	public Boolean getIntroduceFlakinessInternetExplorer() {
+		return introduceFlakinessInternetExplorer;
+	}
+	
+	/**
+	 * Function to check whether the popup blocker is to be turned off in Internet Explorer
+	 * @return Boolean value indicating whether the popup blocker is to be turned off in Internet Explorer
+	 */
+	public Boolean getTurnOffPopupBlockerInternetExplorer() {
+		return turnOffPopupBlockerInternetExplorer;
+	}
+	
+	/**
+	 * Function to check whether a proxy is required
+	 * @return Boolean value indicating whether a proxy is required
+	 */
+	public Boolean getProxyRequired() {
+		return proxyRequired;
+	}
+	
+	/**
+	 * Function to get the {@link WebDriverProxy} settings
+	 * @return The {@link WebDriverProxy} settings (null if no proxy is required)
+	 */
+	public WebDriverProxy getProxy() {
+		return proxy;
+	}
+	
+	/**
+	 * Function to get the Perfecto MobileCloud user name
+	 * @return The Perfecto MobileCloud user name
+	 */
+	public String getPerfectoUserName() {
+		return perfectoUserName;
+	}
+	
+	/**
+	 * Function to get the Perfecto MobileCloud password
+	 * @return The Perfecto MobileCloud password
+	 */
+	public String getPerfectoPassword() {
+		return perfectoPassword;
+	}
+	
+	/**
+	 * Function to get the report {@link Theme}
+	 * @return The report {@link Theme}
+	 */
+	public Theme getReportTheme() {
+		return reportTheme;
+	}
+	
+	/**
+	 * Function to get the date format string
+	 * @return The date format string
+	 */
+	public String getDateFormatString() {
+		return dateFormatString;
+	}
+	
+	/**
+	 * Function to get the report level
+	 * @return The report level
+	 */
+	public int getReportLevel() {
+		return reportLevel;
+	}
+	
+	/**
+	 * Function to get the project name
+	 * @return The project name
+	 */
+	public String getProjectName() {
+		return projectName;
+	}
+	
+	/**
+	 * Function to check whether Excel reports are to be generated
+	 * @return Boolean value indicating whether Excel reports are to be generated
+	 */
+	public Boolean getGenerateExcelReports() {
+		return generateExcelReports;
+	}
+	
+	/**
+	 * Function to check whether HTML reports are to be generated
+	 * @return Boolean value indicating whether HTML reports are to be generated
+	 */
+	public Boolean getGenerateHtmlReports() {
+		return generateHtmlReports;
+	}
+	
+	/**
+	 * Function to check whether the screenshots are to be consolidated in a Word document
+	 * @return Boolean value indicating whether the screenshots are to be consolidated in a Word document
+	 */
+	public Boolean getConsolidateScreenshotsInWordDoc() {
+		return consolidateScreenshotsInWordDoc;
+	}
+	
+	/**
+	 * Function to check whether the test data is to be included in the report
+	 * @return Boolean value indicating whether the test data is to be included in the report
+	 */
+	public Boolean getIncludeTestDataInReport() {
+		return includeTestDataInReport;
+	}
+}
\ No newline at end of file
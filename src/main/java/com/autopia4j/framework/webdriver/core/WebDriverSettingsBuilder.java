@@ -0,0 +1,148 @@
+package com.autopia4j.framework.webdriver.core;
+
+import com.autopia4j.framework.webdriver.utils.WebDriverProxy;
+
+/**
+ * Builder class to override the {@link WebDriverSettings} for a specific test instance
+ * @author vj
+ */
+public class WebDriverSettingsBuilder {
+	private final WebDriverSettings settings;
+	
+	/**
+	 * Constructor to initialize the {@link WebDriverSettingsBuilder} object
+	 * @param baseSettings The {@link WebDriverSettings} to be overridden (typically those of the test batch)
+	 */
+	public WebDriverSettingsBuilder(WebDriverSettings baseSettings) {
+		this.settings = baseSettings.copy();
+	}
+	
+	/**
+	 * Function to set the object synchronization timeout
+	 * @param objectSyncTimeout The object synchronization timeout in seconds
+	 * @return The current {@link WebDriverSettingsBuilder} object
+	 */
+	public WebDriverSettingsBuilder objectSyncTimeout(long objectSyncTimeout) {
+		this.settings.objectSyncTimeout = objectSyncTimeout;
+		return this;
+	}
+	
+	/**
+	 * Function to set the page load timeout
+	 * @param pageLoadTimeout The page load timeout in seconds
+	 * @return The current {@link WebDriverSettingsBuilder} object
+	 */
+	public WebDriverSettingsBuilder pageLoadTimeout(long pageLoadTimeout) {
+		this.settings.pageLoadTimeout = pageLoadTimeout;
+		return this;
+	}
+	
+	/**
+	 * Function to set the timeout for asynchronous scripts
+	 * @param scriptTimeout The script timeout in seconds
+	 * @return The current {@link WebDriverSettingsBuilder} object
+	 */
+	public WebDriverSettingsBuilder scriptTimeout(long scriptTimeout) {
+		this.settings.scriptTimeout = scriptTimeout;
+		return this;
+	}
+	
+	/**
+	 * Function to set the default wall-clock time budget for the test
+	 * @param testTimeout The test timeout in seconds (0 indicates that no timeout is applicable)
+	 * @return The current {@link WebDriverSettingsBuilder} object
+	 */
+	public WebDriverSettingsBuilder testTimeout(long testTimeout) {
+		this.settings.testTimeout = testTimeout;
+		return this;
+	}
+	
+	/**
+	 * Function to set the default wall-clock time budget for each keyword
+	 * @param keywordTimeout The keyword timeout in seconds (0 indicates that no timeout is applicable)
+	 * @return The current {@link WebDriverSettingsBuilder} object
+	 */
+	public WebDriverSettingsBuilder keywordTimeout(long keywordTimeout) {
+		this.settings.keywordTimeout = keywordTimeout;
+		return this;
+	}
+	
+	/**
+	 * Function to set whether the object synchronization timeout is applied as the WebDriver implicit wait
+	 * @param implicitWaitEnabled Boolean value indicating whether the implicit wait is enabled (false implies a zero implicit wait)
+	 * @return The current {@link WebDriverSettingsBuilder} object
+	 */
+	public WebDriverSettingsBuilder implicitWaitEnabled(Boolean implicitWaitEnabled) {
+		this.settings.implicitWaitEnabled = implicitWaitEnabled;
+		return this;
+	}
+	
+	/**
+	 * Function to set the page load strategy to be used by the browser
+	 * @param pageLoadStrategy The {@link PageLoadStrategy} to be used
+	 * @return The current {@link WebDriverSettingsBuilder} object
+	 */
+	public WebDriverSettingsBuilder pageLoadStrategy(PageLoadStrategy pageLoadStrategy) {
+		this.settings.pageLoadStrategy = pageLoadStrategy;
+		return this;
+	}
+	
+	/**
+	 * Function to set whether the page-scoped element cache of the WebDriverUtil is enabled
+	 * @param elementCacheEnabled Boolean value indicating whether the element cache is enabled
+	 * @return The current {@link WebDriverSettingsBuilder} object
+	 */
+	public WebDriverSettingsBuilder elementCacheEnabled(Boolean elementCacheEnabled) {
+		this.settings.elementCacheEnabled = elementCacheEnabled;
+		return this;
+	}
+	
+	/**
+	 * Function to set whether the latency of the WebDriver commands is to be recorded
+	 * @param commandTelemetryEnabled Boolean value indicating whether the command telemetry is enabled
+	 * @return The current {@link WebDriverSettingsBuilder} object
+	 */
+	public WebDriverSettingsBuilder commandTelemetryEnabled(Boolean commandTelemetryEnabled) {
+		this.settings.commandTelemetryEnabled = commandTelemetryEnabled;
+		return this;
+	}
+	
+	/**
+	 * Function to set whether all SSL certificates are to be accepted
+	 * @param acceptAllSslCertificates Boolean value indicating whether all SSL certificates are to be accepted
+	 * @return The current {@link WebDriverSettingsBuilder} object
+	 */
+	public WebDriverSettingsBuilder acceptAllSslCertificates(Boolean acceptAllSslCertificates) {
+		this.settings.acceptAllSslCertificates = acceptAllSslCertificates;
+		return this;
+	}
+	
+	/**
+	 * Function to set the {@link WebDriverProxy} settings
+	 * @param proxy The {@link WebDriverProxy} settings (null if no proxy is required)
+	 * @return The current {@link WebDriverSettingsBuilder} object
+	 */
+	public WebDriverSettingsBuilder proxy(WebDriverProxy proxy) {
+		this.settings.proxyRequired = (proxy != null);
+		this.settings.proxy = proxy;
+		return this;
+	}
+	
+	/**
+	 * Function to set the report level
+	 * @param reportLevel The report level
+	 * @return The current {@link WebDriverSettingsBuilder} object
+	 */
+	public WebDriverSettingsBuilder reportLevel(int reportLevel) {
+		this.settings.reportLevel = reportLevel;
+		return this;
+	}
+	
+	/**
+	 * Function to build the {@link WebDriverSettings} object
+	 * @return The {@link WebDriverSettings} object
+	 */
+	public WebDriverSettings build() {
+		return settings.copy();
+	}
+}
\ No newline at end of file
@@ -28,6 +28,11 @@ public class WebDriverTestParameters extends TestParameters {
 	
 	private String perfectoDeviceId;
 	
+	private long testTimeout;
+	private long keywordTimeout;
+	
+	private WebDriverSettings settings;
+	
 	/**
 	 * Constructor to initialize the {@link WebDriverTestParameters} object
 	 * @param currentModule The current module
@@ -232,6 +237,54 @@ public class WebDriverTestParameters extends TestParameters {
 		this.perfectoDeviceId = perfectoDeviceId;
 	}
 	
+	/**
+	 * Function to get the wall-clock time budget (in seconds) for the entire test execution
+	 * @return The test timeout in seconds (0 indicates that no timeout is applicable)
+	 */
+	public long getTestTimeout() {
+		return testTimeout;
+	}
+	
+	/**
+	 * Function to set the wall-clock time budget (in seconds) for the entire test execution
+	 * @param testTimeout The test timeout in seconds (0 indicates that no timeout is applicable)
+	 */
+	public void setTestTimeout(long testTimeout) {
+		this.testTimeout = testTimeout;
+	}
+	
+	/**
+	 * Function to get the wall-clock time budget (in seconds) for each keyword invoked during the test execution
+	 * @return The keyword timeout in seconds (0 indicates that no timeout is applicable)
+	 */
+	public long getKeywordTimeout() {
+		return keywordTimeout;
+	}
+	
+	/**
+	 * Function to set the wall-clock time budget (in seconds) for each keyword invoked during the test execution
+	 * @param keywordTimeout The keyword timeout in seconds (0 indicates that no timeout is applicable)
+	 */
+	public void setKeywordTimeout(long keywordTimeout) {
+		this.keywordTimeout = keywordTimeout;
+	}
+	
+	/**
+	 * Function to get the {@link WebDriverSettings} overridden for this test instance
+	 * @return The overridden {@link WebDriverSettings} (null indicates that the settings of the test batch are applicable)
+	 */
+	public WebDriverSettings getSettings() {
+		return settings;
+	}
+	
+	/**
+	 * Function to override the {@link WebDriverSettings} for this test instance
+	 * @param settings The {@link WebDriverSettings} to be used for this test instance (typically created using the {@link WebDriverSettingsBuilder})
+	 */
+	public void setSettings(WebDriverSettings settings) {
+		this.settings = settings;
+	}
+	
 	@Override
 	public String getAdditionalDetails() {
 		String additionalDetails = super.getAdditionalDetails();
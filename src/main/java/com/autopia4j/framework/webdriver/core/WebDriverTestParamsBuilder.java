@@ -114,6 +114,36 @@ public class WebDriverTestParamsBuilder {
 		return this;
 	}
 	
+	/**
+	 * Function to set the test timeout
+	 * @param testTimeout The test timeout in seconds
+	 * @return The current {@link WebDriverTestParamsBuilder} object
+	 */
+	public WebDriverTestParamsBuilder testTimeout(long testTimeout) {
+		this.testParameters.setTestTimeout(testTimeout);
+		return this;
+	}
+	
+	/**
+	 * Function to set the keyword timeout
+	 * @param keywordTimeout The keyword timeout in seconds
+	 * @return The current {@link WebDriverTestParamsBuilder} object
+	 */
+	public WebDriverTestParamsBuilder keywordTimeout(long keywordTimeout) {
+		this.testParameters.setKeywordTimeout(keywordTimeout);
+		return this;
+	}
+	
+	/**
+	 * Function to override the {@link WebDriverSettings} for the test instance
+	 * @param settings The {@link WebDriverSettings} to be used for the test instance
+	 * @return The current {@link WebDriverTestParamsBuilder} object
+	 */
+	public WebDriverTestParamsBuilder settings(WebDriverSettings settings) {
+		this.testParameters.setSettings(settings);
+		return this;
+	}
+	
 	/**
 	 * Function to build the {@link WebDriverTestParameters} object
 	 * @return The {@link WebDriverTestParameters} object
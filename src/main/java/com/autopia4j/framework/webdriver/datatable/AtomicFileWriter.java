@@ -0,0 +1,65 @@
+package com.autopia4j.framework.webdriver.datatable;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+
+/**
+ * Class to write the datatable files via a temporary file which is then moved into place,
+ * so that concurrent readers never observe a partially written file
+ * @author vj
+ */
+final class AtomicFileWriter {
+	
+	private AtomicFileWriter() {
+		// To prevent external instantiation of this class
+	}
+	
+	/**
+	 * Function to replace the contents of the given file atomically
+	 * @param file The file to be written
+	 * @param content The {@link Content} which writes the new contents of the file
+	 * @throws IOException Exception thrown in case of issues writing the file
+	 */
+	static void write(File file, Content content) throws IOException {
+		Path targetPath = file.toPath().toAbsolutePath();
+		Path targetDirectory = targetPath.getParent();
+		Files.createDirectories(targetDirectory);
+		
+		Path tempPath = Files.createTempFile(targetDirectory, file.getName(), ".tmp");
+		try {
+			try (OutputStream outputStream = Files.newOutputStream(tempPath)) {
+				content.writeTo(outputStream);
+			}
+			
+			try {
+				Files.move(tempPath, targetPath,
+							StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(tempPath, targetPath, StandardCopyOption.REPLACE_EXISTING);
+			}
+		} finally {
+			Files.deleteIfExists(tempPath);
+		}
+	}
+	
+	
+	/**
+	 * Interface representing the new contents of a file
+	 * @author vj
+	 */
+	@FunctionalInterface
+	interface Content {
+		/**
+		 * Function to write the contents into the given stream
+		 * @param outputStream The {@link OutputStream} to be written into
+		 * @throws IOException Exception thrown in case of issues writing the contents
+		 */
+		void writeTo(OutputStream outputStream) throws IOException;
+	}
+}
\ No newline at end of file
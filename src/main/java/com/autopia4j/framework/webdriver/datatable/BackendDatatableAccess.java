@@ -0,0 +1,188 @@
+package com.autopia4j.framework.webdriver.datatable;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.autopia4j.framework.core.AutopiaException;
+import com.autopia4j.framework.webdriver.core.DatasheetSnapshot;
+import com.autopia4j.framework.webdriver.core.DatatableCache;
+
+
+/**
+ * Class to read and write the cells of a datatable stored through a {@link DatatableBackend}<br>
+ * The rows are located in the same manner as the core datatable implementations, i.e., using the test case (column 0),
+ * iteration (column 1) and sub-iteration (column 2), and data references are resolved from the common test data sheet
+ * @author vj
+ */
+class BackendDatatableAccess {
+	private static final String COMMON_TESTDATA_WORKBOOK = "Common Testdata";
+	private static final String COMMON_TESTDATA_SHEET = "Common_Testdata";
+	// The read-modify-write of each workbook is serialized, so that concurrent writers do not lose each other's updates
+	private static final Map<String, Lock> WORKBOOK_LOCKS = new ConcurrentHashMap<>();
+	
+	private final Logger logger = LoggerFactory.getLogger(BackendDatatableAccess.class);
+	
+	private final String datatablePath;
+	private final String datatableName;
+	private final DatatableBackend datatableBackend;
+	private String dataReferenceIdentifier = "#";
+	
+	BackendDatatableAccess(String datatablePath, String datatableName, DatatableFormat datatableFormat) {
+		this(datatablePath, datatableName, datatableFormat.getBackend());
+	}
+	
+	BackendDatatableAccess(String datatablePath, String datatableName, DatatableBackend datatableBackend) {
+		this.datatablePath = datatablePath;
+		this.datatableName = datatableName;
+		this.datatableBackend = datatableBackend;
+	}
+	
+	void setDataReferenceIdentifier(String dataReferenceIdentifier) {
+		this.dataReferenceIdentifier = dataReferenceIdentifier;
+	}
+	
+	/**
+	 * Function to get the value of the specified field within the current row of the specified datasheet
+	 * @param testcase The current test case
+	 * @param iteration The current iteration (0 if the datatable is not iterative)
+	 * @param subIteration The current sub-iteration (0 if the datatable is not sub-iterative)
+	 * @param datasheetName The name of the datasheet
+	 * @param fieldName The name of the field
+	 * @return The value of the field, with any data reference resolved from the common test data sheet
+	 */
+	String getData(String testcase, int iteration, int subIteration,
+											String datasheetName, String fieldName) {
+		DatasheetSnapshot datasheet = DatatableCache.getInstance().getDatasheet(datatablePath,
+											datatableName, datasheetName, datatableBackend);
+		int rowNum = getRowNum(datasheet, testcase, iteration, subIteration, datasheetName);
+		String dataValue = getValue(datasheet, rowNum, fieldName);
+		
+		if (dataValue.startsWith(dataReferenceIdentifier)) {
+			dataValue = getCommonData(dataValue.substring(dataReferenceIdentifier.length()), fieldName);
+		}
+		
+		return dataValue;
+	}
+	
+	private String getCommonData(String dataReferenceId, String fieldName) {
+		DatasheetSnapshot commonDatasheet = DatatableCache.getInstance().getDatasheet(datatablePath,
+											COMMON_TESTDATA_WORKBOOK, COMMON_TESTDATA_SHEET);
+		int rowNum = commonDatasheet.getRowNum(dataReferenceId, 0);
+		if (rowNum == -1) {
+			throw fail("The common test data row identified by \"" + dataReferenceId + "\" " +
+											"is not found in the common test data sheet!");
+		}
+		
+		return getValue(commonDatasheet, rowNum, fieldName);
+	}
+	
+	/**
+	 * Function to write the given updates into the datatable<br>
+	 * All the updates are applied together, so that the workbook is rewritten only once
+	 * @param updates The updates to be written (later updates to the same cell supersede earlier ones)
+	 */
+	void putData(List<DatatableUpdate> updates) {
+		if (updates.isEmpty()) {
+			return;
+		}
+		
+		Map<String, List<DatatableUpdate>> updatesByDatasheet = new LinkedHashMap<>();
+		for (DatatableUpdate update : updates) {
+			updatesByDatasheet.computeIfAbsent(update.getDatasheetName(),
+												datasheetName -> new ArrayList<>()).add(update);
+		}
+		
+		File workbookFile = datatableBackend.getWorkbookFile(datatablePath, datatableName);
+		Lock workbookLock = WORKBOOK_LOCKS.computeIfAbsent(workbookFile.getAbsolutePath(),
+															workbookPath -> new ReentrantLock());
+		workbookLock.lock();
+		try {
+			Map<String, List<String[]>> datasheets = new LinkedHashMap<>();
+			for (Map.Entry<String, List<DatatableUpdate>> datasheetUpdates : updatesByDatasheet.entrySet()) {
+				String datasheetName = datasheetUpdates.getKey();
+				List<String[]> rows =
+						new ArrayList<>(datatableBackend.readDatasheet(datatablePath, datatableName, datasheetName));
+				applyUpdates(rows, datasheetName, datasheetUpdates.getValue());
+				datasheets.put(datasheetName, rows);
+			}
+			
+			datatableBackend.writeDatasheets(datatablePath, datatableName, datasheets);
+		} finally {
+			workbookLock.unlock();
+		}
+	}
+	
+	private void applyUpdates(List<String[]> rows, String datasheetName, List<DatatableUpdate> updates) {
+		DatasheetSnapshot datasheet = new DatasheetSnapshot(0, rows);
+		for (DatatableUpdate update : updates) {
+			int rowNum = getRowNum(datasheet, update.getTestcase(),
+									update.getIteration(), update.getSubIteration(), datasheetName);
+			int columnNum = datasheet.getColumnNum(update.getFieldName());
+			if (columnNum == -1) {
+				throw fail("Column header " + update.getFieldName() + " is not found in the datasheet!");
+			}
+			
+			String[] row = rows.get(rowNum);
+			if (columnNum >= row.length) {
+				String[] expandedRow = new String[columnNum + 1];
+				System.arraycopy(row, 0, expandedRow, 0, row.length);
+				for (int currentColumnNum = row.length; currentColumnNum <= columnNum; currentColumnNum++) {
+					expandedRow[currentColumnNum] = "";
+				}
+				row = expandedRow;
+				rows.set(rowNum, row);
+			}
+			row[columnNum] = update.getDataValue();
+		}
+	}
+	
+	private int getRowNum(DatasheetSnapshot datasheet, String testcase, int iteration, int subIteration,
+											String datasheetName) {
+		int rowNum = datasheet.getRowNum(testcase, 0);
+		if (rowNum == -1) {
+			throw fail("The test case \"" + testcase + "\" is not found in the test data sheet \"" + datasheetName + "\"!");
+		}
+		
+		if (iteration > 0) {
+			rowNum = datasheet.getRowNum(Integer.toString(iteration), 1, rowNum);
+			if (rowNum == -1) {
+				throw fail("The iteration number \"" + iteration + "\" of the test case \"" + testcase + "\" " +
+											"is not found in the test data sheet \"" + datasheetName + "\"!");
+			}
+		}
+		
+		if (subIteration > 0) {
+			rowNum = datasheet.getRowNum(Integer.toString(subIteration), 2, rowNum);
+			if (rowNum == -1) {
+				throw fail("The sub iteration number \"" + subIteration + "\" under iteration number \"" + iteration + "\" " +
+											"of the test case \"" + testcase + "\" " +
+											"is not found in the test data sheet \"" + datasheetName + "\"!");
+			}
+		}
+		
+		return rowNum;
+	}
+	
+	private String getValue(DatasheetSnapshot datasheet, int rowNum, String fieldName) {
+		int columnNum = datasheet.getColumnNum(fieldName);
+		if (columnNum == -1) {
+			throw fail("Column header " + fieldName + " is not found in the datasheet!");
+		}
+		
+		return datasheet.getValue(rowNum, columnNum);
+	}
+	
+	private AutopiaException fail(String errorDescription) {
+		logger.error(errorDescription);
+		return new AutopiaException(errorDescription);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,53 @@
+package com.autopia4j.framework.webdriver.datatable;
+
+import java.util.Collections;
+
+import com.autopia4j.framework.datatable.impl.NonIterativeDatatable;
+import com.autopia4j.framework.webdriver.core.DatatableCache;
+
+
+/**
+ * {@link NonIterativeDatatable} which reads and writes the datatable through the {@link DatatableBackend} configured for it<br>
+ * All the formats (including Excel workbooks) are read through the {@link DatatableCache},
+ * so that each datasheet is parsed only once across the test instances within a batch
+ * @author vj
+ */
+public class BackendNonIterativeDatatable extends NonIterativeDatatable {
+	private final BackendDatatableAccess backendAccess;
+	private String currentTestcase;
+	
+	
+	/**
+	 * Constructor to initialize the {@link BackendNonIterativeDatatable} object
+	 * @param datatablePath The path where the datatable is stored
+	 * @param datatableName The name of the datatable file
+	 */
+	public BackendNonIterativeDatatable(String datatablePath, String datatableName) {
+		super(datatablePath, datatableName);
+		
+		backendAccess = new BackendDatatableAccess(datatablePath, datatableName,
+													DatatableFormat.forWorkbook(datatableName));
+	}
+	
+	@Override
+	public void setDataReferenceIdentifier(String dataReferenceIdentifier) {
+		super.setDataReferenceIdentifier(dataReferenceIdentifier);
+		backendAccess.setDataReferenceIdentifier(dataReferenceIdentifier);
+	}
+	
+	@Override
+	public void setCurrentRow(String currentTestcase) {
+		this.currentTestcase = currentTestcase;
+	}
+	
+	@Override
+	public String getData(String datasheetName, String fieldName) {
+		return backendAccess.getData(currentTestcase, 0, 0, datasheetName, fieldName);
+	}
+	
+	@Override
+	public void putData(String datasheetName, String fieldName, String dataValue) {
+		backendAccess.putData(Collections.singletonList(new DatatableUpdate(currentTestcase, 0, 0,
+											datasheetName, fieldName, dataValue)));
+	}
+}
\ No newline at end of file
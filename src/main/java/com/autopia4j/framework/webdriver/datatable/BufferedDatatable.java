@@ -0,0 +1,16 @@
+package com.autopia4j.framework.webdriver.datatable;
+
+import java.util.concurrent.Future;
+
+
+/**
+ * Interface implemented by the datatables whose updates are buffered in memory and written back by the {@link DatatableWriteBuffer}
+ * @author vj
+ */
+public interface BufferedDatatable {
+	/**
+	 * Function to submit the buffered updates for writing to the workbook
+	 * @return A {@link Future} which completes once the updates have been written
+	 */
+	Future<?> flush();
+}
\ No newline at end of file
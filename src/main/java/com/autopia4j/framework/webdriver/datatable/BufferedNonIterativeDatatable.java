@@ -0,0 +1,67 @@
+package com.autopia4j.framework.webdriver.datatable;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+
+
+/**
+ * {@link BackendNonIterativeDatatable} whose updates are buffered in memory and written back by the {@link DatatableWriteBuffer}
+ * @author vj
+ */
+public class BufferedNonIterativeDatatable extends BackendNonIterativeDatatable implements BufferedDatatable {
+	private final PendingDatatableUpdates pendingUpdates;
+	private final Boolean buffered;
+	private String currentTestcase;
+	
+	
+	/**
+	 * Constructor to initialize the {@link BufferedNonIterativeDatatable} object
+	 * @param datatablePath The path where the datatable is stored
+	 * @param datatableName The name of the datatable file
+	 */
+	public BufferedNonIterativeDatatable(String datatablePath, String datatableName) {
+		super(datatablePath, datatableName);
+		
+		pendingUpdates = new PendingDatatableUpdates(datatablePath, datatableName);
+		buffered = DatatableWriteBuffer.getInstance().isEnabled();
+	}
+	
+	@Override
+	public void setCurrentRow(String currentTestcase) {
+		super.setCurrentRow(currentTestcase);
+		
+		this.currentTestcase = currentTestcase;
+	}
+	
+	@Override
+	public String getData(String datasheetName, String fieldName) {
+		if (buffered) {
+			String dataValue = pendingUpdates.lookup(DatatableUpdate.getKey(currentTestcase,
+											0, 0, datasheetName, fieldName));
+			if (dataValue != null) {
+				return dataValue;
+			}
+		}
+		
+		return super.getData(datasheetName, fieldName);
+	}
+	
+	@Override
+	public void putData(String datasheetName, String fieldName, String dataValue) {
+		if (buffered) {
+			pendingUpdates.record(new DatatableUpdate(currentTestcase, 0, 0,
+											datasheetName, fieldName, dataValue));
+		} else {
+			super.putData(datasheetName, fieldName, dataValue);
+		}
+	}
+	
+	@Override
+	public Future<?> flush() {
+		if (!buffered) {
+			return CompletableFuture.completedFuture(null);
+		}
+		
+		return DatatableWriteBuffer.getInstance().flush(pendingUpdates);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,71 @@
+package com.autopia4j.framework.webdriver.datatable;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+
+
+/**
+ * {@link BackendSubIterativeDatatable} whose updates are buffered in memory and written back by the {@link DatatableWriteBuffer}
+ * @author vj
+ */
+public class BufferedSubIterativeDatatable extends BackendSubIterativeDatatable implements BufferedDatatable {
+	private final PendingDatatableUpdates pendingUpdates;
+	private final Boolean buffered;
+	private String currentTestcase;
+	private int currentIteration;
+	private int currentSubIteration;
+	
+	
+	/**
+	 * Constructor to initialize the {@link BufferedSubIterativeDatatable} object
+	 * @param datatablePath The path where the datatable is stored
+	 * @param datatableName The name of the datatable file
+	 */
+	public BufferedSubIterativeDatatable(String datatablePath, String datatableName) {
+		super(datatablePath, datatableName);
+		
+		pendingUpdates = new PendingDatatableUpdates(datatablePath, datatableName);
+		buffered = DatatableWriteBuffer.getInstance().isEnabled();
+	}
+	
+	@Override
+	public void setCurrentRow(String currentTestcase, int currentIteration, int currentSubIteration) {
+		super.setCurrentRow(currentTestcase, currentIteration, currentSubIteration);
+		
+		this.currentTestcase = currentTestcase;
+		this.currentIteration = currentIteration;
+		this.currentSubIteration = currentSubIteration;
+	}
+	
+	@Override
+	public String getData(String datasheetName, String fieldName) {
+		if (buffered) {
+			String dataValue = pendingUpdates.lookup(DatatableUpdate.getKey(currentTestcase,
+											currentIteration, currentSubIteration, datasheetName, fieldName));
+			if (dataValue != null) {
+				return dataValue;
+			}
+		}
+		
+		return super.getData(datasheetName, fieldName);
+	}
+	
+	@Override
+	public void putData(String datasheetName, String fieldName, String dataValue) {
+		if (buffered) {
+			pendingUpdates.record(new DatatableUpdate(currentTestcase, currentIteration, currentSubIteration,
+											datasheetName, fieldName, dataValue));
+		} else {
+			super.putData(datasheetName, fieldName, dataValue);
+		}
+	}
+	
+	@Override
+	public Future<?> flush() {
+		if (!buffered) {
+			return CompletableFuture.completedFuture(null);
+		}
+		
+		return DatatableWriteBuffer.getInstance().flush(pendingUpdates);
+	}
+}
\ No newline at end of file
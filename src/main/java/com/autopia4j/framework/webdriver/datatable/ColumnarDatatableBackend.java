@@ -0,0 +1,142 @@
+package com.autopia4j.framework.webdriver.datatable;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.autopia4j.framework.core.AutopiaException;
+import com.autopia4j.framework.utils.Util;
+
+
+/**
+ * {@link DatatableBackend} for a compact, column-oriented binary format, read through memory-mapped I/O<br>
+ * Each workbook is a directory, containing one [sheet name].col file per datasheet. The file layout is as follows:
+ * <ul>
+ * <li>Header: magic number (int), format version (int), number of rows (int), number of columns (int)</li>
+ * <li>Column directory: the absolute offset (long) of each column</li>
+ * <li>Columns: for each column, the value of every row, encoded as its UTF-8 byte length (int) followed by the bytes</li>
+ * </ul>
+ * @author vj
+ */
+class ColumnarDatatableBackend implements DatatableBackend {
+	private static final int MAGIC_NUMBER = 0x41434F4C;	// "ACOL"
+	private static final int FORMAT_VERSION = 1;
+	private static final int HEADER_SIZE = 4 * Integer.BYTES;
+	
+	private final Logger logger = LoggerFactory.getLogger(ColumnarDatatableBackend.class);
+	
+	@Override
+	public File getWorkbookFile(String datatablePath, String workbookName) {
+		return new File(datatablePath + Util.getFileSeparator() + workbookName);
+	}
+	
+	@Override
+	public File getDatasheetFile(String datatablePath, String workbookName, String sheetName) {
+		return new File(getWorkbookFile(datatablePath, workbookName), sheetName + ".col");
+	}
+	
+	@Override
+	public List<String[]> readDatasheet(String datatablePath, String workbookName, String sheetName) {
+		File datasheetFile = getDatasheetFile(datatablePath, workbookName, sheetName);
+		
+		try (FileChannel channel = FileChannel.open(datasheetFile.toPath(), StandardOpenOption.READ)) {
+			MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			
+			if (buffer.getInt() != MAGIC_NUMBER || buffer.getInt() != FORMAT_VERSION) {
+				throw new AutopiaException("The datasheet " + datasheetFile.getPath() +
+												" is not in a supported columnar format!");
+			}
+			int nRows = buffer.getInt();
+			int nColumns = buffer.getInt();
+			long[] columnOffsets = new long[nColumns];
+			for (int currentColumnNum = 0; currentColumnNum < nColumns; currentColumnNum++) {
+				columnOffsets[currentColumnNum] = buffer.getLong();
+			}
+			
+			String[][] cells = new String[nRows][nColumns];
+			for (int currentColumnNum = 0; currentColumnNum < nColumns; currentColumnNum++) {
+				buffer.position((int) columnOffsets[currentColumnNum]);
+				for (int currentRowNum = 0; currentRowNum < nRows; currentRowNum++) {
+					byte[] dataValue = new byte[buffer.getInt()];
+					buffer.get(dataValue);
+					cells[currentRowNum][currentColumnNum] = new String(dataValue, StandardCharsets.UTF_8);
+				}
+			}
+			
+			List<String[]> rows = new ArrayList<>(nRows);
+			for (String[] row : cells) {
+				rows.add(row);
+			}
+			return rows;
+		} catch (IOException e) {
+			String errorDescription = "Error while reading the datasheet " + datasheetFile.getPath();
+			logger.error(errorDescription, e);
+			throw new AutopiaException(errorDescription);
+		}
+	}
+	
+	@Override
+	public void writeDatasheet(String datatablePath, String workbookName, String sheetName, List<String[]> rows) {
+		File datasheetFile = getDatasheetFile(datatablePath, workbookName, sheetName);
+		
+		int nRows = rows.size();
+		int nColumns = 0;
+		for (String[] row : rows) {
+			nColumns = Math.max(nColumns, row.length);
+		}
+		int nDatasheetColumns = nColumns;
+		
+		// Encode column by column, so that the column offsets are known before writing
+		byte[][][] columns = new byte[nColumns][nRows][];
+		long[] columnOffsets = new long[nColumns];
+		long currentOffset = HEADER_SIZE + (long) nColumns * Long.BYTES;
+		for (int currentColumnNum = 0; currentColumnNum < nColumns; currentColumnNum++) {
+			columnOffsets[currentColumnNum] = currentOffset;
+			for (int currentRowNum = 0; currentRowNum < nRows; currentRowNum++) {
+				String[] row = rows.get(currentRowNum);
+				String dataValue = (currentColumnNum < row.length) ? row[currentColumnNum] : "";
+				columns[currentColumnNum][currentRowNum] = dataValue.getBytes(StandardCharsets.UTF_8);
+				currentOffset += Integer.BYTES + columns[currentColumnNum][currentRowNum].length;
+			}
+		}
+		if (currentOffset > Integer.MAX_VALUE) {
+			throw new AutopiaException("The datasheet " + sheetName + " is too large for the columnar format!");
+		}
+		
+		try {
+			// The datasheet may be memory-mapped by concurrent readers, so it is never overwritten in place
+			AtomicFileWriter.write(datasheetFile, fileOutputStream -> {
+				DataOutputStream outputStream = new DataOutputStream(new BufferedOutputStream(fileOutputStream));
+				outputStream.writeInt(MAGIC_NUMBER);
+				outputStream.writeInt(FORMAT_VERSION);
+				outputStream.writeInt(nRows);
+				outputStream.writeInt(nDatasheetColumns);
+				for (long columnOffset : columnOffsets) {
+					outputStream.writeLong(columnOffset);
+				}
+				for (byte[][] column : columns) {
+					for (byte[] dataValue : column) {
+						outputStream.writeInt(dataValue.length);
+						outputStream.write(dataValue);
+					}
+				}
+				outputStream.flush();
+			});
+		} catch (IOException e) {
+			String errorDescription = "Error while writing the datasheet " + datasheetFile.getPath();
+			logger.error(errorDescription, e);
+			throw new AutopiaException(errorDescription);
+		}
+	}
+}
\ No newline at end of file
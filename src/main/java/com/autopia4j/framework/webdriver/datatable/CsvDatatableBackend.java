@@ -0,0 +1,152 @@
+package com.autopia4j.framework.webdriver.datatable;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.autopia4j.framework.core.AutopiaException;
+import com.autopia4j.framework.utils.Util;
+
+
+/**
+ * {@link DatatableBackend} for CSV files (RFC 4180, UTF-8 encoded)<br>
+ * Each workbook is a directory, containing one [sheet name].csv file per datasheet
+ * @author vj
+ */
+class CsvDatatableBackend implements DatatableBackend {
+	private final Logger logger = LoggerFactory.getLogger(CsvDatatableBackend.class);
+	
+	@Override
+	public File getWorkbookFile(String datatablePath, String workbookName) {
+		return new File(datatablePath + Util.getFileSeparator() + workbookName);
+	}
+	
+	@Override
+	public File getDatasheetFile(String datatablePath, String workbookName, String sheetName) {
+		return new File(getWorkbookFile(datatablePath, workbookName), sheetName + ".csv");
+	}
+	
+	@Override
+	public List<String[]> readDatasheet(String datatablePath, String workbookName, String sheetName) {
+		File datasheetFile = getDatasheetFile(datatablePath, workbookName, sheetName);
+		
+		try (Reader reader = Files.newBufferedReader(datasheetFile.toPath(), StandardCharsets.UTF_8)) {
+			return parse(reader);
+		} catch (IOException e) {
+			String errorDescription = "Error while reading the datasheet " + datasheetFile.getPath();
+			logger.error(errorDescription, e);
+			throw new AutopiaException(errorDescription);
+		}
+	}
+	
+	private List<String[]> parse(Reader reader) throws IOException {
+		List<String[]> rows = new ArrayList<>();
+		List<String> row = new ArrayList<>();
+		StringBuilder field = new StringBuilder();
+		boolean quoted = false;
+		boolean fieldStarted = false;
+		
+		BufferedReader bufferedReader = new BufferedReader(reader);
+		int c;
+		while ((c = bufferedReader.read()) != -1) {
+			if (quoted) {
+				if (c == '"') {
+					bufferedReader.mark(1);
+					if (bufferedReader.read() == '"') {
+						field.append('"');	// Escaped quote
+					} else {
+						bufferedReader.reset();
+						quoted = false;
+					}
+				} else {
+					field.append((char) c);
+				}
+				continue;
+			}
+			
+			switch (c) {
+			case '"':
+				quoted = true;
+				fieldStarted = true;
+				break;
+			
+			case ',':
+				row.add(field.toString());
+				field.setLength(0);
+				fieldStarted = true;
+				break;
+			
+			case '\r':
+				break;
+			
+			case '\n':
+				row.add(field.toString());
+				rows.add(row.toArray(new String[row.size()]));
+				row.clear();
+				field.setLength(0);
+				fieldStarted = false;
+				break;
+			
+			default:
+				field.append((char) c);
+				fieldStarted = true;
+			}
+		}
+		
+		if (fieldStarted || field.length() > 0 || !row.isEmpty()) {
+			row.add(field.toString());
+			rows.add(row.toArray(new String[row.size()]));
+		}
+		
+		return rows;
+	}
+	
+	@Override
+	public void writeDatasheet(String datatablePath, String workbookName, String sheetName, List<String[]> rows) {
+		File datasheetFile = getDatasheetFile(datatablePath, workbookName, sheetName);
+		
+		try {
+			AtomicFileWriter.write(datasheetFile, outputStream -> {
+				BufferedWriter writer =
+						new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+				for (String[] row : rows) {
+					writeRow(writer, row);
+				}
+				writer.flush();
+			});
+		} catch (IOException e) {
+			String errorDescription = "Error while writing the datasheet " + datasheetFile.getPath();
+			logger.error(errorDescription, e);
+			throw new AutopiaException(errorDescription);
+		}
+	}
+	
+	private void writeRow(BufferedWriter writer, String[] row) throws IOException {
+		for (int currentColumnNum = 0; currentColumnNum < row.length; currentColumnNum++) {
+			if (currentColumnNum > 0) {
+				writer.write(',');
+			}
+			
+			String dataValue = row[currentColumnNum];
+			if (dataValue.indexOf(',') != -1 || dataValue.indexOf('"') != -1 ||
+					dataValue.indexOf('\n') != -1 || dataValue.indexOf('\r') != -1) {
+				writer.write('"');
+				writer.write(dataValue.replace("\"", "\"\""));
+				writer.write('"');
+			} else {
+				writer.write(dataValue);
+			}
+		}
+		writer.write("\r\n");
+	}
+}
\ No newline at end of file
@@ -0,0 +1,62 @@
+package com.autopia4j.framework.webdriver.datatable;
+
+import java.io.File;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * Interface to be implemented by each of the datatable storage formats supported by the framework
+ * @author vj
+ */
+public interface DatatableBackend {
+	/**
+	 * Function to get the file (or directory) within which the specified workbook is stored
+	 * @param datatablePath The path where the datatable is stored
+	 * @param workbookName The name of the workbook (without the extension)
+	 * @return The workbook {@link File}
+	 */
+	File getWorkbookFile(String datatablePath, String workbookName);
+	
+	/**
+	 * Function to get the file within which the specified datasheet is stored
+	 * (used to detect changes to the datasheet)
+	 * @param datatablePath The path where the datatable is stored
+	 * @param workbookName The name of the workbook (without the extension)
+	 * @param sheetName The name of the datasheet
+	 * @return The datasheet {@link File}
+	 */
+	File getDatasheetFile(String datatablePath, String workbookName, String sheetName);
+	
+	/**
+	 * Function to read all the rows of the specified datasheet, including the header row
+	 * @param datatablePath The path where the datatable is stored
+	 * @param workbookName The name of the workbook (without the extension)
+	 * @param sheetName The name of the datasheet
+	 * @return The rows of the datasheet (blank cells are represented by empty strings)
+	 */
+	List<String[]> readDatasheet(String datatablePath, String workbookName, String sheetName);
+	
+	/**
+	 * Function to write the given rows into the specified datasheet, replacing its existing contents
+	 * @param datatablePath The path where the datatable is stored
+	 * @param workbookName The name of the workbook (without the extension)
+	 * @param sheetName The name of the datasheet
+	 * @param rows The rows of the datasheet, including the header row
+	 */
+	void writeDatasheet(String datatablePath, String workbookName, String sheetName, List<String[]> rows);
+	
+	/**
+	 * Function to write the given rows into the specified datasheets, replacing their existing contents<br>
+	 * Backends which store all the datasheets of a workbook within a single file should override this function,
+	 * so that the workbook is rewritten only once
+	 * @param datatablePath The path where the datatable is stored
+	 * @param workbookName The name of the workbook (without the extension)
+	 * @param datasheets The rows of each datasheet to be written (including the header row), mapped by the datasheet name
+	 */
+	default void writeDatasheets(String datatablePath, String workbookName, Map<String, List<String[]>> datasheets) {
+		for (Map.Entry<String, List<String[]>> datasheet : datasheets.entrySet()) {
+			writeDatasheet(datatablePath, workbookName, datasheet.getKey(), datasheet.getValue());
+		}
+	}
+}
\ No newline at end of file
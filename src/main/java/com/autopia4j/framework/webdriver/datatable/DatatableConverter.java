@@ -0,0 +1,60 @@
+package com.autopia4j.framework.webdriver.datatable;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.autopia4j.framework.core.AutopiaException;
+
+
+/**
+ * Class to convert datatables from one {@link DatatableFormat} to another (typically from the existing Excel workbooks)
+ * @author vj
+ */
+public class DatatableConverter {
+	private final Logger logger = LoggerFactory.getLogger(DatatableConverter.class);
+	private final String datatablePath;
+	
+	
+	/**
+	 * Constructor to initialize the {@link DatatableConverter} object
+	 * @param datatablePath The path where the datatables are stored
+	 */
+	public DatatableConverter(String datatablePath) {
+		this.datatablePath = datatablePath;
+	}
+	
+	/**
+	 * Function to convert the specified datasheets of the given workbook
+	 * @param workbookName The name of the workbook (without the extension)
+	 * @param sourceFormat The current {@link DatatableFormat} of the workbook
+	 * @param targetFormat The {@link DatatableFormat} into which the workbook is to be converted
+	 * @param sheetNames The names of the datasheets to be converted
+	 */
+	public void convert(String workbookName, DatatableFormat sourceFormat,
+							DatatableFormat targetFormat, String... sheetNames) {
+		if (sourceFormat == targetFormat) {
+			throw new AutopiaException("The source and target datatable formats must be different!");
+		}
+		
+		DatatableBackend sourceBackend = sourceFormat.getBackend();
+		DatatableBackend targetBackend = targetFormat.getBackend();
+		for (String sheetName : sheetNames) {
+			logger.info("Converting datasheet {} of workbook {} from {} to {}",
+											sheetName, workbookName, sourceFormat, targetFormat);
+			List<String[]> rows = sourceBackend.readDatasheet(datatablePath, workbookName, sheetName);
+			targetBackend.writeDatasheet(datatablePath, workbookName, sheetName, rows);
+		}
+	}
+	
+	/**
+	 * Function to convert the specified datasheets of the given Excel workbook
+	 * @param workbookName The name of the workbook (without the extension)
+	 * @param targetFormat The {@link DatatableFormat} into which the workbook is to be converted
+	 * @param sheetNames The names of the datasheets to be converted
+	 */
+	public void convertFromExcel(String workbookName, DatatableFormat targetFormat, String... sheetNames) {
+		convert(workbookName, DatatableFormat.EXCEL, targetFormat, sheetNames);
+	}
+}
\ No newline at end of file
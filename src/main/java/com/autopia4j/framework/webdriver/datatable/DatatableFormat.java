@@ -0,0 +1,61 @@
+package com.autopia4j.framework.webdriver.datatable;
+
+import java.util.Properties;
+
+import com.autopia4j.framework.core.Settings;
+
+
+/**
+ * Enumeration to represent the storage format of a datatable
+ * @author vj
+ */
+public enum DatatableFormat {
+	/**
+	 * Excel workbook (.xls), containing one worksheet per datasheet (the default format)
+	 */
+	EXCEL(new ExcelDatatableBackend()),
+	/**
+	 * Directory per workbook, containing one RFC 4180 CSV file per datasheet
+	 */
+	CSV(new CsvDatatableBackend()),
+	/**
+	 * Single JSON file per workbook, mapping each datasheet name to its array of rows
+	 */
+	JSON(new JsonDatatableBackend()),
+	/**
+	 * Directory per workbook, containing one binary column-oriented file per datasheet (read through memory-mapped I/O)
+	 */
+	COLUMNAR(new ColumnarDatatableBackend());
+	
+	private final DatatableBackend backend;
+	
+	DatatableFormat(DatatableBackend backend) {
+		this.backend = backend;
+	}
+	
+	/**
+	 * Function to get the {@link DatatableBackend} which implements this format
+	 * @return The {@link DatatableBackend}
+	 */
+	public DatatableBackend getBackend() {
+		return backend;
+	}
+	
+	/**
+	 * Function to get the format configured for the specified workbook<br>
+	 * The format is read from the "datatable.format.[workbook name]" setting,
+	 * falling back to the "datatable.format" setting, and finally to {@link #EXCEL}
+	 * @param workbookName The name of the workbook (without the extension)
+	 * @return The {@link DatatableFormat} of the workbook
+	 */
+	public static DatatableFormat forWorkbook(String workbookName) {
+		Properties properties = Settings.getInstance();
+		String format = properties.getProperty("datatable.format." + workbookName,
+										properties.getProperty("datatable.format"));
+		if (format == null || "".equals(format)) {
+			return EXCEL;
+		}
+		
+		return DatatableFormat.valueOf(format.toUpperCase());
+	}
+}
\ No newline at end of file
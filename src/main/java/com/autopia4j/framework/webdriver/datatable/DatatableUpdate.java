@@ -0,0 +1,62 @@
+package com.autopia4j.framework.webdriver.datatable;
+
+
+/**
+ * Class to encapsulate a single value written into a datatable, along with the row to which it was written
+ * @author vj
+ */
+class DatatableUpdate {
+	private final String testcase;
+	private final int iteration;
+	private final int subIteration;
+	private final String datasheetName;
+	private final String fieldName;
+	private final String dataValue;
+	
+	DatatableUpdate(String testcase, int iteration, int subIteration,
+						String datasheetName, String fieldName, String dataValue) {
+		this.testcase = testcase;
+		this.iteration = iteration;
+		this.subIteration = subIteration;
+		this.datasheetName = datasheetName;
+		this.fieldName = fieldName;
+		this.dataValue = dataValue;
+	}
+	
+	/**
+	 * Function to get the key identifying the cell to which the update applies (later updates to the same cell supersede earlier ones)
+	 * @return The cell key
+	 */
+	String getKey() {
+		return getKey(testcase, iteration, subIteration, datasheetName, fieldName);
+	}
+	
+	static String getKey(String testcase, int iteration, int subIteration,
+								String datasheetName, String fieldName) {
+		return testcase + "|" + iteration + "|" + subIteration + "|" + datasheetName + "|" + fieldName;
+	}
+	
+	String getTestcase() {
+		return testcase;
+	}
+	
+	int getIteration() {
+		return iteration;
+	}
+	
+	int getSubIteration() {
+		return subIteration;
+	}
+	
+	String getDatasheetName() {
+		return datasheetName;
+	}
+	
+	String getFieldName() {
+		return fieldName;
+	}
+	
+	String getDataValue() {
+		return dataValue;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,230 @@
+package com.autopia4j.framework.webdriver.datatable;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.autopia4j.framework.core.AutopiaException;
+import com.autopia4j.framework.core.FrameworkParameters;
+import com.autopia4j.framework.core.Settings;
+import com.autopia4j.framework.utils.Util;
+import com.google.gson.Gson;
+
+
+/**
+ * Singleton class that writes the buffered datatable updates to the workbooks, using a single writer thread<br>
+ * Buffering is controlled by the "datatable.writeback.buffered" setting, which defaults to the "report.datatable.include" setting
+ * @author vj
+ */
+public class DatatableWriteBuffer {
+	static final String JOURNAL_EXTENSION = ".journal";
+	private static final String JOURNAL_DIRECTORY = "datatable-journal";
+	
+	private final Logger logger = LoggerFactory.getLogger(DatatableWriteBuffer.class);
+	private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+		Thread writerThread = new Thread(runnable, "autopia-datatable-writer");
+		writerThread.setDaemon(true);
+		return writerThread;
+	});
+	private final Queue<PendingDatatableUpdates> queuedUpdates = new ConcurrentLinkedQueue<>();
+	private final Queue<Future<?>> pendingWrites = new ConcurrentLinkedQueue<>();
+	
+	private static final DatatableWriteBuffer DATATABLE_WRITE_BUFFER = new DatatableWriteBuffer();
+	
+	private DatatableWriteBuffer() {
+		// To prevent external instantiation of this class
+	}
+	
+	/**
+	 * Function to return the singleton instance of the {@link DatatableWriteBuffer} object
+	 * @return Instance of the {@link DatatableWriteBuffer} object
+	 */
+	public static DatatableWriteBuffer getInstance() {
+		return DATATABLE_WRITE_BUFFER;
+	}
+	
+	@Override
+	public Object clone() throws CloneNotSupportedException {
+		throw new CloneNotSupportedException();
+	}
+	
+	
+	/**
+	 * Function to check whether datatable updates are to be buffered
+	 * @return Boolean value indicating whether datatable updates are to be buffered
+	 */
+	public Boolean isEnabled() {
+		Properties properties = Settings.getInstance();
+		return Boolean.parseBoolean(properties.getProperty("datatable.writeback.buffered",
+										properties.getProperty("report.datatable.include", "false")));
+	}
+	
+	/**
+	 * Function to get the directory where the updates are journaled until they are written to the workbooks<br>
+	 * The journal directory resides within the work directory [base path]/.autopia (alongside the wait statistics),
+	 * rather than within the datatables or the timestamped report folder, so that the journals left behind
+	 * by an interrupted execution are recovered by the next test batch
+	 * @return The journal directory
+	 */
+	static File getJournalDirectory() {
+		String basePath = FrameworkParameters.getInstance().getBasePath();
+		if (basePath == null) {
+			basePath = new File(System.getProperty("user.dir")).getAbsolutePath();
+		}
+		return new File(basePath + Util.getFileSeparator() + ".autopia" +
+							Util.getFileSeparator() + JOURNAL_DIRECTORY);
+	}
+	
+	Future<?> flush(PendingDatatableUpdates pendingUpdates) {
+		queuedUpdates.add(pendingUpdates);
+		Future<?> pendingWrite = writer.submit(this::writeQueuedUpdates);
+		pendingWrites.add(pendingWrite);
+		
+		return pendingWrite;
+	}
+	
+	private void writeQueuedUpdates() {
+		// All the updates queued so far are drained together, so that each workbook is rewritten only once
+		Map<String, Set<PendingDatatableUpdates>> queuedUpdatesByWorkbook = new LinkedHashMap<>();
+		PendingDatatableUpdates pendingUpdates;
+		while ((pendingUpdates = queuedUpdates.poll()) != null) {
+			queuedUpdatesByWorkbook.computeIfAbsent(getWorkbookKey(pendingUpdates.getDatatablePath(),
+													pendingUpdates.getDatatableName()),
+													workbookKey -> new LinkedHashSet<>()).add(pendingUpdates);
+		}
+		
+		for (Set<PendingDatatableUpdates> workbookUpdates : queuedUpdatesByWorkbook.values()) {
+			PendingDatatableUpdates firstUpdates = workbookUpdates.iterator().next();
+			String datatablePath = firstUpdates.getDatatablePath();
+			String datatableName = firstUpdates.getDatatableName();
+			DatatableFormat datatableFormat = firstUpdates.getDatatableFormat();
+			
+			Map<PendingDatatableUpdates, List<DatatableUpdate>> updatesToWrite = new LinkedHashMap<>();
+			List<DatatableUpdate> mergedUpdates = new ArrayList<>();
+			for (PendingDatatableUpdates datatableUpdates : workbookUpdates) {
+				List<DatatableUpdate> updates = datatableUpdates.getUpdates();
+				updatesToWrite.put(datatableUpdates, updates);
+				mergedUpdates.addAll(updates);
+			}
+			
+			try {
+				new BackendDatatableAccess(datatablePath, datatableName, datatableFormat).putData(mergedUpdates);
+				for (Map.Entry<PendingDatatableUpdates, List<DatatableUpdate>> writtenUpdates : updatesToWrite.entrySet()) {
+					writtenUpdates.getKey().discard(writtenUpdates.getValue());
+				}
+			} catch (Exception ex) {
+				// The journals are retained, so that the updates may be recovered subsequently
+				logger.error("Error while writing the buffered updates to the datatable " + datatableName, ex);
+			}
+		}
+	}
+	
+	private String getWorkbookKey(String datatablePath, String datatableName) {
+		return new File(datatablePath).getAbsolutePath() + "|" + datatableName;
+	}
+	
+	/**
+	 * Function to wait until all the buffered updates submitted so far have been written to the workbooks
+	 */
+	public void awaitPendingWrites() {
+		Future<?> pendingWrite;
+		while ((pendingWrite = pendingWrites.poll()) != null) {
+			try {
+				pendingWrite.get();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new AutopiaException("Interrupted while writing the buffered datatable updates");
+			} catch (ExecutionException e) {
+				logger.error("Error while writing the buffered datatable updates", e.getCause());
+			}
+		}
+	}
+	
+	/**
+	 * Function to replay any journaled updates left behind by an interrupted execution into the datatables to which they belong<br>
+	 * Updates whose datatable no longer exists (e.g., because the corresponding report folder has been deleted) are discarded
+	 */
+	public void recover() {
+		recover(getJournalDirectory());
+	}
+	
+	void recover(File journalDirectory) {
+		File[] journalFiles = journalDirectory.listFiles((directory, fileName) ->
+																fileName.endsWith(JOURNAL_EXTENSION));
+		if (journalFiles == null || journalFiles.length == 0) {
+			return;
+		}
+		
+		Gson gson = new Gson();
+		for (File journalFile : journalFiles) {
+			logger.info("Recovering the datatable updates journaled in {}", journalFile.getPath());
+			
+			Map<String, List<PendingDatatableUpdates.JournalEntry>> journalEntries = new LinkedHashMap<>();
+			try {
+				for (String journalLine : Files.readAllLines(journalFile.toPath(), StandardCharsets.UTF_8)) {
+					if ("".equals(journalLine.trim())) {
+						continue;
+					}
+					PendingDatatableUpdates.JournalEntry journalEntry =
+							gson.fromJson(journalLine, PendingDatatableUpdates.JournalEntry.class);
+					journalEntries.computeIfAbsent(getWorkbookKey(journalEntry.datatablePath, journalEntry.datatableName),
+															workbookKey -> new ArrayList<>()).add(journalEntry);
+				}
+			} catch (IOException | RuntimeException ex) {
+				// A partially written last line is expected if the execution was interrupted mid-write
+				logger.warn("Error while reading the datatable journal " + journalFile.getPath(), ex);
+			}
+			
+			Boolean recovered = true;
+			for (List<PendingDatatableUpdates.JournalEntry> workbookEntries : journalEntries.values()) {
+				recovered &= recover(workbookEntries);
+			}
+			
+			if (recovered && !journalFile.delete()) {
+				logger.warn("Unable to delete the datatable journal {}", journalFile.getPath());
+			}
+		}
+	}
+	
+	private Boolean recover(List<PendingDatatableUpdates.JournalEntry> workbookEntries) {
+		String datatablePath = workbookEntries.get(0).datatablePath;
+		String datatableName = workbookEntries.get(0).datatableName;
+		DatatableFormat datatableFormat = workbookEntries.get(0).getDatatableFormat();
+		if (!datatableFormat.getBackend().getWorkbookFile(datatablePath, datatableName).exists()) {
+			logger.warn("Discarding the journaled updates to the datatable {}, since it no longer exists within {}",
+																	datatableName, datatablePath);
+			return true;
+		}
+		
+		List<DatatableUpdate> updates = new ArrayList<>(workbookEntries.size());
+		for (PendingDatatableUpdates.JournalEntry journalEntry : workbookEntries) {
+			updates.add(journalEntry.toUpdate());
+		}
+		
+		try {
+			new BackendDatatableAccess(datatablePath, datatableName, datatableFormat).putData(updates);
+			return true;
+		} catch (RuntimeException ex) {
+			// The journal is retained, so that the recovery may be retried by the next test batch
+			logger.error("Error while recovering the journaled updates to the datatable " + datatableName, ex);
+			return false;
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,148 @@
+package com.autopia4j.framework.webdriver.datatable;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.poi.hssf.usermodel.HSSFCell;
+import org.apache.poi.hssf.usermodel.HSSFRow;
+import org.apache.poi.hssf.usermodel.HSSFSheet;
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.FormulaEvaluator;
+
+import com.autopia4j.framework.core.AutopiaException;
+import com.autopia4j.framework.utils.Util;
+
+
+/**
+ * {@link DatatableBackend} for Excel workbooks (.xls)
+ * @author vj
+ */
+class ExcelDatatableBackend implements DatatableBackend {
+	
+	@Override
+	public File getWorkbookFile(String datatablePath, String workbookName) {
+		return new File(datatablePath + Util.getFileSeparator() + workbookName + ".xls");
+	}
+	
+	@Override
+	public File getDatasheetFile(String datatablePath, String workbookName, String sheetName) {
+		return getWorkbookFile(datatablePath, workbookName);
+	}
+	
+	@Override
+	public List<String[]> readDatasheet(String datatablePath, String workbookName, String sheetName) {
+		File workbookFile = getWorkbookFile(datatablePath, workbookName);
+		
+		// The workbook is parsed only once, and the whole datasheet is read from the parsed workbook
+		try (FileInputStream fileInputStream = new FileInputStream(workbookFile);
+				HSSFWorkbook workbook = new HSSFWorkbook(fileInputStream)) {
+			HSSFSheet worksheet = workbook.getSheet(sheetName);
+			if (worksheet == null) {
+				throw new AutopiaException("The specified sheet \"" + sheetName + "\"" +
+											" does not exist within the workbook \"" + workbookFile.getName() + "\"");
+			}
+			
+			FormulaEvaluator formulaEvaluator = workbook.getCreationHelper().createFormulaEvaluator();
+			DataFormatter dataFormatter = new DataFormatter();
+			
+			HSSFRow headerRow = worksheet.getRow(0);
+			int nHeaderColumns = 0;
+			while (!"".equals(getCellValue(headerRow, nHeaderColumns, dataFormatter, formulaEvaluator))) {
+				nHeaderColumns++;
+			}
+			
+			int lastRowNum = worksheet.getLastRowNum();
+			List<String[]> rows = new ArrayList<>(lastRowNum + 1);
+			for (int currentRowNum = 0; currentRowNum <= lastRowNum; currentRowNum++) {
+				HSSFRow currentRow = worksheet.getRow(currentRowNum);
+				List<String> row = new ArrayList<>(nHeaderColumns);
+				int currentColumnNum = 0;
+				while (true) {
+					String dataValue = getCellValue(currentRow, currentColumnNum, dataFormatter, formulaEvaluator);
+					// Columns beyond the header (e.g., within the Business_Flow sheet) are read until the first empty cell
+					if (currentColumnNum >= nHeaderColumns && "".equals(dataValue)) {
+						break;
+					}
+					row.add(dataValue);
+					currentColumnNum++;
+				}
+				rows.add(row.toArray(new String[row.size()]));
+			}
+			
+			return rows;
+		} catch (IOException e) {
+			throw new AutopiaException("Error while reading the datasheet \"" + sheetName + "\"" +
+											" from the workbook \"" + workbookFile.getName() + "\": " + e.getMessage());
+		}
+	}
+	
+	private String getCellValue(HSSFRow row, int columnNum,
+									DataFormatter dataFormatter, FormulaEvaluator formulaEvaluator) {
+		if (row == null) {
+			return "";
+		}
+		
+		HSSFCell cell = row.getCell(columnNum);
+		if (cell == null) {
+			return "";
+		}
+		return dataFormatter.formatCellValue(cell, formulaEvaluator);
+	}
+	
+	@Override
+	public void writeDatasheet(String datatablePath, String workbookName, String sheetName, List<String[]> rows) {
+		writeDatasheets(datatablePath, workbookName, Collections.singletonMap(sheetName, rows));
+	}
+	
+	@Override
+	public void writeDatasheets(String datatablePath, String workbookName, Map<String, List<String[]>> datasheets) {
+		File workbookFile = getWorkbookFile(datatablePath, workbookName);
+		
+		// Only the cells whose values have changed are written, so that the formulas and formatting of the other cells are retained
+		try (FileInputStream fileInputStream = new FileInputStream(workbookFile);
+				HSSFWorkbook workbook = new HSSFWorkbook(fileInputStream)) {
+			FormulaEvaluator formulaEvaluator = workbook.getCreationHelper().createFormulaEvaluator();
+			DataFormatter dataFormatter = new DataFormatter();
+			
+			for (Map.Entry<String, List<String[]>> datasheet : datasheets.entrySet()) {
+				HSSFSheet worksheet = workbook.getSheet(datasheet.getKey());
+				if (worksheet == null) {
+					throw new AutopiaException("The specified sheet \"" + datasheet.getKey() + "\"" +
+												" does not exist within the workbook \"" + workbookFile.getName() + "\"");
+				}
+				
+				List<String[]> rows = datasheet.getValue();
+				for (int currentRowNum = 0; currentRowNum < rows.size(); currentRowNum++) {
+					String[] row = rows.get(currentRowNum);
+					HSSFRow currentRow = worksheet.getRow(currentRowNum);
+					for (int currentColumnNum = 0; currentColumnNum < row.length; currentColumnNum++) {
+						String dataValue = row[currentColumnNum];
+						if (dataValue.equals(getCellValue(currentRow, currentColumnNum, dataFormatter, formulaEvaluator))) {
+							continue;
+						}
+						
+						if (currentRow == null) {
+							currentRow = worksheet.createRow(currentRowNum);
+						}
+						HSSFCell cell = currentRow.getCell(currentColumnNum);
+						if (cell == null) {
+							cell = currentRow.createCell(currentColumnNum);
+						}
+						cell.setCellValue(dataValue);
+					}
+				}
+			}
+			
+			AtomicFileWriter.write(workbookFile, workbook::write);
+		} catch (IOException e) {
+			throw new AutopiaException("Error while writing the workbook \"" + workbookFile.getName() + "\": " +
+											e.getMessage());
+		}
+	}
+}
\ No newline at end of file
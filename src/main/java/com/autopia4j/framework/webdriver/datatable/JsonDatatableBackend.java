@@ -0,0 +1,119 @@
+package com.autopia4j.framework.webdriver.datatable;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.autopia4j.framework.core.AutopiaException;
+import com.autopia4j.framework.utils.Util;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.reflect.TypeToken;
+
+
+/**
+ * {@link DatatableBackend} for JSON files (UTF-8 encoded)<br>
+ * Each workbook is a single [workbook name].json file, containing an object which maps each datasheet name to its array of rows
+ * @author vj
+ */
+class JsonDatatableBackend implements DatatableBackend {
+	private static final Type WORKBOOK_TYPE = new TypeToken<LinkedHashMap<String, List<List<String>>>>() {}.getType();
+	
+	private final Logger logger = LoggerFactory.getLogger(JsonDatatableBackend.class);
+	private final Gson gson = new GsonBuilder().setPrettyPrinting().create();
+	
+	@Override
+	public File getWorkbookFile(String datatablePath, String workbookName) {
+		return new File(datatablePath + Util.getFileSeparator() + workbookName + ".json");
+	}
+	
+	@Override
+	public File getDatasheetFile(String datatablePath, String workbookName, String sheetName) {
+		return getWorkbookFile(datatablePath, workbookName);
+	}
+	
+	@Override
+	public List<String[]> readDatasheet(String datatablePath, String workbookName, String sheetName) {
+		Map<String, List<List<String>>> workbook = readWorkbook(getWorkbookFile(datatablePath, workbookName));
+		List<List<String>> datasheet = workbook.get(sheetName);
+		if (datasheet == null) {
+			throw new AutopiaException("The datasheet " + sheetName +
+									" is not found within the workbook " + workbookName + "!");
+		}
+		
+		List<String[]> rows = new ArrayList<>(datasheet.size());
+		for (List<String> row : datasheet) {
+			String[] cells = new String[row.size()];
+			for (int currentColumnNum = 0; currentColumnNum < cells.length; currentColumnNum++) {
+				String dataValue = row.get(currentColumnNum);
+				cells[currentColumnNum] = (dataValue == null) ? "" : dataValue;
+			}
+			rows.add(cells);
+		}
+		
+		return rows;
+	}
+	
+	private Map<String, List<List<String>>> readWorkbook(File workbookFile) {
+		try (Reader reader = Files.newBufferedReader(workbookFile.toPath(), StandardCharsets.UTF_8)) {
+			Map<String, List<List<String>>> workbook = gson.fromJson(reader, WORKBOOK_TYPE);
+			return (workbook == null) ? new LinkedHashMap<>() : workbook;
+		} catch (IOException e) {
+			String errorDescription = "Error while reading the workbook " + workbookFile.getPath();
+			logger.error(errorDescription, e);
+			throw new AutopiaException(errorDescription);
+		}
+	}
+	
+	@Override
+	public void writeDatasheet(String datatablePath, String workbookName,
+													String sheetName, List<String[]> rows) {
+		writeDatasheets(datatablePath, workbookName, Collections.singletonMap(sheetName, rows));
+	}
+	
+	@Override
+	public synchronized void writeDatasheets(String datatablePath, String workbookName,
+													Map<String, List<String[]>> datasheets) {
+		File workbookFile = getWorkbookFile(datatablePath, workbookName);
+		Map<String, List<List<String>>> workbook =
+				workbookFile.exists() ? readWorkbook(workbookFile) : new LinkedHashMap<>();
+		
+		for (Map.Entry<String, List<String[]>> datasheetRows : datasheets.entrySet()) {
+			List<List<String>> datasheet = new ArrayList<>(datasheetRows.getValue().size());
+			for (String[] row : datasheetRows.getValue()) {
+				List<String> cells = new ArrayList<>(row.length);
+				for (String dataValue : row) {
+					cells.add(dataValue);
+				}
+				datasheet.add(cells);
+			}
+			workbook.put(datasheetRows.getKey(), datasheet);
+		}
+		
+		try {
+			AtomicFileWriter.write(workbookFile, outputStream -> {
+				Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+				gson.toJson(workbook, WORKBOOK_TYPE, writer);
+				writer.flush();
+			});
+		} catch (IOException e) {
+			String errorDescription = "Error while writing the workbook " + workbookFile.getPath();
+			logger.error(errorDescription, e);
+			throw new AutopiaException(errorDescription);
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,164 @@
+package com.autopia4j.framework.webdriver.datatable;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.autopia4j.framework.core.AutopiaException;
+import com.google.gson.Gson;
+
+
+/**
+ * Class to hold the updates made to a single datatable instance which are yet to be written to the workbook<br>
+ * Each update is appended to a journal file before it is acknowledged, so that it may be recovered if the execution is interrupted
+ * @author vj
+ */
+class PendingDatatableUpdates {
+	private final Logger logger = LoggerFactory.getLogger(PendingDatatableUpdates.class);
+	private final Gson gson = new Gson();
+	
+	private final String datatablePath;
+	private final String datatableName;
+	private final DatatableFormat datatableFormat;
+	private final Map<String, DatatableUpdate> updates = new LinkedHashMap<>();
+	private File journalFile;
+	private FileOutputStream journal;
+	
+	PendingDatatableUpdates(String datatablePath, String datatableName) {
+		this.datatablePath = datatablePath;
+		this.datatableName = datatableName;
+		this.datatableFormat = DatatableFormat.forWorkbook(datatableName);
+	}
+	
+	String getDatatablePath() {
+		return datatablePath;
+	}
+	
+	String getDatatableName() {
+		return datatableName;
+	}
+	
+	DatatableFormat getDatatableFormat() {
+		return datatableFormat;
+	}
+	
+	synchronized void record(DatatableUpdate update) {
+		appendToJournal(update);
+		
+		// Coalesce repeated writes to the same cell
+		updates.remove(update.getKey());
+		updates.put(update.getKey(), update);
+	}
+	
+	synchronized String lookup(String key) {
+		DatatableUpdate update = updates.get(key);
+		return (update == null) ? null : update.getDataValue();
+	}
+	
+	synchronized List<DatatableUpdate> getUpdates() {
+		return new ArrayList<>(updates.values());
+	}
+	
+	/**
+	 * Function to discard the updates which have been written to the workbook, along with the journal
+	 * @param writtenUpdates The updates which have been written to the workbook
+	 */
+	synchronized void discard(List<DatatableUpdate> writtenUpdates) {
+		for (DatatableUpdate writtenUpdate : writtenUpdates) {
+			updates.remove(writtenUpdate.getKey(), writtenUpdate);
+		}
+		
+		if (updates.isEmpty() && journal != null) {
+			closeJournal();
+			if (!journalFile.delete()) {
+				logger.warn("Unable to delete the datatable journal {}", journalFile.getPath());
+			}
+			journalFile = null;
+		}
+	}
+	
+	private void appendToJournal(DatatableUpdate update) {
+		try {
+			if (journal == null) {
+				File journalDirectory = DatatableWriteBuffer.getJournalDirectory();
+				if (!journalDirectory.isDirectory() && !journalDirectory.mkdirs()) {
+					throw new IOException("Unable to create the journal directory " + journalDirectory.getPath());
+				}
+				journalFile = new File(journalDirectory,
+						datatableName + "-" + UUID.randomUUID() + DatatableWriteBuffer.JOURNAL_EXTENSION);
+				journal = new FileOutputStream(journalFile, true);
+			}
+			
+			JournalEntry journalEntry = new JournalEntry(datatablePath, datatableName, datatableFormat, update);
+			journal.write((gson.toJson(journalEntry) + "\n").getBytes(StandardCharsets.UTF_8));
+			journal.getChannel().force(false);
+		} catch (IOException e) {
+			String errorDescription = "Error while journaling the update to the datatable " + datatableName;
+			logger.error(errorDescription, e);
+			throw new AutopiaException(errorDescription);
+		}
+	}
+	
+	private void closeJournal() {
+		try {
+			journal.close();
+		} catch (IOException e) {
+			logger.warn("Error while closing the datatable journal " + journalFile.getPath(), e);
+		}
+		journal = null;
+	}
+	
+	
+	/**
+	 * Class to encapsulate a single line of the journal (serialized as JSON)
+	 * @author vj
+	 */
+	static class JournalEntry {
+		String datatablePath;
+		String datatableName;
+		String datatableFormat;
+		String testcase;
+		int iteration;
+		int subIteration;
+		String datasheetName;
+		String fieldName;
+		String dataValue;
+		
+		JournalEntry(String datatablePath, String datatableName, DatatableFormat datatableFormat, DatatableUpdate update) {
+			this.datatablePath = new File(datatablePath).getAbsolutePath();
+			this.datatableName = datatableName;
+			this.datatableFormat = datatableFormat.name();
+			this.testcase = update.getTestcase();
+			this.iteration = update.getIteration();
+			this.subIteration = update.getSubIteration();
+			this.datasheetName = update.getDatasheetName();
+			this.fieldName = update.getFieldName();
+			this.dataValue = update.getDataValue();
+		}
+		
+		/**
+		 * Function to get the format in which the datatable was stored when the update was journaled
+		 * (the journals written by earlier versions do not record the format, which is then taken from the current settings)
+		 * @return The {@link DatatableFormat} of the datatable
+		 */
+		DatatableFormat getDatatableFormat() {
+			if (datatableFormat == null) {
+				return DatatableFormat.forWorkbook(datatableName);
+			}
+			return DatatableFormat.valueOf(datatableFormat);
+		}
+		
+		DatatableUpdate toUpdate() {
+			return new DatatableUpdate(testcase, iteration, subIteration, datasheetName, fieldName, dataValue);
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,6 @@
+/**
+ * Datatable backends of the autopia4j framework for Selenium WebDriver<br>
+ * This library allows the datasheets read by the driver scripts to be stored in formats other than Excel workbooks (CSV, JSON and a memory-mapped columnar format)
+ * @author vj
+ */
+package com.autopia4j.framework.webdriver.datatable;
\ No newline at end of file
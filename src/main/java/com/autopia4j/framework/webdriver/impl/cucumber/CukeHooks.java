@@ -3,10 +3,10 @@ package com.autopia4j.framework.webdriver.impl.cucumber;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.autopia4j.framework.core.FrameworkParameters;
 import com.autopia4j.framework.core.Settings;
 import com.autopia4j.framework.webdriver.core.TestBatchHarness;
 import com.autopia4j.framework.webdriver.core.TestHarness;
+import com.autopia4j.framework.webdriver.core.WebDriverSettings;
 import com.autopia4j.framework.webdriver.utils.WebDriverUtil;
 
 import cucumber.api.Scenario;
@@ -34,13 +34,13 @@ public class CukeHooks extends MasterStepDefs {
 		logger.info("Running scenario @Before hook...");
 		
 		testHarness = new TestHarness();
-		FrameworkParameters frameworkParameters = FrameworkParameters.getInstance();
 		
 		testParameters = testHarness.initializeTestParameters("Feature", scenario.getName());
 		properties = Settings.getInstance();
 		driver = testHarness.initializeWebDriver(testParameters);
-		driverUtil = new WebDriverUtil(driver, frameworkParameters.getObjectSyncTimeout(),
-												frameworkParameters.getPageLoadTimeout());
+		WebDriverSettings settings = TestBatchHarness.getInstance().getWebDriverSettings(testParameters);
+		driverUtil = new WebDriverUtil(driver, settings.getObjectSyncTimeout(), settings.getPageLoadTimeout(),
+												settings.getImplicitWaitTimeout(), settings.getScriptTimeout());
 	}
 	
 	@After
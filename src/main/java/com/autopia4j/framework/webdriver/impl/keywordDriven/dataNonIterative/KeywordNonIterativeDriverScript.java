@@ -4,17 +4,24 @@ import java.util.ArrayList;
 import java.util.List;
 import com.autopia4j.framework.core.AutopiaException;
 import com.autopia4j.framework.datatable.impl.NonIterativeDatatable;
-import com.autopia4j.framework.utils.ExcelDataAccess;
+import com.autopia4j.framework.reporting.Status;
 import com.autopia4j.framework.utils.Util;
+import com.autopia4j.framework.webdriver.core.DatasheetSnapshot;
+import com.autopia4j.framework.webdriver.core.DatatableCache;
 import com.autopia4j.framework.webdriver.core.DriverScript;
 import com.autopia4j.framework.webdriver.core.ExecutionMode;
-import com.autopia4j.framework.webdriver.core.ReusableLibrary;
+import com.autopia4j.framework.webdriver.core.KeywordRegistry;
+import com.autopia4j.framework.webdriver.core.KeywordRegistry.Keyword;
 import com.autopia4j.framework.webdriver.core.ScriptHelper;
+import com.autopia4j.framework.webdriver.core.SessionIdempotent;
+import com.autopia4j.framework.webdriver.core.SessionKeywordCache;
+import com.autopia4j.framework.webdriver.core.SessionStateCache;
+import com.autopia4j.framework.webdriver.core.SessionStateSnapshot;
 import com.autopia4j.framework.webdriver.core.TestHarness;
+import com.autopia4j.framework.webdriver.core.TestWatchdog;
 import com.autopia4j.framework.webdriver.core.WebDriverTestParameters;
-import io.github.lukehutch.fastclasspathscanner.FastClasspathScanner;
+import com.autopia4j.framework.webdriver.datatable.BufferedNonIterativeDatatable;
 
-import org.openqa.selenium.WebDriver;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -42,7 +49,7 @@ public class KeywordNonIterativeDriverScript extends DriverScript {
 		
 		testHarness.setDefaultTestParameters(testParameters);
 		String datatablePath = testHarness.getDatatablePath();
-		WebDriver driver = testHarness.initializeWebDriver(testParameters);
+		driver = testHarness.initializeWebDriver(testParameters);
 		report = testHarness.initializeTestReport(testParameters, driver);
 		
 		String runTimeDatatablePath =
@@ -68,7 +75,7 @@ public class KeywordNonIterativeDriverScript extends DriverScript {
 		logger.info("Initializing datatable");
 		
 		NonIterativeDatatable dataTable =
-				new NonIterativeDatatable(runTimeDatatablePath, testParameters.getCurrentModule());
+				new BufferedNonIterativeDatatable(runTimeDatatablePath, testParameters.getCurrentModule());
 		dataTable.setDataReferenceIdentifier(properties.getProperty("datatable.reference.identifier"));
 		
 		return dataTable;
@@ -83,20 +90,22 @@ public class KeywordNonIterativeDriverScript extends DriverScript {
 			processBusinessFlow(businessFlowData, scriptHelper);
 		} catch (AutopiaException fx) {
 			logger.error("Error during test execution", fx);
+			SessionKeywordCache.getInstance().invalidate(driver);
 			handleExceptionInCurrentIteration(fx, fx.getErrorName());
 		} catch (Exception ex) {
 			logger.error("Error during test execution", ex);
+			SessionKeywordCache.getInstance().invalidate(driver);
 			handleExceptionInCurrentIteration(ex, "Error");
 		}
 	}
 	
 	private List<String> getBusinessFlowData(String datatablePath) {
 		logger.info("Initializing the business flow for the specified test script");
-		ExcelDataAccess businessFlowAccess =
-				new ExcelDataAccess(datatablePath, testParameters.getCurrentModule());
-		businessFlowAccess.setDatasheetName("Business_Flow");
+		DatasheetSnapshot businessFlowDatasheet =
+				DatatableCache.getInstance().getDatasheet(datatablePath,
+							testParameters.getCurrentModule(), "Business_Flow");
 		
-		int rowNum = businessFlowAccess.getRowNum(testParameters.getCurrentTestcase(), 0);
+		int rowNum = businessFlowDatasheet.getRowNum(testParameters.getCurrentTestcase(), 0);
 		if (rowNum == -1) {
 			String errorDescription = "The test case \"" + testParameters.getCurrentTestcase() + "\" is not found in the Business Flow sheet!";
 			logger.error(errorDescription);
@@ -107,7 +116,7 @@ public class KeywordNonIterativeDriverScript extends DriverScript {
 		List<String> businessFlowData = new ArrayList<>();
 		int currentColumnNum = 1;
 		while (true) {
-			dataValue = businessFlowAccess.getValue(rowNum, currentColumnNum);
+			dataValue = businessFlowDatasheet.getValue(rowNum, currentColumnNum);
 			if ("".equals(dataValue)) {
 				break;
 			}
@@ -125,8 +134,7 @@ public class KeywordNonIterativeDriverScript extends DriverScript {
 	}
 	
 	private void processBusinessFlow(List<String> businessFlowData, ScriptHelper scriptHelper)
-			throws IllegalAccessException, InvocationTargetException,
-			ClassNotFoundException, InstantiationException {
+			throws ReflectiveOperationException {
 		for (int currentKeywordNum = 0; currentKeywordNum < businessFlowData.size(); currentKeywordNum++) {
 			String currentKeyword = businessFlowData.get(currentKeywordNum);
 			report.addTestLogSubSection(currentKeyword);
@@ -134,42 +142,56 @@ public class KeywordNonIterativeDriverScript extends DriverScript {
 		}
 	}
 	
-	private void invokeBusinessComponent(String currentKeyword, ScriptHelper scriptHelper) throws ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException {
-		Boolean isTestComponentFound = false;
-		String pagesPackage = frameworkParameters.getBasePackageName() + ".pages";
-		String flowsPackage = frameworkParameters.getBasePackageName() + ".flows";
-		List<String> classNames =
-				new FastClasspathScanner(pagesPackage, flowsPackage)
-			    .scan()
-			    .getNamesOfSubclassesOf(ReusableLibrary.class);
+	private void invokeBusinessComponent(String currentKeyword, ScriptHelper scriptHelper) throws ReflectiveOperationException {
+		Keyword keyword = KeywordRegistry.getInstance().getKeyword(frameworkParameters.getBasePackageName(), currentKeyword);
+		if(keyword == null) {
+			String errorDescription = "Keyword " + Util.unCapitalizeFirstLetter(currentKeyword) + 
+											" not found within the test library!";
+			logger.error(errorDescription);
+			throw new AutopiaException(errorDescription);
+		}
+		Method testComponent = keyword.getMethod();
 		
-		for(String className : classNames) {
-			Class<?> testLibrary = Class.forName(className);
-			Method testComponent;
-			
-			try {
-				currentKeyword = Util.unCapitalizeFirstLetter(currentKeyword);
-				testComponent = testLibrary.getMethod(currentKeyword, (Class<?>[]) null);
-			} catch(NoSuchMethodException ex) {
-				// If the method is not found in this class, search the next class
-				logger.trace("Method " + currentKeyword + " not found. Continuing search...", ex);
-				continue;
+		SessionIdempotent sessionIdempotent = testComponent.getAnnotation(SessionIdempotent.class);
+		SessionKeywordCache keywordCache = SessionKeywordCache.getInstance();
+		String keywordKey = null;
+		if (sessionIdempotent != null) {
+			keywordKey = keywordCache.getKey(currentKeyword, sessionIdempotent, scriptHelper.getDataTable());
+			if (keywordCache.hasCompleted(driver, keywordKey)) {
+				report.updateTestLog("Framework Info", "Keyword " + currentKeyword +
+						" already executed successfully on the current session. Skipping...", Status.DONE);
+				return;
 			}
-			
-			isTestComponentFound = true;
-			
-			Constructor<?> ctor = testLibrary.getDeclaredConstructors()[0];
-			Object testLibraryInstance = ctor.newInstance(scriptHelper);
-			testComponent.invoke(testLibraryInstance, (Object[]) null);
-			
-			break;
 		}
 		
-		if(!isTestComponentFound) {
-			String errorDescription = "Keyword " + currentKeyword + 
-											" not found within the test library!";
-			logger.error(errorDescription);
-			throw new AutopiaException(errorDescription);
+		SessionStateSnapshot sessionStateSnapshot = testComponent.getAnnotation(SessionStateSnapshot.class);
+		SessionStateCache sessionStateCache = SessionStateCache.getInstance();
+		String sessionStateKey = null;
+		if (sessionStateSnapshot != null) {
+			sessionStateKey = sessionStateCache.getKey(currentKeyword, sessionStateSnapshot, scriptHelper.getDataTable());
+			if (sessionStateCache.restore(sessionStateKey, sessionStateSnapshot, scriptHelper.getDriver())) {
+				report.updateTestLog("Framework Info", "Session state captured by an earlier execution of keyword " +
+						currentKeyword + " restored successfully. Skipping...", Status.DONE);
+				if (keywordKey != null) {
+					keywordCache.markCompleted(driver, keywordKey);
+				}
+				return;
+			}
+		}
+		
+		Constructor<?> ctor = keyword.getReusableLibrary().getDeclaredConstructors()[0];
+		Object testLibraryInstance = ctor.newInstance(scriptHelper);
+		TestWatchdog.getInstance().execute(testParameters.getKeywordTimeout(),
+							"Keyword " + currentKeyword, this::abort,
+							() -> testComponent.invoke(testLibraryInstance, (Object[]) null));
+		
+		if (!"Failed".equalsIgnoreCase(report.getTestStatus())) {
+			if (keywordKey != null) {
+				keywordCache.markCompleted(driver, keywordKey);
+			}
+			if (sessionStateKey != null) {
+				sessionStateCache.capture(sessionStateKey, scriptHelper.getDriver());
+			}
 		}
 	}
 }
\ No newline at end of file
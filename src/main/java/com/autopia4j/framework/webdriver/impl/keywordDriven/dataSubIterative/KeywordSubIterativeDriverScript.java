@@ -6,17 +6,25 @@ import java.util.List;
 import java.util.Map;
 import com.autopia4j.framework.core.AutopiaException;
 import com.autopia4j.framework.datatable.impl.SubIterativeDatatable;
-import com.autopia4j.framework.utils.ExcelDataAccess;
+import com.autopia4j.framework.reporting.Status;
 import com.autopia4j.framework.utils.Util;
+import com.autopia4j.framework.webdriver.core.DatasheetSnapshot;
+import com.autopia4j.framework.webdriver.core.DatasheetSnapshot.TestcaseRows;
+import com.autopia4j.framework.webdriver.core.DatatableCache;
 import com.autopia4j.framework.webdriver.core.DriverScript;
 import com.autopia4j.framework.webdriver.core.ExecutionMode;
-import com.autopia4j.framework.webdriver.core.ReusableLibrary;
+import com.autopia4j.framework.webdriver.core.KeywordRegistry;
+import com.autopia4j.framework.webdriver.core.KeywordRegistry.Keyword;
 import com.autopia4j.framework.webdriver.core.ScriptHelper;
+import com.autopia4j.framework.webdriver.core.SessionIdempotent;
+import com.autopia4j.framework.webdriver.core.SessionKeywordCache;
+import com.autopia4j.framework.webdriver.core.SessionStateCache;
+import com.autopia4j.framework.webdriver.core.SessionStateSnapshot;
 import com.autopia4j.framework.webdriver.core.TestHarness;
+import com.autopia4j.framework.webdriver.core.TestWatchdog;
 import com.autopia4j.framework.webdriver.core.WebDriverTestParameters;
-import io.github.lukehutch.fastclasspathscanner.FastClasspathScanner;
+import com.autopia4j.framework.webdriver.datatable.BufferedSubIterativeDatatable;
 
-import org.openqa.selenium.WebDriver;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -47,7 +55,7 @@ public class KeywordSubIterativeDriverScript extends DriverScript {
 		testHarness.setDefaultTestParameters(testParameters);
 		String datatablePath = testHarness.getDatatablePath();
 		initializeTestIterations(datatablePath);
-		WebDriver driver = testHarness.initializeWebDriver(testParameters);
+		driver = testHarness.initializeWebDriver(testParameters);
 		report = testHarness.initializeTestReport(testParameters, driver);
 		
 		String runTimeDatatablePath =
@@ -66,21 +74,24 @@ public class KeywordSubIterativeDriverScript extends DriverScript {
 	
 	@Override
 	protected int getNumberOfIterations(String datatablePath) {
-		ExcelDataAccess testDataAccess =
-				new ExcelDataAccess(datatablePath, testParameters.getCurrentModule());
-		testDataAccess.setDatasheetName(properties.getProperty("datatable.default.sheet"));
+		DatasheetSnapshot testDatasheet =
+				DatatableCache.getInstance().getDatasheet(datatablePath,
+							testParameters.getCurrentModule(), properties.getProperty("datatable.default.sheet"));
 		
-		int startRowNum = testDataAccess.getRowNum(testParameters.getCurrentTestcase(), 0);
-		int nTestcaseRows = testDataAccess.getRowCount(testParameters.getCurrentTestcase(), 0, startRowNum);
-		int nSubIterations = testDataAccess.getRowCount("1", 1, startRowNum);	// Assumption: Every test case will have at least one iteration
-		return nTestcaseRows / nSubIterations;
+		TestcaseRows testcaseRows = testDatasheet.getTestcaseRows(testParameters.getCurrentTestcase());
+		if (testcaseRows == null) {
+			String errorDescription = "The test case \"" + testParameters.getCurrentTestcase() + "\" is not found in the default datasheet!";
+			logger.error(errorDescription);
+			throw new AutopiaException(errorDescription);
+		}
+		return testcaseRows.getIterationCount();
 	}
 	
 	private SubIterativeDatatable initializeDatatable(String runTimeDatatablePath) {
 		logger.info("Initializing datatable");
 		
 		SubIterativeDatatable dataTable =
-				new SubIterativeDatatable(runTimeDatatablePath, testParameters.getCurrentModule());
+				new BufferedSubIterativeDatatable(runTimeDatatablePath, testParameters.getCurrentModule());
 		dataTable.setDataReferenceIdentifier(properties.getProperty("datatable.reference.identifier"));
 		
 		return dataTable;
@@ -93,11 +104,11 @@ public class KeywordSubIterativeDriverScript extends DriverScript {
 	
 	private List<String> getBusinessFlowData(String datatablePath) {
 		logger.info("Initializing the business flow for the specified test script");
-		ExcelDataAccess businessFlowAccess =
-				new ExcelDataAccess(datatablePath, testParameters.getCurrentModule());
-		businessFlowAccess.setDatasheetName("Business_Flow");
+		DatasheetSnapshot businessFlowDatasheet =
+				DatatableCache.getInstance().getDatasheet(datatablePath,
+							testParameters.getCurrentModule(), "Business_Flow");
 		
-		int rowNum = businessFlowAccess.getRowNum(testParameters.getCurrentTestcase(), 0);
+		int rowNum = businessFlowDatasheet.getRowNum(testParameters.getCurrentTestcase(), 0);
 		if (rowNum == -1) {
 			String errorDescription = "The test case \"" + testParameters.getCurrentTestcase() + "\" is not found in the Business Flow sheet!";
 			logger.error(errorDescription);
@@ -108,7 +119,7 @@ public class KeywordSubIterativeDriverScript extends DriverScript {
 		List<String> businessFlowData = new ArrayList<>();
 		int currentColumnNum = 1;
 		while (true) {
-			dataValue = businessFlowAccess.getValue(rowNum, currentColumnNum);
+			dataValue = businessFlowDatasheet.getValue(rowNum, currentColumnNum);
 			if ("".equals(dataValue)) {
 				break;
 			}
@@ -135,9 +146,11 @@ public class KeywordSubIterativeDriverScript extends DriverScript {
 				processBusinessFlow(businessFlowData, datatable, scriptHelper);
 			} catch (AutopiaException fx) {
 				logger.error("Error during test execution", fx);
+				SessionKeywordCache.getInstance().invalidate(driver);
 				handleExceptionInCurrentIteration(fx, fx.getErrorName());
 			} catch (Exception ex) {
 				logger.error("Error during test execution", ex);
+				SessionKeywordCache.getInstance().invalidate(driver);
 				handleExceptionInCurrentIteration(ex, "Error");
 			}
 			
@@ -146,8 +159,7 @@ public class KeywordSubIterativeDriverScript extends DriverScript {
 	}
 	
 	private void processBusinessFlow(List<String> businessFlowData, SubIterativeDatatable dataTable, ScriptHelper scriptHelper)
-			throws IllegalAccessException, InvocationTargetException,
-			ClassNotFoundException, InstantiationException {
+			throws ReflectiveOperationException {
 		Map<String, Integer> keywordDirectory = new HashMap<>();
 		
 		for (int currentKeywordNum = 0; currentKeywordNum < businessFlowData.size(); currentKeywordNum++) {
@@ -182,42 +194,56 @@ public class KeywordSubIterativeDriverScript extends DriverScript {
 		}
 	}
 	
-	private void invokeBusinessComponent(String currentKeyword, ScriptHelper scriptHelper) throws ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException {
-		Boolean isTestComponentFound = false;
-		String pagesPackage = frameworkParameters.getBasePackageName() + ".pages";
-		String flowsPackage = frameworkParameters.getBasePackageName() + ".flows";
-		List<String> classNames =
-				new FastClasspathScanner(pagesPackage, flowsPackage)
-			    .scan()
-			    .getNamesOfSubclassesOf(ReusableLibrary.class);
+	private void invokeBusinessComponent(String currentKeyword, ScriptHelper scriptHelper) throws ReflectiveOperationException {
+		Keyword keyword = KeywordRegistry.getInstance().getKeyword(frameworkParameters.getBasePackageName(), currentKeyword);
+		if(keyword == null) {
+			String errorDescription = "Keyword " + Util.unCapitalizeFirstLetter(currentKeyword) + 
+											" not found within the test library!";
+			logger.error(errorDescription);
+			throw new AutopiaException(errorDescription);
+		}
+		Method testComponent = keyword.getMethod();
 		
-		for(String className : classNames) {
-			Class<?> testLibrary = Class.forName(className);
-			Method testComponent;
-			
-			try {
-				currentKeyword = Util.unCapitalizeFirstLetter(currentKeyword);
-				testComponent = testLibrary.getMethod(currentKeyword, (Class<?>[]) null);
-			} catch(NoSuchMethodException ex) {
-				// If the method is not found in this class, search the next class
-				logger.trace("Method " + currentKeyword + " not found. Continuing search...", ex);
-				continue;
+		SessionIdempotent sessionIdempotent = testComponent.getAnnotation(SessionIdempotent.class);
+		SessionKeywordCache keywordCache = SessionKeywordCache.getInstance();
+		String keywordKey = null;
+		if (sessionIdempotent != null) {
+			keywordKey = keywordCache.getKey(currentKeyword, sessionIdempotent, scriptHelper.getDataTable());
+			if (keywordCache.hasCompleted(driver, keywordKey)) {
+				report.updateTestLog("Framework Info", "Keyword " + currentKeyword +
+						" already executed successfully on the current session. Skipping...", Status.DONE);
+				return;
 			}
-			
-			isTestComponentFound = true;
-			
-			Constructor<?> ctor = testLibrary.getDeclaredConstructors()[0];
-			Object testLibraryInstance = ctor.newInstance(scriptHelper);
-			testComponent.invoke(testLibraryInstance, (Object[]) null);
-			
-			break;
 		}
 		
-		if(!isTestComponentFound) {
-			String errorDescription = "Keyword " + currentKeyword + 
-											" not found within the test library!";
-			logger.error(errorDescription);
-			throw new AutopiaException(errorDescription);
+		SessionStateSnapshot sessionStateSnapshot = testComponent.getAnnotation(SessionStateSnapshot.class);
+		SessionStateCache sessionStateCache = SessionStateCache.getInstance();
+		String sessionStateKey = null;
+		if (sessionStateSnapshot != null) {
+			sessionStateKey = sessionStateCache.getKey(currentKeyword, sessionStateSnapshot, scriptHelper.getDataTable());
+			if (sessionStateCache.restore(sessionStateKey, sessionStateSnapshot, scriptHelper.getDriver())) {
+				report.updateTestLog("Framework Info", "Session state captured by an earlier execution of keyword " +
+						currentKeyword + " restored successfully. Skipping...", Status.DONE);
+				if (keywordKey != null) {
+					keywordCache.markCompleted(driver, keywordKey);
+				}
+				return;
+			}
+		}
+		
+		Constructor<?> ctor = keyword.getReusableLibrary().getDeclaredConstructors()[0];
+		Object testLibraryInstance = ctor.newInstance(scriptHelper);
+		TestWatchdog.getInstance().execute(testParameters.getKeywordTimeout(),
+							"Keyword " + currentKeyword, this::abort,
+							() -> testComponent.invoke(testLibraryInstance, (Object[]) null));
+		
+		if (!"Failed".equalsIgnoreCase(report.getTestStatus())) {
+			if (keywordKey != null) {
+				keywordCache.markCompleted(driver, keywordKey);
+			}
+			if (sessionStateKey != null) {
+				sessionStateCache.capture(sessionStateKey, scriptHelper.getDriver());
+			}
 		}
 	}
 }
\ No newline at end of file
@@ -10,6 +10,8 @@ import com.autopia4j.framework.webdriver.core.ExecutionMode;
 import com.autopia4j.framework.webdriver.core.ScriptHelper;
 import com.autopia4j.framework.webdriver.core.TestHarness;
 import com.autopia4j.framework.webdriver.core.TestScript;
+import com.autopia4j.framework.webdriver.core.TestScriptCatalogue;
+import com.autopia4j.framework.webdriver.core.TestScriptCatalogue.TestScriptInfo;
 import com.autopia4j.framework.webdriver.core.WebDriverTestParameters;
 import com.autopia4j.framework.webdriver.reporting.WebDriverReport;
 
@@ -55,10 +57,10 @@ public abstract class ModularBasicTestScript extends TestScript {
 			// Throwing TestNG SkipException within a configuration method causes all subsequent test methods to be skipped/aborted
 			throw new SkipException("Test execution terminated by user! All subsequent tests aborted...");
 		} else {
-			String[] currentPackageSplit = this.getClass().getPackage().getName().split(".testscripts.");
-			frameworkParameters.setBasePackageName(currentPackageSplit[0]);
+			TestScriptInfo testScriptInfo = TestScriptCatalogue.getInstance().getTestScriptInfo(this.getClass());
+			frameworkParameters.setBasePackageName(testScriptInfo.getBasePackageName());
 			
-			TestHarness testHarness = new TestHarness();
+			TestHarness testHarness = createTestHarness();
 			currentTestHarness.set(testHarness);
 			
 			WebDriverTestParameters testParameters;
@@ -73,6 +75,7 @@ public abstract class ModularBasicTestScript extends TestScript {
 				testHarness.setDefaultTestParameters(testParameters);
 			}
 			currentTestParameters.set(testParameters);
+			startTestWatch(testParameters.getTestTimeout(), "Test " + testParameters.getCurrentTestcase());
 			
 			WebDriver driver = testHarness.initializeWebDriver(testParameters);
 			
@@ -84,28 +87,53 @@ public abstract class ModularBasicTestScript extends TestScript {
 		}
 	}
 	
+	/**
+	 * Function to create the {@link TestHarness} which sets up and tears down each test case<br>
+	 * This may be overridden to customize the set-up of the test cases (e.g., the creation of the {@link WebDriver} sessions)
+	 * @return The {@link TestHarness} object
+	 */
+	protected TestHarness createTestHarness() {
+		return new TestHarness();
+	}
+	
 	/**
 	 * Function to do the required framework tear-down activities after executing each test case
 	 */
 	@AfterMethod(alwaysRun=true)
-	public synchronized void tearDownTestRunner() {
-		TestHarness testHarness = currentTestHarness.get();
-		ScriptHelper scriptHelper = currentScriptHelper.get();
-		
-		WebDriverTestParameters testParameters = scriptHelper.getTestParameters();
-		WebDriver driver = scriptHelper.getDriver();
-		WebDriverReport report = scriptHelper.getReport();
-		
-		if (testParameters.getExecutionMode() == ExecutionMode.PERFECTO_DEVICE) {
-			testHarness.downloadPerfectoResults(driver, report);
+	public void tearDownTestRunner() {
+		String abortReason = stopTestWatch();
+		try {
+			TestHarness testHarness = currentTestHarness.get();
+			ScriptHelper scriptHelper = currentScriptHelper.get();
+			if (testHarness == null || scriptHelper == null) {
+				return;	// The set-up failed before the test was initialized, so there is nothing to tear down
+			}
+			
+			WebDriverTestParameters testParameters = scriptHelper.getTestParameters();
+			WebDriver driver = scriptHelper.getDriver();
+			WebDriverReport report = scriptHelper.getReport();
+			
+			if (testParameters.getExecutionMode() == ExecutionMode.PERFECTO_DEVICE) {
+				testHarness.downloadPerfectoResults(driver, report);
+			}
+			testHarness.quitWebDriver(driver);
+			String executionTime = testHarness.tearDown(scriptHelper);
+			String testReportName = report.getReportSettings().getReportName();
+			String testStatus = report.getTestStatus();
+			if (abortReason != null) {
+				testParameters.setAdditionalDetails(abortReason);
+				testStatus = "Failed";
+			}
+			
+			testHarness.closeTestReport(scriptHelper, executionTime);
+			testBatchHarness.updateResultSummary(testParameters, testReportName,
+															executionTime, testStatus);
+		} finally {
+			// Release the per-test objects, since the pooled TestNG threads would otherwise keep them reachable
+			currentTestHarness.remove();
+			currentTestParameters.remove();
+			currentScriptHelper.remove();
+			currentReport.remove();
 		}
-		testHarness.quitWebDriver(driver);
-		String executionTime = testHarness.tearDown(scriptHelper);
-		String testReportName = report.getReportSettings().getReportName();
-		String testStatus = report.getTestStatus();
-		
-		testHarness.closeTestReport(scriptHelper, executionTime);
-		testBatchHarness.updateResultSummary(testParameters, testReportName,
-														executionTime, testStatus);
 	}
 }
\ No newline at end of file
@@ -2,15 +2,16 @@ package com.autopia4j.framework.webdriver.impl.modular.dataIterative;
 
 import com.autopia4j.framework.core.AutopiaException;
 import com.autopia4j.framework.datatable.impl.IterativeDatatable;
-import com.autopia4j.framework.utils.ExcelDataAccess;
-import com.autopia4j.framework.utils.Util;
+import com.autopia4j.framework.webdriver.core.DatasheetSnapshot;
+import com.autopia4j.framework.webdriver.core.DatatableCache;
 import com.autopia4j.framework.webdriver.core.DriverScript;
 import com.autopia4j.framework.webdriver.core.ExecutionMode;
 import com.autopia4j.framework.webdriver.core.ScriptHelper;
 import com.autopia4j.framework.webdriver.core.TestHarness;
+import com.autopia4j.framework.webdriver.core.TestScriptCatalogue;
 import com.autopia4j.framework.webdriver.core.WebDriverTestParameters;
+import com.autopia4j.framework.webdriver.datatable.BufferedIterativeDatatable;
 
-import org.openqa.selenium.WebDriver;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -38,7 +39,7 @@ public class ModularIterativeDriverScript extends DriverScript {
 		testHarness.setDefaultTestParameters(testParameters);
 		String datatablePath = testHarness.getDatatablePath();
 		initializeTestIterations(datatablePath);
-		WebDriver driver = testHarness.initializeWebDriver(testParameters);
+		driver = testHarness.initializeWebDriver(testParameters);
 		report = testHarness.initializeTestReport(testParameters, driver);
 		
 		String runTimeDatatablePath =
@@ -57,17 +58,17 @@ public class ModularIterativeDriverScript extends DriverScript {
 	
 	@Override
 	protected int getNumberOfIterations(String datatablePath) {
-		ExcelDataAccess testDataAccess =
-				new ExcelDataAccess(datatablePath, testParameters.getCurrentModule());
-		testDataAccess.setDatasheetName(properties.getProperty("datatable.default.sheet"));
-		return testDataAccess.getRowCount(testParameters.getCurrentTestcase(), 0);
+		DatasheetSnapshot testDatasheet =
+				DatatableCache.getInstance().getDatasheet(datatablePath,
+							testParameters.getCurrentModule(), properties.getProperty("datatable.default.sheet"));
+		return testDatasheet.getRowCount(testParameters.getCurrentTestcase(), 0);
 	}
 	
 	private IterativeDatatable initializeDatatable(String runTimeDatatablePath) {
 		logger.info("Initializing datatable");
 		
 		IterativeDatatable dataTable =
-				new IterativeDatatable(runTimeDatatablePath, testParameters.getCurrentModule());
+				new BufferedIterativeDatatable(runTimeDatatablePath, testParameters.getCurrentModule());
 		dataTable.setDataReferenceIdentifier(properties.getProperty("datatable.reference.identifier"));
 		
 		// Initialize the datatable row in case test data is required during the setUp()
@@ -95,26 +96,16 @@ public class ModularIterativeDriverScript extends DriverScript {
 	}
 	
 	private ModularIterativeTestScript getTestScriptInstance() {
-		Class<?> testScriptClass;
-		try {
-			testScriptClass = Class.forName(frameworkParameters.getBasePackageName() +
-											".testscripts." +
-											Util.unCapitalizeFirstLetter(
-												testParameters.getCurrentModule()) +
-											"." + testParameters.getCurrentTestcase());
-		} catch (ClassNotFoundException e) {
-			String errorDescription = "The specified test case is not found!";
-			logger.error(errorDescription, e);
+		if (testParameters.getCurrentModule() == null) {
+			String errorDescription = "The module of the test case " + testParameters.getCurrentTestcase() +
+								" cannot be resolved, since it does not reside within a package named [base package].testscripts.[module]!";
+			logger.error(errorDescription);
 			throw new AutopiaException(errorDescription);
 		}
 		
-		try {
-			return (ModularIterativeTestScript) testScriptClass.newInstance();
-		} catch (Exception e) {
-			String errorDescription = "Error while instantiating the specified test script";
-			logger.error(errorDescription, e);
-			throw new AutopiaException(errorDescription);
-		}
+		return TestScriptCatalogue.getInstance().getTestScriptInstance(testParameters.getCurrentModule(),
+												testParameters.getCurrentTestcase(),
+												ModularIterativeTestScript.class);
 	}
 	
 	private void executeTestIterations(ModularIterativeTestScript testScript, IterativeDatatable dataTable) {
@@ -7,9 +7,10 @@ import org.testng.annotations.BeforeMethod;
 
 import com.autopia4j.framework.core.FrameworkParameters;
 import com.autopia4j.framework.datatable.impl.IterativeDatatable;
-import com.autopia4j.framework.utils.Util;
 import com.autopia4j.framework.webdriver.core.ScriptHelper;
 import com.autopia4j.framework.webdriver.core.TestScript;
+import com.autopia4j.framework.webdriver.core.TestScriptCatalogue;
+import com.autopia4j.framework.webdriver.core.TestScriptCatalogue.TestScriptInfo;
 import com.autopia4j.framework.webdriver.core.WebDriverTestParameters;
 import com.autopia4j.framework.webdriver.reporting.WebDriverReport;
 
@@ -68,11 +69,13 @@ public abstract class ModularIterativeTestScript extends TestScript {
 			// Throwing TestNG SkipException within a configuration method causes all subsequent test methods to be skipped/aborted
 			throw new SkipException("Test execution terminated by user! All subsequent tests aborted...");
 		} else {
-			String[] currentPackageSplit = this.getClass().getPackage().getName().split(".testscripts.");
+			TestScriptInfo testScriptInfo = TestScriptCatalogue.getInstance().getTestScriptInfo(this.getClass());
 			
-			frameworkParameters.setBasePackageName(currentPackageSplit[0]);
-			currentModule = Util.capitalizeFirstLetter(currentPackageSplit[1]);
-			currentTest = this.getClass().getSimpleName();
+			frameworkParameters.setBasePackageName(testScriptInfo.getBasePackageName());
+			currentModule = testScriptInfo.getModule();
+			currentTest = testScriptInfo.getTest();
+			
+			startTestWatch(testBatchHarness.getWebDriverSettings().getTestTimeout(), "Test " + currentTest);
 		}
 	}
 	
@@ -108,14 +111,26 @@ public abstract class ModularIterativeTestScript extends TestScript {
 	 * Function to do the required framework tear-down activities after executing each test case
 	 */
 	@AfterMethod(alwaysRun=true)
-	public synchronized void tearDownTestRunner() {
-		ModularIterativeDriverScript driverScript = currentDriverScript.get();
-		WebDriverTestParameters testParameters = driverScript.getTestParameters();
-		String testReportName = driverScript.getReportName();
-		String executionTime = driverScript.getExecutionTime();
-		String testStatus = driverScript.getTestStatus();
-		
-		testBatchHarness.updateResultSummary(testParameters, testReportName,
-														executionTime, testStatus);
+	public void tearDownTestRunner() {
+		String abortReason = stopTestWatch();
+		try {
+			ModularIterativeDriverScript driverScript = currentDriverScript.get();
+			if (driverScript == null) {
+				return;	// The test did not reach its driver script (e.g., the set-up failed), so there is no result to report
+			}
+			WebDriverTestParameters testParameters = driverScript.getTestParameters();
+			String testReportName = driverScript.getReportName();
+			String executionTime = driverScript.getExecutionTime();
+			String testStatus = driverScript.getTestStatus();
+			if (abortReason != null) {
+				testParameters.setAdditionalDetails(abortReason);
+				testStatus = "Failed";
+			}
+			
+			testBatchHarness.updateResultSummary(testParameters, testReportName,
+															executionTime, testStatus);
+		} finally {
+			currentDriverScript.remove();
+		}
 	}
 }
\ No newline at end of file
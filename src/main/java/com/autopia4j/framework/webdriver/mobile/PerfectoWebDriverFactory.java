@@ -11,6 +11,7 @@ import com.autopia4j.framework.core.AutopiaException;
 import com.autopia4j.framework.utils.Util;
 import com.autopia4j.framework.webdriver.core.Browser;
 import com.autopia4j.framework.webdriver.core.DeviceType;
+import com.autopia4j.framework.webdriver.core.WebDriverSettings;
 
 
 /**
@@ -50,7 +51,30 @@ public class PerfectoWebDriverFactory {
 	 */
 	public static WebDriver getPerfectoRemoteWebDriver(String deviceId,
 								DeviceType deviceType, Browser browser, URL remoteUrl) {
-		DesiredCapabilities desiredCapabilities = getPerfectoExecutionCapabilities(browser);
+		return getPerfectoRemoteWebDriver(deviceId, deviceType,
+								getPerfectoExecutionCapabilities(browser, userName, password, acceptAllSslCertificates),
+								remoteUrl);
+	}
+	
+	/**
+	 * Function to return the Perfecto MobileCloud {@link RemoteWebDriver} object based on the parameters passed
+	 * @param deviceId The ID of the Perfecto MobileCloud device to be used for the test execution
+	 * @param deviceType The {@link DeviceType} corresponding to the Device ID passed as input
+	 * @param browser The {@link Browser} to be used for the test execution
+	 * @param remoteUrl The Perfecto MobileCloud URL to be used for the test execution
+	 * @param settings The {@link WebDriverSettings} containing the Perfecto MobileCloud credentials and the SSL certificate setting
+	 * @return The corresponding {@link RemoteWebDriver} object
+	 */
+	public static WebDriver getPerfectoRemoteWebDriver(String deviceId,
+								DeviceType deviceType, Browser browser, URL remoteUrl, WebDriverSettings settings) {
+		return getPerfectoRemoteWebDriver(deviceId, deviceType,
+								getPerfectoExecutionCapabilities(browser, settings.getPerfectoUserName(),
+										settings.getPerfectoPassword(), settings.getAcceptAllSslCertificates()),
+								remoteUrl);
+	}
+	
+	private static WebDriver getPerfectoRemoteWebDriver(String deviceId, DeviceType deviceType,
+								DesiredCapabilities desiredCapabilities, URL remoteUrl) {
 		desiredCapabilities.setCapability("deviceName", deviceId);
 		
 		RemoteWebDriver driver = new RemoteWebDriver(remoteUrl, desiredCapabilities);
@@ -66,6 +90,11 @@ public class PerfectoWebDriverFactory {
 	}
 	
 	private static DesiredCapabilities getPerfectoExecutionCapabilities(Browser browser) {
+		return getPerfectoExecutionCapabilities(browser, userName, password, acceptAllSslCertificates);
+	}
+	
+	private static DesiredCapabilities getPerfectoExecutionCapabilities(Browser browser, String userName,
+											String password, Boolean acceptAllSslCertificates) {
 		if(!browser.toString().contains("PERFECTO")) {
 			throw new AutopiaException("The browser " + browser.toString() +
 											" is not supported on the Perfecto MobileCloud");
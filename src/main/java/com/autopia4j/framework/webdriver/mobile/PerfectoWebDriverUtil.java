@@ -9,7 +9,7 @@ import java.util.Map;
 
 import org.openqa.selenium.OutputType;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.JavascriptExecutor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -99,7 +99,7 @@ public class PerfectoWebDriverUtil {
 		String command = "mobile:report:download";
 		Map<String, Object> params = new HashMap<>();
 		params.put("type", reportType);
-		String reportRawData = (String) ((RemoteWebDriver) driver).executeScript(command, params);
+		String reportRawData = (String) ((JavascriptExecutor) driver).executeScript(command, params);
 		
 		try {
 			File reportFile = new File(reportPath + Util.getFileSeparator() +
@@ -132,7 +132,7 @@ public class PerfectoWebDriverUtil {
 		    params.put("type", attachmentType);
 		    params.put("index", Integer.toString(index));
 		    attachmentRawData =
-		    		(String) ((RemoteWebDriver) driver).executeScript(command, params);
+		    		(String) ((JavascriptExecutor) driver).executeScript(command, params);
 		    
 		    if (attachmentRawData == null) {
 		    	break;
@@ -1,12 +1,21 @@
 package com.autopia4j.framework.webdriver.testrunner;
 
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import org.openqa.selenium.Platform;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.autopia4j.framework.core.AutopiaException;
 import com.autopia4j.framework.core.FrameworkParameters;
 import com.autopia4j.framework.core.IterationOptions;
 import com.autopia4j.framework.core.Settings;
@@ -15,6 +24,7 @@ import com.autopia4j.framework.webdriver.core.Browser;
 import com.autopia4j.framework.webdriver.core.DeviceType;
 import com.autopia4j.framework.webdriver.core.ExecutionMode;
 import com.autopia4j.framework.webdriver.core.TestBatchHarness;
+import com.autopia4j.framework.webdriver.core.WebDriverSettings;
 import com.autopia4j.framework.webdriver.core.WebDriverTestParameters;
 
 
@@ -23,9 +33,11 @@ import com.autopia4j.framework.webdriver.core.WebDriverTestParameters;
  * @author vj
  */
 public class Allocator {
+	private final Logger logger = LoggerFactory.getLogger(Allocator.class);
 	private FrameworkParameters frameworkParameters = FrameworkParameters.getInstance();
 	private Properties properties;
 	private TestBatchHarness testBatchHarness;
+	private final Map<WebDriverTestParameters, String> invalidTestInstances = new IdentityHashMap<>();
 	
 	
 	/**
@@ -56,6 +68,19 @@ public class Allocator {
 	private int executeTestBatch(int nThreads) throws InterruptedException {
 		List<WebDriverTestParameters> testInstancesToRun =
 							getRunInfo(frameworkParameters.getRunConfiguration());
+		if (Boolean.parseBoolean(properties.getProperty("allocator.preflight.validate", "true"))) {
+			PreFlightValidator preFlightValidator = new PreFlightValidator();
+			invalidTestInstances.putAll(preFlightValidator.validate(testInstancesToRun, nThreads));
+		}
+		int testBatchStatus = quarantineInvalidTestInstances(testInstancesToRun);
+		
+		Set<String> modules = new LinkedHashSet<>();
+		for (WebDriverTestParameters testParameters : testInstancesToRun) {
+			modules.add(testParameters.getCurrentModule());
+		}
+		testBatchHarness.provisionRuntimeDatatables(modules, nThreads);
+		
+		ParallelRunner.resetTestBatchStatus();
 		ExecutorService parallelExecutor = Executors.newFixedThreadPool(nThreads);
 		ParallelRunner testRunner = null;
 		
@@ -69,17 +94,44 @@ public class Allocator {
 		}
 		
 		parallelExecutor.shutdown();
-		while(!parallelExecutor.isTerminated()) {
-			Thread.sleep(3000);
-		}
+		parallelExecutor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
 		
 		if (testRunner == null) {
-			return 0;	// All tests flagged as "No" in the Run Manager
+			return testBatchStatus;	// All tests flagged as "No" in the Run Manager, or quarantined
 		} else {
-			return testRunner.getTestBatchStatus();
+			return Math.max(testBatchStatus, testRunner.getTestBatchStatus());
 		}
 	}
 	
+	private int quarantineInvalidTestInstances(List<WebDriverTestParameters> testInstancesToRun) {
+		if (invalidTestInstances.isEmpty()) {
+			return 0;
+		}
+		
+		Boolean quarantine =
+				Boolean.parseBoolean(properties.getProperty("allocator.preflight.quarantine", "true"));
+		for (Map.Entry<WebDriverTestParameters, String> invalidTestInstance : invalidTestInstances.entrySet()) {
+			WebDriverTestParameters testParameters = invalidTestInstance.getKey();
+			logger.error("Pre-flight validation failed for {}/{} ({}): {}",
+							testParameters.getCurrentModule(), testParameters.getCurrentTestcase(),
+							testParameters.getCurrentTestInstance(), invalidTestInstance.getValue());
+		}
+		if (!quarantine) {
+			throw new AutopiaException("Pre-flight validation failed for " + invalidTestInstances.size() +
+															" test instance(s)! Refer the logs for details...");
+		}
+		
+		testInstancesToRun.removeIf(invalidTestInstances::containsKey);
+		for (Map.Entry<WebDriverTestParameters, String> invalidTestInstance : invalidTestInstances.entrySet()) {
+			// Report the validation failure itself, since the default details may not be resolvable for an invalid row
+			WebDriverTestParameters testParameters = invalidTestInstance.getKey();
+			testParameters.setAdditionalDetails("Pre-flight validation failed: " + invalidTestInstance.getValue());
+			testBatchHarness.updateResultSummary(testParameters, "N/A", "N/A", "Failed");
+		}
+		
+		return 1;	// Non-zero outcome indicates failure
+	}
+	
 	private List<WebDriverTestParameters> getRunInfo(String sheetName) {
 		ExcelDataAccess runManagerAccess =
 					new ExcelDataAccess(frameworkParameters.getBasePath(), "test.run.configurations");			
@@ -100,71 +152,105 @@ public class Allocator {
 				testParameters.setCurrentTestInstance("Instance" + runManagerAccess.getValue(currentTestInstance, "TestInstance"));
 				testParameters.setCurrentTestDescription(runManagerAccess.getValue(currentTestInstance, "Description"));
 				
-				String iterationMode = runManagerAccess.getValue(currentTestInstance, "IterationMode");
-				if (!"".equals(iterationMode)) {
-					testParameters.setIterationMode(IterationOptions.valueOf(iterationMode));
-				} else {
-					testParameters.setIterationMode(IterationOptions.RUN_ALL_ITERATIONS);
-				}
-				
-				String startIteration = runManagerAccess.getValue(currentTestInstance, "StartIteration");
-				if (!"".equals(startIteration)) {
-					testParameters.setStartIteration(Integer.parseInt(startIteration));
+				try {
+					initializeTestParameters(runManagerAccess, currentTestInstance, testParameters);
+					testInstancesToRun.add(testParameters);
+				} catch (IllegalArgumentException ex) {
+					// Invalid enum or number within the Run Manager
+					invalidTestInstances.put(testParameters, "Invalid Run Manager entry: " + ex.getMessage());
 				}
-				String endIteration = runManagerAccess.getValue(currentTestInstance, "EndIteration");
-				if (!"".equals(endIteration)) {
-					testParameters.setEndIteration(Integer.parseInt(endIteration));
-				}
-				
-				String executionMode = runManagerAccess.getValue(currentTestInstance, "ExecutionMode");
-				if (!"".equals(executionMode)) {
-					testParameters.setExecutionMode(ExecutionMode.valueOf(executionMode));
-				} else {
-					testParameters.setExecutionMode(ExecutionMode.valueOf(properties.getProperty("execution.mode.default")));
-				}
-				
-				String remoteUrl = runManagerAccess.getValue(currentTestInstance, "RemoteUrl");
-				if (!"".equals(remoteUrl) && !"N/A".equals(remoteUrl)) {
-					testParameters.setRemoteUrl(remoteUrl);
-				} else {
-					testParameters.setRemoteUrl(properties.getProperty("remote.url.default"));
-				}
-				
-				String deviceType = runManagerAccess.getValue(currentTestInstance, "DeviceType");
-				if (!"".equals(deviceType)) {
-					testParameters.setDeviceType(DeviceType.valueOf(deviceType));
-				} else {
-					testParameters.setDeviceType(DeviceType.valueOf(properties.getProperty("device.type.default")));
-				}
-				
-				String deviceName = runManagerAccess.getValue(currentTestInstance, "DeviceName");
-				if (!"".equals(deviceName) && !"N/A".equals(deviceName)) {
-					testParameters.setDeviceName(deviceName);
-				} else {
-					testParameters.setDeviceName(properties.getProperty("device.name.default"));
-				}
-				
-				String browser = runManagerAccess.getValue(currentTestInstance, "Browser");
-				if (!"".equals(browser)) {
-					testParameters.setBrowser(Browser.valueOf(browser));
-				} else {
-					testParameters.setBrowser(Browser.valueOf(properties.getProperty("browser.default")));
-				}
-				String browserVersion = runManagerAccess.getValue(currentTestInstance, "BrowserVersion");
-				if (!"".equals(browserVersion)) {
-					testParameters.setBrowserVersion(browserVersion);
-				}
-				String platform = runManagerAccess.getValue(currentTestInstance, "Platform");
-				if (!"".equals(platform)) {
-					testParameters.setPlatform(Platform.valueOf(platform));
-				} else {
-					testParameters.setPlatform(Platform.valueOf(properties.getProperty("platform.default")));
-				}
-				
-				testInstancesToRun.add(testParameters);
 			}
 		}
 		
 		return testInstancesToRun;
 	}
+	
+	private void initializeTestParameters(ExcelDataAccess runManagerAccess, int currentTestInstance,
+															WebDriverTestParameters testParameters) {
+		WebDriverSettings settings = TestBatchHarness.getInstance().getWebDriverSettings();
+		
+		String iterationMode = runManagerAccess.getValue(currentTestInstance, "IterationMode");
+		if (!"".equals(iterationMode)) {
+			testParameters.setIterationMode(IterationOptions.valueOf(iterationMode));
+		} else {
+			testParameters.setIterationMode(IterationOptions.RUN_ALL_ITERATIONS);
+		}
+		
+		String startIteration = runManagerAccess.getValue(currentTestInstance, "StartIteration");
+		if (!"".equals(startIteration)) {
+			testParameters.setStartIteration(Integer.parseInt(startIteration));
+		}
+		String endIteration = runManagerAccess.getValue(currentTestInstance, "EndIteration");
+		if (!"".equals(endIteration)) {
+			testParameters.setEndIteration(Integer.parseInt(endIteration));
+		}
+		
+		String executionMode = runManagerAccess.getValue(currentTestInstance, "ExecutionMode");
+		if (!"".equals(executionMode)) {
+			testParameters.setExecutionMode(ExecutionMode.valueOf(executionMode));
+		} else {
+			testParameters.setExecutionMode(settings.getDefaultExecutionMode());
+		}
+		
+		String remoteUrl = runManagerAccess.getValue(currentTestInstance, "RemoteUrl");
+		if (!"".equals(remoteUrl) && !"N/A".equals(remoteUrl)) {
+			testParameters.setRemoteUrl(remoteUrl);
+		} else {
+			testParameters.setRemoteUrl(settings.getDefaultRemoteUrl());
+		}
+		
+		String deviceType = runManagerAccess.getValue(currentTestInstance, "DeviceType");
+		if (!"".equals(deviceType)) {
+			testParameters.setDeviceType(DeviceType.valueOf(deviceType));
+		} else {
+			testParameters.setDeviceType(settings.getDefaultDeviceType());
+		}
+		
+		String deviceName = runManagerAccess.getValue(currentTestInstance, "DeviceName");
+		if (!"".equals(deviceName) && !"N/A".equals(deviceName)) {
+			testParameters.setDeviceName(deviceName);
+		} else {
+			testParameters.setDeviceName(settings.getDefaultDeviceName());
+		}
+		
+		String browser = runManagerAccess.getValue(currentTestInstance, "Browser");
+		if (!"".equals(browser)) {
+			testParameters.setBrowser(Browser.valueOf(browser));
+		} else {
+			testParameters.setBrowser(settings.getDefaultBrowser());
+		}
+		String browserVersion = runManagerAccess.getValue(currentTestInstance, "BrowserVersion");
+		if (!"".equals(browserVersion)) {
+			testParameters.setBrowserVersion(browserVersion);
+		}
+		String platform = runManagerAccess.getValue(currentTestInstance, "Platform");
+		if (!"".equals(platform)) {
+			testParameters.setPlatform(Platform.valueOf(platform));
+		} else {
+			testParameters.setPlatform(settings.getDefaultPlatform());
+		}
+		
+		String testTimeout = getOptionalValue(runManagerAccess, currentTestInstance, "TestTimeout");
+		if (!"".equals(testTimeout)) {
+			testParameters.setTestTimeout(Long.parseLong(testTimeout));
+		} else {
+			testParameters.setTestTimeout(settings.getTestTimeout());
+		}
+		String keywordTimeout = getOptionalValue(runManagerAccess, currentTestInstance, "KeywordTimeout");
+		if (!"".equals(keywordTimeout)) {
+			testParameters.setKeywordTimeout(Long.parseLong(keywordTimeout));
+		} else {
+			testParameters.setKeywordTimeout(settings.getKeywordTimeout());
+		}
+	}
+	
+	private String getOptionalValue(ExcelDataAccess runManagerAccess, int currentTestInstance,
+																String columnHeader) {
+		try {
+			return runManagerAccess.getValue(currentTestInstance, columnHeader);
+		} catch (AutopiaException ex) {
+			// Column not present within older Run Manager files
+			return "";
+		}
+	}
 }
\ No newline at end of file
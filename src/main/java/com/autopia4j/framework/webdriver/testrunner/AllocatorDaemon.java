@@ -0,0 +1,191 @@
+package com.autopia4j.framework.webdriver.testrunner;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.autopia4j.framework.core.AutopiaException;
+import com.autopia4j.framework.core.FrameworkParameters;
+import com.autopia4j.framework.utils.Util;
+import com.autopia4j.framework.webdriver.core.TestBatchHarness;
+import com.google.gson.Gson;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+
+/**
+ * Long-lived runner which keeps the framework resident between test batches, and accepts batch requests over a local HTTP API<br>
+ * The settings, keyword registry, test script catalogue and datatable caches stay warm across batches.
+ * Batches are executed one at a time (in the order in which they are received), and each of them produces its own report folder.<br><br>
+ * POST /batch?runConfiguration=[Run Configuration] executes the given Run Configuration and responds (once the batch is complete) with
+ * a JSON object containing the batch status (0 = Success, 1 = Failure) and the report path<br>
+ * The Run Configuration may only contain letters, digits, underscores and hyphens. Requests carrying an Origin header
+ * (i.e., requests issued by a web page open in a browser on the same machine) are rejected
+ * @author vj
+ */
+public class AllocatorDaemon {
+	private static final Pattern RUN_CONFIGURATION_PATTERN = Pattern.compile("[A-Za-z0-9_-]+");
+	
+	private final Logger logger = LoggerFactory.getLogger(AllocatorDaemon.class);
+	private final FrameworkParameters frameworkParameters = FrameworkParameters.getInstance();
+	private final ExecutorService batchExecutor = Executors.newSingleThreadExecutor(runnable -> {
+		Thread batchThread = new Thread(runnable, "autopia-daemon-batch");
+		batchThread.setDaemon(false);
+		return batchThread;
+	});
+	// The requests wait for their batches on separate threads, so that a pending batch does not block the dispatcher of the HTTP server
+	private final AtomicInteger requestThreadCount = new AtomicInteger();
+	private final ExecutorService requestExecutor = Executors.newCachedThreadPool(runnable -> {
+		Thread requestThread = new Thread(runnable, "autopia-daemon-request-" + requestThreadCount.incrementAndGet());
+		requestThread.setDaemon(true);
+		return requestThread;
+	});
+	private final Gson gson = new Gson();
+	private HttpServer httpServer;
+	
+	
+	/**
+	 * Function to start the daemon, listening on the loopback interface
+	 * @param port The port on which the daemon should listen for batch requests
+	 * @throws IOException Exception thrown in case the port cannot be bound
+	 */
+	public synchronized void start(int port) throws IOException {
+		if (httpServer != null) {
+			throw new AutopiaException("The allocator daemon is already running!");
+		}
+		
+		TestBatchHarness.getInstance().setResident(true);
+		
+		httpServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+		httpServer.createContext("/batch", this::handleBatchRequest);
+		httpServer.setExecutor(requestExecutor);
+		httpServer.start();
+		
+		logger.info("Allocator daemon listening on port {}", port);
+	}
+	
+	/**
+	 * Function to stop the daemon, after completing the batch currently in progress (if any)
+	 */
+	public synchronized void stop() {
+		if (httpServer == null) {
+			return;
+		}
+		
+		httpServer.stop(0);
+		httpServer = null;
+		requestExecutor.shutdown();
+		batchExecutor.shutdown();
+		TestBatchHarness.getInstance().setResident(false);
+		
+		logger.info("Allocator daemon stopped");
+	}
+	
+	private void handleBatchRequest(HttpExchange exchange) throws IOException {
+		try {
+			if (!"POST".equalsIgnoreCase(exchange.getRequestMethod())) {
+				sendResponse(exchange, 405, errorResponse("Only POST is supported"));
+				return;
+			}
+			
+			if (exchange.getRequestHeaders().containsKey("Origin")) {
+				sendResponse(exchange, 403, errorResponse("Cross-origin requests are not supported"));
+				return;
+			}
+			
+			String runConfiguration = getQueryParameters(exchange.getRequestURI().getRawQuery()).get("runConfiguration");
+			if (runConfiguration == null || "".equals(runConfiguration)) {
+				sendResponse(exchange, 400, errorResponse("The runConfiguration parameter is mandatory"));
+				return;
+			}
+			
+			// The Run Configuration is used within the report path, and hence must not contain any path separators
+			if (!RUN_CONFIGURATION_PATTERN.matcher(runConfiguration).matches()) {
+				sendResponse(exchange, 400, errorResponse("The runConfiguration parameter may only contain " +
+																"letters, digits, underscores and hyphens"));
+				return;
+			}
+			
+			Future<Map<String, Object>> batchResult = batchExecutor.submit(() -> executeBatch(runConfiguration));
+			sendResponse(exchange, 200, batchResult.get());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			sendResponse(exchange, 503, errorResponse("Interrupted while waiting for the batch to complete"));
+		} catch (ExecutionException e) {
+			logger.error("Error occurred during batch execution", e.getCause());
+			sendResponse(exchange, 500, errorResponse(String.valueOf(e.getCause().getMessage())));
+		} finally {
+			exchange.close();
+		}
+	}
+	
+	private Map<String, Object> executeBatch(String runConfiguration) throws InterruptedException {
+		logger.info("Batch requested for the run configuration {}", runConfiguration);
+		
+		String reportPath = new File(System.getProperty("user.dir")).getAbsolutePath() +
+									Util.getFileSeparator() + "Results" +
+									Util.getFileSeparator() + runConfiguration + "_" +
+									new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss-SSS").format(new Date());
+		new File(reportPath).mkdirs();
+		
+		// The batches are executed one at a time, so the process-wide properties can be safely switched per batch
+		System.setProperty("autopia.run.configuration", runConfiguration);
+		System.setProperty("autopia.report.path", reportPath);
+		frameworkParameters.setStopExecution(false);
+		
+		int testBatchStatus = new Allocator().driveBatchExecution();
+		
+		Map<String, Object> batchResult = new LinkedHashMap<>();
+		batchResult.put("runConfiguration", runConfiguration);
+		batchResult.put("status", testBatchStatus);
+		batchResult.put("reportPath", reportPath);
+		return batchResult;
+	}
+	
+	private Map<String, String> getQueryParameters(String query) throws UnsupportedEncodingException {
+		Map<String, String> queryParameters = new LinkedHashMap<>();
+		if (query == null) {
+			return queryParameters;
+		}
+		
+		for (String queryParameter : query.split("&")) {
+			String[] keyValue = queryParameter.split("=", 2);
+			String value = (keyValue.length > 1) ? URLDecoder.decode(keyValue[1], "UTF-8") : "";
+			queryParameters.put(URLDecoder.decode(keyValue[0], "UTF-8"), value);
+		}
+		return queryParameters;
+	}
+	
+	private Map<String, Object> errorResponse(String errorDescription) {
+		Map<String, Object> response = new LinkedHashMap<>();
+		response.put("error", errorDescription);
+		return response;
+	}
+	
+	private void sendResponse(HttpExchange exchange, int statusCode, Map<String, Object> response) throws IOException {
+		byte[] responseBody = gson.toJson(response).getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().set("Content-Type", "application/json; charset=UTF-8");
+		exchange.sendResponseHeaders(statusCode, responseBody.length);
+		try (OutputStream responseStream = exchange.getResponseBody()) {
+			responseStream.write(responseBody);
+		}
+	}
+}
\ No newline at end of file
@@ -7,6 +7,7 @@ import com.autopia4j.framework.core.AutopiaException;
 import com.autopia4j.framework.core.FrameworkParameters;
 import com.autopia4j.framework.webdriver.core.DriverScript;
 import com.autopia4j.framework.webdriver.core.TestBatchHarness;
+import com.autopia4j.framework.webdriver.core.TestWatchdog;
 import com.autopia4j.framework.webdriver.impl.keywordDriven.dataNonIterative.KeywordNonIterativeDriverScript;
 import com.autopia4j.framework.webdriver.impl.keywordDriven.dataSubIterative.KeywordSubIterativeDriverScript;
 import com.autopia4j.framework.webdriver.impl.modular.dataIterative.ModularIterativeDriverScript;
@@ -32,6 +33,13 @@ class ParallelRunner implements Runnable {
 		this.testParameters = testParameters;
 	}
 	
+	/**
+	 * Function to reset the overall test batch status at the start of a test batch
+	 */
+	static void resetTestBatchStatus() {
+		testBatchStatus = 0;
+	}
+	
 	/**
 	 * Function to get the overall test batch status
 	 * @return The test batch status (0 = Success, 1 = Failure)
@@ -75,7 +83,12 @@ class ParallelRunner implements Runnable {
 			}
 			
 			try {
-				driverScript.driveTestExecution();
+				// The test runs on a separate thread, which is abandoned if it exceeds its time budget
+				TestWatchdog.getInstance().execute(testParameters.getTestTimeout(),
+								"Test " + testParameters.getCurrentTestcase(), driverScript::abort, () -> {
+									driverScript.driveTestExecution();
+									return null;
+								});
 				testReportName = driverScript.getReportName();
 				executionTime = driverScript.getExecutionTime();
 				testStatus = driverScript.getTestStatus();
@@ -87,6 +100,11 @@ class ParallelRunner implements Runnable {
 				testStatus = "Failed";
 			}
 			
+			if (driverScript.getAbortReason() != null) {
+				testParameters.setAdditionalDetails(driverScript.getAbortReason());
+				testStatus = "Failed";
+			}
+			
 			if ("failed".equalsIgnoreCase(testStatus)) {
 				testBatchStatus = 1;	// Non-zero outcome indicates failure
 			}
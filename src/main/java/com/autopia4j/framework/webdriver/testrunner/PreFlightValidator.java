@@ -0,0 +1,270 @@
+package com.autopia4j.framework.webdriver.testrunner;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RecursiveAction;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.autopia4j.framework.core.FrameworkParameters;
+import com.autopia4j.framework.core.FrameworkType;
+import com.autopia4j.framework.core.IterationOptions;
+import com.autopia4j.framework.core.Settings;
+import com.autopia4j.framework.webdriver.core.DatasheetSnapshot;
+import com.autopia4j.framework.webdriver.core.DatatableCache;
+import com.autopia4j.framework.webdriver.core.KeywordRegistry;
+import com.autopia4j.framework.webdriver.core.TestBatchHarness;
+import com.autopia4j.framework.webdriver.core.TestScriptCatalogue;
+import com.autopia4j.framework.webdriver.core.WebDriverTestParameters;
+
+
+/**
+ * Class to validate the test instances configured for a batch execution before any of them are executed
+ * @author vj
+ */
+class PreFlightValidator {
+	private static final int REMOTE_URL_CONNECT_TIMEOUT = 5000;
+	
+	private final Logger logger = LoggerFactory.getLogger(PreFlightValidator.class);
+	private final FrameworkParameters frameworkParameters = FrameworkParameters.getInstance();
+	private final Properties properties = Settings.getInstance();
+	private final String datatablePath = TestBatchHarness.getInstance().getDatatablePath();
+	
+	private final Map<WebDriverTestParameters, String> invalidTestInstances =
+											Collections.synchronizedMap(new IdentityHashMap<>());
+	private final Map<String, FutureTask<Boolean>> remoteUrlReachability = new ConcurrentHashMap<>();
+	
+	
+	/**
+	 * Function to validate the given test instances in parallel
+	 * @param testInstances The list of {@link WebDriverTestParameters} corresponding to the test instances to be validated
+	 * @param nThreads The number of parallel threads to be used for the validation
+	 * @return A {@link Map} of the invalid test instances, along with the reason why each of them is invalid
+	 */
+	Map<WebDriverTestParameters, String> validate(List<WebDriverTestParameters> testInstances, int nThreads) {
+		logger.info("Validating the test instances configured for the test batch");
+		
+		ForkJoinPool validationPool = new ForkJoinPool(nThreads);
+		try {
+			validationPool.invoke(new ValidationTask(testInstances));
+			if (frameworkParameters.getFrameworkType() == FrameworkType.MODULAR_ITERATIVE) {
+				validateTestScripts(testInstances, validationPool);
+			}
+		} finally {
+			validationPool.shutdown();
+		}
+		
+		return invalidTestInstances;
+	}
+	
+	private void validateTestScripts(List<WebDriverTestParameters> testInstances, ForkJoinPool validationPool) {
+		Map<String, List<WebDriverTestParameters>> moduleTestInstances = new LinkedHashMap<>();
+		for (WebDriverTestParameters testParameters : testInstances) {
+			moduleTestInstances.computeIfAbsent(testParameters.getCurrentModule(),
+														module -> new ArrayList<>()).add(testParameters);
+		}
+		
+		// Each module is validated in a single pass, so that each test script is resolved only once
+		List<Callable<Void>> moduleValidations = new ArrayList<>();
+		for (List<WebDriverTestParameters> currentModuleTestInstances : moduleTestInstances.values()) {
+			moduleValidations.add(() -> {
+				Map<WebDriverTestParameters, String> invalidTestScripts =
+						TestScriptCatalogue.getInstance().validateTestScripts(currentModuleTestInstances);
+				for (Map.Entry<WebDriverTestParameters, String> invalidTestScript : invalidTestScripts.entrySet()) {
+					invalidTestInstances.merge(invalidTestScript.getKey(), invalidTestScript.getValue(),
+															(error1, error2) -> error1 + "; " + error2);
+				}
+				return null;
+			});
+		}
+		validationPool.invokeAll(moduleValidations);
+	}
+	
+	private void validate(WebDriverTestParameters testParameters) {
+		List<String> errors = new ArrayList<>();
+		
+		try {
+			validateIterations(testParameters, errors);
+			validateTestData(testParameters, errors);
+			validateRemoteUrl(testParameters, errors);
+		} catch (Exception ex) {
+			String exceptionDescription = ex.getMessage();
+			if (exceptionDescription == null) {
+				exceptionDescription = ex.toString();
+			}
+			errors.add(exceptionDescription);
+		}
+		
+		if (!errors.isEmpty()) {
+			invalidTestInstances.put(testParameters, String.join("; ", errors));
+		}
+	}
+	
+	private void validateIterations(WebDriverTestParameters testParameters, List<String> errors) {
+		if (testParameters.getIterationMode() == IterationOptions.RUN_RANGE_OF_ITERATIONS &&
+				testParameters.getStartIteration() > testParameters.getEndIteration()) {
+			errors.add("StartIteration cannot be greater than EndIteration!");
+		}
+	}
+	
+	private void validateTestData(WebDriverTestParameters testParameters, List<String> errors) {
+		switch(frameworkParameters.getFrameworkType()) {
+		case KEYWORD_NONITERATIVE:
+			validateBusinessFlow(testParameters, errors, false);
+			break;
+		
+		case KEYWORD_SUBITERATIVE:
+			validateTestcaseRow(testParameters, errors);
+			validateBusinessFlow(testParameters, errors, true);
+			break;
+		
+		case MODULAR_ITERATIVE:
+			validateTestcaseRow(testParameters, errors);
+			break;
+		
+		default:
+			break;
+		}
+	}
+	
+	private void validateTestcaseRow(WebDriverTestParameters testParameters, List<String> errors) {
+		DatasheetSnapshot testDatasheet =
+				DatatableCache.getInstance().getDatasheet(datatablePath,
+							testParameters.getCurrentModule(), properties.getProperty("datatable.default.sheet"));
+		
+		if (testDatasheet.getRowNum(testParameters.getCurrentTestcase(), 0) == -1) {
+			errors.add("The test case \"" + testParameters.getCurrentTestcase() +
+							"\" is not found in the default datasheet!");
+		}
+	}
+	
+	private void validateBusinessFlow(WebDriverTestParameters testParameters, List<String> errors,
+																Boolean subIterative) {
+		DatasheetSnapshot businessFlowDatasheet =
+				DatatableCache.getInstance().getDatasheet(datatablePath,
+							testParameters.getCurrentModule(), "Business_Flow");
+		
+		int rowNum = businessFlowDatasheet.getRowNum(testParameters.getCurrentTestcase(), 0);
+		if (rowNum == -1) {
+			errors.add("The test case \"" + testParameters.getCurrentTestcase() +
+							"\" is not found in the Business Flow sheet!");
+			return;
+		}
+		
+		KeywordRegistry keywordRegistry = KeywordRegistry.getInstance();
+		int currentColumnNum = 1;
+		String dataValue = businessFlowDatasheet.getValue(rowNum, currentColumnNum);
+		if ("".equals(dataValue)) {
+			errors.add("No business flow found against the test case \"" +
+							testParameters.getCurrentTestcase() + "\"");
+		}
+		while (!"".equals(dataValue)) {
+			String currentKeyword = dataValue;
+			if (subIterative) {
+				currentKeyword = dataValue.split(",")[0];
+			}
+			if (keywordRegistry.getKeyword(frameworkParameters.getBasePackageName(), currentKeyword) == null) {
+				errors.add("Keyword " + currentKeyword + " not found within the test library!");
+			}
+			
+			currentColumnNum++;
+			dataValue = businessFlowDatasheet.getValue(rowNum, currentColumnNum);
+		}
+	}
+	
+	private void validateRemoteUrl(WebDriverTestParameters testParameters, List<String> errors) {
+		switch(testParameters.getExecutionMode()) {
+		case REMOTE:
+		case REMOTE_EMULATED_DEVICE:
+		case GRID:
+		case PERFECTO_DEVICE:
+		case APPIUM_DEVICE:
+			URL remoteUrl = testParameters.getRemoteUrl();
+			if (remoteUrl == null) {
+				errors.add("Remote URL unspecified!");
+			} else if (!isReachable(remoteUrl)) {
+				errors.add("The remote URL " + remoteUrl + " is not reachable!");
+			}
+			break;
+		
+		default:
+			break;
+		}
+	}
+	
+	private Boolean isReachable(URL remoteUrl) {
+		// The probe runs outside of the map, so that a slow endpoint does not block the validation of other endpoints
+		FutureTask<Boolean> probeTask = new FutureTask<>(() -> probe(remoteUrl));
+		FutureTask<Boolean> pendingProbe = remoteUrlReachability.putIfAbsent(remoteUrl.toString(), probeTask);
+		if (pendingProbe == null) {
+			pendingProbe = probeTask;
+			probeTask.run();
+		}
+		
+		try {
+			return pendingProbe.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			logger.trace("Interrupted while probing the remote URL " + remoteUrl, e);
+			return false;
+		} catch (ExecutionException e) {
+			logger.trace("Remote URL " + remoteUrl + " could not be probed", e);
+			return false;
+		}
+	}
+	
+	private Boolean probe(URL remoteUrl) {
+		try {
+			HttpURLConnection connection = (HttpURLConnection) remoteUrl.openConnection();
+			connection.setConnectTimeout(REMOTE_URL_CONNECT_TIMEOUT);
+			connection.setReadTimeout(REMOTE_URL_CONNECT_TIMEOUT);
+			connection.getResponseCode();	// Any HTTP response indicates that the endpoint is up
+			connection.disconnect();
+			return true;
+		} catch (IOException e) {
+			logger.trace("Remote URL " + remoteUrl + " is not reachable", e);
+			return false;
+		}
+	}
+	
+	
+	/**
+	 * {@link RecursiveAction} which splits the list of test instances until each of them can be validated independently
+	 * @author vj
+	 */
+	private class ValidationTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+		private final transient List<WebDriverTestParameters> testInstances;
+		
+		ValidationTask(List<WebDriverTestParameters> testInstances) {
+			this.testInstances = testInstances;
+		}
+		
+		@Override
+		protected void compute() {
+			if (testInstances.size() <= 1) {
+				for (WebDriverTestParameters testParameters : testInstances) {
+					validate(testParameters);
+				}
+			} else {
+				int mid = testInstances.size() / 2;
+				invokeAll(new ValidationTask(testInstances.subList(0, mid)),
+							new ValidationTask(testInstances.subList(mid, testInstances.size())));
+			}
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,130 @@
+package com.autopia4j.framework.webdriver.utils;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+
+import org.openqa.selenium.NotFoundException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+
+
+/**
+ * Class which waits for an {@link ExpectedCondition} using an exponential backoff polling schedule
+ * (so that conditions which are satisfied quickly are detected quickly, while slow ones are polled less frequently)<br>
+ * The observed durations are recorded within the {@link WaitStatistics}, which may also supply a tighter timeout
+ * learned from the earlier observations of the wait
+ * @author vj
+ */
+class AdaptiveWait {
+	private static final long INITIAL_POLLING_INTERVAL = 25;
+	private static final long MAX_POLLING_INTERVAL = 500;
+	
+	private final WebDriver driver;
+	private final WaitStatistics waitStatistics = WaitStatistics.getInstance();
+	
+	
+	/**
+	 * Constructor to initialize the {@link AdaptiveWait} object
+	 * @param driver The {@link WebDriver} object
+	 */
+	AdaptiveWait(WebDriver driver) {
+		this.driver = driver;
+	}
+	
+	/**
+	 * Function to wait until the given condition returns a non-null value that is not false
+	 * @param condition The {@link ExpectedCondition} to be awaited
+	 * @param timeOutInSeconds The configured wait timeout in seconds
+	 * @param <T> The type of value returned by the condition
+	 * @return The value returned by the condition
+	 * @throws TimeoutException Exception thrown if the condition is not satisfied within the timeout (or the learned timeout, if any)
+	 */
+	<T> T until(ExpectedCondition<T> condition, long timeOutInSeconds) {
+		long configuredTimeout = timeOutInSeconds * 1000;
+		String conditionDescription = String.valueOf(condition);
+		String page = null;
+		long timeout = configuredTimeout;
+		if (waitStatistics.isEnabled()) {
+			page = getCurrentPage();
+			timeout = waitStatistics.getTimeout(conditionDescription, page, configuredTimeout);
+		}
+		
+		long startTime = System.currentTimeMillis();
+		long pollingInterval = INITIAL_POLLING_INTERVAL;
+		RuntimeException lastException = null;
+		while (true) {
+			try {
+				T value = condition.apply(driver);
+				if (value != null && !Boolean.FALSE.equals(value)) {
+					record(conditionDescription, page, System.currentTimeMillis() - startTime, true);
+					return value;
+				}
+			} catch (NotFoundException | StaleElementReferenceException ex) {
+				lastException = ex;
+			}
+			
+			long elapsedTime = System.currentTimeMillis() - startTime;
+			if (elapsedTime >= timeout) {
+				if (timeout < configuredTimeout) {
+					// The miss ensures that the configured timeout is used for this wait from the next run
+					waitStatistics.recordLearnedTimeoutMiss(conditionDescription, page);
+					throw new TimeoutException("Expected condition failed: waiting for " + conditionDescription +
+											" (tried for the learned timeout of " + timeout + " ms with adaptive polling)",
+											lastException);
+				}
+				record(conditionDescription, page, elapsedTime, false);
+				throw new TimeoutException("Expected condition failed: waiting for " + conditionDescription +
+										" (tried for " + timeout + " ms with adaptive polling)", lastException);
+			}
+			
+			sleep(Math.min(pollingInterval, timeout - elapsedTime));
+			pollingInterval = Math.min(pollingInterval * 2, MAX_POLLING_INTERVAL);
+		}
+	}
+	
+	private void record(String conditionDescription, String page, long duration, Boolean satisfied) {
+		if (page != null) {
+			waitStatistics.record(conditionDescription, page, duration, satisfied);
+		}
+	}
+	
+	private String getCurrentPage() {
+		String currentUrl;
+		try {
+			currentUrl = driver.getCurrentUrl();
+		} catch (WebDriverException ex) {
+			return "N/A";
+		}
+		return toPage(currentUrl);
+	}
+	
+	/**
+	 * Function to identify the page corresponding to the given URL, ignoring the query string and fragment
+	 * (which typically vary across executions of the same page)
+	 * @param currentUrl The URL of the current page
+	 * @return The page identifier
+	 */
+	static String toPage(String currentUrl) {
+		try {
+			URI currentUri = new URI(currentUrl);
+			if (currentUri.getScheme() == null || currentUri.getAuthority() == null) {
+				return currentUrl;
+			}
+			return currentUri.getScheme() + "://" + currentUri.getAuthority() + currentUri.getPath();
+		} catch (URISyntaxException ex) {
+			return currentUrl;
+		}
+	}
+	
+	private void sleep(long milliSeconds) {
+		try {
+			Thread.sleep(milliSeconds);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new WebDriverException(e);
+		}
+	}
+}
\ No newline at end of file
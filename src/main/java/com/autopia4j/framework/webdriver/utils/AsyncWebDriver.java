@@ -0,0 +1,298 @@
+package com.autopia4j.framework.webdriver.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NotFoundException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+
+/**
+ * Class which provides an asynchronous facade over a {@link WebDriver} session, returning {@link CompletableFuture}s<br>
+ * Commands submitted to the same {@link AsyncWebDriver} are executed one at a time in submission order,
+ * while commands submitted to different sessions (for e.g., two users in a chat scenario) run concurrently
+ * on the shared {@link Executor}
+ * @author vj
+ */
+public class AsyncWebDriver {
+	private static final Logger LOGGER = LoggerFactory.getLogger(AsyncWebDriver.class);
+	private static final Executor DEFAULT_EXECUTOR = Executors.newCachedThreadPool(new AsyncThreadFactory());
+	
+	private final WebDriver driver;
+	private final long objectSyncTimeout;
+	private final SerialExecutor sessionExecutor;
+	private final AdaptiveWait adaptiveWait;
+	
+	
+	/**
+	 * Constructor to initialize the {@link AsyncWebDriver} object, using the default (shared) executor
+	 * @param driver The {@link WebDriver} object
+	 * @param objectSyncTimeout The object synchronization timeout
+	 */
+	public AsyncWebDriver(WebDriver driver, long objectSyncTimeout) {
+		this(driver, objectSyncTimeout, DEFAULT_EXECUTOR);
+	}
+	
+	/**
+	 * Constructor to initialize the {@link AsyncWebDriver} object
+	 * @param driver The {@link WebDriver} object
+	 * @param objectSyncTimeout The object synchronization timeout
+	 * @param executor The {@link Executor} on which the commands are to be run
+	 * (may be shared across sessions; see also {@link #newVirtualThreadExecutor()})
+	 */
+	public AsyncWebDriver(WebDriver driver, long objectSyncTimeout, Executor executor) {
+		this.driver = driver;
+		this.objectSyncTimeout = objectSyncTimeout;
+		this.sessionExecutor = new SerialExecutor(executor);
+		this.adaptiveWait = new AdaptiveWait(driver);
+	}
+	
+	/**
+	 * Function to create an {@link Executor} which runs each command on a new virtual thread<br>
+	 * Virtual threads are only available on Java 21 and above; on earlier versions, a cached thread pool is returned instead
+	 * @return The {@link ExecutorService} object (to be shut down by the caller once it is no longer required)
+	 */
+	public static ExecutorService newVirtualThreadExecutor() {
+		try {
+			return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+		} catch (ReflectiveOperationException ex) {
+			LOGGER.warn("Virtual threads are not supported by this Java version; using a cached thread pool instead");
+			return Executors.newCachedThreadPool(new AsyncThreadFactory());
+		}
+	}
+	
+	/**
+	 * Function to get the underlying {@link WebDriver} object
+	 * @return The {@link WebDriver} object
+	 */
+	public WebDriver getDriver() {
+		return driver;
+	}
+	
+	/**
+	 * Function to submit a command to be executed against this session, after all the commands submitted earlier
+	 * @param command The command to be executed
+	 * @param <T> The type of value returned by the command
+	 * @return A {@link CompletableFuture} which is completed with the value returned by the command
+	 */
+	public <T> CompletableFuture<T> submit(Function<WebDriver, T> command) {
+		return CompletableFuture.supplyAsync(() -> command.apply(driver), sessionExecutor);
+	}
+	
+	/**
+	 * Function to submit a command which does not return a value, to be executed against this session
+	 * @param command The command to be executed
+	 * @return A {@link CompletableFuture} which is completed once the command has been executed
+	 */
+	public CompletableFuture<Void> run(Consumer<WebDriver> command) {
+		return CompletableFuture.runAsync(() -> command.accept(driver), sessionExecutor);
+	}
+	
+	/**
+	 * Function to navigate to the specified URL
+	 * @param url The URL to navigate to
+	 * @return A {@link CompletableFuture} which is completed once the page has loaded
+	 */
+	public CompletableFuture<Void> get(String url) {
+		return run(currentDriver -> currentDriver.get(url));
+	}
+	
+	/**
+	 * Function to find the element matching the specified locator
+	 * @param by The {@link WebDriver} locator used to identify the element
+	 * @return A {@link CompletableFuture} which is completed with the matching element
+	 */
+	public CompletableFuture<WebElement> findElement(By by) {
+		return submit(currentDriver -> currentDriver.findElement(by));
+	}
+	
+	/**
+	 * Function to click on the element matching the specified locator
+	 * @param by The {@link WebDriver} locator used to identify the element
+	 * @return A {@link CompletableFuture} which is completed once the element has been clicked
+	 */
+	public CompletableFuture<Void> click(By by) {
+		return run(currentDriver -> currentDriver.findElement(by).click());
+	}
+	
+	/**
+	 * Function to type the specified keys into the element matching the specified locator
+	 * @param by The {@link WebDriver} locator used to identify the element
+	 * @param keysToSend The keys to be typed
+	 * @return A {@link CompletableFuture} which is completed once the keys have been typed
+	 */
+	public CompletableFuture<Void> sendKeys(By by, CharSequence... keysToSend) {
+		return run(currentDriver -> currentDriver.findElement(by).sendKeys(keysToSend));
+	}
+	
+	/**
+	 * Function to get the visible text of the element matching the specified locator
+	 * @param by The {@link WebDriver} locator used to identify the element
+	 * @return A {@link CompletableFuture} which is completed with the visible text of the element
+	 */
+	public CompletableFuture<String> getText(By by) {
+		return submit(currentDriver -> currentDriver.findElement(by).getText());
+	}
+	
+	/**
+	 * Function to execute the specified JavaScript within the current page
+	 * @param script The JavaScript to be executed
+	 * @param args The arguments to the script
+	 * @return A {@link CompletableFuture} which is completed with the value returned by the script
+	 */
+	public CompletableFuture<Object> executeScript(String script, Object... args) {
+		return submit(currentDriver -> ((JavascriptExecutor) currentDriver).executeScript(script, args));
+	}
+	
+	/**
+	 * Function to wait until the given condition is satisfied
+	 * @param condition The {@link ExpectedCondition} to be awaited
+	 * @param timeOutInSeconds The wait timeout in seconds
+	 * @param <T> The type of value returned by the condition
+	 * @return A {@link CompletableFuture} which is completed with the value returned by the condition
+	 * (or completed exceptionally with a TimeoutException)
+	 */
+	public <T> CompletableFuture<T> until(ExpectedCondition<T> condition, long timeOutInSeconds) {
+		return submit(currentDriver -> adaptiveWait.until(condition, timeOutInSeconds));
+	}
+	
+	/**
+	 * Function to wait until the given condition is satisfied, within the object synchronization timeout
+	 * @param condition The {@link ExpectedCondition} to be awaited
+	 * @param <T> The type of value returned by the condition
+	 * @return A {@link CompletableFuture} which is completed with the value returned by the condition
+	 */
+	public <T> CompletableFuture<T> until(ExpectedCondition<T> condition) {
+		return until(condition, objectSyncTimeout);
+	}
+	
+	/**
+	 * Function to wait until any one of the given conditions is satisfied<br>
+	 * All the conditions are evaluated within a single polling loop on this session
+	 * @param timeOutInSeconds The wait timeout in seconds
+	 * @param conditions The {@link ExpectedCondition}s to be awaited
+	 * @return A {@link CompletableFuture} which is completed with the index of the first condition found to be satisfied
+	 */
+	public CompletableFuture<Integer> untilAny(long timeOutInSeconds, ExpectedCondition<?>... conditions) {
+		final List<ExpectedCondition<?>> conditionList = Arrays.asList(conditions);
+		ExpectedCondition<Integer> anyCondition =
+			new ExpectedCondition<Integer>() {
+				public Integer apply(WebDriver driver) {
+					for (int i = 0; i < conditionList.size(); i++) {
+						if (isSatisfied(conditionList.get(i), driver)) {
+							return i;
+						}
+					}
+					return null;
+				}
+				
+				@Override
+				public String toString() {
+					return "any of " + conditionList;
+				}
+			};
+		
+		return until(anyCondition, timeOutInSeconds);
+	}
+	
+	/**
+	 * Function to wait until all of the given conditions are satisfied at the same time<br>
+	 * All the conditions are evaluated within a single polling loop on this session
+	 * @param timeOutInSeconds The wait timeout in seconds
+	 * @param conditions The {@link ExpectedCondition}s to be awaited
+	 * @return A {@link CompletableFuture} which is completed once all the conditions are satisfied
+	 */
+	public CompletableFuture<Boolean> untilAll(long timeOutInSeconds, ExpectedCondition<?>... conditions) {
+		final List<ExpectedCondition<?>> conditionList = Arrays.asList(conditions);
+		ExpectedCondition<Boolean> allConditions =
+			new ExpectedCondition<Boolean>() {
+				public Boolean apply(WebDriver driver) {
+					for (ExpectedCondition<?> condition : conditionList) {
+						if (!isSatisfied(condition, driver)) {
+							return false;
+						}
+					}
+					return true;
+				}
+				
+				@Override
+				public String toString() {
+					return "all of " + conditionList;
+				}
+			};
+		
+		return until(allConditions, timeOutInSeconds);
+	}
+	
+	private static Boolean isSatisfied(ExpectedCondition<?> condition, WebDriver driver) {
+		try {
+			Object value = condition.apply(driver);
+			return value != null && !Boolean.FALSE.equals(value);
+		} catch (NotFoundException | StaleElementReferenceException ex) {
+			return false;
+		}
+	}
+	
+	/**
+	 * Function to get a {@link CompletableFuture} which is completed once all of the given futures are completed
+	 * (for e.g., commands submitted to different sessions)
+	 * @param futures The {@link CompletableFuture}s to be awaited
+	 * @param <T> The type of value returned by the futures
+	 * @return A {@link CompletableFuture} which is completed with the values returned by the futures, in the same order
+	 */
+	@SafeVarargs
+	public static <T> CompletableFuture<List<T>> allOf(CompletableFuture<T>... futures) {
+		return CompletableFuture.allOf(futures).thenApply(ignored -> {
+			List<T> values = new ArrayList<>();
+			for (CompletableFuture<T> future : futures) {
+				values.add(future.join());
+			}
+			return values;
+		});
+	}
+	
+	/**
+	 * Function to get a {@link CompletableFuture} which is completed once any one of the given futures is completed
+	 * (for e.g., conditions awaited on different sessions)
+	 * @param futures The {@link CompletableFuture}s to be awaited
+	 * @param <T> The type of value returned by the futures
+	 * @return A {@link CompletableFuture} which is completed with the value returned by the first future to complete
+	 */
+	@SafeVarargs
+	@SuppressWarnings("unchecked")
+	public static <T> CompletableFuture<T> anyOf(CompletableFuture<T>... futures) {
+		return CompletableFuture.anyOf(futures).thenApply(value -> (T) value);
+	}
+	
+	
+	/**
+	 * {@link ThreadFactory} which creates named daemon threads, so that the default executor does not prevent the JVM from exiting
+	 * @author vj
+	 */
+	private static class AsyncThreadFactory implements ThreadFactory {
+		private final AtomicInteger threadNumber = new AtomicInteger(1);
+		
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(runnable, "autopia-async-" + threadNumber.getAndIncrement());
+			thread.setDaemon(true);
+			return thread;
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,171 @@
+package com.autopia4j.framework.webdriver.utils;
+
+import java.util.List;
+import java.util.function.Function;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.interactions.internal.Coordinates;
+import org.openqa.selenium.internal.Locatable;
+import org.openqa.selenium.internal.WrapsElement;
+
+
+/**
+ * {@link WebElement} returned by the {@link ElementCache}, which transparently locates the element afresh
+ * (and retries the command once) if the cached element turns out to be stale<br>
+ * Interactions which may change the page (click, submit, sendKeys, clear) cause the page identity to be verified
+ * before the next lookup from the cache
+ * @author vj
+ */
+class CachedWebElement implements WebElement, WrapsElement, Locatable {
+	private final ElementCache elementCache;
+	private final By by;
+	private WebElement element;
+	
+	
+	CachedWebElement(ElementCache elementCache, By by, WebElement element) {
+		this.elementCache = elementCache;
+		this.by = by;
+		this.element = element;
+	}
+	
+	private <T> T execute(Function<WebElement, T> command) {
+		try {
+			return command.apply(element);
+		} catch (StaleElementReferenceException ex) {
+			element = elementCache.refind(by);
+			return command.apply(element);
+		}
+	}
+	
+	private void interact(Function<WebElement, Void> command) {
+		try {
+			execute(command);
+		} finally {
+			elementCache.markPageUnverified();
+		}
+	}
+	
+	@Override
+	public WebElement getWrappedElement() {
+		return element;
+	}
+	
+	@Override
+	public Coordinates getCoordinates() {
+		return execute(currentElement -> {
+			if (!(currentElement instanceof Locatable)) {
+				throw new WebDriverException("The element " + by + " does not support coordinates");
+			}
+			return ((Locatable) currentElement).getCoordinates();
+		});
+	}
+	
+	@Override
+	public void click() {
+		interact(currentElement -> {
+			currentElement.click();
+			return null;
+		});
+	}
+	
+	@Override
+	public void submit() {
+		interact(currentElement -> {
+			currentElement.submit();
+			return null;
+		});
+	}
+	
+	@Override
+	public void sendKeys(CharSequence... keysToSend) {
+		interact(currentElement -> {
+			currentElement.sendKeys(keysToSend);
+			return null;
+		});
+	}
+	
+	@Override
+	public void clear() {
+		interact(currentElement -> {
+			currentElement.clear();
+			return null;
+		});
+	}
+	
+	@Override
+	public String getTagName() {
+		return execute(WebElement::getTagName);
+	}
+	
+	@Override
+	public String getAttribute(String name) {
+		return execute(currentElement -> currentElement.getAttribute(name));
+	}
+	
+	@Override
+	public boolean isSelected() {
+		return execute(WebElement::isSelected);
+	}
+	
+	@Override
+	public boolean isEnabled() {
+		return execute(WebElement::isEnabled);
+	}
+	
+	@Override
+	public String getText() {
+		return execute(WebElement::getText);
+	}
+	
+	@Override
+	public List<WebElement> findElements(By childBy) {
+		return execute(currentElement -> currentElement.findElements(childBy));
+	}
+	
+	@Override
+	public WebElement findElement(By childBy) {
+		return execute(currentElement -> currentElement.findElement(childBy));
+	}
+	
+	@Override
+	public boolean isDisplayed() {
+		return execute(WebElement::isDisplayed);
+	}
+	
+	@Override
+	public Point getLocation() {
+		return execute(WebElement::getLocation);
+	}
+	
+	@Override
+	public Dimension getSize() {
+		return execute(WebElement::getSize);
+	}
+	
+	@Override
+	public Rectangle getRect() {
+		return execute(WebElement::getRect);
+	}
+	
+	@Override
+	public String getCssValue(String propertyName) {
+		return execute(currentElement -> currentElement.getCssValue(propertyName));
+	}
+	
+	@Override
+	public <X> X getScreenshotAs(OutputType<X> target) {
+		return execute(currentElement -> currentElement.getScreenshotAs(target));
+	}
+	
+	@Override
+	public String toString() {
+		return "Cached element " + by + " -> " + element;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,252 @@
+package com.autopia4j.framework.webdriver.utils;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+
+/**
+ * Class which records the latency of the WebDriver commands (per command type), along with their counts and error rates<br>
+ * Each {@link InstrumentedWebDriver} records the commands of its own session; the telemetry of several sessions
+ * (for e.g., all the tests within a batch) may be aggregated using the {@link #merge(CommandTelemetry)} function
+ * @author vj
+ */
+public class CommandTelemetry {
+	/**
+	 * The upper bounds (in milliseconds) of the latency histogram buckets (the last bucket is unbounded)
+	 */
+	static final long[] HISTOGRAM_BUCKET_BOUNDS = {10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000};
+	
+	private final Logger logger = LoggerFactory.getLogger(CommandTelemetry.class);
+	private final Map<String, CommandStatistic> statistics = new ConcurrentHashMap<>();
+	
+	
+	/**
+	 * Function to record the execution of a command
+	 * @param command The type of command (for e.g., findElement, click)
+	 * @param durationInNanoSeconds The time taken to execute the command
+	 * @param failed Boolean value indicating whether the command failed
+	 */
+	public void record(String command, long durationInNanoSeconds, Boolean failed) {
+		statistics.computeIfAbsent(command, CommandStatistic::new).record(durationInNanoSeconds, failed);
+	}
+	
+	/**
+	 * Function to add the commands recorded within another {@link CommandTelemetry} object to this one
+	 * @param telemetry The {@link CommandTelemetry} object to be merged
+	 */
+	public void merge(CommandTelemetry telemetry) {
+		for (CommandStatistic commandStatistic : telemetry.statistics.values()) {
+			statistics.computeIfAbsent(commandStatistic.getCommand(), CommandStatistic::new).merge(commandStatistic);
+		}
+	}
+	
+	/**
+	 * Function to discard all the commands recorded so far
+	 */
+	public void clear() {
+		statistics.clear();
+	}
+	
+	/**
+	 * Function to check whether any commands have been recorded
+	 * @return Boolean value indicating whether any commands have been recorded
+	 */
+	public Boolean isEmpty() {
+		return statistics.isEmpty();
+	}
+	
+	/**
+	 * Function to get the statistics of all the command types recorded
+	 * @return The {@link List} of {@link CommandStatistic}s, in descending order of the total time spent
+	 */
+	public List<CommandStatistic> getStatistics() {
+		List<CommandStatistic> commandStatistics = new ArrayList<>(statistics.values());
+		Collections.sort(commandStatistics,
+				(first, second) -> Long.compare(second.getTotalDuration(), first.getTotalDuration()));
+		return commandStatistics;
+	}
+	
+	/**
+	 * Function to write a report of the command statistics, in CSV format
+	 * @param reportFile The report file to be written
+	 */
+	public void writeReport(File reportFile) {
+		try (PrintWriter reportWriter = new PrintWriter(Files.newBufferedWriter(reportFile.toPath(), StandardCharsets.UTF_8))) {
+			StringBuilder heading = new StringBuilder("Command,Count,Errors,Error Rate (%),Total (ms),Mean (ms),p50 (ms),p90 (ms),p99 (ms),Max (ms)");
+			for (long bucketBound : HISTOGRAM_BUCKET_BOUNDS) {
+				heading.append(",<=").append(bucketBound).append(" ms");
+			}
+			heading.append(",>").append(HISTOGRAM_BUCKET_BOUNDS[HISTOGRAM_BUCKET_BOUNDS.length - 1]).append(" ms");
+			reportWriter.println(heading);
+			
+			for (CommandStatistic commandStatistic : getStatistics()) {
+				StringBuilder row = new StringBuilder(commandStatistic.getCommand());
+				row.append(',').append(commandStatistic.getCount())
+					.append(',').append(commandStatistic.getErrorCount())
+					.append(',').append(String.format(Locale.ROOT, "%.1f", commandStatistic.getErrorRate() * 100))
+					.append(',').append(commandStatistic.getTotalDuration())
+					.append(',').append(commandStatistic.getMeanDuration())
+					.append(',').append(commandStatistic.getPercentile(50))
+					.append(',').append(commandStatistic.getPercentile(90))
+					.append(',').append(commandStatistic.getPercentile(99))
+					.append(',').append(commandStatistic.getMaxDuration());
+				for (long bucketCount : commandStatistic.getHistogram()) {
+					row.append(',').append(bucketCount);
+				}
+				reportWriter.println(row);
+			}
+		} catch (IOException e) {
+			logger.error("Error occurred while writing the command telemetry report", e);
+		}
+	}
+	
+	
+	/**
+	 * Class to encapsulate the latency histogram, count and error count of a specific command type
+	 * @author vj
+	 */
+	public static class CommandStatistic {
+		private final String command;
+		private final long[] histogram = new long[HISTOGRAM_BUCKET_BOUNDS.length + 1];
+		private long count;
+		private long errorCount;
+		private long totalDuration;
+		private long maxDuration;
+		
+		CommandStatistic(String command) {
+			this.command = command;
+		}
+		
+		synchronized void record(long durationInNanoSeconds, Boolean failed) {
+			long duration = durationInNanoSeconds / 1000000;
+			count++;
+			if (failed) {
+				errorCount++;
+			}
+			totalDuration += duration;
+			maxDuration = Math.max(maxDuration, duration);
+			histogram[getBucket(duration)]++;
+		}
+		
+		synchronized void merge(CommandStatistic commandStatistic) {
+			synchronized (commandStatistic) {
+				count += commandStatistic.count;
+				errorCount += commandStatistic.errorCount;
+				totalDuration += commandStatistic.totalDuration;
+				maxDuration = Math.max(maxDuration, commandStatistic.maxDuration);
+				for (int i = 0; i < histogram.length; i++) {
+					histogram[i] += commandStatistic.histogram[i];
+				}
+			}
+		}
+		
+		private static int getBucket(long duration) {
+			for (int i = 0; i < HISTOGRAM_BUCKET_BOUNDS.length; i++) {
+				if (duration <= HISTOGRAM_BUCKET_BOUNDS[i]) {
+					return i;
+				}
+			}
+			return HISTOGRAM_BUCKET_BOUNDS.length;
+		}
+		
+		/**
+		 * Function to get the type of command
+		 * @return The type of command
+		 */
+		public String getCommand() {
+			return command;
+		}
+		
+		/**
+		 * Function to get the number of times the command was executed
+		 * @return The number of times the command was executed
+		 */
+		public synchronized long getCount() {
+			return count;
+		}
+		
+		/**
+		 * Function to get the number of times the command failed
+		 * @return The number of times the command failed
+		 */
+		public synchronized long getErrorCount() {
+			return errorCount;
+		}
+		
+		/**
+		 * Function to get the fraction of executions of the command which failed
+		 * @return The error rate, between 0 and 1
+		 */
+		public synchronized double getErrorRate() {
+			return (count == 0) ? 0 : (double) errorCount / count;
+		}
+		
+		/**
+		 * Function to get the total time spent executing the command
+		 * @return The total time spent executing the command, in milliseconds
+		 */
+		public synchronized long getTotalDuration() {
+			return totalDuration;
+		}
+		
+		/**
+		 * Function to get the mean time taken to execute the command
+		 * @return The mean time taken to execute the command, in milliseconds
+		 */
+		public synchronized long getMeanDuration() {
+			return (count == 0) ? 0 : totalDuration / count;
+		}
+		
+		/**
+		 * Function to get the maximum time taken to execute the command
+		 * @return The maximum time taken to execute the command, in milliseconds
+		 */
+		public synchronized long getMaxDuration() {
+			return maxDuration;
+		}
+		
+		/**
+		 * Function to get the number of executions of the command which fall within each bucket of the latency histogram
+		 * @return The histogram bucket counts (the bucket bounds are 10, 25, 50, 100, 250, 500, 1000, 2500, 5000 and 10000 ms,
+		 * with the last bucket counting the executions beyond 10000 ms)
+		 */
+		public synchronized long[] getHistogram() {
+			return histogram.clone();
+		}
+		
+		/**
+		 * Function to get the approximate latency percentile of the command, based on the latency histogram
+		 * @param percentile The percentile required (for e.g., 90)
+		 * @return The upper bound of the histogram bucket which contains the percentile (capped at the maximum time taken), in milliseconds
+		 */
+		public synchronized long getPercentile(double percentile) {
+			long rank = (long) Math.ceil(count * percentile / 100);
+			long cumulativeCount = 0;
+			for (int i = 0; i < HISTOGRAM_BUCKET_BOUNDS.length; i++) {
+				cumulativeCount += histogram[i];
+				if (cumulativeCount >= rank) {
+					return Math.min(HISTOGRAM_BUCKET_BOUNDS[i], maxDuration);
+				}
+			}
+			return maxDuration;
+		}
+		
+		@Override
+		public synchronized String toString() {
+			return command + " [count=" + count + ", errors=" + errorCount + ", mean=" + getMeanDuration() +
+						" ms, p90=" + getPercentile(90) + " ms, max=" + maxDuration + " ms]";
+		}
+	}
+}
\ No newline at end of file
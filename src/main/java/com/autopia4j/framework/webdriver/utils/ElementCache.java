@@ -0,0 +1,115 @@
+package com.autopia4j.framework.webdriver.utils;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+
+/**
+ * Class which caches the elements located on the current page, keyed by their locators<br>
+ * The cache is scoped to a single page: it is cleared whenever the URL or the document identity changes
+ * (which is verified before the first lookup following an interaction or an explicit page wait),
+ * and elements which turn out to be stale are transparently located afresh by the {@link CachedWebElement}
+ * @author vj
+ */
+class ElementCache {
+	private static final String PAGE_IDENTITY_SCRIPT =
+			"if (!document.__autopiaDocumentId) {" +
+			"  document.__autopiaDocumentId = new Date().getTime() + '-' + Math.random();" +
+			"}" +
+			"return window.location.href + ' ' + document.__autopiaDocumentId;";
+	
+	private final Logger logger = LoggerFactory.getLogger(ElementCache.class);
+	private final WebDriver driver;
+	private final Map<By, WebElement> elements = new HashMap<>();
+	private String pageIdentity;
+	private Boolean pageVerified = false;
+	
+	
+	/**
+	 * Constructor to initialize the {@link ElementCache} object
+	 * @param driver The {@link WebDriver} object
+	 */
+	ElementCache(WebDriver driver) {
+		this.driver = driver;
+	}
+	
+	/**
+	 * Function to find the element matching the specified locator, using the cached element if available
+	 * @param by The {@link WebDriver} locator used to identify the element
+	 * @return The {@link CachedWebElement} corresponding to the element
+	 */
+	WebElement find(By by) {
+		if (!pageVerified) {
+			verifyPage();
+		}
+		
+		WebElement element = elements.get(by);
+		if (element == null) {
+			element = driver.findElement(by);
+			elements.put(by, element);
+		}
+		return new CachedWebElement(this, by, element);
+	}
+	
+	/**
+	 * Function to locate the element matching the specified locator afresh, replacing the cached element
+	 * @param by The {@link WebDriver} locator used to identify the element
+	 * @return The element located afresh
+	 */
+	WebElement refind(By by) {
+		// A stale element usually implies that the document has changed, invalidating all the cached elements
+		invalidate();
+		verifyPage();
+		
+		WebElement element = driver.findElement(by);
+		elements.put(by, element);
+		return element;
+	}
+	
+	/**
+	 * Function to indicate that the page may have changed (for e.g., following an interaction or navigation),
+	 * so that the page identity is verified before the next lookup
+	 */
+	void markPageUnverified() {
+		pageVerified = false;
+	}
+	
+	/**
+	 * Function to clear the cache
+	 */
+	void invalidate() {
+		elements.clear();
+		pageVerified = false;
+	}
+	
+	private void verifyPage() {
+		String currentPageIdentity = getPageIdentity();
+		if (!currentPageIdentity.equals(pageIdentity)) {
+			if (!elements.isEmpty()) {
+				logger.debug("Page changed; discarding {} cached element(s)", elements.size());
+			}
+			elements.clear();
+			pageIdentity = currentPageIdentity;
+		}
+		pageVerified = true;
+	}
+	
+	private String getPageIdentity() {
+		if (driver instanceof JavascriptExecutor) {
+			try {
+				return String.valueOf(((JavascriptExecutor) driver).executeScript(PAGE_IDENTITY_SCRIPT));
+			} catch (WebDriverException ex) {
+				logger.debug("Unable to determine the document identity; falling back to the URL", ex);
+			}
+		}
+		return driver.getCurrentUrl();
+	}
+}
\ No newline at end of file
@@ -0,0 +1,37 @@
+package com.autopia4j.framework.webdriver.utils;
+
+/**
+ * Enumeration to represent the element properties which can be retrieved using a batched element state query
+ * @author vj
+ */
+public enum ElementProperty {
+	/**
+	 * Whether a matching element exists
+	 */
+	EXISTS,
+	
+	/**
+	 * Whether the element is displayed
+	 */
+	DISPLAYED,
+	
+	/**
+	 * Whether the element is enabled
+	 */
+	ENABLED,
+	
+	/**
+	 * The visible text of the element
+	 */
+	TEXT,
+	
+	/**
+	 * The current value of the element (applicable to form fields)
+	 */
+	VALUE,
+	
+	/**
+	 * The specified attributes of the element
+	 */
+	ATTRIBUTES;
+}
\ No newline at end of file
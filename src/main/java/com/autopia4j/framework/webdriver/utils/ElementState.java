@@ -0,0 +1,123 @@
+package com.autopia4j.framework.webdriver.utils;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.openqa.selenium.By;
+
+
+/**
+ * Class to encapsulate the state of an element, as returned by a batched element state query<br>
+ * Properties which were not requested as part of the query are returned as null
+ * @author vj
+ */
+public class ElementState {
+	private final By by;
+	private Boolean exists;
+	private Boolean displayed;
+	private Boolean enabled;
+	private String text;
+	private String value;
+	private final Map<String, String> attributes = new LinkedHashMap<>();
+	
+	
+	ElementState(By by) {
+		this.by = by;
+	}
+	
+	/**
+	 * Function to get the locator used to identify the element
+	 * @return The {@link By} locator used to identify the element
+	 */
+	public By getBy() {
+		return by;
+	}
+	
+	/**
+	 * Function to check whether a matching element exists
+	 * @return Boolean value indicating whether a matching element exists
+	 */
+	public Boolean exists() {
+		return exists;
+	}
+	
+	void setExists(Boolean exists) {
+		this.exists = exists;
+	}
+	
+	/**
+	 * Function to check whether the element is displayed
+	 * @return Boolean value indicating whether the element is displayed (false if the element does not exist)
+	 */
+	public Boolean isDisplayed() {
+		return displayed;
+	}
+	
+	void setDisplayed(Boolean displayed) {
+		this.displayed = displayed;
+	}
+	
+	/**
+	 * Function to check whether the element is enabled
+	 * @return Boolean value indicating whether the element is enabled (false if the element does not exist)
+	 */
+	public Boolean isEnabled() {
+		return enabled;
+	}
+	
+	void setEnabled(Boolean enabled) {
+		this.enabled = enabled;
+	}
+	
+	/**
+	 * Function to get the visible text of the element
+	 * @return The visible text of the element (null if the element does not exist)
+	 */
+	public String getText() {
+		return text;
+	}
+	
+	void setText(String text) {
+		this.text = text;
+	}
+	
+	/**
+	 * Function to get the current value of the element
+	 * @return The current value of the element (null if the element does not exist, or does not have a value)
+	 */
+	public String getValue() {
+		return value;
+	}
+	
+	void setValue(String value) {
+		this.value = value;
+	}
+	
+	/**
+	 * Function to get the value of the specified attribute of the element
+	 * @param attributeName The name of the attribute
+	 * @return The value of the attribute (null if the element does not exist, or does not have the attribute)
+	 */
+	public String getAttribute(String attributeName) {
+		return attributes.get(attributeName);
+	}
+	
+	/**
+	 * Function to get the values of all the attributes which were requested as part of the query
+	 * @return An unmodifiable {@link Map} of the attribute names and values
+	 */
+	public Map<String, String> getAttributes() {
+		return Collections.unmodifiableMap(attributes);
+	}
+	
+	void setAttribute(String attributeName, String attributeValue) {
+		attributes.put(attributeName, attributeValue);
+	}
+	
+	@Override
+	public String toString() {
+		return by + " [exists=" + exists + ", displayed=" + displayed + ", enabled=" + enabled +
+					", text=" + text + ", value=" + value + ", attributes=" + attributes + "]";
+	}
+}
\ No newline at end of file
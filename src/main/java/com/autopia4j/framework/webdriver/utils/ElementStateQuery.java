@@ -0,0 +1,189 @@
+package com.autopia4j.framework.webdriver.utils;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+
+/**
+ * Class which retrieves the state of several elements in a single script round trip,
+ * falling back to individual WebDriver commands for locators which cannot be evaluated within the page
+ * @author vj
+ */
+class ElementStateQuery {
+	private static final String ELEMENT_STATE_SCRIPT =
+			"var locators = arguments[0], properties = arguments[1], attributeNames = arguments[2];" +
+			"function find(strategy, value) {" +
+			"  if (strategy === 'id') { return document.getElementById(value); }" +
+			"  if (strategy === 'xpath') {" +
+			"    return document.evaluate(value, document, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;" +
+			"  }" +
+			"  return document.querySelector(value);" +
+			"}" +
+			"function isDisplayed(element) {" +
+			"  var style = window.getComputedStyle(element);" +
+			"  return element.getClientRects().length > 0 && style.visibility !== 'hidden' && style.display !== 'none';" +
+			"}" +
+			"var results = [];" +
+			"for (var i = 0; i < locators.length; i++) {" +
+			"  var element = find(locators[i][0], locators[i][1]), result = {};" +
+			"  for (var j = 0; j < properties.length; j++) {" +
+			"    switch (properties[j]) {" +
+			"    case 'EXISTS': result.EXISTS = element !== null; break;" +
+			"    case 'DISPLAYED': result.DISPLAYED = element !== null && isDisplayed(element); break;" +
+			"    case 'ENABLED': result.ENABLED = element !== null && !element.disabled; break;" +
+			"    case 'TEXT': result.TEXT = (element === null) ? null : (element.innerText || element.textContent || '').trim(); break;" +
+			"    case 'VALUE': result.VALUE = (element === null || element.value === undefined) ? null : String(element.value); break;" +
+			"    case 'ATTRIBUTES':" +
+			"      result.ATTRIBUTES = {};" +
+			"      for (var k = 0; k < attributeNames.length; k++) {" +
+			"        result.ATTRIBUTES[attributeNames[k]] = (element === null) ? null : element.getAttribute(attributeNames[k]);" +
+			"      }" +
+			"      break;" +
+			"    }" +
+			"  }" +
+			"  results.push(result);" +
+			"}" +
+			"return results;";
+	
+	private final Logger logger = LoggerFactory.getLogger(ElementStateQuery.class);
+	private final WebDriverUtil driverUtil;
+	private final WebDriver driver;
+	
+	
+	/**
+	 * Constructor to initialize the {@link ElementStateQuery} object
+	 * @param driver The {@link WebDriver} object
+	 * @param driverUtil The {@link WebDriverUtil} object (used for the individual lookups in case of a fallback)
+	 */
+	ElementStateQuery(WebDriver driver, WebDriverUtil driverUtil) {
+		this.driver = driver;
+		this.driverUtil = driverUtil;
+	}
+	
+	/**
+	 * Function to retrieve the specified properties of the elements identified by the given locators
+	 * @param locators The {@link List} of locators used to identify the elements
+	 * @param properties The {@link ElementProperty} values to be retrieved
+	 * @param attributeNames The names of the attributes to be retrieved (applicable if {@link ElementProperty#ATTRIBUTES} is requested)
+	 * @return A {@link Map} of each locator to the corresponding {@link ElementState}, in the order of the given locators
+	 */
+	Map<By, ElementState> query(List<By> locators, Set<ElementProperty> properties, String... attributeNames) {
+		Map<By, ElementState> elementStates = new LinkedHashMap<>();
+		List<By> inPageLocators = new ArrayList<>();
+		List<List<String>> inPageLocatorArgs = new ArrayList<>();
+		for (By by : locators) {
+			elementStates.put(by, new ElementState(by));
+			String[] inPageLocator = InPageLocator.toInPageLocator(by);
+			if (inPageLocator != null) {
+				inPageLocators.add(by);
+				List<String> inPageLocatorArg = new ArrayList<>();
+				inPageLocatorArg.add(inPageLocator[0]);
+				inPageLocatorArg.add(inPageLocator[1]);
+				inPageLocatorArgs.add(inPageLocatorArg);
+			}
+		}
+		
+		List<By> nativeLocators = new ArrayList<>(locators);
+		if (!inPageLocators.isEmpty() && queryInPage(inPageLocators, inPageLocatorArgs,
+												properties, attributeNames, elementStates)) {
+			nativeLocators.removeAll(inPageLocators);
+		}
+		for (By by : nativeLocators) {
+			queryNatively(elementStates.get(by), properties, attributeNames);
+		}
+		
+		return elementStates;
+	}
+	
+	@SuppressWarnings("unchecked")
+	private Boolean queryInPage(List<By> inPageLocators, List<List<String>> inPageLocatorArgs,
+								Set<ElementProperty> properties, String[] attributeNames,
+								Map<By, ElementState> elementStates) {
+		if (!(driver instanceof JavascriptExecutor)) {
+			return false;
+		}
+		
+		List<String> propertyNames = new ArrayList<>();
+		for (ElementProperty property : properties) {
+			propertyNames.add(property.name());
+		}
+		List<String> attributeNameList = new ArrayList<>();
+		for (String attributeName : attributeNames) {
+			attributeNameList.add(attributeName);
+		}
+		
+		List<Object> results;
+		try {
+			results = (List<Object>) ((JavascriptExecutor) driver).executeScript(ELEMENT_STATE_SCRIPT,
+															inPageLocatorArgs, propertyNames, attributeNameList);
+		} catch (WebDriverException ex) {
+			logger.debug("Unable to query the element states within the page; falling back to individual commands", ex);
+			return false;
+		}
+		
+		for (int i = 0; i < inPageLocators.size(); i++) {
+			Map<String, Object> result = (Map<String, Object>) results.get(i);
+			ElementState elementState = elementStates.get(inPageLocators.get(i));
+			elementState.setExists((Boolean) result.get("EXISTS"));
+			elementState.setDisplayed((Boolean) result.get("DISPLAYED"));
+			elementState.setEnabled((Boolean) result.get("ENABLED"));
+			elementState.setText((String) result.get("TEXT"));
+			elementState.setValue((String) result.get("VALUE"));
+			Map<String, Object> attributes = (Map<String, Object>) result.get("ATTRIBUTES");
+			if (attributes != null) {
+				for (Map.Entry<String, Object> attribute : attributes.entrySet()) {
+					elementState.setAttribute(attribute.getKey(),
+							(attribute.getValue() == null) ? null : attribute.getValue().toString());
+				}
+			}
+		}
+		return true;
+	}
+	
+	private void queryNatively(ElementState elementState, Set<ElementProperty> properties, String[] attributeNames) {
+		WebElement element = driverUtil.findNow(elementState.getBy());
+		for (ElementProperty property : properties) {
+			switch (property) {
+			case EXISTS:
+				elementState.setExists(element != null);
+				break;
+			
+			case DISPLAYED:
+				elementState.setDisplayed(element != null && element.isDisplayed());
+				break;
+			
+			case ENABLED:
+				elementState.setEnabled(element != null && element.isEnabled());
+				break;
+			
+			case TEXT:
+				elementState.setText((element == null) ? null : element.getText());
+				break;
+			
+			case VALUE:
+				elementState.setValue((element == null) ? null : element.getAttribute("value"));
+				break;
+			
+			case ATTRIBUTES:
+				for (String attributeName : attributeNames) {
+					elementState.setAttribute(attributeName, (element == null) ? null : element.getAttribute(attributeName));
+				}
+				break;
+			
+			default:
+				break;
+			}
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,171 @@
+package com.autopia4j.framework.webdriver.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.Select;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+
+/**
+ * Class which fills several form fields (or selects several list items) using a single injected script,
+ * dispatching the input and change events expected by the application<br>
+ * Fields which cannot be set by the script (check boxes, radio buttons, file inputs, read-only or disabled fields,
+ * unmatched list items and link text locators) fall back to native WebDriver interactions
+ * @author vj
+ */
+class FormFiller {
+	private static final String COMMON_SCRIPT =
+			"function find(strategy, value) {" +
+			"  if (strategy === 'id') { return document.getElementById(value); }" +
+			"  if (strategy === 'xpath') {" +
+			"    return document.evaluate(value, document, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;" +
+			"  }" +
+			"  return document.querySelector(value);" +
+			"}" +
+			"function fire(element, type) {" +
+			"  element.dispatchEvent(new Event(type, { bubbles: true }));" +
+			"}" +
+			"function selectOptions(element, texts) {" +
+			"  var matched = 0;" +
+			"  for (var j = 0; j < element.options.length; j++) {" +
+			"    var option = element.options[j];" +
+			"    if (texts.indexOf(option.text.trim()) !== -1) {" +
+			"      option.selected = true;" +
+			"      matched++;" +
+			"      if (!element.multiple) { break; }" +
+			"    }" +
+			"  }" +
+			"  if (matched === 0 || (element.multiple && matched < texts.length)) { return false; }" +
+			"  fire(element, 'input');" +
+			"  fire(element, 'change');" +
+			"  return true;" +
+			"}";
+	
+	private static final String FILL_FORM_SCRIPT = COMMON_SCRIPT +
+			"var fields = arguments[0], fallback = [];" +
+			"var nativeOnlyTypes = ['checkbox', 'radio', 'file', 'button', 'submit', 'image', 'reset'];" +
+			"function setValue(element, value) {" +
+			// Use the native setter, so that frameworks which track the value property (such as React) observe the change
+			"  var descriptor = Object.getOwnPropertyDescriptor(Object.getPrototypeOf(element), 'value');" +
+			"  if (descriptor && descriptor.set) { descriptor.set.call(element, value); } else { element.value = value; }" +
+			"}" +
+			"for (var i = 0; i < fields.length; i++) {" +
+			"  var element = find(fields[i][0], fields[i][1]), value = fields[i][2];" +
+			"  if (!element || element.disabled || element.readOnly) { fallback.push(i); continue; }" +
+			"  var tagName = element.tagName.toLowerCase(), type = (element.type || '').toLowerCase();" +
+			"  if (tagName === 'select') {" +
+			"    if (!selectOptions(element, [value])) { fallback.push(i); }" +
+			"  } else if (tagName === 'textarea' || (tagName === 'input' && nativeOnlyTypes.indexOf(type) === -1)) {" +
+			"    element.focus();" +
+			"    setValue(element, value);" +
+			"    fire(element, 'input');" +
+			"    fire(element, 'change');" +
+			"  } else {" +
+			"    fallback.push(i);" +
+			"  }" +
+			"}" +
+			"return fallback;";
+	
+	private static final String SELECT_OPTIONS_SCRIPT = COMMON_SCRIPT +
+			"var element = find(arguments[0], arguments[1]);" +
+			"if (!element || element.disabled || element.tagName.toLowerCase() !== 'select') { return false; }" +
+			"return selectOptions(element, arguments[2]);";
+	
+	private final Logger logger = LoggerFactory.getLogger(FormFiller.class);
+	private final WebDriver driver;
+	
+	
+	/**
+	 * Constructor to initialize the {@link FormFiller} object
+	 * @param driver The {@link WebDriver} object
+	 */
+	FormFiller(WebDriver driver) {
+		this.driver = driver;
+	}
+	
+	/**
+	 * Function to fill the given form fields
+	 * @param fieldValues A {@link Map} of the locators used to identify the form fields, to the values to be entered (or the list items to be selected)
+	 * @param nativeEventsOnly Boolean value indicating whether the fields should be filled using native WebDriver interactions only
+	 */
+	void fillForm(Map<By, String> fieldValues, Boolean nativeEventsOnly) {
+		List<By> fields = new ArrayList<>(fieldValues.keySet());
+		List<By> nativeFields = fields;
+		
+		if (!nativeEventsOnly && driver instanceof JavascriptExecutor) {
+			List<By> scriptedFields = new ArrayList<>();
+			List<List<String>> scriptedFieldArgs = new ArrayList<>();
+			nativeFields = new ArrayList<>();
+			for (By field : fields) {
+				String[] inPageLocator = InPageLocator.toInPageLocator(field);
+				if (inPageLocator == null) {
+					nativeFields.add(field);
+				} else {
+					scriptedFields.add(field);
+					scriptedFieldArgs.add(Arrays.asList(inPageLocator[0], inPageLocator[1], fieldValues.get(field)));
+				}
+			}
+			
+			if (!scriptedFields.isEmpty()) {
+				try {
+					List<?> fallbackIndices = (List<?>) ((JavascriptExecutor) driver).executeScript(FILL_FORM_SCRIPT,
+																						scriptedFieldArgs);
+					for (Object fallbackIndex : fallbackIndices) {
+						nativeFields.add(scriptedFields.get(((Number) fallbackIndex).intValue()));
+					}
+				} catch (WebDriverException ex) {
+					logger.debug("Unable to fill the form using a script; falling back to native interactions", ex);
+					nativeFields = fields;
+				}
+			}
+		}
+		
+		for (By field : nativeFields) {
+			fillFieldNatively(field, fieldValues.get(field));
+		}
+	}
+	
+	private void fillFieldNatively(By field, String value) {
+		WebElement element = driver.findElement(field);
+		if ("select".equalsIgnoreCase(element.getTagName())) {
+			new Select(element).selectByVisibleText(value);
+		} else {
+			element.clear();
+			element.sendKeys(value);
+		}
+	}
+	
+	/**
+	 * Function to select the specified items within a listbox
+	 * @param by The locator used to identify the listbox
+	 * @param itemTexts The visible text of the items to be selected
+	 */
+	void selectListItems(By by, List<String> itemTexts) {
+		String[] inPageLocator = InPageLocator.toInPageLocator(by);
+		if (inPageLocator != null && driver instanceof JavascriptExecutor) {
+			try {
+				Object selected = ((JavascriptExecutor) driver).executeScript(SELECT_OPTIONS_SCRIPT,
+														inPageLocator[0], inPageLocator[1], itemTexts);
+				if (Boolean.TRUE.equals(selected)) {
+					return;
+				}
+			} catch (WebDriverException ex) {
+				logger.debug("Unable to select the list items using a script; falling back to native interactions", ex);
+			}
+		}
+		
+		Select dropDownList = new Select(driver.findElement(by));
+		for (String itemText : itemTexts) {
+			dropDownList.selectByVisibleText(itemText);
+		}
+	}
+}
\ No newline at end of file
@@ -45,8 +45,6 @@ public class GalenUtil {
 		this.driver = driver;
 		this.report = report;
 		this.reportSettings = report.getReportSettings();
-		
-		galenTests = new LinkedList<>();
 	}
 	
 	/**
@@ -61,6 +59,9 @@ public class GalenUtil {
 		
 		try {
 			GalenTestInfo galenTestInfo = GalenTestInfo.fromString(pageName);
+			if (galenTests == null) {
+				galenTests = new LinkedList<>();
+			}
 			galenTests.add(galenTestInfo);
 			
 			LayoutReport layoutReport =
@@ -116,7 +117,7 @@ public class GalenUtil {
 	 * Function to export the Galen reports generated during the test execution 
 	 */
 	public void exportGalenReports() {
-		if (!galenTests.isEmpty()) {
+		if (galenTests != null && !galenTests.isEmpty()) {
 			File galenReportsFolder = report.createResultsSubFolder("Galen Reports" +
 														Util.getFileSeparator() +
 														reportSettings.getReportName());
@@ -125,6 +126,7 @@ public class GalenUtil {
 			try {
 				htmlReportBuilder.build(galenTests, galenReportsFolder.getAbsolutePath());
 				cleanGalenReportsData();
+				galenTests = null;	// Release the Galen reports data, which is no longer required
 			} catch (IOException e) {
 				logger.error("Error occurred while exporting Galen reports!", e);
 			}
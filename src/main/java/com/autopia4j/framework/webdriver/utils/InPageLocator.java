@@ -0,0 +1,50 @@
+package com.autopia4j.framework.webdriver.utils;
+
+import org.openqa.selenium.By;
+
+
+/**
+ * Utility class to translate {@link By} locators into a form which can be evaluated by scripts running within the page
+ * @author vj
+ */
+final class InPageLocator {
+	
+	private InPageLocator() {
+		// To prevent instantiation of this utility class
+	}
+	
+	/**
+	 * Function to translate the given {@link By} locator into a strategy ("id", "xpath" or "css") and value,
+	 * which can be evaluated within the page
+	 * @param by The {@link By} locator to be translated
+	 * @return An array containing the strategy and value, or null if the locator cannot be evaluated within the page (link text locators)
+	 */
+	static String[] toInPageLocator(By by) {
+		// By exposes its strategy only through toString(), in the form "By.[strategy]: [value]"
+		String locator = by.toString();
+		int separatorIndex = locator.indexOf(": ");
+		if (!locator.startsWith("By.") || separatorIndex == -1) {
+			return null;
+		}
+		String strategy = locator.substring(3, separatorIndex);
+		String value = locator.substring(separatorIndex + 2);
+		
+		switch (strategy) {
+		case "id":
+			return new String[] {"id", value};
+		case "xpath":
+			return new String[] {"xpath", value};
+		case "cssSelector":
+		case "selector":
+			return new String[] {"css", value};
+		case "name":
+			return new String[] {"css", "[name=\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"]"};
+		case "className":
+			return new String[] {"css", "." + value};
+		case "tagName":
+			return new String[] {"css", value};
+		default:
+			return null;	// Link text locators cannot be evaluated using selectors
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,228 @@
+package com.autopia4j.framework.webdriver.utils;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+
+/**
+ * Class which waits for page conditions from within the page itself, using a single asynchronous script
+ * that is resolved by a readyState listener or a MutationObserver (instead of polling the browser from the client)<br>
+ * The scripts are executed within the script timeout configured on the session (which is hence left unchanged),
+ * and resolve to false on their own once the remaining wait timeout (passed as the last argument) has elapsed
+ * @author vj
+ */
+class InPageWait {
+	private static final long SCRIPT_TIMEOUT_MARGIN = 5000;
+	private static final long MAX_TRACKED_TIMER_DELAY = 1000;
+	
+	/**
+	 * Script which installs the in-flight request tracker within the current page (if not already installed)<br>
+	 * The tracker wraps XMLHttpRequest and fetch, as well as short timers (which typically precede or follow requests),
+	 * and records the number of pending operations along with the time of the last activity
+	 */
+	static final String NETWORK_TRACKER_SCRIPT =
+			"if (!window.__autopiaNetworkTracker) {" +
+			"  var tracker = { pending: 0, lastActivity: Date.now(), timers: {}," +
+			"                  setTimeout: window.setTimeout, clearTimeout: window.clearTimeout };" +
+			"  window.__autopiaNetworkTracker = tracker;" +
+			"  var started = function() { tracker.pending++; tracker.lastActivity = Date.now(); };" +
+			"  var ended = function() { tracker.pending = Math.max(0, tracker.pending - 1); tracker.lastActivity = Date.now(); };" +
+			"  var send = XMLHttpRequest.prototype.send;" +
+			"  XMLHttpRequest.prototype.send = function() {" +
+			"    var done = false, finish = function() { if (!done) { done = true; ended(); } };" +
+			"    started();" +
+			"    this.addEventListener('loadend', finish);" +
+			"    try { return send.apply(this, arguments); } catch (e) { finish(); throw e; }" +
+			"  };" +
+			"  if (window.fetch) {" +
+			"    var fetch = window.fetch;" +
+			"    window.fetch = function() {" +
+			"      started();" +
+			"      return fetch.apply(this, arguments).then(" +
+			"        function(response) { ended(); return response; }, function(error) { ended(); throw error; });" +
+			"    };" +
+			"  }" +
+			"  window.setTimeout = function(callback, delay) {" +
+			"    if (typeof callback !== 'function' || delay > " + MAX_TRACKED_TIMER_DELAY + ") {" +
+			"      return tracker.setTimeout.apply(window, arguments);" +
+			"    }" +
+			"    var id, args = Array.prototype.slice.call(arguments);" +
+			"    args[0] = function() {" +
+			"      if (tracker.timers[id]) { delete tracker.timers[id]; ended(); }" +
+			"      return callback.apply(this, arguments);" +
+			"    };" +
+			"    id = tracker.setTimeout.apply(window, args);" +
+			"    tracker.timers[id] = true;" +
+			"    started();" +
+			"    return id;" +
+			"  };" +
+			"  window.clearTimeout = function(id) {" +
+			"    if (tracker.timers[id]) { delete tracker.timers[id]; ended(); }" +
+			"    return tracker.clearTimeout.apply(window, arguments);" +
+			"  };" +
+			"}";
+	
+	/**
+	 * Script which checks whether the network has been idle for the quiet period (in milliseconds) passed as the first argument
+	 */
+	static final String NETWORK_IDLE_CHECK_SCRIPT = NETWORK_TRACKER_SCRIPT +
+			"var tracker = window.__autopiaNetworkTracker;" +
+			"return tracker.pending === 0 && Date.now() - tracker.lastActivity >= arguments[0];";
+	
+	private static final String NETWORK_IDLE_SCRIPT = NETWORK_TRACKER_SCRIPT +
+			"var quietPeriodMs = arguments[0], timeoutMs = arguments[1], callback = arguments[arguments.length - 1];" +
+			"var tracker = window.__autopiaNetworkTracker, deadline = Date.now() + timeoutMs;" +
+			"var check = function() {" +
+			"  var now = Date.now();" +
+			"  if (tracker.pending === 0 && now - tracker.lastActivity >= quietPeriodMs) { callback(true); return; }" +
+			"  if (now >= deadline) { callback(false); return; }" +
+			"  tracker.setTimeout.call(window, check, 50);" +
+			"};" +
+			"check();";
+	
+	private static final String READY_STATE_SCRIPT =
+			"var timeoutMs = arguments[0], callback = arguments[arguments.length - 1];" +
+			"var timers = window.__autopiaNetworkTracker || window;" +
+			"if (document.readyState === 'complete') { callback(true); return; }" +
+			"var timer = timers.setTimeout.call(window, function() { callback(false); }, timeoutMs);" +
+			"document.addEventListener('readystatechange', function() {" +
+			"  if (document.readyState === 'complete') { timers.clearTimeout.call(window, timer); callback(true); }" +
+			"});";
+	
+	private static final String ELEMENT_STATE_SCRIPT =
+			"var strategy = arguments[0], value = arguments[1], condition = arguments[2], timeoutMs = arguments[3];" +
+			"var callback = arguments[arguments.length - 1], timers = window.__autopiaNetworkTracker || window;" +
+			"function find() {" +
+			"  if (strategy === 'id') { return document.getElementById(value); }" +
+			"  if (strategy === 'xpath') {" +
+			"    return document.evaluate(value, document, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;" +
+			"  }" +
+			"  return document.querySelector(value);" +
+			"}" +
+			"function satisfied() {" +
+			"  var element = find();" +
+			"  if (!element) { return false; }" +
+			"  if (condition === 'located') { return true; }" +
+			"  var style = window.getComputedStyle(element);" +
+			"  var visible = element.getClientRects().length > 0 && style.visibility !== 'hidden' && style.display !== 'none';" +
+			"  if (condition === 'visible') { return visible; }" +
+			"  return visible && !element.disabled;" +
+			"}" +
+			"if (satisfied()) { callback(true); return; }" +
+			"var observer, timer;" +
+			"observer = new MutationObserver(function() {" +
+			"  if (satisfied()) { observer.disconnect(); timers.clearTimeout.call(window, timer); callback(true); }" +
+			"});" +
+			"timer = timers.setTimeout.call(window, function() { observer.disconnect(); callback(false); }, timeoutMs);" +
+			"observer.observe(document, { childList: true, subtree: true, attributes: true });";
+	
+	private final Logger logger = LoggerFactory.getLogger(InPageWait.class);
+	private final WebDriver driver;
+	private final long scriptTimeout;
+	
+	
+	/**
+	 * Constructor to initialize the {@link InPageWait} object
+	 * @param driver The {@link WebDriver} object
+	 * @param scriptTimeout The script timeout (in seconds) configured on the {@link WebDriver}<br>
+	 * Waits longer than the script timeout are performed using successive scripts
+	 */
+	InPageWait(WebDriver driver, long scriptTimeout) {
+		this.driver = driver;
+		this.scriptTimeout = scriptTimeout;
+	}
+	
+	/**
+	 * Element conditions which can be awaited from within the page
+	 * @author vj
+	 */
+	enum ElementCondition {
+		LOCATED, VISIBLE, ENABLED;
+		
+		String getValue() {
+			return name().toLowerCase();
+		}
+	}
+	
+	/**
+	 * Function to wait until the page readyState equals 'complete'
+	 * @param timeOutInSeconds The wait timeout in seconds
+	 * @return Boolean value indicating whether the wait could be performed within the page
+	 * (false indicates that the caller should fall back to polling)
+	 * @throws TimeoutException Exception thrown if the readyState does not become 'complete' within the specified timeout
+	 */
+	Boolean awaitPageReadyStateComplete(long timeOutInSeconds) {
+		return await(timeOutInSeconds, "page readyState to be complete", READY_STATE_SCRIPT);
+	}
+	
+	/**
+	 * Function to wait until the specified element satisfies the given condition
+	 * @param by The {@link WebDriver} locator used to identify the element
+	 * @param condition The {@link ElementCondition} to be awaited
+	 * @param timeOutInSeconds The wait timeout in seconds
+	 * @return Boolean value indicating whether the wait could be performed within the page
+	 * (false indicates that the caller should fall back to polling, as is the case for link text locators)
+	 * @throws TimeoutException Exception thrown if the condition is not satisfied within the specified timeout
+	 */
+	Boolean awaitElement(By by, ElementCondition condition, long timeOutInSeconds) {
+		String[] locator = InPageLocator.toInPageLocator(by);
+		if (locator == null) {
+			return false;
+		}
+		
+		return await(timeOutInSeconds, "element " + by + " to be " + condition.getValue(), ELEMENT_STATE_SCRIPT,
+																	locator[0], locator[1], condition.getValue());
+	}
+	
+	/**
+	 * Function to wait until there are no pending requests (or short timers) within the page for the specified quiet period
+	 * @param quietPeriodInMilliSeconds The period for which the network must remain idle
+	 * @param timeOutInSeconds The wait timeout in seconds
+	 * @return Boolean value indicating whether the wait could be performed within the page
+	 * (false indicates that the caller should fall back to polling)
+	 * @throws TimeoutException Exception thrown if the network does not become idle within the specified timeout
+	 */
+	Boolean awaitNetworkIdle(long quietPeriodInMilliSeconds, long timeOutInSeconds) {
+		return await(timeOutInSeconds, "network to be idle for " + quietPeriodInMilliSeconds + " ms", NETWORK_IDLE_SCRIPT,
+																					quietPeriodInMilliSeconds);
+	}
+	
+	private Boolean await(long timeOutInSeconds, String description, String script, Object... args) {
+		long maxScriptBudget = TimeUnit.SECONDS.toMillis(scriptTimeout) - SCRIPT_TIMEOUT_MARGIN;
+		if (!(driver instanceof JavascriptExecutor) || maxScriptBudget <= 0) {
+			return false;
+		}
+		
+		Object[] scriptArgs = Arrays.copyOf(args, args.length + 1);
+		long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(timeOutInSeconds);
+		long remainingTime = deadline - System.currentTimeMillis();
+		do {
+			// The script resolves to false on its own before the script timeout of the session elapses
+			scriptArgs[args.length] = Math.max(0, Math.min(remainingTime, maxScriptBudget));
+			Object result;
+			try {
+				result = ((JavascriptExecutor) driver).executeAsyncScript(script, scriptArgs);
+			} catch (TimeoutException ex) {
+				throw new TimeoutException("Timed out after " + timeOutInSeconds + " seconds waiting for " + description, ex);
+			} catch (WebDriverException ex) {
+				logger.debug("Asynchronous scripts unavailable; falling back to polling", ex);
+				return false;
+			}
+			
+			if (Boolean.TRUE.equals(result)) {
+				return true;
+			}
+			remainingTime = deadline - System.currentTimeMillis();
+		} while (remainingTime > 0);
+		
+		throw new TimeoutException("Timed out after " + timeOutInSeconds + " seconds waiting for " + description);
+	}
+}
@@ -0,0 +1,239 @@
+package com.autopia4j.framework.webdriver.utils;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.events.AbstractWebDriverEventListener;
+import org.openqa.selenium.support.events.EventFiringWebDriver;
+
+
+/**
+ * Event-firing {@link WebDriver} decorator which records the latency of the commands executed on the wrapped session
+ * (element lookups, clicks, value changes, scripts, navigation/page loads and screenshots) within a {@link CommandTelemetry} object,
+ * and optionally profiles each element lookup for the {@link LocatorAnalysis}<br>
+ * Driver-specific APIs (such as those of the RemoteWebDriver or AppiumDriver) remain accessible via {@link #getWrappedDriver()}
+ * @author vj
+ */
+public class InstrumentedWebDriver extends EventFiringWebDriver {
+	private final CommandTelemetry telemetry = new CommandTelemetry();
+	private final Boolean commandTelemetryEnabled;
+	private final LocatorProfiler locatorProfiler;
+	private final ThreadLocal<Boolean> executingAsyncScript = new ThreadLocal<>();
+	
+	
+	/**
+	 * Constructor to initialize the {@link InstrumentedWebDriver} object, with the command telemetry enabled
+	 * @param driver The {@link WebDriver} object to be instrumented
+	 */
+	public InstrumentedWebDriver(WebDriver driver) {
+		this(driver, true, false);
+	}
+	
+	/**
+	 * Constructor to initialize the {@link InstrumentedWebDriver} object
+	 * @param driver The {@link WebDriver} object to be instrumented
+	 * @param commandTelemetryEnabled Boolean value indicating whether the command latencies are to be recorded
+	 * @param locatorAnalysisEnabled Boolean value indicating whether each element lookup is to be profiled for the {@link LocatorAnalysis}
+	 */
+	public InstrumentedWebDriver(WebDriver driver, Boolean commandTelemetryEnabled, Boolean locatorAnalysisEnabled) {
+		super(driver);
+		this.commandTelemetryEnabled = commandTelemetryEnabled;
+		this.locatorProfiler = locatorAnalysisEnabled ? new LocatorProfiler() : null;
+		register(new TelemetryListener());
+	}
+	
+	/**
+	 * Function to get the {@link CommandTelemetry} recorded for this session
+	 * @return The {@link CommandTelemetry} object
+	 */
+	public CommandTelemetry getTelemetry() {
+		return telemetry;
+	}
+	
+	@Override
+	public <X> X getScreenshotAs(OutputType<X> target) throws WebDriverException {
+		if (!commandTelemetryEnabled) {
+			return super.getScreenshotAs(target);
+		}
+		
+		long startTime = System.nanoTime();
+		Boolean failed = true;
+		try {
+			X screenshot = super.getScreenshotAs(target);
+			failed = false;
+			return screenshot;
+		} finally {
+			telemetry.record("screenshot", System.nanoTime() - startTime, failed);
+		}
+	}
+	
+	@Override
+	public Object executeAsyncScript(String script, Object... args) {
+		// The script events do not distinguish asynchronous scripts, which typically wait within the page
+		executingAsyncScript.set(true);
+		try {
+			return super.executeAsyncScript(script, args);
+		} finally {
+			executingAsyncScript.remove();
+		}
+	}
+	
+	
+	/**
+	 * Listener which times each command between its "before" and "after" events
+	 * (or its exception, in which case the command is recorded as failed)<br>
+	 * The pending commands are tracked per thread, since the session may be shared by concurrent threads
+	 * (e.g., the tests within a session group, or a keyword running on the watchdog thread)
+	 * @author vj
+	 */
+	private class TelemetryListener extends AbstractWebDriverEventListener {
+		private final ThreadLocal<Deque<PendingCommand>> pendingCommands = new ThreadLocal<>();
+		
+		private void start(String command) {
+			start(command, null, null);
+		}
+		
+		private void start(String command, By by, WebElement context) {
+			Deque<PendingCommand> currentPendingCommands = pendingCommands.get();
+			if (currentPendingCommands == null) {
+				currentPendingCommands = new ArrayDeque<>();
+				pendingCommands.set(currentPendingCommands);
+			}
+			currentPendingCommands.push(new PendingCommand(command, by, context));
+		}
+		
+		private PendingCommand end(Boolean failed) {
+			Deque<PendingCommand> currentPendingCommands = pendingCommands.get();
+			if (currentPendingCommands == null) {
+				return null;
+			}
+			
+			PendingCommand pendingCommand = currentPendingCommands.pop();
+			if (currentPendingCommands.isEmpty()) {
+				pendingCommands.remove();
+			}
+			pendingCommand.duration = System.nanoTime() - pendingCommand.startTime;
+			if (commandTelemetryEnabled) {
+				telemetry.record(pendingCommand.command, pendingCommand.duration, failed);
+			}
+			return pendingCommand;
+		}
+		
+		private void profileLocator(WebDriver driver, PendingCommand pendingCommand, long lookupDuration) {
+			if (locatorProfiler != null && pendingCommand != null && pendingCommand.by != null) {
+				locatorProfiler.profile(driver, pendingCommand.by, pendingCommand.context, lookupDuration);
+			}
+		}
+		
+		@Override
+		public void beforeNavigateTo(String url, WebDriver driver) {
+			start("navigate");
+		}
+		
+		@Override
+		public void afterNavigateTo(String url, WebDriver driver) {
+			end(false);
+		}
+		
+		@Override
+		public void beforeNavigateBack(WebDriver driver) {
+			start("navigate");
+		}
+		
+		@Override
+		public void afterNavigateBack(WebDriver driver) {
+			end(false);
+		}
+		
+		@Override
+		public void beforeNavigateForward(WebDriver driver) {
+			start("navigate");
+		}
+		
+		@Override
+		public void afterNavigateForward(WebDriver driver) {
+			end(false);
+		}
+		
+		@Override
+		public void beforeNavigateRefresh(WebDriver driver) {
+			start("navigate");
+		}
+		
+		@Override
+		public void afterNavigateRefresh(WebDriver driver) {
+			end(false);
+		}
+		
+		@Override
+		public void beforeFindBy(By by, WebElement element, WebDriver driver) {
+			start("findElement", by, element);
+		}
+		
+		@Override
+		public void afterFindBy(By by, WebElement element, WebDriver driver) {
+			PendingCommand pendingCommand = end(false);
+			profileLocator(driver, pendingCommand, (pendingCommand == null) ? -1 : pendingCommand.duration);
+		}
+		
+		@Override
+		public void beforeClickOn(WebElement element, WebDriver driver) {
+			start("click");
+		}
+		
+		@Override
+		public void afterClickOn(WebElement element, WebDriver driver) {
+			end(false);
+		}
+		
+		@Override
+		public void beforeChangeValueOf(WebElement element, WebDriver driver, CharSequence[] keysToSend) {
+			start("changeValue");
+		}
+		
+		@Override
+		public void afterChangeValueOf(WebElement element, WebDriver driver, CharSequence[] keysToSend) {
+			end(false);
+		}
+		
+		@Override
+		public void beforeScript(String script, WebDriver driver) {
+			start(Boolean.TRUE.equals(executingAsyncScript.get()) ? "executeAsyncScript" : "executeScript");
+		}
+		
+		@Override
+		public void afterScript(String script, WebDriver driver) {
+			end(false);
+		}
+		
+		@Override
+		public void onException(Throwable throwable, WebDriver driver) {
+			PendingCommand pendingCommand = end(true);
+			// The in-page cost of a failed lookup is still of interest, but its lookup time includes the implicit wait
+			profileLocator(driver, pendingCommand, -1);
+		}
+	}
+	
+	/**
+	 * Class to encapsulate a command which is being executed (along with the locator, in the case of an element lookup)
+	 * @author vj
+	 */
+	private static class PendingCommand {
+		private final String command;
+		private final By by;
+		private final WebElement context;
+		private final long startTime = System.nanoTime();
+		private long duration;
+		
+		PendingCommand(String command, By by, WebElement context) {
+			this.command = command;
+			this.by = by;
+			this.context = context;
+		}
+	}
+}
\ No newline at end of file
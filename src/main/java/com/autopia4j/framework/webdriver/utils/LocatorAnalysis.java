@@ -0,0 +1,282 @@
+package com.autopia4j.framework.webdriver.utils;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.openqa.selenium.By;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+
+/**
+ * Singleton class which records the cost of each distinct locator (per page) during the test batch execution<br>
+ * The analysis is performed only if the "locator.analysis.enabled" setting is true, in which case every element lookup
+ * via the {@link InstrumentedWebDriver} (or {@link WebDriverUtil#analyzeLocator(By)}) is timed, and profiled within the page
+ * to determine the time taken by the browser to evaluate it along with the number of elements within its search scope
+ * @author vj
+ */
+public class LocatorAnalysis {
+	private final Logger logger = LoggerFactory.getLogger(LocatorAnalysis.class);
+	private final Map<String, LocatorStatistic> statistics = new ConcurrentHashMap<>();
+	private volatile Boolean enabled = false;
+	
+	private static final LocatorAnalysis LOCATOR_ANALYSIS = new LocatorAnalysis();
+	
+	private LocatorAnalysis() {
+		// To prevent external instantiation of this class
+	}
+	
+	/**
+	 * Function to return the singleton instance of the {@link LocatorAnalysis} object
+	 * @return Instance of the {@link LocatorAnalysis} object
+	 */
+	public static LocatorAnalysis getInstance() {
+		return LOCATOR_ANALYSIS;
+	}
+	
+	@Override
+	public Object clone() throws CloneNotSupportedException {
+		throw new CloneNotSupportedException();
+	}
+	
+	
+	/**
+	 * Function to set whether the locator analysis is enabled (as per the settings of the current test batch)
+	 * @param enabled Boolean value indicating whether the locator analysis is enabled
+	 */
+	public void setEnabled(Boolean enabled) {
+		this.enabled = enabled;
+	}
+	
+	/**
+	 * Function to check whether the locator analysis is enabled
+	 * @return Boolean value indicating whether the locator analysis is enabled
+	 */
+	public Boolean isEnabled() {
+		return enabled;
+	}
+	
+	/**
+	 * Function to get the statistic recorded for the given locator on the given page, creating it if required
+	 * @param by The {@link By} locator
+	 * @param page The page on which the locator was used
+	 * @return The corresponding {@link LocatorStatistic}
+	 */
+	LocatorStatistic getStatistic(By by, String page) {
+		return statistics.computeIfAbsent(page + " | " + by, key -> new LocatorStatistic(by, page));
+	}
+	
+	/**
+	 * Function to get the costliest locators recorded so far, grouped by page<br>
+	 * The pages are ordered by the total cost of their locators, and the locators within each page by their own cost
+	 * (the total in-page evaluation time, or the total lookup time for locators which could not be profiled within the page)
+	 * @param nLocatorsPerPage The maximum number of locators to be returned for each page
+	 * @return The {@link List} of {@link LocatorStatistic}s
+	 */
+	public List<LocatorStatistic> getCostliestLocators(int nLocatorsPerPage) {
+		Map<String, List<LocatorStatistic>> pageStatistics = new HashMap<>();
+		final Map<String, Double> pageCosts = new HashMap<>();
+		for (LocatorStatistic locatorStatistic : statistics.values()) {
+			pageStatistics.computeIfAbsent(locatorStatistic.getPage(), page -> new ArrayList<>()).add(locatorStatistic);
+			pageCosts.merge(locatorStatistic.getPage(), locatorStatistic.getCost(), Double::sum);
+		}
+		
+		List<String> pages = new ArrayList<>(pageStatistics.keySet());
+		Collections.sort(pages, (first, second) -> Double.compare(pageCosts.get(second), pageCosts.get(first)));
+		
+		List<LocatorStatistic> costliestLocators = new ArrayList<>();
+		for (String page : pages) {
+			List<LocatorStatistic> locatorStatistics = pageStatistics.get(page);
+			Collections.sort(locatorStatistics, (first, second) -> Double.compare(second.getCost(), first.getCost()));
+			costliestLocators.addAll(locatorStatistics.subList(0, Math.min(nLocatorsPerPage, locatorStatistics.size())));
+		}
+		return costliestLocators;
+	}
+	
+	/**
+	 * Function to write a report of the costliest locators per page, in CSV format
+	 * @param reportFile The report file to be written
+	 * @param nLocatorsPerPage The maximum number of locators to be included for each page
+	 */
+	public void writeReport(File reportFile, int nLocatorsPerPage) {
+		if (statistics.isEmpty()) {
+			return;
+		}
+		
+		try (PrintWriter reportWriter = new PrintWriter(Files.newBufferedWriter(reportFile.toPath(), StandardCharsets.UTF_8))) {
+			reportWriter.println("Page,Locator,Lookups,Mean Lookup (ms),Profiled,Total In-Page (ms),Mean In-Page (ms)," +
+									"Max Elements In Scope,Max Matches,Issues,Suggested CSS Selector");
+			for (LocatorStatistic locatorStatistic : getCostliestLocators(nLocatorsPerPage)) {
+				reportWriter.println(escape(locatorStatistic.getPage()) + "," + escape(locatorStatistic.getBy().toString()) + "," +
+									locatorStatistic.getLookupCount() + "," + locatorStatistic.getMeanLookupDuration() + "," +
+									locatorStatistic.getProfileCount() + "," +
+									String.format(Locale.ROOT, "%.2f", locatorStatistic.getTotalInPageDuration()) + "," +
+									String.format(Locale.ROOT, "%.2f", locatorStatistic.getMeanInPageDuration()) + "," +
+									locatorStatistic.getMaxElementsInScope() + "," + locatorStatistic.getMaxMatches() + "," +
+									escape(String.join("; ", locatorStatistic.getIssues())) + "," +
+									escape(locatorStatistic.getSuggestedCssSelector() == null ?
+																"" : locatorStatistic.getSuggestedCssSelector()));
+			}
+		} catch (IOException e) {
+			logger.error("Error occurred while writing the locator analysis report", e);
+		}
+	}
+	
+	private String escape(String value) {
+		return "\"" + value.replace("\"", "\"\"") + "\"";
+	}
+	
+	/**
+	 * Function to discard all the statistics recorded so far
+	 */
+	public void clear() {
+		statistics.clear();
+	}
+	
+	
+	/**
+	 * Class to encapsulate the observed cost of a specific locator on a specific page
+	 * @author vj
+	 */
+	public static class LocatorStatistic {
+		private final By by;
+		private final String page;
+		private final List<String> issues;
+		private final String suggestedCssSelector;
+		private long lookupCount;
+		private long totalLookupDuration;
+		private long profileCount;
+		private double totalInPageDuration;
+		private long maxElementsInScope;
+		private long maxMatches;
+		
+		LocatorStatistic(By by, String page) {
+			this.by = by;
+			this.page = page;
+			this.issues = Collections.unmodifiableList(LocatorAnalyzer.analyze(by));
+			this.suggestedCssSelector = LocatorAnalyzer.suggestCssSelector(by);
+		}
+		
+		synchronized void recordLookup(long durationInNanoSeconds) {
+			lookupCount++;
+			totalLookupDuration += durationInNanoSeconds / 1000000;
+		}
+		
+		synchronized void recordProfile(double inPageDurationInMilliSeconds, long elementsInScope, long matches) {
+			profileCount++;
+			totalInPageDuration += inPageDurationInMilliSeconds;
+			maxElementsInScope = Math.max(maxElementsInScope, elementsInScope);
+			maxMatches = Math.max(maxMatches, matches);
+		}
+		
+		synchronized double getCost() {
+			return (profileCount > 0) ? totalInPageDuration : totalLookupDuration;
+		}
+		
+		/**
+		 * Function to get the locator
+		 * @return The {@link By} locator
+		 */
+		public By getBy() {
+			return by;
+		}
+		
+		/**
+		 * Function to get the page on which the locator was used
+		 * @return The page on which the locator was used
+		 */
+		public String getPage() {
+			return page;
+		}
+		
+		/**
+		 * Function to get the expensive patterns identified within the locator
+		 * @return The {@link List} of issues (empty if none)
+		 */
+		public List<String> getIssues() {
+			return issues;
+		}
+		
+		/**
+		 * Function to get the CSS selector suggested as an equivalent of the locator
+		 * @return The suggested CSS selector (null if the locator is not an XPath expression, or has no CSS equivalent)
+		 */
+		public String getSuggestedCssSelector() {
+			return suggestedCssSelector;
+		}
+		
+		/**
+		 * Function to get the number of times the locator was used to look up elements
+		 * @return The number of lookups
+		 */
+		public synchronized long getLookupCount() {
+			return lookupCount;
+		}
+		
+		/**
+		 * Function to get the mean time taken by a lookup using the locator (including the WebDriver round trip and any implicit wait)
+		 * @return The mean lookup time, in milliseconds
+		 */
+		public synchronized long getMeanLookupDuration() {
+			return (lookupCount == 0) ? 0 : totalLookupDuration / lookupCount;
+		}
+		
+		/**
+		 * Function to get the number of times the locator was profiled within the page
+		 * @return The number of profiles
+		 */
+		public synchronized long getProfileCount() {
+			return profileCount;
+		}
+		
+		/**
+		 * Function to get the total time taken by the browser to evaluate the locator, across all the profiles
+		 * @return The total in-page evaluation time, in milliseconds
+		 */
+		public synchronized double getTotalInPageDuration() {
+			return totalInPageDuration;
+		}
+		
+		/**
+		 * Function to get the mean time taken by the browser to evaluate the locator
+		 * @return The mean in-page evaluation time, in milliseconds
+		 */
+		public synchronized double getMeanInPageDuration() {
+			return (profileCount == 0) ? 0 : totalInPageDuration / profileCount;
+		}
+		
+		/**
+		 * Function to get the maximum number of elements within the search scope of the locator
+		 * (the elements which the browser may have to examine to evaluate it)
+		 * @return The maximum number of elements in scope
+		 */
+		public synchronized long getMaxElementsInScope() {
+			return maxElementsInScope;
+		}
+		
+		/**
+		 * Function to get the maximum number of elements matched by the locator
+		 * @return The maximum number of matches
+		 */
+		public synchronized long getMaxMatches() {
+			return maxMatches;
+		}
+		
+		@Override
+		public synchronized String toString() {
+			return by + " @ " + page + " [lookups=" + lookupCount + ", meanInPage=" +
+						String.format("%.2f", getMeanInPageDuration()) + " ms, elementsInScope=" + maxElementsInScope +
+						", issues=" + issues + ", suggestedCss=" + suggestedCssSelector + "]";
+		}
+	}
+}
\ No newline at end of file
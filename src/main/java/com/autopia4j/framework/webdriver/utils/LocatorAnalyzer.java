@@ -0,0 +1,259 @@
+package com.autopia4j.framework.webdriver.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.openqa.selenium.By;
+
+
+/**
+ * Utility class which statically analyzes {@link By} locators for patterns which are known to be expensive to evaluate,
+ * and suggests equivalent CSS selectors for simple XPath expressions
+ * @author vj
+ */
+final class LocatorAnalyzer {
+	private static final Pattern NODE_TEST = Pattern.compile("[A-Za-z_*][\\w.-]*(:[\\w.-]+)?");
+	private static final Pattern ATTRIBUTE_EQUALS = Pattern.compile("@([\\w.:-]+)\\s*=\\s*('[^']*'|\"[^\"]*\")");
+	private static final Pattern ATTRIBUTE_FUNCTION =
+			Pattern.compile("(contains|starts-with)\\(\\s*@([\\w.:-]+)\\s*,\\s*('[^']*'|\"[^\"]*\")\\s*\\)");
+	private static final Pattern ATTRIBUTE_EXISTS = Pattern.compile("@([\\w.:-]+)");
+	private static final Pattern POSITION = Pattern.compile("[1-9]\\d*");
+	private static final Pattern SIMPLE_IDENTIFIER = Pattern.compile("[A-Za-z][\\w-]*");
+	private static final Pattern TEXT_PREDICATE = Pattern.compile("text\\(\\)|normalize-space\\(|contains\\(\\s*\\.");
+	private static final Pattern EXPENSIVE_AXIS = Pattern.compile("(ancestor|ancestor-or-self|preceding|following)::");
+	private static final int MAX_DESCENDANT_COMBINATORS = 4;
+	
+	private LocatorAnalyzer() {
+		// To prevent instantiation of this utility class
+	}
+	
+	/**
+	 * Function to identify the expensive patterns within the given locator
+	 * @param by The {@link By} locator to be analyzed
+	 * @return The {@link List} of issues found (empty if none)
+	 */
+	static List<String> analyze(By by) {
+		List<String> issues = new ArrayList<>();
+		String strategy = getStrategy(by);
+		String value = getValue(by);
+		
+		if ("xpath".equals(strategy)) {
+			String xpath = value.trim();
+			if (xpath.startsWith("//") || xpath.startsWith("(//")) {
+				issues.add("Unanchored descendant scan (//) over the whole document" +
+							" (especially slow in Internet Explorer, which lacks a native XPath engine)");
+			}
+			if (xpath.indexOf("//", xpath.startsWith("(") ? 3 : 2) != -1) {
+				issues.add("Nested descendant scan (//) within the expression");
+			}
+			if (xpath.contains("//*")) {
+				issues.add("Wildcard descendant scan (//*), which examines every element");
+			}
+			if (TEXT_PREDICATE.matcher(xpath).find()) {
+				issues.add("Text predicate, which computes the text of every candidate element");
+			}
+			if (EXPENSIVE_AXIS.matcher(xpath).find()) {
+				issues.add("Ancestor/preceding/following axis, which walks large parts of the document");
+			}
+		} else if ("cssSelector".equals(strategy) || "selector".equals(strategy)) {
+			String selector = value.trim();
+			if (selector.startsWith("*") || selector.contains(" *")) {
+				issues.add("Universal selector (*), which matches every element");
+			}
+			if (countDescendantCombinators(selector) > MAX_DESCENDANT_COMBINATORS) {
+				issues.add("Long chain of descendant combinators");
+			}
+		} else if ("partialLinkText".equals(strategy)) {
+			issues.add("Partial link text, which compares the text of every link on the page");
+		}
+		
+		return issues;
+	}
+	
+	private static int countDescendantCombinators(String selector) {
+		int count = 0;
+		int bracketDepth = 0;
+		for (int i = 1; i < selector.length(); i++) {
+			char current = selector.charAt(i);
+			if (current == '[' || current == '(') {
+				bracketDepth++;
+			} else if (current == ']' || current == ')') {
+				bracketDepth--;
+			} else if (bracketDepth == 0 && current == ' ' && selector.charAt(i - 1) != ' ' &&
+											"> +~".indexOf(selector.charAt(i - 1)) == -1 &&
+											i + 1 < selector.length() && "> +~".indexOf(selector.charAt(i + 1)) == -1) {
+				count++;
+			}
+		}
+		return count;
+	}
+	
+	/**
+	 * Function to suggest a CSS selector equivalent to the given locator
+	 * @param by The {@link By} locator
+	 * @return The equivalent CSS selector, or null if the locator is not an XPath expression,
+	 * or the expression has no CSS equivalent (for e.g., text predicates, axes, or functions other than contains/starts-with on attributes)
+	 */
+	static String suggestCssSelector(By by) {
+		if (!"xpath".equals(getStrategy(by))) {
+			return null;
+		}
+		String xpath = getValue(by).trim();
+		
+		StringBuilder cssSelector = new StringBuilder();
+		int position = 0;
+		while (position < xpath.length()) {
+			String combinator;
+			if (xpath.startsWith("//", position)) {
+				combinator = " ";
+				position += 2;
+			} else if (xpath.charAt(position) == '/') {
+				combinator = " > ";
+				position += 1;
+			} else {
+				return null;	// Relative expressions (or expressions within parentheses) have no CSS equivalent
+			}
+			
+			int stepEnd = findStepEnd(xpath, position);
+			if (stepEnd == -1) {
+				return null;
+			}
+			String step = toCssStep(xpath.substring(position, stepEnd).trim());
+			if (step == null) {
+				return null;
+			}
+			if (cssSelector.length() > 0) {
+				cssSelector.append(combinator);
+			}
+			cssSelector.append(step);
+			position = stepEnd;
+		}
+		
+		return (cssSelector.length() == 0) ? null : cssSelector.toString();
+	}
+	
+	private static int findStepEnd(String xpath, int stepStart) {
+		int bracketDepth = 0;
+		char quote = 0;
+		for (int i = stepStart; i < xpath.length(); i++) {
+			char current = xpath.charAt(i);
+			if (quote != 0) {
+				if (current == quote) {
+					quote = 0;
+				}
+			} else if (current == '\'' || current == '"') {
+				quote = current;
+			} else if (current == '[') {
+				bracketDepth++;
+			} else if (current == ']') {
+				bracketDepth--;
+			} else if (current == '/' && bracketDepth == 0) {
+				return i;
+			}
+		}
+		return (bracketDepth == 0 && quote == 0) ? xpath.length() : -1;
+	}
+	
+	private static String toCssStep(String step) {
+		int predicateStart = step.indexOf('[');
+		String nodeTest = (predicateStart == -1) ? step : step.substring(0, predicateStart).trim();
+		if (!NODE_TEST.matcher(nodeTest).matches() || nodeTest.contains(":")) {
+			return null;	// Axes and namespaced names have no CSS equivalent
+		}
+		
+		StringBuilder cssStep = new StringBuilder("*".equals(nodeTest) ? "" : nodeTest);
+		String predicates = (predicateStart == -1) ? "" : step.substring(predicateStart);
+		int position = 0;
+		while (position < predicates.length()) {
+			if (predicates.charAt(position) != '[') {
+				return null;
+			}
+			int predicateEnd = findPredicateEnd(predicates, position);
+			if (predicateEnd == -1) {
+				return null;
+			}
+			String cssPredicate = toCssPredicate(predicates.substring(position + 1, predicateEnd).trim(), nodeTest);
+			if (cssPredicate == null) {
+				return null;
+			}
+			cssStep.append(cssPredicate);
+			position = predicateEnd + 1;
+		}
+		
+		return (cssStep.length() == 0) ? "*" : cssStep.toString();
+	}
+	
+	private static int findPredicateEnd(String predicates, int predicateStart) {
+		int bracketDepth = 0;
+		char quote = 0;
+		for (int i = predicateStart; i < predicates.length(); i++) {
+			char current = predicates.charAt(i);
+			if (quote != 0) {
+				if (current == quote) {
+					quote = 0;
+				}
+			} else if (current == '\'' || current == '"') {
+				quote = current;
+			} else if (current == '[') {
+				bracketDepth++;
+			} else if (current == ']' && --bracketDepth == 0) {
+				return i;
+			}
+		}
+		return -1;
+	}
+	
+	private static String toCssPredicate(String predicate, String nodeTest) {
+		Matcher matcher = ATTRIBUTE_EQUALS.matcher(predicate);
+		if (matcher.matches()) {
+			String attributeValue = unquote(matcher.group(2));
+			if ("id".equals(matcher.group(1)) && SIMPLE_IDENTIFIER.matcher(attributeValue).matches()) {
+				return "#" + attributeValue;
+			}
+			return "[" + matcher.group(1) + "=" + quote(attributeValue) + "]";
+		}
+		
+		matcher = ATTRIBUTE_FUNCTION.matcher(predicate);
+		if (matcher.matches()) {
+			String operator = "contains".equals(matcher.group(1)) ? "*=" : "^=";
+			return "[" + matcher.group(2) + operator + quote(unquote(matcher.group(3))) + "]";
+		}
+		
+		matcher = ATTRIBUTE_EXISTS.matcher(predicate);
+		if (matcher.matches()) {
+			return "[" + matcher.group(1) + "]";
+		}
+		
+		if (POSITION.matcher(predicate).matches() && !"*".equals(nodeTest)) {
+			return ":nth-of-type(" + predicate + ")";
+		}
+		
+		return null;
+	}
+	
+	private static String unquote(String quotedValue) {
+		return quotedValue.substring(1, quotedValue.length() - 1);
+	}
+	
+	private static String quote(String value) {
+		return value.contains("'") ? "\"" + value + "\"" : "'" + value + "'";
+	}
+	
+	private static String getStrategy(By by) {
+		// By exposes its strategy only through toString(), in the form "By.[strategy]: [value]"
+		String locator = by.toString();
+		int separatorIndex = locator.indexOf(": ");
+		if (!locator.startsWith("By.") || separatorIndex == -1) {
+			return "";
+		}
+		return locator.substring(3, separatorIndex);
+	}
+	
+	private static String getValue(By by) {
+		String locator = by.toString();
+		int separatorIndex = locator.indexOf(": ");
+		return (separatorIndex == -1) ? locator : locator.substring(separatorIndex + 2);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,92 @@
+package com.autopia4j.framework.webdriver.utils;
+
+import java.util.List;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.autopia4j.framework.webdriver.utils.LocatorAnalysis.LocatorStatistic;
+
+
+/**
+ * Class which profiles locators within the page, by timing their evaluation using an injected script
+ * and counting the elements within their search scope, and records the results within the {@link LocatorAnalysis}<br>
+ * Browsers do not expose the number of nodes actually visited while evaluating a locator,
+ * so the number of elements within the search scope is recorded as an upper bound
+ * @author vj
+ */
+class LocatorProfiler {
+	private static final String PROFILE_SCRIPT =
+			"var strategy = arguments[0], value = arguments[1], context = arguments[2] || document;" +
+			"var now = function() { return window.performance && performance.now ? performance.now() : new Date().getTime(); };" +
+			"var start = now(), matches;" +
+			"if (strategy === 'id') {" +
+			"  matches = document.getElementById(value) ? 1 : 0;" +
+			"} else if (strategy === 'xpath') {" +
+			"  matches = document.evaluate(value, context, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null).snapshotLength;" +
+			"} else {" +
+			"  matches = context.querySelectorAll(value).length;" +
+			"}" +
+			"var duration = now() - start;" +
+			"var elementsInScope = (strategy === 'id') ? 1 : context.getElementsByTagName('*').length;" +
+			"return [window.location.href, String(duration), matches, elementsInScope];";
+	
+	private final Logger logger = LoggerFactory.getLogger(LocatorProfiler.class);
+	private final LocatorAnalysis locatorAnalysis = LocatorAnalysis.getInstance();
+	
+	
+	/**
+	 * Function to profile the given locator within the current page, and record the results
+	 * @param driver The {@link WebDriver} object (not instrumented, so that the profile is not itself recorded as a command)
+	 * @param by The {@link By} locator to be profiled
+	 * @param context The element within which the locator was evaluated (null if it was evaluated within the document)
+	 * @param lookupDurationInNanoSeconds The time taken by the corresponding WebDriver lookup (negative if not applicable)
+	 * @return The {@link LocatorStatistic} of the locator (null if the locator could not be profiled)
+	 */
+	LocatorStatistic profile(WebDriver driver, By by, WebElement context, long lookupDurationInNanoSeconds) {
+		String[] inPageLocator = InPageLocator.toInPageLocator(by);
+		if (inPageLocator == null || !(driver instanceof JavascriptExecutor)) {
+			// Link text locators cannot be evaluated within the page; record the lookup time alone
+			LocatorStatistic locatorStatistic = locatorAnalysis.getStatistic(by, getCurrentPage(driver));
+			recordLookup(locatorStatistic, lookupDurationInNanoSeconds);
+			return locatorStatistic;
+		}
+		
+		List<?> profile;
+		try {
+			profile = (List<?>) ((JavascriptExecutor) driver).executeScript(PROFILE_SCRIPT,
+																inPageLocator[0], inPageLocator[1], context);
+		} catch (WebDriverException ex) {
+			// For e.g., document.evaluate is unavailable in Internet Explorer
+			logger.debug("Unable to profile the locator {} within the page", by, ex);
+			LocatorStatistic locatorStatistic = locatorAnalysis.getStatistic(by, getCurrentPage(driver));
+			recordLookup(locatorStatistic, lookupDurationInNanoSeconds);
+			return locatorStatistic;
+		}
+		
+		LocatorStatistic locatorStatistic = locatorAnalysis.getStatistic(by, AdaptiveWait.toPage(String.valueOf(profile.get(0))));
+		recordLookup(locatorStatistic, lookupDurationInNanoSeconds);
+		locatorStatistic.recordProfile(Double.parseDouble(String.valueOf(profile.get(1))),
+										((Number) profile.get(3)).longValue(), ((Number) profile.get(2)).longValue());
+		return locatorStatistic;
+	}
+	
+	private void recordLookup(LocatorStatistic locatorStatistic, long lookupDurationInNanoSeconds) {
+		if (lookupDurationInNanoSeconds >= 0) {
+			locatorStatistic.recordLookup(lookupDurationInNanoSeconds);
+		}
+	}
+	
+	private String getCurrentPage(WebDriver driver) {
+		try {
+			return AdaptiveWait.toPage(driver.getCurrentUrl());
+		} catch (WebDriverException ex) {
+			return "N/A";
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,47 @@
+package com.autopia4j.framework.webdriver.utils;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+
+
+/**
+ * {@link Executor} which runs the submitted tasks one at a time, in submission order, on an underlying (shared) {@link Executor}<br>
+ * Used to preserve the command ordering within a single WebDriver session, while allowing different sessions to run concurrently
+ * @author vj
+ */
+class SerialExecutor implements Executor {
+	private final Queue<Runnable> tasks = new ArrayDeque<>();
+	private final Executor executor;
+	private Runnable activeTask;
+	
+	
+	/**
+	 * Constructor to initialize the {@link SerialExecutor} object
+	 * @param executor The underlying {@link Executor} on which the tasks are to be run
+	 */
+	SerialExecutor(Executor executor) {
+		this.executor = executor;
+	}
+	
+	@Override
+	public synchronized void execute(final Runnable task) {
+		tasks.add(() -> {
+			try {
+				task.run();
+			} finally {
+				scheduleNext();
+			}
+		});
+		if (activeTask == null) {
+			scheduleNext();
+		}
+	}
+	
+	private synchronized void scheduleNext() {
+		activeTask = tasks.poll();
+		if (activeTask != null) {
+			executor.execute(activeTask);
+		}
+	}
+}
\ No newline at end of file
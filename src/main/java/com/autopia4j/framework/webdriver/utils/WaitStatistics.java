@@ -0,0 +1,372 @@
+package com.autopia4j.framework.webdriver.utils;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.autopia4j.framework.core.FrameworkParameters;
+import com.autopia4j.framework.utils.Util;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.reflect.TypeToken;
+
+
+/**
+ * Singleton class which records the observed time taken by each wait (per condition and page) across test executions<br>
+ * The statistics are recorded only if the "wait.statistics.enabled" setting is true. The statistics of the current test batch
+ * are reported separately, while the cumulative statistics are persisted across runs within [base path]/.autopia/wait-statistics.json.
+ * If the "wait.timeouts.learned" setting is also true, waits which have been observed sufficiently often are given a tighter timeout
+ * derived from the slowest successful observation. The learned timeouts are derived from the statistics of the earlier runs,
+ * and remain fixed for the duration of the test batch. A wait which exceeds its learned timeout fails at that point and is recorded
+ * as a miss, so that the learned timeout is no longer applied to it from the next run
+ * @author vj
+ */
+public class WaitStatistics {
+	private static final int MIN_OBSERVATIONS_FOR_LEARNED_TIMEOUT = 5;
+	private static final int LEARNED_TIMEOUT_FACTOR = 3;
+	private static final long MIN_LEARNED_TIMEOUT = 1000;
+	private static final Type STATISTICS_TYPE = new TypeToken<ConcurrentHashMap<String, WaitStatistic>>() {}.getType();
+	
+	private final Logger logger = LoggerFactory.getLogger(WaitStatistics.class);
+	private final Gson gson = new GsonBuilder().setPrettyPrinting().create();
+	
+	private final Map<String, WaitStatistic> batchStatistics = new ConcurrentHashMap<>();
+	private Map<String, WaitStatistic> statistics;
+	private Map<String, Long> learnedTimeouts;
+	private volatile Boolean enabled = false;
+	private volatile Boolean learnedTimeoutsEnabled = false;
+	
+	private static final WaitStatistics WAIT_STATISTICS = new WaitStatistics();
+	
+	private WaitStatistics() {
+		// To prevent external instantiation of this class
+	}
+	
+	/**
+	 * Function to return the singleton instance of the {@link WaitStatistics} object
+	 * @return Instance of the {@link WaitStatistics} object
+	 */
+	public static WaitStatistics getInstance() {
+		return WAIT_STATISTICS;
+	}
+	
+	@Override
+	public Object clone() throws CloneNotSupportedException {
+		throw new CloneNotSupportedException();
+	}
+	
+	
+	/**
+	 * Function to set whether the wait statistics are to be recorded (as per the settings of the current test batch)
+	 * @param enabled Boolean value indicating whether the wait statistics are to be recorded
+	 * @param learnedTimeoutsEnabled Boolean value indicating whether the waits are to time out at their learned timeouts
+	 */
+	public void setEnabled(Boolean enabled, Boolean learnedTimeoutsEnabled) {
+		this.enabled = enabled;
+		this.learnedTimeoutsEnabled = enabled && learnedTimeoutsEnabled;
+	}
+	
+	/**
+	 * Function to check whether the wait statistics are to be recorded
+	 * @return Boolean value indicating whether the wait statistics are to be recorded
+	 */
+	public Boolean isEnabled() {
+		return enabled;
+	}
+	
+	/**
+	 * Function to record the observed duration of a wait
+	 * @param condition The description of the condition which was awaited
+	 * @param page The page on which the condition was awaited
+	 * @param durationInMilliSeconds The time taken for the condition to be satisfied (or for the wait to time out)
+	 * @param satisfied Boolean value indicating whether the condition was satisfied within the timeout
+	 */
+	public void record(String condition, String page, long durationInMilliSeconds, Boolean satisfied) {
+		getStatistic(getStatistics(), condition, page).record(durationInMilliSeconds, satisfied);
+		getStatistic(batchStatistics, condition, page).record(durationInMilliSeconds, satisfied);
+	}
+	
+	/**
+	 * Function to record that a wait was not satisfied within its learned timeout
+	 * (the learned timeout is no longer applied to the wait from the next run)
+	 * @param condition The description of the condition which was awaited
+	 * @param page The page on which the condition was awaited
+	 */
+	public void recordLearnedTimeoutMiss(String condition, String page) {
+		logger.warn("The wait for {} on {} exceeded its learned timeout; the configured timeout will be used from the next run",
+																						condition, page);
+		getStatistic(getStatistics(), condition, page).recordLearnedTimeoutMiss();
+		getStatistic(batchStatistics, condition, page).recordLearnedTimeoutMiss();
+	}
+	
+	private WaitStatistic getStatistic(Map<String, WaitStatistic> statistics, String condition, String page) {
+		return statistics.computeIfAbsent(getKey(condition, page), key -> new WaitStatistic(condition, page));
+	}
+	
+	/**
+	 * Function to get the timeout to be used for a wait, based on its durations observed during the earlier runs
+	 * @param condition The description of the condition to be awaited
+	 * @param page The page on which the condition is to be awaited
+	 * @param configuredTimeoutInMilliSeconds The configured timeout
+	 * @return The learned timeout, if applicable, or else the configured timeout
+	 */
+	public long getTimeout(String condition, String page, long configuredTimeoutInMilliSeconds) {
+		if (!isEnabled() || !learnedTimeoutsEnabled) {
+			return configuredTimeoutInMilliSeconds;
+		}
+		
+		Long learnedTimeout = getLearnedTimeouts().get(getKey(condition, page));
+		if (learnedTimeout == null) {
+			return configuredTimeoutInMilliSeconds;
+		}
+		return Math.min(learnedTimeout, configuredTimeoutInMilliSeconds);
+	}
+	
+	private synchronized Map<String, Long> getLearnedTimeouts() {
+		if (learnedTimeouts == null) {
+			learnedTimeouts = new ConcurrentHashMap<>();
+			for (Map.Entry<String, WaitStatistic> waitStatistic : getStatistics().entrySet()) {
+				synchronized (waitStatistic.getValue()) {
+					if (waitStatistic.getValue().timeoutCount == 0 && waitStatistic.getValue().learnedTimeoutMissCount == 0 &&
+							waitStatistic.getValue().satisfiedCount >= MIN_OBSERVATIONS_FOR_LEARNED_TIMEOUT) {
+						learnedTimeouts.put(waitStatistic.getKey(),
+									Math.max(waitStatistic.getValue().maxDuration * LEARNED_TIMEOUT_FACTOR, MIN_LEARNED_TIMEOUT));
+					}
+				}
+			}
+		}
+		return learnedTimeouts;
+	}
+	
+	/**
+	 * Function to get the slowest waits observed during the current test batch
+	 * @param nWaits The maximum number of waits to be returned
+	 * @return The {@link List} of {@link WaitStatistic}s, in descending order of their maximum duration
+	 */
+	public List<WaitStatistic> getSlowestWaits(int nWaits) {
+		List<WaitStatistic> waitStatistics = new ArrayList<>(batchStatistics.values());
+		Collections.sort(waitStatistics, (first, second) -> Long.compare(second.getMaxDuration(), first.getMaxDuration()));
+		return waitStatistics.subList(0, Math.min(nWaits, waitStatistics.size()));
+	}
+	
+	/**
+	 * Function to write a report of the slowest waits observed during the current test batch, in CSV format
+	 * @param reportFile The report file to be written
+	 * @param nWaits The maximum number of waits to be included in the report
+	 */
+	public void writeSlowestWaitsReport(File reportFile, int nWaits) {
+		if (!isEnabled()) {
+			return;
+		}
+		
+		try (PrintWriter reportWriter = new PrintWriter(Files.newBufferedWriter(reportFile.toPath(), StandardCharsets.UTF_8))) {
+			reportWriter.println("Condition,Page,Observations,Timeouts,Learned Timeout Misses,Mean (ms),Max (ms)");
+			for (WaitStatistic waitStatistic : getSlowestWaits(nWaits)) {
+				reportWriter.println(escape(waitStatistic.getCondition()) + "," + escape(waitStatistic.getPage()) + "," +
+										waitStatistic.getCount() + "," + waitStatistic.getTimeoutCount() + "," +
+										waitStatistic.getLearnedTimeoutMissCount() + "," +
+										waitStatistic.getMeanDuration() + "," + waitStatistic.getMaxDuration());
+			}
+		} catch (IOException e) {
+			logger.error("Error occurred while writing the wait statistics report", e);
+		}
+	}
+	
+	private String escape(String value) {
+		return "\"" + value.replace("\"", "\"\"") + "\"";
+	}
+	
+	/**
+	 * Function to persist the cumulative wait statistics, so that they are available to subsequent runs<br>
+	 * The statistics are written to a temporary file which is then moved into place, so that an interrupted save
+	 * does not corrupt the statistics of the earlier runs
+	 */
+	public synchronized void save() {
+		if (statistics == null) {
+			return;
+		}
+		
+		Path statisticsPath = getStatisticsFile().toPath().toAbsolutePath();
+		Path tempPath = null;
+		try {
+			Files.createDirectories(statisticsPath.getParent());
+			tempPath = Files.createTempFile(statisticsPath.getParent(), "wait-statistics", ".tmp");
+			try (Writer writer = Files.newBufferedWriter(tempPath, StandardCharsets.UTF_8)) {
+				gson.toJson(statistics, STATISTICS_TYPE, writer);
+			}
+			
+			try {
+				Files.move(tempPath, statisticsPath,
+							StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(tempPath, statisticsPath, StandardCopyOption.REPLACE_EXISTING);
+			}
+		} catch (IOException e) {
+			logger.error("Error occurred while saving the wait statistics", e);
+		} finally {
+			deleteTempFile(tempPath);
+		}
+	}
+	
+	private void deleteTempFile(Path tempPath) {
+		if (tempPath == null) {
+			return;
+		}
+		
+		try {
+			Files.deleteIfExists(tempPath);
+		} catch (IOException e) {
+			logger.warn("Unable to delete the temporary file " + tempPath, e);
+		}
+	}
+	
+	/**
+	 * Function to clear the wait statistics of the current test batch (the cumulative statistics are retained,
+	 * and the learned timeouts of the next test batch are derived afresh from them)
+	 */
+	public synchronized void clear() {
+		batchStatistics.clear();
+		learnedTimeouts = null;
+	}
+	
+	private synchronized Map<String, WaitStatistic> getStatistics() {
+		if (statistics == null) {
+			statistics = load();
+		}
+		return statistics;
+	}
+	
+	private Map<String, WaitStatistic> load() {
+		File statisticsFile = getStatisticsFile();
+		if (statisticsFile.exists()) {
+			try (Reader reader = Files.newBufferedReader(statisticsFile.toPath(), StandardCharsets.UTF_8)) {
+				Map<String, WaitStatistic> loadedStatistics = gson.fromJson(reader, STATISTICS_TYPE);
+				if (loadedStatistics != null) {
+					return loadedStatistics;
+				}
+			} catch (IOException | RuntimeException e) {
+				logger.warn("Unable to load the wait statistics from " + statisticsFile + ". Starting afresh...", e);
+			}
+		}
+		return new ConcurrentHashMap<>();
+	}
+	
+	private File getStatisticsFile() {
+		String basePath = FrameworkParameters.getInstance().getBasePath();
+		if (basePath == null) {
+			basePath = new File(System.getProperty("user.dir")).getAbsolutePath();
+		}
+		return new File(basePath + Util.getFileSeparator() + ".autopia" +
+							Util.getFileSeparator() + "wait-statistics.json");
+	}
+	
+	private String getKey(String condition, String page) {
+		return condition + " @ " + page;
+	}
+	
+	
+	/**
+	 * Class to encapsulate the observed durations of a specific wait
+	 * @author vj
+	 */
+	public static class WaitStatistic {
+		private final String condition;
+		private final String page;
+		private long satisfiedCount;
+		private long timeoutCount;
+		private long learnedTimeoutMissCount;
+		private long totalDuration;
+		private long maxDuration;
+		
+		WaitStatistic(String condition, String page) {
+			this.condition = condition;
+			this.page = page;
+		}
+		
+		synchronized void record(long duration, Boolean satisfied) {
+			if (satisfied) {
+				satisfiedCount++;
+				totalDuration += duration;
+				maxDuration = Math.max(maxDuration, duration);
+			} else {
+				timeoutCount++;
+			}
+		}
+		
+		synchronized void recordLearnedTimeoutMiss() {
+			learnedTimeoutMissCount++;
+		}
+		
+		/**
+		 * Function to get the description of the condition which was awaited
+		 * @return The description of the condition which was awaited
+		 */
+		public String getCondition() {
+			return condition;
+		}
+		
+		/**
+		 * Function to get the page on which the condition was awaited
+		 * @return The page on which the condition was awaited
+		 */
+		public String getPage() {
+			return page;
+		}
+		
+		/**
+		 * Function to get the number of times the wait was observed
+		 * @return The number of times the wait was observed
+		 */
+		public synchronized long getCount() {
+			return satisfiedCount + timeoutCount;
+		}
+		
+		/**
+		 * Function to get the number of times the wait timed out
+		 * @return The number of times the wait timed out
+		 */
+		public synchronized long getTimeoutCount() {
+			return timeoutCount;
+		}
+		
+		/**
+		 * Function to get the number of times the wait exceeded its learned timeout
+		 * @return The number of times the wait exceeded its learned timeout
+		 */
+		public synchronized long getLearnedTimeoutMissCount() {
+			return learnedTimeoutMissCount;
+		}
+		
+		/**
+		 * Function to get the mean time taken for the condition to be satisfied
+		 * @return The mean time taken for the condition to be satisfied, in milliseconds
+		 */
+		public synchronized long getMeanDuration() {
+			return (satisfiedCount == 0) ? 0 : totalDuration / satisfiedCount;
+		}
+		
+		/**
+		 * Function to get the maximum time taken for the condition to be satisfied
+		 * @return The maximum time taken for the condition to be satisfied, in milliseconds
+		 */
+		public synchronized long getMaxDuration() {
+			return maxDuration;
+		}
+	}
+}
\ No newline at end of file
@@ -23,6 +23,8 @@ import org.openqa.selenium.remote.*;
 
 import com.autopia4j.framework.core.AutopiaException;
 import com.autopia4j.framework.webdriver.core.Browser;
+import com.autopia4j.framework.webdriver.core.PageLoadStrategy;
+import com.autopia4j.framework.webdriver.core.WebDriverSettings;
 import com.gargoylesoftware.htmlunit.DefaultCredentialsProvider;
 import com.gargoylesoftware.htmlunit.WebClient;
 
@@ -80,47 +82,61 @@ public class WebDriverFactory {
 	 * @return The corresponding {@link WebDriver} object
 	 */
 	public static WebDriver getWebDriver(Browser browser) {
+		return getWebDriver(browser, FactoryOptions.getDefaults());
+	}
+	
+	/**
+	 * Function to return the appropriate {@link WebDriver} object based on the parameters passed
+	 * @param browser The {@link Browser} to be used for the test execution
+	 * @param settings The {@link WebDriverSettings} to be applied to the {@link WebDriver} (proxy, SSL certificates, page load strategy, etc.)
+	 * @return The corresponding {@link WebDriver} object
+	 */
+	public static WebDriver getWebDriver(Browser browser, WebDriverSettings settings) {
+		return getWebDriver(browser, new FactoryOptions(settings));
+	}
+	
+	private static WebDriver getWebDriver(Browser browser, FactoryOptions options) {
 		WebDriver driver;
 		
 		switch(browser) {
 		case CHROME:
-			driver = getChromeDriver();
+			driver = getChromeDriver(options);
 			break;
 			
 		case CHROME_HEADLESS:
-			driver = getChromeHeadlessDriver();
+			driver = getChromeHeadlessDriver(options);
 			break;
 			
 		case EDGE:
-			driver = getEdgeDriver();
+			driver = getEdgeDriver(options);
 			break;
 			
 		case FIREFOX:
-			driver = getGeckoDriver();
+			driver = getGeckoDriver(options);
 			break;
 			
 		case GHOST_DRIVER:
-			driver = getPhantomJsDriver();
+			driver = getPhantomJsDriver(options);
 			break;
 			
 		case HTML_UNIT:
-			if (proxyRequired) {	// Does not take the system proxy settings automatically!
-				driver = getHtmlUnitDriverWithProxy();
+			if (options.proxyRequired) {	// Does not take the system proxy settings automatically!
+				driver = getHtmlUnitDriverWithProxy(options);
 			} else {
 				driver = new HtmlUnitDriver(true);
 			}
 			break;
 			
 		case INTERNET_EXPLORER:
-			driver = getInternetExplorerDriver();
+			driver = getInternetExplorerDriver(options);
 			break;
 			
 		case OPERA:
-			driver = getOperaDriver();
+			driver = getOperaDriver(options);
 			break;
 			
 		case SAFARI:
-			driver = getSafariDriver();
+			driver = getSafariDriver(options);
 			break;
 			
 		default:
@@ -130,82 +146,86 @@ public class WebDriverFactory {
 		return driver;
 	}
 	
-	private static WebDriver getChromeDriver() {
+	private static WebDriver getChromeDriver(FactoryOptions options) {
 		// Takes the system proxy settings automatically
 		
 		DesiredCapabilities desiredCapabilities = DesiredCapabilities.chrome();
-		desiredCapabilities.setCapability(CapabilityType.ACCEPT_SSL_CERTS, acceptAllSslCertificates);
+		desiredCapabilities.setCapability(CapabilityType.ACCEPT_SSL_CERTS, options.acceptAllSslCertificates);
+		applyPageLoadStrategy(desiredCapabilities, options);
 		
 		ChromeDriverManager.getInstance().setup();
 		return new ChromeDriver(desiredCapabilities);
 	}
 	
-	private static WebDriver getChromeHeadlessDriver() {
+	private static WebDriver getChromeHeadlessDriver(FactoryOptions options) {
 		// Takes the system proxy settings automatically
 		
-		ChromeOptions options = new ChromeOptions();
-		options.addArguments("headless");
-        options.addArguments("window-size=1200x600");	// Seems to be required
-        //options.addArguments("disable-gpu");	// Does not seem to be required anymore
-        //options.addArguments("remote-debugging-port=9222");	// Does not work
+		ChromeOptions chromeOptions = new ChromeOptions();
+		chromeOptions.addArguments("headless");
+        chromeOptions.addArguments("window-size=1200x600");	// Seems to be required
+        //chromeOptions.addArguments("disable-gpu");	// Does not seem to be required anymore
+        //chromeOptions.addArguments("remote-debugging-port=9222");	// Does not work
         
 		DesiredCapabilities desiredCapabilities = DesiredCapabilities.chrome();
-		desiredCapabilities.setCapability(CapabilityType.ACCEPT_SSL_CERTS, acceptAllSslCertificates);
-		desiredCapabilities.setCapability(ChromeOptions.CAPABILITY, options);
+		desiredCapabilities.setCapability(CapabilityType.ACCEPT_SSL_CERTS, options.acceptAllSslCertificates);
+		desiredCapabilities.setCapability(ChromeOptions.CAPABILITY, chromeOptions);
+		applyPageLoadStrategy(desiredCapabilities, options);
 		
 		ChromeDriverManager.getInstance().setup();
 		return new ChromeDriver(desiredCapabilities);
 	}
 	
-	private static WebDriver getEdgeDriver() {
+	private static WebDriver getEdgeDriver(FactoryOptions options) {
 		// Takes the system proxy settings automatically
 		
 		DesiredCapabilities desiredCapabilities = DesiredCapabilities.edge();
-		desiredCapabilities.setCapability(CapabilityType.ACCEPT_SSL_CERTS, acceptAllSslCertificates);
+		desiredCapabilities.setCapability(CapabilityType.ACCEPT_SSL_CERTS, options.acceptAllSslCertificates);
+		applyPageLoadStrategy(desiredCapabilities, options);
 		
 		EdgeDriverManager.getInstance().setup();
 		return new EdgeDriver(desiredCapabilities);
 	}
 	
-	private static WebDriver getGeckoDriver() {
+	private static WebDriver getGeckoDriver(FactoryOptions options) {
 		// Takes the system proxy settings automatically
 		
 		FirefoxProfile marionetteProfile = new FirefoxProfile();
-		marionetteProfile.setAcceptUntrustedCertificates(acceptAllSslCertificates);
+		marionetteProfile.setAcceptUntrustedCertificates(options.acceptAllSslCertificates);
 		
 		MarionetteDriverManager.getInstance().setup();
 		DesiredCapabilities desiredCapabilities = DesiredCapabilities.firefox();
 		desiredCapabilities.setCapability(FirefoxDriver.MARIONETTE, true);
 		desiredCapabilities.setCapability(FirefoxDriver.PROFILE, marionetteProfile);
+		applyPageLoadStrategy(desiredCapabilities, options);
 		
 		return new FirefoxDriver(desiredCapabilities);
 	}
 	
-	private static WebDriver getPhantomJsDriver() {
+	private static WebDriver getPhantomJsDriver(FactoryOptions options) {
 		// Takes the system proxy settings automatically (I think!)
 		
 		DesiredCapabilities desiredCapabilities = DesiredCapabilities.phantomjs();
-		desiredCapabilities.setCapability(CapabilityType.ACCEPT_SSL_CERTS, acceptAllSslCertificates);
+		desiredCapabilities.setCapability(CapabilityType.ACCEPT_SSL_CERTS, options.acceptAllSslCertificates);
 		
 		PhantomJsDriverManager.getInstance().setup();
 		return new PhantomJSDriver(desiredCapabilities);
 	}
 	
-	private static WebDriver getHtmlUnitDriverWithProxy() {
+	private static WebDriver getHtmlUnitDriverWithProxy(FactoryOptions options) {
 		WebDriver driver;
 		
-		if(proxy.isAuthRequired()) {
+		if(options.proxy.isAuthRequired()) {
 			// NTLM authentication for proxy supported
 			
 			driver = new HtmlUnitDriver(true) {
 			@Override
 			protected WebClient modifyWebClient(WebClient client) {
 				DefaultCredentialsProvider credentialsProvider = new DefaultCredentialsProvider();
-				credentialsProvider.addNTLMCredentials(proxy.getUserName(),
-														proxy.getPassword(),
-														proxy.getHost(),
-														proxy.getPort(),
-														"", proxy.getDomain());
+				credentialsProvider.addNTLMCredentials(options.proxy.getUserName(),
+														options.proxy.getPassword(),
+														options.proxy.getHost(),
+														options.proxy.getPort(),
+														"", options.proxy.getDomain());
 				client.setCredentialsProvider(credentialsProvider);
 				return client;
 				}
@@ -214,22 +234,23 @@ public class WebDriverFactory {
 			driver = new HtmlUnitDriver(true);
 		}
 		
-		((HtmlUnitDriver) driver).setProxy(proxy.getHost(), proxy.getPort());
+		((HtmlUnitDriver) driver).setProxy(options.proxy.getHost(), options.proxy.getPort());
 		return driver;
 	}
 	
-	private static WebDriver getInternetExplorerDriver() {
+	private static WebDriver getInternetExplorerDriver(FactoryOptions options) {
 		// Takes the system proxy settings automatically
 		
 		DesiredCapabilities desiredCapabilities = DesiredCapabilities.internetExplorer();
 		//desiredCapabilities.setCapability(CapabilityType.UNEXPECTED_ALERT_BEHAVIOUR, UnexpectedAlertBehaviour.ACCEPT);
 		//desiredCapabilities.setCapability(CapabilityType.HAS_NATIVE_EVENTS, false);
 		desiredCapabilities.setCapability("nativeEvents", false);
-		desiredCapabilities.setCapability(CapabilityType.ACCEPT_SSL_CERTS, acceptAllSslCertificates);
-		desiredCapabilities.setCapability(InternetExplorerDriver.INTRODUCE_FLAKINESS_BY_IGNORING_SECURITY_DOMAINS, introduceFlakinessInternetExplorer);
+		desiredCapabilities.setCapability(CapabilityType.ACCEPT_SSL_CERTS, options.acceptAllSslCertificates);
+		desiredCapabilities.setCapability(InternetExplorerDriver.INTRODUCE_FLAKINESS_BY_IGNORING_SECURITY_DOMAINS, options.introduceFlakinessInternetExplorer);
 		//desiredCapabilities.setCapability("ignoreProtectedModeSettings", introduceFlakiness);
+		applyPageLoadStrategy(desiredCapabilities, options);
 		
-		if(turnOffPopupBlockerInternetExplorer) {
+		if(options.turnOffPopupBlockerInternetExplorer) {
 			String cmd = "REG ADD \"HKEY_CURRENT_USER\\Software\\Microsoft\\Internet Explorer\\New Windows\" /F /V \"PopupMgr\" /T REG_SZ /D \"no\"";
 			try {
 			    Runtime.getRuntime().exec(cmd);
@@ -245,14 +266,14 @@ public class WebDriverFactory {
 		return new InternetExplorerDriver(desiredCapabilities);
 	}
 	
-	private static WebDriver getOperaDriver() {
+	private static WebDriver getOperaDriver(FactoryOptions options) {
 		// Does not take the system proxy settings automatically!
 		// NTLM authentication for proxy NOT supported
 		
 		OperaDriverManager.getInstance().setup();
 		WebDriver driver;
-		if (proxyRequired) {
-			DesiredCapabilities desiredCapabilities = getProxyCapabilities();
+		if (options.proxyRequired) {
+			DesiredCapabilities desiredCapabilities = getProxyCapabilities(options.proxy);
 			driver = new OperaDriver(desiredCapabilities);
 		} else {
 			driver = new OperaDriver();
@@ -260,17 +281,25 @@ public class WebDriverFactory {
 		return driver;
 	}
 	
-	private static WebDriver getSafariDriver() {
+	private static WebDriver getSafariDriver(FactoryOptions options) {
 		// Takes the system proxy settings automatically
 		
 		DesiredCapabilities desiredCapabilities = DesiredCapabilities.safari();
-		desiredCapabilities.setCapability(CapabilityType.ACCEPT_SSL_CERTS, acceptAllSslCertificates);
+		desiredCapabilities.setCapability(CapabilityType.ACCEPT_SSL_CERTS, options.acceptAllSslCertificates);
+		applyPageLoadStrategy(desiredCapabilities, options);
 		
 		return new SafariDriver(desiredCapabilities);
 	}
 	
-	private static DesiredCapabilities getProxyCapabilities() {
-		String proxyUrl = proxy.getHost() + ":" + proxy.getPort();
+	private static void applyPageLoadStrategy(DesiredCapabilities desiredCapabilities, FactoryOptions options) {
+		// Only specified if it differs from the default, since older drivers reject the capability
+		if (options.pageLoadStrategy != null && !PageLoadStrategy.NORMAL.equals(options.pageLoadStrategy)) {
+			desiredCapabilities.setCapability(CapabilityType.PAGE_LOAD_STRATEGY, options.pageLoadStrategy.getValue());
+		}
+	}
+	
+	private static DesiredCapabilities getProxyCapabilities(WebDriverProxy webDriverProxy) {
+		String proxyUrl = webDriverProxy.getHost() + ":" + webDriverProxy.getPort();
 		
 		Proxy proxy = new Proxy();
 		proxy.setProxyType(ProxyType.MANUAL);
@@ -294,6 +323,25 @@ public class WebDriverFactory {
 	 */
 	public static WebDriver getRemoteWebDriver(Browser browser, String browserVersion,
 												Platform platform, URL remoteUrl) {
+		return getRemoteWebDriver(browser, browserVersion, platform, remoteUrl, FactoryOptions.getDefaults());
+	}
+	
+	/**
+	 * Function to return the {@link RemoteWebDriver} object based on the parameters passed
+	 * @param browser The {@link Browser} to be used for the test execution
+	 * @param browserVersion The browser version to be used for the test execution
+	 * @param platform The {@link Platform} to be used for the test execution
+	 * @param remoteUrl The URL of the remote machine to be used for the test execution
+	 * @param settings The {@link WebDriverSettings} to be applied to the {@link WebDriver} (proxy, SSL certificates, page load strategy, etc.)
+	 * @return The corresponding {@link RemoteWebDriver} object
+	 */
+	public static WebDriver getRemoteWebDriver(Browser browser, String browserVersion,
+												Platform platform, URL remoteUrl, WebDriverSettings settings) {
+		return getRemoteWebDriver(browser, browserVersion, platform, remoteUrl, new FactoryOptions(settings));
+	}
+	
+	private static WebDriver getRemoteWebDriver(Browser browser, String browserVersion,
+												Platform platform, URL remoteUrl, FactoryOptions options) {
 		// For running RemoteWebDriver tests in Chrome and IE:
 		// The ChromeDriver and IEDriver executables needs to be in the PATH of the remote machine
 		// To set the executable path manually, use:
@@ -302,16 +350,16 @@ public class WebDriverFactory {
 		
 		DesiredCapabilities desiredCapabilities;
 		if ((browser.equals(Browser.HTML_UNIT) || browser.equals(Browser.OPERA))
-																&& proxyRequired) {
-			desiredCapabilities = getProxyCapabilities();
+																&& options.proxyRequired) {
+			desiredCapabilities = getProxyCapabilities(options.proxy);
 		} else {
 			desiredCapabilities = new DesiredCapabilities();
 		}
 		
 		desiredCapabilities.setBrowserName(browser.getValue());
-		desiredCapabilities.setCapability(CapabilityType.ACCEPT_SSL_CERTS, acceptAllSslCertificates);
+		desiredCapabilities.setCapability(CapabilityType.ACCEPT_SSL_CERTS, options.acceptAllSslCertificates);
 		if (browser.equals(Browser.INTERNET_EXPLORER)) {
-			desiredCapabilities.setCapability(InternetExplorerDriver.INTRODUCE_FLAKINESS_BY_IGNORING_SECURITY_DOMAINS, introduceFlakinessInternetExplorer);
+			desiredCapabilities.setCapability(InternetExplorerDriver.INTRODUCE_FLAKINESS_BY_IGNORING_SECURITY_DOMAINS, options.introduceFlakinessInternetExplorer);
 		}
 		
 		if (browserVersion != null) {
@@ -322,6 +370,7 @@ public class WebDriverFactory {
 		}
 		
 		desiredCapabilities.setJavascriptEnabled(true);	// Pre-requisite for remote execution
+		applyPageLoadStrategy(desiredCapabilities, options);
 		
 		return new RemoteWebDriver(remoteUrl, desiredCapabilities);
 	}
@@ -336,19 +385,44 @@ public class WebDriverFactory {
 		return getRemoteWebDriver(browser, null, null, remoteUrl);
 	}
 	
+	/**
+	 * Function to return the {@link RemoteWebDriver} object based on the parameters passed
+	 * @param browser The {@link Browser} to be used for the test execution
+	 * @param remoteUrl The URL of the remote machine to be used for the test execution
+	 * @param settings The {@link WebDriverSettings} to be applied to the {@link WebDriver} (proxy, SSL certificates, page load strategy, etc.)
+	 * @return The corresponding {@link RemoteWebDriver} object
+	 */
+	public static WebDriver getRemoteWebDriver(Browser browser, URL remoteUrl, WebDriverSettings settings) {
+		return getRemoteWebDriver(browser, null, null, remoteUrl, settings);
+	}
+	
 	/**
 	 * Function to return the {@link ChromeDriver} object emulating the device specified by the user
 	 * @param deviceName The name of the device to be emulated (check Chrome Dev Tools for a list of available devices)
 	 * @return The corresponding {@link ChromeDriver} object
 	 */
 	public static WebDriver getEmulatedWebDriver(String deviceName) {
-		DesiredCapabilities desiredCapabilities = getEmulatedChromeDriverCapabilities(deviceName);
+		return getEmulatedWebDriver(deviceName, FactoryOptions.getDefaults());
+	}
+	
+	/**
+	 * Function to return the {@link ChromeDriver} object emulating the device specified by the user
+	 * @param deviceName The name of the device to be emulated (check Chrome Dev Tools for a list of available devices)
+	 * @param settings The {@link WebDriverSettings} to be applied to the {@link WebDriver} (proxy, SSL certificates, page load strategy, etc.)
+	 * @return The corresponding {@link ChromeDriver} object
+	 */
+	public static WebDriver getEmulatedWebDriver(String deviceName, WebDriverSettings settings) {
+		return getEmulatedWebDriver(deviceName, new FactoryOptions(settings));
+	}
+	
+	private static WebDriver getEmulatedWebDriver(String deviceName, FactoryOptions options) {
+		DesiredCapabilities desiredCapabilities = getEmulatedChromeDriverCapabilities(deviceName, options);
 		
 		ChromeDriverManager.getInstance().setup();
 		return new ChromeDriver(desiredCapabilities);
 	}
 	
-	private static DesiredCapabilities getEmulatedChromeDriverCapabilities(String deviceName) {
+	private static DesiredCapabilities getEmulatedChromeDriverCapabilities(String deviceName, FactoryOptions options) {
 		Map<String, String> mobileEmulation = new HashMap<>();
 		mobileEmulation.put("deviceName", deviceName);
 		//mobileEmulation.put("deviceOrientation", "portrait");
@@ -358,6 +432,7 @@ public class WebDriverFactory {
 		
 		DesiredCapabilities desiredCapabilities = DesiredCapabilities.chrome();
 		desiredCapabilities.setCapability(ChromeOptions.CAPABILITY, chromeOptions);
+		applyPageLoadStrategy(desiredCapabilities, options);
 		
 		return desiredCapabilities;
 	}
@@ -369,7 +444,22 @@ public class WebDriverFactory {
 	 * @return The corresponding {@link RemoteWebDriver} object
 	 */
 	public static WebDriver getEmulatedRemoteWebDriver(String deviceName, URL remoteUrl) {
-		DesiredCapabilities desiredCapabilities = getEmulatedChromeDriverCapabilities(deviceName);
+		return getEmulatedRemoteWebDriver(deviceName, remoteUrl, FactoryOptions.getDefaults());
+	}
+	
+	/**
+	 * Function to return the {@link RemoteWebDriver} object emulating the device specified by the user
+	 * @param deviceName The name of the device to be emulated (check Chrome Dev Tools for a list of available devices)
+	 * @param remoteUrl The URL of the remote machine to be used for the test execution
+	 * @param settings The {@link WebDriverSettings} to be applied to the {@link WebDriver} (proxy, SSL certificates, page load strategy, etc.)
+	 * @return The corresponding {@link RemoteWebDriver} object
+	 */
+	public static WebDriver getEmulatedRemoteWebDriver(String deviceName, URL remoteUrl, WebDriverSettings settings) {
+		return getEmulatedRemoteWebDriver(deviceName, remoteUrl, new FactoryOptions(settings));
+	}
+	
+	private static WebDriver getEmulatedRemoteWebDriver(String deviceName, URL remoteUrl, FactoryOptions options) {
+		DesiredCapabilities desiredCapabilities = getEmulatedChromeDriverCapabilities(deviceName, options);
 		desiredCapabilities.setJavascriptEnabled(true);	// Pre-requisite for remote execution
 		
 		return new RemoteWebDriver(remoteUrl, desiredCapabilities);
@@ -387,14 +477,14 @@ public class WebDriverFactory {
 											float devicePixelRatio, String userAgent) {
 		DesiredCapabilities desiredCapabilities =
 						getEmulatedChromeDriverCapabilities(deviceWidth, deviceHeight,
-															devicePixelRatio, userAgent);
+															devicePixelRatio, userAgent, FactoryOptions.getDefaults());
 		
 		ChromeDriverManager.getInstance().setup();
 		return new ChromeDriver(desiredCapabilities);
 	}
 	
-	private static DesiredCapabilities getEmulatedChromeDriverCapabilities(
-			int deviceWidth, int deviceHeight, float devicePixelRatio, String userAgent) {
+	private static DesiredCapabilities getEmulatedChromeDriverCapabilities(int deviceWidth, int deviceHeight,
+									float devicePixelRatio, String userAgent, FactoryOptions options) {
 		Map<String, Object> deviceMetrics = new HashMap<>();
 		deviceMetrics.put("width", deviceWidth);
 		deviceMetrics.put("height", deviceHeight);
@@ -410,6 +500,7 @@ public class WebDriverFactory {
 		
 		DesiredCapabilities desiredCapabilities = DesiredCapabilities.chrome();
 		desiredCapabilities.setCapability(ChromeOptions.CAPABILITY, chromeOptions);
+		applyPageLoadStrategy(desiredCapabilities, options);
 		return desiredCapabilities;
 	}
 	
@@ -426,9 +517,48 @@ public class WebDriverFactory {
 								float devicePixelRatio, String userAgent, URL remoteUrl) {
 		DesiredCapabilities desiredCapabilities =
 				getEmulatedChromeDriverCapabilities(deviceWidth, deviceHeight,
-													devicePixelRatio, userAgent);
+													devicePixelRatio, userAgent, FactoryOptions.getDefaults());
 		desiredCapabilities.setJavascriptEnabled(true);	// Pre-requisite for remote execution
 		
 		return new RemoteWebDriver(remoteUrl, desiredCapabilities);
 	}
+	
+	
+	/**
+	 * Class to hold the options applied while creating a {@link WebDriver}<br>
+	 * The options are passed along with each request, so that concurrent requests with different settings do not interfere with each other
+	 * @author vj
+	 */
+	private static class FactoryOptions {
+		private final Boolean proxyRequired;
+		private final WebDriverProxy proxy;
+		private final Boolean acceptAllSslCertificates;
+		private final Boolean introduceFlakinessInternetExplorer;
+		private final Boolean turnOffPopupBlockerInternetExplorer;
+		private final PageLoadStrategy pageLoadStrategy;
+		
+		private FactoryOptions(Boolean proxyRequired, WebDriverProxy proxy, Boolean acceptAllSslCertificates,
+								Boolean introduceFlakinessInternetExplorer, Boolean turnOffPopupBlockerInternetExplorer,
+								PageLoadStrategy pageLoadStrategy) {
+			this.proxyRequired = proxyRequired;
+			this.proxy = proxy;
+			this.acceptAllSslCertificates = acceptAllSslCertificates;
+			this.introduceFlakinessInternetExplorer = introduceFlakinessInternetExplorer;
+			this.turnOffPopupBlockerInternetExplorer = turnOffPopupBlockerInternetExplorer;
+			this.pageLoadStrategy = pageLoadStrategy;
+		}
+		
+		private FactoryOptions(WebDriverSettings settings) {
+			this(settings.getProxyRequired(), settings.getProxy(), settings.getAcceptAllSslCertificates(),
+					settings.getIntroduceFlakinessInternetExplorer(), settings.getTurnOffPopupBlockerInternetExplorer(),
+					settings.getPageLoadStrategy());
+		}
+		
+		private static FactoryOptions getDefaults() {
+			// Options configured through the static setters of the factory
+			return new FactoryOptions(WebDriverFactory.proxyRequired, WebDriverFactory.proxy,
+					WebDriverFactory.acceptAllSslCertificates, WebDriverFactory.introduceFlakinessInternetExplorer,
+					WebDriverFactory.turnOffPopupBlockerInternetExplorer, PageLoadStrategy.NORMAL);
+		}
+	}
 }
\ No newline at end of file
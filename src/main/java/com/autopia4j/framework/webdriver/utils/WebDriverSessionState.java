@@ -0,0 +1,118 @@
+package com.autopia4j.framework.webdriver.utils;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import com.autopia4j.framework.core.AutopiaException;
+import com.google.gson.Gson;
+
+
+/**
+ * Class to encapsulate the client side state of a WebDriver session (cookies, localStorage and sessionStorage) for the current origin
+ * @author vj
+ */
+public class WebDriverSessionState {
+	private static final String GET_STORAGE_SCRIPT =
+			"var storage = window[arguments[0]], items = {};" +
+			"for (var i = 0; i < storage.length; i++) {" +
+			"	var key = storage.key(i); items[key] = storage.getItem(key);" +
+			"}" +
+			"return items;";
+	private static final String SET_STORAGE_SCRIPT =
+			"var storage = window[arguments[0]], items = JSON.parse(arguments[1]);" +
+			"storage.clear();" +
+			"for (var key in items) {" +
+			"	storage.setItem(key, items[key]);" +
+			"}";
+	
+	private final String url;
+	private final Set<Cookie> cookies;
+	private final Map<String, String> localStorage;
+	private final Map<String, String> sessionStorage;
+	private final long captureTime;
+	
+	
+	private WebDriverSessionState(String url, Set<Cookie> cookies,
+					Map<String, String> localStorage, Map<String, String> sessionStorage) {
+		this.url = url;
+		this.cookies = cookies;
+		this.localStorage = localStorage;
+		this.sessionStorage = sessionStorage;
+		this.captureTime = System.currentTimeMillis();
+	}
+	
+	/**
+	 * Function to capture the client side state of the given WebDriver session
+	 * @param driver The {@link WebDriver} object
+	 * @return The {@link WebDriverSessionState} captured
+	 */
+	public static WebDriverSessionState capture(WebDriver driver) {
+		return new WebDriverSessionState(driver.getCurrentUrl(),
+									new HashSet<>(driver.manage().getCookies()),
+									getStorage(driver, "localStorage"),
+									getStorage(driver, "sessionStorage"));
+	}
+	
+	@SuppressWarnings("unchecked")
+	private static Map<String, String> getStorage(WebDriver driver, String storageName) {
+		Map<String, String> storage = new HashMap<>();
+		Object items = ((JavascriptExecutor) driver).executeScript(GET_STORAGE_SCRIPT, storageName);
+		if (items instanceof Map) {
+			for (Map.Entry<String, Object> item : ((Map<String, Object>) items).entrySet()) {
+				storage.put(item.getKey(), String.valueOf(item.getValue()));
+			}
+		}
+		return storage;
+	}
+	
+	/**
+	 * Function to restore this state into the given WebDriver session<br>
+	 * The session is navigated to the URL at which the state was captured
+	 * @param driver The {@link WebDriver} object
+	 * @return Boolean value indicating whether the restored state was accepted, i.e., the application did not redirect away from the captured URL
+	 */
+	public Boolean restore(WebDriver driver) {
+		// Cookies and storage can only be set for the origin which is currently loaded
+		driver.get(getOrigin());
+		
+		driver.manage().deleteAllCookies();
+		for (Cookie cookie : cookies) {
+			driver.manage().addCookie(cookie);
+		}
+		
+		Gson gson = new Gson();
+		JavascriptExecutor jsExecutor = (JavascriptExecutor) driver;
+		jsExecutor.executeScript(SET_STORAGE_SCRIPT, "localStorage", gson.toJson(localStorage));
+		jsExecutor.executeScript(SET_STORAGE_SCRIPT, "sessionStorage", gson.toJson(sessionStorage));
+		
+		driver.get(url);
+		return url.equals(driver.getCurrentUrl());
+	}
+	
+	private String getOrigin() {
+		try {
+			URL capturedUrl = new URL(url);
+			return new URL(capturedUrl.getProtocol(), capturedUrl.getHost(),
+										capturedUrl.getPort(), "/").toString();
+		} catch (MalformedURLException e) {
+			throw new AutopiaException("Invalid session state URL: " + url);
+		}
+	}
+	
+	/**
+	 * Function to check whether this state has outlived the specified time to live
+	 * @param timeToLiveInSeconds The time to live in seconds
+	 * @return Boolean value indicating whether this state has expired
+	 */
+	public Boolean isExpired(long timeToLiveInSeconds) {
+		return System.currentTimeMillis() - captureTime > timeToLiveInSeconds * 1000;
+	}
+}
\ No newline at end of file
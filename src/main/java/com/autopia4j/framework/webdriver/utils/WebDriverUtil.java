@@ -1,8 +1,12 @@
 package com.autopia4j.framework.webdriver.utils;
 
 import java.io.File;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 import org.openqa.selenium.By;
 import org.openqa.selenium.Capabilities;
@@ -23,6 +27,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.autopia4j.framework.core.AutopiaException;
+import com.autopia4j.framework.webdriver.core.TestBatchHarness;
+import com.autopia4j.framework.webdriver.utils.InPageWait.ElementCondition;
 
 import org.openqa.selenium.TimeoutException;
 
@@ -32,21 +38,107 @@ import org.openqa.selenium.TimeoutException;
  * @author vj
  */
 public class WebDriverUtil {
+	private static final long FIND_POLLING_INTERVAL = 100;
+	private static final long DEFAULT_NETWORK_QUIET_PERIOD = 500;
+	private static final long UNKNOWN_IMPLICIT_WAIT = -1;
+	
 	private final Logger logger = LoggerFactory.getLogger(WebDriverUtil.class);
 	private WebDriver driver;
 	private final long objectSyncTimeout;
 	private final long pageLoadTimeout;
+	private final long implicitWaitTimeout;
+	private final InPageWait inPageWait;
+	private final AdaptiveWait adaptiveWait;
+	private final FormFiller formFiller;
+	private final ElementCache elementCache;
+	private final LocatorProfiler locatorProfiler = new LocatorProfiler();
+	private Boolean elementCacheEnabled = false;
+	private final Random random = new Random();
 	
 	/**
-	 * Constructor to initialize the {@link WebDriverUtil} object
+	 * Constructor to initialize the {@link WebDriverUtil} object<br>
+	 * Since the implicit wait configured on the {@link WebDriver} is unknown, it is left unchanged by {@link #findAllNow(By)}
+	 * and the related functions (which may hence wait up to the implicit wait for the elements to appear).
+	 * The script timeout is assumed to be that of the settings of the current test batch
 	 * @param driver The {@link WebDriver} object
 	 * @param objectSyncTimeout The object synchronization timeout
 	 * @param pageLoadTimeout The page load timeout
 	 */
 	public WebDriverUtil(WebDriver driver, long objectSyncTimeout, long pageLoadTimeout) {
+		this(driver, objectSyncTimeout, pageLoadTimeout, UNKNOWN_IMPLICIT_WAIT);
+	}
+	
+	/**
+	 * Constructor to initialize the {@link WebDriverUtil} object<br>
+	 * The script timeout is assumed to be that of the settings of the current test batch
+	 * @param driver The {@link WebDriver} object
+	 * @param objectSyncTimeout The object synchronization timeout
+	 * @param pageLoadTimeout The page load timeout
+	 * @param implicitWaitTimeout The implicit wait configured on the {@link WebDriver} (0 if the implicit wait is disabled)
+	 */
+	public WebDriverUtil(WebDriver driver, long objectSyncTimeout, long pageLoadTimeout, long implicitWaitTimeout) {
+		this(driver, objectSyncTimeout, pageLoadTimeout, implicitWaitTimeout,
+							TestBatchHarness.getInstance().getWebDriverSettings().getScriptTimeout());
+	}
+	
+	/**
+	 * Constructor to initialize the {@link WebDriverUtil} object
+	 * @param driver The {@link WebDriver} object
+	 * @param objectSyncTimeout The object synchronization timeout
+	 * @param pageLoadTimeout The page load timeout
+	 * @param implicitWaitTimeout The implicit wait configured on the {@link WebDriver} (0 if the implicit wait is disabled)
+	 * @param scriptTimeout The script timeout configured on the {@link WebDriver}, within which the in-page waits are performed
+	 */
+	public WebDriverUtil(WebDriver driver, long objectSyncTimeout, long pageLoadTimeout,
+												long implicitWaitTimeout, long scriptTimeout) {
 		this.driver = driver;
 		this.objectSyncTimeout = objectSyncTimeout;
 		this.pageLoadTimeout = pageLoadTimeout;
+		this.implicitWaitTimeout = implicitWaitTimeout;
+		this.inPageWait = new InPageWait(driver, scriptTimeout);
+		this.adaptiveWait = new AdaptiveWait(driver);
+		this.formFiller = new FormFiller(driver);
+		this.elementCache = new ElementCache(driver);
+	}
+	
+	/**
+	 * Function to check whether the page-scoped element cache is enabled
+	 * @return Boolean value indicating whether the element cache is enabled
+	 */
+	public Boolean isElementCacheEnabled() {
+		return elementCacheEnabled;
+	}
+	
+	/**
+	 * Function to enable or disable the page-scoped element cache (disabled by default)<br>
+	 * When enabled, elements located using {@link #find(By)} (and the other functions of this class which accept a locator)
+	 * are reused across steps until the URL or the document changes. Stale elements are transparently located afresh
+	 * @param elementCacheEnabled Boolean value indicating whether the element cache is to be enabled
+	 */
+	public void setElementCacheEnabled(Boolean elementCacheEnabled) {
+		this.elementCacheEnabled = elementCacheEnabled;
+		elementCache.invalidate();
+	}
+	
+	/**
+	 * Function to discard all the elements cached for the current page
+	 * (required only if the page changes without a change to the URL or the document, and without any interaction via the cached elements)
+	 */
+	public void invalidateElementCache() {
+		elementCache.invalidate();
+	}
+	
+	/**
+	 * Function to find the element matching the specified locator<br>
+	 * If the element cache is enabled, the element located earlier on the same page is reused
+	 * @param by The {@link WebDriver} locator used to identify the element
+	 * @return The matching element
+	 */
+	public WebElement find(By by) {
+		if (elementCacheEnabled) {
+			return elementCache.find(by);
+		}
+		return driver.findElement(by);
 	}
 	
 	/**
@@ -59,6 +151,13 @@ public class WebDriverUtil {
 	}
 	
 	private TakesScreenshot getScreenshotCaptureDriver(WebDriver driver) {
+		if (driver instanceof InstrumentedWebDriver) {
+			if (getScreenshotCaptureDriver(((InstrumentedWebDriver) driver).getWrappedDriver()) == null) {
+				return null;
+			}
+			return (TakesScreenshot) driver;	// So that the screenshot is recorded within the command telemetry
+		}
+		
 		if (driver instanceof HtmlUnitDriver) {
 			return null;	// Screenshots not supported in headless mode
 		}
@@ -120,9 +219,15 @@ public class WebDriverUtil {
 	            public Boolean apply(WebDriver driver) {
 	                return "complete".equals(((JavascriptExecutor) driver).executeScript("return document.readyState"));
 	            }
+	            
+	            @Override
+	            public String toString() {
+	            	return "page readyState to be complete";
+	            }
 	        };
 		    
-		(new WebDriverWait(driver, timeOutInSeconds)).until(pageReadyStateComplete);
+		adaptiveWait.until(pageReadyStateComplete, timeOutInSeconds);
+		elementCache.markPageUnverified();
 	}
 	
 	/**
@@ -138,8 +243,7 @@ public class WebDriverUtil {
 	 * @param timeOutInSeconds The wait timeout in seconds
 	 */
 	public void waitUntilElementLocated(By by, long timeOutInSeconds) {
-		(new WebDriverWait(driver, timeOutInSeconds))
-							.until(ExpectedConditions.presenceOfElementLocated(by));
+		adaptiveWait.until(ExpectedConditions.presenceOfElementLocated(by), timeOutInSeconds);
 	}
 	
 	/**
@@ -156,8 +260,7 @@ public class WebDriverUtil {
 	 * @param timeOutInSeconds The wait timeout in seconds
 	 */
 	public void waitUntilElementVisible(By by, long timeOutInSeconds) {
-		(new WebDriverWait(driver, timeOutInSeconds))
-							.until(ExpectedConditions.visibilityOfElementLocated(by));
+		adaptiveWait.until(ExpectedConditions.visibilityOfElementLocated(by), timeOutInSeconds);
 	}
 	
 	/**
@@ -174,8 +277,7 @@ public class WebDriverUtil {
 	 * @param timeOutInSeconds The wait timeout in seconds
 	 */
 	public void waitUntilElementEnabled(By by, long timeOutInSeconds) {
-		(new WebDriverWait(driver, timeOutInSeconds))
-							.until(ExpectedConditions.elementToBeClickable(by));
+		adaptiveWait.until(ExpectedConditions.elementToBeClickable(by), timeOutInSeconds);
 	}
 	
 	/**
@@ -192,8 +294,7 @@ public class WebDriverUtil {
 	 * @param timeOutInSeconds The wait timeout in seconds
 	 */
 	public void waitUntilElementDisabled(By by, long timeOutInSeconds) {
-		(new WebDriverWait(driver, timeOutInSeconds))
-			.until(ExpectedConditions.not(ExpectedConditions.elementToBeClickable(by)));
+		adaptiveWait.until(ExpectedConditions.not(ExpectedConditions.elementToBeClickable(by)), timeOutInSeconds);
 	}
 	
 	/**
@@ -204,13 +305,262 @@ public class WebDriverUtil {
 		waitUntilElementDisabled(by, objectSyncTimeout);
 	}
 	
+	/**
+	 * Function to install the in-flight request tracker within the current page<br>
+	 * The tracker is installed automatically by {@link #waitUntilNetworkIdle(long, long)}, but installing it immediately
+	 * after navigation (particularly with the "eager" page load strategy) ensures that the requests issued early are also tracked.
+	 * The tracker must be re-installed after each navigation, since it is discarded along with the page
+	 */
+	public void installNetworkTracker() {
+		((JavascriptExecutor) driver).executeScript(InPageWait.NETWORK_TRACKER_SCRIPT);
+	}
+	
+	/**
+	 * Function to wait until the page has no pending XHR/fetch requests (or short timers) for the specified quiet period<br>
+	 * The wait is performed within the page using a single asynchronous script, and falls back to polling
+	 * if asynchronous scripts are unavailable. Requests issued before the tracker was installed within the page are not tracked
+	 * (see {@link #installNetworkTracker()})
+	 * @param quietPeriodInMilliSeconds The period for which the network must remain idle
+	 * @param timeOutInSeconds The wait timeout in seconds
+	 */
+	public void waitUntilNetworkIdle(final long quietPeriodInMilliSeconds, long timeOutInSeconds) {
+		elementCache.markPageUnverified();
+		long startTime = System.nanoTime();
+		if (inPageWait.awaitNetworkIdle(quietPeriodInMilliSeconds, timeOutInSeconds)) {
+			return;
+		}
+		
+		ExpectedCondition<Boolean> networkIdle =
+			new ExpectedCondition<Boolean>() {
+	            public Boolean apply(WebDriver driver) {
+	                return Boolean.TRUE.equals(((JavascriptExecutor) driver)
+	                		.executeScript(InPageWait.NETWORK_IDLE_CHECK_SCRIPT, quietPeriodInMilliSeconds));
+	            }
+	            
+	            @Override
+	            public String toString() {
+	            	return "network to be idle for " + quietPeriodInMilliSeconds + " ms";
+	            }
+	        };
+		
+		adaptiveWait.until(networkIdle, getRemainingTimeout(startTime, timeOutInSeconds));
+	}
+	
+	/**
+	 * Function to wait until the page has no pending XHR/fetch requests (or short timers) for 500 ms
+	 */
+	public void waitUntilNetworkIdle() {
+		waitUntilNetworkIdle(DEFAULT_NETWORK_QUIET_PERIOD, pageLoadTimeout);
+	}
+	
+	/**
+	 * Function to wait until the page readyState equals 'complete'<br>
+	 * The wait is performed within the page using a single asynchronous script which is resolved by a readyState listener,
+	 * and falls back to polling if asynchronous scripts are unavailable
+	 * @param timeOutInSeconds The wait timeout in seconds
+	 */
+	public void awaitPageReadyStateComplete(long timeOutInSeconds) {
+		long startTime = System.nanoTime();
+		if (!inPageWait.awaitPageReadyStateComplete(timeOutInSeconds)) {
+			waitUntilPageReadyStateComplete(getRemainingTimeout(startTime, timeOutInSeconds));
+		}
+		elementCache.markPageUnverified();
+	}
+	
+	/**
+	 * Function to wait until the page readyState equals 'complete', using a readyState listener within the page
+	 */
+	public void awaitPageReadyStateComplete() {
+		awaitPageReadyStateComplete(pageLoadTimeout);
+	}
+	
+	/**
+	 * Function to wait until the specified element is located<br>
+	 * The wait is performed within the page using a single asynchronous script which is resolved by a MutationObserver,
+	 * and falls back to polling if asynchronous scripts are unavailable or the locator cannot be evaluated within the page (link text locators)
+	 * @param by The {@link WebDriver} locator used to identify the element
+	 * @param timeOutInSeconds The wait timeout in seconds
+	 */
+	public void awaitElementLocated(By by, long timeOutInSeconds) {
+		long startTime = System.nanoTime();
+		if (!inPageWait.awaitElement(by, ElementCondition.LOCATED, timeOutInSeconds)) {
+			waitUntilElementLocated(by, getRemainingTimeout(startTime, timeOutInSeconds));
+		}
+	}
+	
+	/**
+	 * Function to get the time left for the polling fallback of an in-page wait
+	 * (the in-page wait may fail only after a part of the timeout has elapsed, e.g., if the page navigates during the wait)
+	 * @param startTime The time at which the in-page wait started, as returned by {@link System#nanoTime()}
+	 * @param timeOutInSeconds The wait timeout in seconds
+	 * @return The remaining timeout in seconds
+	 */
+	private long getRemainingTimeout(long startTime, long timeOutInSeconds) {
+		long elapsedSeconds = TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - startTime);
+		return Math.max(0, timeOutInSeconds - elapsedSeconds);
+	}
+	
+	/**
+	 * Function to wait until the specified element is located, using a MutationObserver within the page
+	 * @param by The {@link WebDriver} locator used to identify the element
+	 */
+	public void awaitElementLocated(By by) {
+		awaitElementLocated(by, objectSyncTimeout);
+	}
+	
+	/**
+	 * Function to wait until the specified element is visible<br>
+	 * The wait is performed within the page using a single asynchronous script which is resolved by a MutationObserver,
+	 * and falls back to polling if asynchronous scripts are unavailable or the locator cannot be evaluated within the page (link text locators)
+	 * @param by The {@link WebDriver} locator used to identify the element
+	 * @param timeOutInSeconds The wait timeout in seconds
+	 */
+	public void awaitElementVisible(By by, long timeOutInSeconds) {
+		long startTime = System.nanoTime();
+		if (!inPageWait.awaitElement(by, ElementCondition.VISIBLE, timeOutInSeconds)) {
+			waitUntilElementVisible(by, getRemainingTimeout(startTime, timeOutInSeconds));
+		}
+	}
+	
+	/**
+	 * Function to wait until the specified element is visible, using a MutationObserver within the page
+	 * @param by The {@link WebDriver} locator used to identify the element
+	 */
+	public void awaitElementVisible(By by) {
+		awaitElementVisible(by, objectSyncTimeout);
+	}
+	
+	/**
+	 * Function to wait until the specified element is visible and enabled<br>
+	 * The wait is performed within the page using a single asynchronous script which is resolved by a MutationObserver,
+	 * and falls back to polling if asynchronous scripts are unavailable or the locator cannot be evaluated within the page (link text locators)
+	 * @param by The {@link WebDriver} locator used to identify the element
+	 * @param timeOutInSeconds The wait timeout in seconds
+	 */
+	public void awaitElementEnabled(By by, long timeOutInSeconds) {
+		long startTime = System.nanoTime();
+		if (!inPageWait.awaitElement(by, ElementCondition.ENABLED, timeOutInSeconds)) {
+			waitUntilElementEnabled(by, getRemainingTimeout(startTime, timeOutInSeconds));
+		}
+	}
+	
+	/**
+	 * Function to wait until the specified element is visible and enabled, using a MutationObserver within the page
+	 * @param by The {@link WebDriver} locator used to identify the element
+	 */
+	public void awaitElementEnabled(By by) {
+		awaitElementEnabled(by, objectSyncTimeout);
+	}
+	
+	/**
+	 * Function to find all the elements matching the specified locator, without waiting for them to appear
+	 * (the implicit wait is suspended for the duration of the lookup, if it is enabled and was specified when constructing this object)
+	 * @param by The {@link WebDriver} locator used to identify the elements
+	 * @return The {@link List} of matching elements (empty if there are no matches)
+	 */
+	public List<WebElement> findAllNow(By by) {
+		if (implicitWaitTimeout <= 0) {
+			return driver.findElements(by);
+		}
+		
+		driver.manage().timeouts().implicitlyWait(0, TimeUnit.SECONDS);
+		try {
+			return driver.findElements(by);
+		} finally {
+			driver.manage().timeouts().implicitlyWait(implicitWaitTimeout, TimeUnit.SECONDS);
+		}
+	}
+	
+	/**
+	 * Function to find the first element matching the specified locator, without waiting for it to appear
+	 * @param by The {@link WebDriver} locator used to identify the element
+	 * @return The first matching element, or null if there are no matches
+	 */
+	public WebElement findNow(By by) {
+		List<WebElement> matchingElements = findAllNow(by);
+		return matchingElements.isEmpty() ? null : matchingElements.get(0);
+	}
+	
+	/**
+	 * Function to verify whether the specified object exists within the current page, without waiting for it to appear
+	 * @param by The {@link WebDriver} locator used to identify the element
+	 * @return Boolean value indicating whether at least one matching element exists
+	 */
+	public Boolean existsNow(By by) {
+		return !findAllNow(by).isEmpty();
+	}
+	
+	/**
+	 * Function to find the first element matching the specified locator, waiting up to the given budget for it to appear
+	 * @param by The {@link WebDriver} locator used to identify the element
+	 * @param timeOutInMilliSeconds The wait budget in milliseconds for this lookup
+	 * @return The first matching element
+	 * @throws TimeoutException Exception thrown if no matching element appears within the given budget
+	 */
+	public WebElement findWithin(By by, long timeOutInMilliSeconds) {
+		long endTime = System.currentTimeMillis() + timeOutInMilliSeconds;
+		while (true) {
+			WebElement element = findNow(by);
+			if (element != null) {
+				return element;
+			}
+			
+			long remainingTime = endTime - System.currentTimeMillis();
+			if (remainingTime <= 0) {
+				throw new TimeoutException("Timed out after " + timeOutInMilliSeconds +
+											" milliseconds waiting for element " + by);
+			}
+			waitFor(Math.min(FIND_POLLING_INTERVAL, remainingTime));
+		}
+	}
+	
+	/**
+	 * Function to retrieve the specified properties of several elements in a single round trip<br>
+	 * The elements are resolved within the page using a single script, except for link text locators
+	 * (or drivers which do not support scripts), which are resolved using individual WebDriver commands without any implicit wait
+	 * @param locators The {@link List} of {@link WebDriver} locators used to identify the elements
+	 * @param properties The {@link ElementProperty} values to be retrieved
+	 * @param attributeNames The names of the attributes to be retrieved (applicable if {@link ElementProperty#ATTRIBUTES} is requested)
+	 * @return A {@link Map} of each locator to the corresponding {@link ElementState}, in the order of the given locators
+	 */
+	public Map<By, ElementState> queryElementStates(List<By> locators, Set<ElementProperty> properties,
+																			String... attributeNames) {
+		return new ElementStateQuery(driver, this).query(locators, properties, attributeNames);
+	}
+	
+	/**
+	 * Function to retrieve whether several elements exist, are displayed and are enabled, along with their text and values, in a single round trip
+	 * @param locators The {@link List} of {@link WebDriver} locators used to identify the elements
+	 * @return A {@link Map} of each locator to the corresponding {@link ElementState}, in the order of the given locators
+	 */
+	public Map<By, ElementState> queryElementStates(List<By> locators) {
+		return queryElementStates(locators, EnumSet.of(ElementProperty.EXISTS, ElementProperty.DISPLAYED,
+								ElementProperty.ENABLED, ElementProperty.TEXT, ElementProperty.VALUE));
+	}
+	
+	/**
+	 * Function to profile the specified locator within the current page, and record its cost within the {@link LocatorAnalysis}<br>
+	 * Lookups via the WebDriver are profiled automatically if the locator analysis is enabled; this function may be used to
+	 * analyze the locators which are only evaluated within the page (for e.g., by {@link #queryElementStates(List)})
+	 * @param by The {@link WebDriver} locator to be analyzed
+	 * @return The {@link LocatorAnalysis.LocatorStatistic} of the locator on the current page,
+	 * including the expensive patterns identified and the suggested CSS selector equivalent (if any)
+	 */
+	public LocatorAnalysis.LocatorStatistic analyzeLocator(By by) {
+		WebDriver profilingDriver = driver;
+		if (profilingDriver instanceof InstrumentedWebDriver) {
+			profilingDriver = ((InstrumentedWebDriver) profilingDriver).getWrappedDriver();
+		}
+		return locatorProfiler.profile(profilingDriver, by, null, -1);
+	}
+	
 	/**
 	 * Function to select the specified value from a listbox
 	 * @param by The {@link WebDriver} locator used to identify the listbox
 	 * @param itemText The value to be selected within the listbox
 	 */
 	public void selectListItem(By by, String itemText) {
-		Select dropDownList = new Select(driver.findElement(by));
+		Select dropDownList = new Select(find(by));
 		dropDownList.selectByVisibleText(itemText);
 	}
 	
@@ -220,7 +570,7 @@ public class WebDriverUtil {
 	 * @param itemIndex The index of the value to be selected within the listbox
 	 */
 	public void selectListItem(By by, int itemIndex) {
-		Select dropDownList = new Select(driver.findElement(by));
+		Select dropDownList = new Select(find(by));
 		dropDownList.selectByIndex(itemIndex);
 	}
 	
@@ -229,9 +579,9 @@ public class WebDriverUtil {
 	 * @param by The {@link WebDriver} locator used to identify the listbox
 	 */
 	public void selectRandomListItem(By by) {
-		Select dropDownList = new Select(driver.findElement(by));
-		List<WebElement> listOptions = dropDownList.getOptions();
-		dropDownList.selectByIndex(randomInteger(0, listOptions.size()-1));
+		Select dropDownList = new Select(find(by));
+		int nListOptions = dropDownList.getOptions().size();
+		dropDownList.selectByIndex(randomInteger(0, nListOptions-1));
 	}
 	
 	/**
@@ -239,18 +589,51 @@ public class WebDriverUtil {
 	 * @param by The {@link WebDriver} locator used to identify the listbox
 	 */
 	public void selectRandomListItems(By by) {
-		Select multiSelectDropDownList = new Select(driver.findElement(by));
-		List<WebElement> listOptions = multiSelectDropDownList.getOptions();
-		for(int i=0; i<randomInteger(0, listOptions.size()-1); i++) {
-			multiSelectDropDownList.selectByIndex(randomInteger(0, listOptions.size()-1));
+		Select multiSelectDropDownList = new Select(find(by));
+		int nListOptions = multiSelectDropDownList.getOptions().size();
+		int nItemsToSelect = randomInteger(0, nListOptions-1);
+		for(int i=0; i<nItemsToSelect; i++) {
+			multiSelectDropDownList.selectByIndex(randomInteger(0, nListOptions-1));
 		}
 	}
 	
 	private int randomInteger(int min, int max) {
-	    Random rand = new Random();
-	    
 	    // nextInt excludes the top value so we have to add 1 to include the top value
-	    return rand.nextInt((max - min) + 1) + min;
+	    return random.nextInt((max - min) + 1) + min;
+	}
+	
+	/**
+	 * Function to select the specified items within a (multi-select) listbox in a single round trip<br>
+	 * The items are selected using an injected script which dispatches the input and change events,
+	 * and falls back to native interactions if any of the items cannot be selected by the script
+	 * @param by The {@link WebDriver} locator used to identify the listbox
+	 * @param itemTexts The visible text of the items to be selected
+	 */
+	public void selectListItems(By by, List<String> itemTexts) {
+		formFiller.selectListItems(by, itemTexts);
+	}
+	
+	/**
+	 * Function to fill several form fields in a single round trip<br>
+	 * Text fields and listboxes are filled using an injected script which dispatches the input and change events for each field.
+	 * The remaining fields (check boxes, radio buttons, file inputs, read-only or disabled fields, unmatched list items and link text locators)
+	 * are filled using native WebDriver interactions
+	 * @param fieldValues A {@link Map} of the {@link WebDriver} locators used to identify the form fields, to the values to be entered
+	 * (or the visible text of the list items to be selected), in the order in which the fields are to be filled
+	 */
+	public void fillForm(Map<By, String> fieldValues) {
+		formFiller.fillForm(fieldValues, false);
+	}
+	
+	/**
+	 * Function to fill several form fields, optionally using native WebDriver interactions only
+	 * (for applications which do not tolerate values being set by a script)
+	 * @param fieldValues A {@link Map} of the {@link WebDriver} locators used to identify the form fields, to the values to be entered
+	 * (or the visible text of the list items to be selected), in the order in which the fields are to be filled
+	 * @param nativeEventsOnly Boolean value indicating whether the fields should be filled using native WebDriver interactions only
+	 */
+	public void fillForm(Map<By, String> fieldValues, Boolean nativeEventsOnly) {
+		formFiller.fillForm(fieldValues, nativeEventsOnly);
 	}
 	
 	/**
@@ -259,7 +642,7 @@ public class WebDriverUtil {
 	 */
 	public void mouseOver(By by) {
 		Actions actions = new Actions(driver);
-		actions.moveToElement(driver.findElement(by)).build().perform();
+		actions.moveToElement(find(by)).build().perform();
 	}
 	
 	/**
@@ -295,7 +678,7 @@ public class WebDriverUtil {
 	 */
 	public Boolean isAlertPresent(long timeOutInSeconds) {
 		try {
-			new WebDriverWait(driver, timeOutInSeconds).until(ExpectedConditions.alertIsPresent());
+			adaptiveWait.until(ExpectedConditions.alertIsPresent(), timeOutInSeconds);
 			return true;
 		} catch (TimeoutException ex) {
 			logger.info("Timed out waiting for alert to appear", ex);
@@ -328,18 +711,23 @@ public class WebDriverUtil {
 	}
 	
 	private String getPopupWindowHandle(int nPopupsAlreadyOpen, long timeOutInSeconds) {
-		Object[] openWindowHandles = driver.getWindowHandles().toArray();
-		int milliSecondsWaited = 0;
-		while(milliSecondsWaited < timeOutInSeconds*1000) {
-			if(openWindowHandles.length > nPopupsAlreadyOpen+1) {
-				break;
-			} else {
-				waitFor(100);
-				milliSecondsWaited += 100;
-				openWindowHandles = driver.getWindowHandles().toArray();
-			}
-		}
-		if(openWindowHandles.length < nPopupsAlreadyOpen+2) {
+		ExpectedCondition<Object[]> popupOpened =
+			new ExpectedCondition<Object[]>() {
+				public Object[] apply(WebDriver driver) {
+					Object[] openWindowHandles = driver.getWindowHandles().toArray();
+					return (openWindowHandles.length > nPopupsAlreadyOpen+1) ? openWindowHandles : null;
+				}
+				
+				@Override
+				public String toString() {
+					return "pop-up window number " + (nPopupsAlreadyOpen+1) + " to open";
+				}
+			};
+		
+		Object[] openWindowHandles;
+		try {
+			openWindowHandles = adaptiveWait.until(popupOpened, timeOutInSeconds);
+		} catch (TimeoutException ex) {
 			throw new AutopiaException("The pop-up window did not open as expected!");
 		}
 		
@@ -0,0 +1,95 @@
+package com.autopia4j.framework.webdriver.core;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.autopia4j.framework.webdriver.core.DatasheetSnapshot.TestcaseRows;
+
+
+/**
+ * Tests for the test case row index of the {@link DatasheetSnapshot}
+ * @author vj
+ */
+public class DatasheetSnapshotTest {
+	private DatasheetSnapshot datasheet;
+	
+	@BeforeMethod
+	public void setUp() {
+		List<String[]> rows = new ArrayList<>();
+		rows.add(new String[] {"TC_ID", "Iteration", "SubIteration", "Username"});
+		rows.add(new String[] {"TC1", "1", "1", "alice"});
+		rows.add(new String[] {"TC1", "1", "2", "bob"});
+		rows.add(new String[] {"TC1", "2", "1", "carol"});
+		rows.add(new String[] {"TC1", "2", "2", "dave"});
+		rows.add(new String[] {"TC2", "1", "1", "erin"});
+		rows.add(new String[] {"", "", "", ""});
+		rows.add(new String[] {"TC3", "1"});
+		rows.add(new String[] {"TC3", "2"});
+		rows.add(new String[] {"TC3", "3"});
+		rows.add(new String[] {"TC2", "1", "1", "frank"});
+		datasheet = new DatasheetSnapshot(0, rows);
+	}
+	
+	@Test
+	public void testRowNumOfTestcaseIsTheStartOfItsFirstBlock() {
+		assertEquals(datasheet.getRowNum("TC1", 0), 1);
+		assertEquals(datasheet.getRowNum("TC2", 0), 5);
+		assertEquals(datasheet.getRowNum("TC3", 0), 7);
+		assertEquals(datasheet.getRowNum("TC4", 0), -1);
+	}
+	
+	@Test
+	public void testRowCountOfTestcaseIsTheSizeOfItsFirstBlock() {
+		assertEquals(datasheet.getRowCount("TC1", 0), 4);
+		assertEquals(datasheet.getRowCount("TC2", 0), 1);
+		assertEquals(datasheet.getRowCount("TC3", 0), 3);
+		assertEquals(datasheet.getRowCount("TC4", 0), 0);
+	}
+	
+	@Test
+	public void testIndexedLookupMatchesScan() {
+		for (String testcase : new String[] {"TC1", "TC2", "TC3"}) {
+			assertEquals(datasheet.getRowNum(testcase, 0), datasheet.getRowNum(testcase, 0, 0));
+			assertEquals(datasheet.getRowCount(testcase, 0),
+						datasheet.getRowCount(testcase, 0, datasheet.getRowNum(testcase, 0)));
+		}
+	}
+	
+	@Test
+	public void testTestcaseRowsOfSubIterativeTestcase() {
+		TestcaseRows testcaseRows = datasheet.getTestcaseRows("TC1");
+		assertEquals(testcaseRows.getStartRowNum(), 1);
+		assertEquals(testcaseRows.getRowCount(), 4);
+		assertEquals(testcaseRows.getSubIterationCount(), 2);
+		assertEquals(testcaseRows.getIterationCount(), 2);
+		assertEquals(testcaseRows.getIterationStartRowNum(1), 1);
+		assertEquals(testcaseRows.getIterationStartRowNum(2), 3);
+		assertEquals(datasheet.getValue(testcaseRows.getIterationStartRowNum(2), "Username"), "carol");
+	}
+	
+	@Test
+	public void testTestcaseRowsOfIterativeTestcase() {
+		TestcaseRows testcaseRows = datasheet.getTestcaseRows("TC3");
+		assertEquals(testcaseRows.getSubIterationCount(), 1);
+		assertEquals(testcaseRows.getIterationCount(), 3);
+		assertEquals(testcaseRows.getIterationStartRowNum(3), 9);
+	}
+	
+	@Test
+	public void testBlankRowsAndMissingTestcasesAreNotIndexed() {
+		assertNull(datasheet.getTestcaseRows(""));
+		assertNull(datasheet.getTestcaseRows("TC4"));
+	}
+	
+	@Test
+	public void testMissingCellsAreBlank() {
+		assertEquals(datasheet.getValue(7, 3), "");
+		assertEquals(datasheet.getValue(99, 0), "");
+	}
+}
\ No newline at end of file
@@ -0,0 +1,324 @@
+package com.autopia4j.framework.webdriver.core;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.openqa.selenium.WebDriver;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import com.autopia4j.framework.reporting.ReportSettings;
+import com.autopia4j.framework.webdriver.impl.keywordDriven.dataNonIterative.KeywordNonIterativeDriverScript;
+import com.autopia4j.framework.webdriver.impl.keywordDriven.dataNonIterative.KeywordNonIterativeTestScript;
+import com.autopia4j.framework.webdriver.impl.modular.basic.ModularBasicTestScript;
+import com.autopia4j.framework.webdriver.impl.modular.dataNonIterative.ModularNonIterativeTestScript;
+import com.autopia4j.framework.webdriver.reporting.WebDriverReport;
+
+
+/**
+ * Soak test which runs a batch of tests through the per-test set-up and tear-down of the framework test scripts
+ * (using stub WebDriver sessions and test reports), and verifies that the heap does not grow with the number of tests executed,
+ * and that no per-test state is left behind on the pooled threads<br>
+ * The test batch is configured by the Global Settings.properties and the datatables within src/test/resources
+ * @author vj
+ */
+public class TestBatchSoakTest {
+	private static final int N_THREADS = 4;
+	private static final int N_WARM_UP_TESTS = 1000;
+	private static final int N_TESTS = 10000;
+	private static final int SESSION_STATE_SIZE = 64 * 1024;
+	private static final long MAX_HEAP_GROWTH = 16L * 1024 * 1024;
+	
+	private final TestBatchHarness testBatchHarness = TestBatchHarness.getInstance();
+	private Path reportDirectory;
+	
+	@BeforeClass(groups = "soak")
+	public void setUpTestBatch() throws IOException {
+		reportDirectory = Files.createTempDirectory("autopia-soak");
+		System.setProperty("autopia.report.path", reportDirectory.toString());
+		
+		testBatchHarness.initialize();
+		testBatchHarness.initializeSummaryReport(N_THREADS);
+	}
+	
+	@AfterClass(groups = "soak", alwaysRun = true)
+	public void tearDownTestBatch() throws IOException {
+		System.clearProperty("autopia.report.path");
+		if (reportDirectory != null) {
+			Files.walk(reportDirectory).map(Path::toFile).sorted((first, second) -> second.compareTo(first))
+													.forEach(File::delete);
+		}
+	}
+	
+	@Test(groups = "soak")
+	public void testHeapRemainsFlatOverTestBatch() throws Exception {
+		List<SoakTestScript> testScripts = Arrays.asList(new ModularBasicSoakScript(),
+														new ModularNonIterativeSoakScript(),
+														new KeywordNonIterativeSoakScript());
+		ExecutorService testRunner = Executors.newFixedThreadPool(N_THREADS);
+		try {
+			runTests(testRunner, testScripts, N_WARM_UP_TESTS);
+			assertThreadLocalsEmpty(testRunner, testScripts);
+			long baselineHeap = getUsedHeap();
+			
+			runTests(testRunner, testScripts, N_TESTS);
+			assertThreadLocalsEmpty(testRunner, testScripts);
+			long finalHeap = getUsedHeap();
+			
+			assertTrue(finalHeap - baselineHeap < MAX_HEAP_GROWTH,
+						"The heap grew by " + (finalHeap - baselineHeap) + " bytes over " + N_TESTS + " tests");
+		} finally {
+			testRunner.shutdown();
+			testRunner.awaitTermination(1, TimeUnit.MINUTES);
+		}
+	}
+	
+	private void runTests(ExecutorService testRunner, List<SoakTestScript> testScripts, int nTests)
+																				throws Exception {
+		List<Future<?>> tests = new ArrayList<>(nTests);
+		for (int testNum = 0; testNum < nTests; testNum++) {
+			SoakTestScript testScript = testScripts.get(testNum % testScripts.size());
+			tests.add(testRunner.submit(() -> {
+				testScript.runTest();
+				return null;
+			}));
+		}
+		for (Future<?> test : tests) {
+			test.get();
+		}
+	}
+	
+	private void assertThreadLocalsEmpty(ExecutorService testRunner, List<SoakTestScript> testScripts)
+																				throws Exception {
+		Map<String, ThreadLocal<?>> threadLocals = new LinkedHashMap<>();
+		for (SoakTestScript testScript : testScripts) {
+			threadLocals.putAll(getThreadLocals(testScript));
+		}
+		threadLocals.putAll(getThreadLocals(TestWatchdog.getInstance()));
+		
+		// Each inspection holds its thread until all of them have started, so that every pooled thread is inspected
+		CountDownLatch allThreadsInspecting = new CountDownLatch(N_THREADS);
+		List<Future<?>> inspections = new ArrayList<>(N_THREADS);
+		for (int threadNum = 0; threadNum < N_THREADS; threadNum++) {
+			inspections.add(testRunner.submit(() -> {
+				allThreadsInspecting.countDown();
+				assertTrue(allThreadsInspecting.await(30, TimeUnit.SECONDS));
+				for (Map.Entry<String, ThreadLocal<?>> threadLocal : threadLocals.entrySet()) {
+					assertNull(threadLocal.getValue().get(), threadLocal.getKey() + " is not cleared on " +
+															Thread.currentThread().getName());
+				}
+				return null;
+			}));
+		}
+		for (Future<?> inspection : inspections) {
+			inspection.get();
+		}
+	}
+	
+	private Map<String, ThreadLocal<?>> getThreadLocals(Object frameworkObject) throws IllegalAccessException {
+		Map<String, ThreadLocal<?>> threadLocals = new LinkedHashMap<>();
+		for (Class<?> currentClass = frameworkObject.getClass(); currentClass != Object.class;
+															currentClass = currentClass.getSuperclass()) {
+			for (Field field : currentClass.getDeclaredFields()) {
+				if (ThreadLocal.class.isAssignableFrom(field.getType()) && !Modifier.isStatic(field.getModifiers())) {
+					field.setAccessible(true);
+					threadLocals.put(currentClass.getSimpleName() + "." + field.getName(),
+														(ThreadLocal<?>) field.get(frameworkObject));
+				}
+			}
+		}
+		return threadLocals;
+	}
+	
+	private long getUsedHeap() throws InterruptedException {
+		Runtime runtime = Runtime.getRuntime();
+		for (int gcCount = 0; gcCount < 5; gcCount++) {
+			System.gc();
+			Thread.sleep(100);
+		}
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+	
+	private static Method getTestMethod(Class<?> testScriptClass) {
+		try {
+			return testScriptClass.getMethod("runTest");
+		} catch (NoSuchMethodException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+	
+	
+	/**
+	 * Interface implemented by the test scripts executed by the soak test
+	 * @author vj
+	 */
+	private interface SoakTestScript {
+		/**
+		 * Function to run one test through the set-up, test method and tear-down of the test script, as done by TestNG
+		 */
+		void runTest();
+	}
+	
+	/**
+	 * {@link TestHarness} which creates stub WebDriver sessions and test reports
+	 * @author vj
+	 */
+	private static class StubTestHarness extends TestHarness {
+		
+		@Override
+		public WebDriver initializeWebDriver(WebDriverTestParameters testParameters) {
+			WebDriver driver = createStubDriver();
+			// As with the real sessions, the abort handler retains the session until the test watch is released
+			TestWatchdog.getInstance().onAbort(abortReason -> forceQuitWebDriver(driver));
+			return driver;
+		}
+		
+		@Override
+		public WebDriverReport initializeTestReport(WebDriverTestParameters testParameters, WebDriver driver) {
+			ReportSettings reportSettings = new ReportSettings(System.getProperty("autopia.report.path"),
+									testParameters.getCurrentModule() + "_" + testParameters.getCurrentTestcase());
+			WebDriverReport report = new WebDriverReport(reportSettings, null);
+			report.setDriver(driver);
+			return report;
+		}
+		
+		private WebDriver createStubDriver() {
+			byte[] sessionState = new byte[SESSION_STATE_SIZE];
+			return (WebDriver) Proxy.newProxyInstance(WebDriver.class.getClassLoader(),
+												new Class<?>[] {WebDriver.class},
+												(proxy, method, args) -> {
+													switch (method.getName()) {
+													case "hashCode":
+														return System.identityHashCode(proxy);
+													case "equals":
+														return proxy == args[0];
+													case "toString":
+														return "Stub WebDriver session (" + sessionState.length + " bytes)";
+													default:
+														return null;
+													}
+												});
+		}
+	}
+	
+	/**
+	 * {@link ModularBasicTestScript} executed by the soak test
+	 * @author vj
+	 */
+	private static class ModularBasicSoakScript extends ModularBasicTestScript implements SoakTestScript {
+		
+		@Override
+		protected TestHarness createTestHarness() {
+			return new StubTestHarness();
+		}
+		
+		@Override
+		public void runTest() {
+			setUpTestRunner(getTestMethod(getClass()), new Object[0]);
+			try {
+				ScriptHelper scriptHelper = currentScriptHelper.get();
+				SessionKeywordCache.getInstance().markCompleted(scriptHelper.getDriver(), "RunTest|login");
+				assertTrue(SessionKeywordCache.getInstance().hasCompleted(scriptHelper.getDriver(), "RunTest|login"));
+			} finally {
+				tearDownTestRunner();
+			}
+		}
+	}
+	
+	/**
+	 * {@link ModularNonIterativeTestScript} executed by the soak test
+	 * @author vj
+	 */
+	private static class ModularNonIterativeSoakScript extends ModularNonIterativeTestScript implements SoakTestScript {
+		
+		@Override
+		protected TestHarness createTestHarness() {
+			return new StubTestHarness();
+		}
+		
+		@Override
+		public void runTest() {
+			setUpTestRunner(getTestMethod(getClass()), new Object[0]);
+			try {
+				assertEquals(currentScriptHelper.get().getDataTable().getData("General_Data", "Username"), "soak");
+			} finally {
+				tearDownTestRunner();
+			}
+		}
+	}
+	
+	/**
+	 * {@link KeywordNonIterativeTestScript} executed by the soak test
+	 * @author vj
+	 */
+	private static class KeywordNonIterativeSoakScript extends KeywordNonIterativeTestScript implements SoakTestScript {
+		
+		@Override
+		public void runTest() {
+			setUpTestRunner();
+			try {
+				KeywordNonIterativeDriverScript driverScript =
+						new SoakDriverScript(new WebDriverTestParameters("Soak", currentTest));
+				driverScript.driveTestExecution();
+				assertTestPassed(driverScript);
+			} finally {
+				tearDownTestRunner();
+			}
+		}
+	}
+	
+	/**
+	 * {@link KeywordNonIterativeDriverScript} which executes a single budgeted keyword on a stub WebDriver session
+	 * @author vj
+	 */
+	private static class SoakDriverScript extends KeywordNonIterativeDriverScript {
+		
+		private SoakDriverScript(WebDriverTestParameters testParameters) {
+			super(testParameters);
+		}
+		
+		@Override
+		public void driveTestExecution() {
+			TestHarness testHarness = new StubTestHarness();
+			
+			testHarness.setDefaultTestParameters(testParameters);
+			driver = testHarness.initializeWebDriver(testParameters);
+			report = testHarness.initializeTestReport(testParameters, driver);
+			ScriptHelper scriptHelper = new ScriptHelper(testParameters, null, report, driver);
+			
+			// The budgeted keyword runs on a separate thread, and hence cannot read the thread local state
+			String keywordKey = TestWatchdog.getInstance().execute(testParameters.getKeywordTimeout(),
+											"Keyword Login", this::abort, () -> {
+												String key = testParameters.getCurrentTestcase() + "|login";
+												SessionKeywordCache.getInstance().markCompleted(scriptHelper.getDriver(), key);
+												return key;
+											});
+			assertTrue(SessionKeywordCache.getInstance().hasCompleted(driver, keywordKey));
+			
+			testHarness.quitWebDriver(driver);
+			executionTime = testHarness.tearDown(scriptHelper);
+			testHarness.closeTestReport(scriptHelper, executionTime);
+		}
+	}
+}
\ No newline at end of file
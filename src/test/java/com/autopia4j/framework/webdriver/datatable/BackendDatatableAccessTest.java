@@ -0,0 +1,156 @@
+package com.autopia4j.framework.webdriver.datatable;
+
+import static org.testng.Assert.assertEquals;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.autopia4j.framework.webdriver.core.DatatableCache;
+
+
+/**
+ * Tests for the reads of the {@link BackendDatatableAccess} through the {@link DatatableCache}
+ * @author vj
+ */
+public class BackendDatatableAccessTest {
+	private static final String DATATABLE_NAME = "Regression";
+	private static final String DATASHEET_NAME = "General_Data";
+	private static final int N_DATATABLES = 16;
+	
+	private CountingDatatableBackend datatableBackend;
+	private Path tempDirectory;
+	private String datatablePath;
+	
+	@BeforeMethod
+	public void setUp() throws IOException {
+		DatatableCache.getInstance().clear();
+		datatableBackend = new CountingDatatableBackend();
+		tempDirectory = Files.createTempDirectory("autopia-datatable");
+		datatablePath = tempDirectory.toString();
+		
+		List<String[]> rows = new ArrayList<>();
+		rows.add(new String[] {"TC_ID", "Iteration", "SubIteration", "Username"});
+		for (int testNum = 0; testNum < N_DATATABLES; testNum++) {
+			rows.add(new String[] {"TC" + testNum, "1", "1", "user" + testNum});
+		}
+		new File(datatablePath, DATATABLE_NAME).mkdirs();
+		datatableBackend.writeDatasheet(datatablePath, DATATABLE_NAME, DATASHEET_NAME, rows);
+	}
+	
+	@AfterMethod(alwaysRun = true)
+	public void tearDown() throws IOException {
+		DatatableCache.getInstance().clear();
+		if (tempDirectory != null) {
+			Files.walk(tempDirectory).map(Path::toFile).sorted((first, second) -> second.compareTo(first))
+													.forEach(File::delete);
+		}
+	}
+	
+	@Test
+	public void testConcurrentDatatablesParseWorkbookOnlyOnce() throws Exception {
+		ExecutorService testRunner = Executors.newFixedThreadPool(N_DATATABLES);
+		CountDownLatch allStarted = new CountDownLatch(N_DATATABLES);
+		try {
+			List<Future<String>> usernames = new ArrayList<>();
+			for (int testNum = 0; testNum < N_DATATABLES; testNum++) {
+				String testcase = "TC" + testNum;
+				usernames.add(testRunner.submit(() -> {
+					BackendDatatableAccess backendAccess =
+							new BackendDatatableAccess(datatablePath, DATATABLE_NAME, datatableBackend);
+					allStarted.countDown();
+					allStarted.await(30, TimeUnit.SECONDS);
+					return backendAccess.getData(testcase, 1, 1, DATASHEET_NAME, "Username");
+				}));
+			}
+			
+			for (int testNum = 0; testNum < N_DATATABLES; testNum++) {
+				assertEquals(usernames.get(testNum).get(30, TimeUnit.SECONDS), "user" + testNum);
+			}
+			assertEquals(datatableBackend.getReadCount(), 1);
+		} finally {
+			testRunner.shutdownNow();
+		}
+	}
+	
+	@Test
+	public void testWorkbookIsParsedAgainOnlyAfterUpdate() {
+		BackendDatatableAccess backendAccess =
+				new BackendDatatableAccess(datatablePath, DATATABLE_NAME, datatableBackend);
+		assertEquals(backendAccess.getData("TC1", 1, 1, DATASHEET_NAME, "Username"), "user1");
+		assertEquals(backendAccess.getData("TC2", 1, 1, DATASHEET_NAME, "Username"), "user2");
+		assertEquals(datatableBackend.getReadCount(), 1);
+		
+		backendAccess.putData(Collections.singletonList(
+								new DatatableUpdate("TC1", 1, 1, DATASHEET_NAME, "Username", "alice")));
+		// Ensure that the rewritten datasheet is detected, irrespective of the timestamp granularity of the file system
+		File datasheetFile = datatableBackend.getDatasheetFile(datatablePath, DATATABLE_NAME, DATASHEET_NAME);
+		datasheetFile.setLastModified(datasheetFile.lastModified() + 2000);
+		int readCount = datatableBackend.getReadCount();
+		
+		assertEquals(backendAccess.getData("TC1", 1, 1, DATASHEET_NAME, "Username"), "alice");
+		assertEquals(backendAccess.getData("TC2", 1, 1, DATASHEET_NAME, "Username"), "user2");
+		assertEquals(datatableBackend.getReadCount(), readCount + 1);
+	}
+	
+	
+	/**
+	 * {@link DatatableBackend} which counts the number of times the datasheets are parsed
+	 * @author vj
+	 */
+	private static class CountingDatatableBackend implements DatatableBackend {
+		private final DatatableBackend delegate = DatatableFormat.CSV.getBackend();
+		private final AtomicInteger readCount = new AtomicInteger();
+		
+		private int getReadCount() {
+			return readCount.get();
+		}
+		
+		@Override
+		public File getWorkbookFile(String datatablePath, String workbookName) {
+			return delegate.getWorkbookFile(datatablePath, workbookName);
+		}
+		
+		@Override
+		public File getDatasheetFile(String datatablePath, String workbookName, String sheetName) {
+			return delegate.getDatasheetFile(datatablePath, workbookName, sheetName);
+		}
+		
+		@Override
+		public List<String[]> readDatasheet(String datatablePath, String workbookName, String sheetName) {
+			readCount.incrementAndGet();
+			try {
+				// Widen the window within which the concurrent readers overlap
+				Thread.sleep(200);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return delegate.readDatasheet(datatablePath, workbookName, sheetName);
+		}
+		
+		@Override
+		public void writeDatasheet(String datatablePath, String workbookName, String sheetName, List<String[]> rows) {
+			delegate.writeDatasheet(datatablePath, workbookName, sheetName, rows);
+		}
+		
+		@Override
+		public void writeDatasheets(String datatablePath, String workbookName, Map<String, List<String[]>> datasheets) {
+			delegate.writeDatasheets(datatablePath, workbookName, datasheets);
+		}
+	}
+}
\ No newline at end of file
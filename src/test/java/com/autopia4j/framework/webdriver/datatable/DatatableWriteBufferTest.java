@@ -0,0 +1,123 @@
+package com.autopia4j.framework.webdriver.datatable;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.google.gson.Gson;
+
+
+/**
+ * Tests for the replay of the journaled datatable updates by the {@link DatatableWriteBuffer}
+ * @author vj
+ */
+public class DatatableWriteBufferTest {
+	private static final String DATATABLE_NAME = "Regression";
+	private static final String DATASHEET_NAME = "General_Data";
+	
+	private final Gson gson = new Gson();
+	private final DatatableBackend datatableBackend = DatatableFormat.CSV.getBackend();
+	private Path tempDirectory;
+	private String datatablePath;
+	private File journalDirectory;
+	
+	@BeforeMethod
+	public void setUp() throws IOException {
+		tempDirectory = Files.createTempDirectory("autopia-journal");
+		datatablePath = tempDirectory.resolve("datatables").toString();
+		journalDirectory = tempDirectory.resolve("journal").toFile();
+		journalDirectory.mkdirs();
+		
+		List<String[]> rows = new ArrayList<>();
+		rows.add(new String[] {"TC_ID", "Iteration", "SubIteration", "Username"});
+		rows.add(new String[] {"TC1", "1", "1", "alice"});
+		rows.add(new String[] {"TC1", "2", "1", "bob"});
+		rows.add(new String[] {"TC2", "1", "1", "carol"});
+		new File(datatablePath, DATATABLE_NAME).mkdirs();
+		datatableBackend.writeDatasheet(datatablePath, DATATABLE_NAME, DATASHEET_NAME, rows);
+	}
+	
+	@AfterMethod(alwaysRun = true)
+	public void tearDown() throws IOException {
+		if (tempDirectory != null) {
+			Files.walk(tempDirectory).map(Path::toFile).sorted((first, second) -> second.compareTo(first))
+													.forEach(File::delete);
+		}
+	}
+	
+	@Test
+	public void testRecoverReplaysJournaledUpdatesInOrder() throws IOException {
+		File journalFile = writeJournal(DATATABLE_NAME,
+									toJournalLine(DATATABLE_NAME, new DatatableUpdate("TC1", 2, 1, DATASHEET_NAME, "Username", "dave")),
+									toJournalLine(DATATABLE_NAME, new DatatableUpdate("TC2", 1, 1, DATASHEET_NAME, "Username", "erin")),
+									toJournalLine(DATATABLE_NAME, new DatatableUpdate("TC1", 2, 1, DATASHEET_NAME, "Username", "frank")));
+		
+		DatatableWriteBuffer.getInstance().recover(journalDirectory);
+		
+		List<String[]> rows = datatableBackend.readDatasheet(datatablePath, DATATABLE_NAME, DATASHEET_NAME);
+		assertEquals(rows.get(1), new String[] {"TC1", "1", "1", "alice"});
+		assertEquals(rows.get(2), new String[] {"TC1", "2", "1", "frank"});
+		assertEquals(rows.get(3), new String[] {"TC2", "1", "1", "erin"});
+		assertFalse(journalFile.exists());
+	}
+	
+	@Test
+	public void testRecoverIgnoresPartiallyWrittenLastLine() throws IOException {
+		String journalLine =
+				toJournalLine(DATATABLE_NAME, new DatatableUpdate("TC2", 1, 1, DATASHEET_NAME, "Username", "erin"));
+		File journalFile = writeJournal(DATATABLE_NAME, journalLine, journalLine.substring(0, journalLine.length() / 2));
+		
+		DatatableWriteBuffer.getInstance().recover(journalDirectory);
+		
+		List<String[]> rows = datatableBackend.readDatasheet(datatablePath, DATATABLE_NAME, DATASHEET_NAME);
+		assertEquals(rows.get(3), new String[] {"TC2", "1", "1", "erin"});
+		assertFalse(journalFile.exists());
+	}
+	
+	@Test
+	public void testRecoverDiscardsUpdatesToMissingDatatable() throws IOException {
+		File journalFile = writeJournal("Deleted",
+									toJournalLine("Deleted", new DatatableUpdate("TC1", 1, 1, DATASHEET_NAME, "Username", "dave")));
+		
+		DatatableWriteBuffer.getInstance().recover(journalDirectory);
+		
+		assertFalse(journalFile.exists());
+		assertFalse(new File(datatablePath, "Deleted").exists());
+	}
+	
+	@Test
+	public void testRecoverRetainsJournalOnFailure() throws IOException {
+		File journalFile = writeJournal(DATATABLE_NAME,
+									toJournalLine(DATATABLE_NAME, new DatatableUpdate("TC9", 1, 1, DATASHEET_NAME, "Username", "dave")));
+		
+		DatatableWriteBuffer.getInstance().recover(journalDirectory);
+		
+		assertTrue(journalFile.exists());
+		List<String[]> rows = datatableBackend.readDatasheet(datatablePath, DATATABLE_NAME, DATASHEET_NAME);
+		assertEquals(rows.size(), 4);
+	}
+	
+	private String toJournalLine(String datatableName, DatatableUpdate update) {
+		return gson.toJson(new PendingDatatableUpdates.JournalEntry(datatablePath, datatableName,
+																	DatatableFormat.CSV, update));
+	}
+	
+	private File writeJournal(String datatableName, String... journalLines) throws IOException {
+		File journalFile = new File(journalDirectory, datatableName + "-test" + DatatableWriteBuffer.JOURNAL_EXTENSION);
+		Files.write(journalFile.toPath(), Arrays.asList(journalLines), StandardCharsets.UTF_8);
+		return journalFile;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,69 @@
+package com.autopia4j.framework.webdriver.utils;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+import org.testng.annotations.Test;
+
+
+/**
+ * Tests for the translation of {@link By} locators by the {@link InPageLocator}
+ * @author vj
+ */
+public class InPageLocatorTest {
+	
+	@Test
+	public void testIdAndXpathAreEvaluatedDirectly() {
+		assertEquals(InPageLocator.toInPageLocator(By.id("username")), new String[] {"id", "username"});
+		assertEquals(InPageLocator.toInPageLocator(By.xpath("//div[@class='main']//input")),
+						new String[] {"xpath", "//div[@class='main']//input"});
+	}
+	
+	@Test
+	public void testSelectorLocatorsAreTranslatedToCss() {
+		assertEquals(InPageLocator.toInPageLocator(By.cssSelector("form > input.required")),
+						new String[] {"css", "form > input.required"});
+		assertEquals(InPageLocator.toInPageLocator(By.className("required")), new String[] {"css", ".required"});
+		assertEquals(InPageLocator.toInPageLocator(By.tagName("input")), new String[] {"css", "input"});
+	}
+	
+	@Test
+	public void testNameIsQuotedWithinAttributeSelector() {
+		assertEquals(InPageLocator.toInPageLocator(By.name("user")), new String[] {"css", "[name=\"user\"]"});
+		assertEquals(InPageLocator.toInPageLocator(By.name("a\"b\\c")), new String[] {"css", "[name=\"a\\\"b\\\\c\"]"});
+	}
+	
+	@Test
+	public void testValueContainingSeparatorIsPreserved() {
+		assertEquals(InPageLocator.toInPageLocator(By.cssSelector("a[title='Note: read']")),
+						new String[] {"css", "a[title='Note: read']"});
+	}
+	
+	@Test
+	public void testLinkTextLocatorsAreNotTranslated() {
+		assertNull(InPageLocator.toInPageLocator(By.linkText("Sign in")));
+		assertNull(InPageLocator.toInPageLocator(By.partialLinkText("Sign")));
+	}
+	
+	@Test
+	public void testCustomLocatorsAreNotTranslated() {
+		By customLocator = new By() {
+			@Override
+			public List<WebElement> findElements(SearchContext context) {
+				return Collections.emptyList();
+			}
+			
+			@Override
+			public String toString() {
+				return "Custom locator";
+			}
+		};
+		assertNull(InPageLocator.toInPageLocator(customLocator));
+	}
+}
\ No newline at end of file
@@ -0,0 +1,78 @@
+package com.autopia4j.framework.webdriver.utils;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.testng.annotations.Test;
+
+import com.autopia4j.framework.webdriver.utils.CommandTelemetry.CommandStatistic;
+
+
+/**
+ * Tests for the command telemetry recorded by the {@link InstrumentedWebDriver}
+ * @author vj
+ */
+public class InstrumentedWebDriverTest {
+	private static final long ASYNC_SCRIPT_DURATION = 300;
+	
+	@Test
+	public void testConcurrentCommandsAreRecordedSeparately() throws Exception {
+		CountDownLatch asyncScriptStarted = new CountDownLatch(1);
+		InstrumentedWebDriver driver = new InstrumentedWebDriver(createStubDriver(asyncScriptStarted));
+		ExecutorService testRunner = Executors.newFixedThreadPool(2);
+		try {
+			Future<Object> asyncScript = testRunner.submit(() -> driver.executeAsyncScript("callback(true);"));
+			Future<Object> script = testRunner.submit(() -> {
+				assertTrue(asyncScriptStarted.await(30, TimeUnit.SECONDS));
+				return driver.executeScript("return true;");
+			});
+			script.get(30, TimeUnit.SECONDS);
+			asyncScript.get(30, TimeUnit.SECONDS);
+		} finally {
+			testRunner.shutdownNow();
+		}
+		
+		Map<String, CommandStatistic> statistics = new HashMap<>();
+		for (CommandStatistic commandStatistic : driver.getTelemetry().getStatistics()) {
+			statistics.put(commandStatistic.getCommand(), commandStatistic);
+		}
+		assertEquals(statistics.keySet().size(), 2);
+		assertEquals(statistics.get("executeScript").getCount(), 1);
+		assertEquals(statistics.get("executeAsyncScript").getCount(), 1);
+		assertEquals(statistics.get("executeAsyncScript").getErrorCount(), 0);
+		assertTrue(statistics.get("executeAsyncScript").getMaxDuration() >= ASYNC_SCRIPT_DURATION);
+		assertTrue(statistics.get("executeScript").getMaxDuration() < ASYNC_SCRIPT_DURATION);
+	}
+	
+	private WebDriver createStubDriver(CountDownLatch asyncScriptStarted) {
+		return (WebDriver) Proxy.newProxyInstance(WebDriver.class.getClassLoader(),
+											new Class<?>[] {WebDriver.class, JavascriptExecutor.class},
+											(proxy, method, args) -> {
+												switch (method.getName()) {
+												case "executeAsyncScript":
+													asyncScriptStarted.countDown();
+													Thread.sleep(ASYNC_SCRIPT_DURATION);
+													return true;
+												case "executeScript":
+													return true;
+												case "hashCode":
+													return System.identityHashCode(proxy);
+												case "equals":
+													return proxy == args[0];
+												default:
+													return null;
+												}
+											});
+	}
+}
\ No newline at end of file
@@ -0,0 +1,71 @@
+package com.autopia4j.framework.webdriver.utils;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+import org.openqa.selenium.By;
+import org.testng.annotations.Test;
+
+
+/**
+ * Tests for the CSS selectors suggested by the {@link LocatorAnalyzer} in place of XPath expressions
+ * @author vj
+ */
+public class LocatorAnalyzerTest {
+	
+	@Test
+	public void testDescendantAndChildSteps() {
+		assertEquals(LocatorAnalyzer.suggestCssSelector(By.xpath("//form//input")), "form input");
+		assertEquals(LocatorAnalyzer.suggestCssSelector(By.xpath("//form/div/input")), "form > div > input");
+		assertEquals(LocatorAnalyzer.suggestCssSelector(By.xpath("/html/body")), "html > body");
+	}
+	
+	@Test
+	public void testAttributePredicates() {
+		assertEquals(LocatorAnalyzer.suggestCssSelector(By.xpath("//div[@id='main']//input[@name='q']")),
+						"div#main input[name='q']");
+		assertEquals(LocatorAnalyzer.suggestCssSelector(By.xpath("//*[@id='main']")), "#main");
+		assertEquals(LocatorAnalyzer.suggestCssSelector(By.xpath("//div[@id='1st']")), "div[id='1st']");
+		assertEquals(LocatorAnalyzer.suggestCssSelector(By.xpath("//*[@data-id]")), "[data-id]");
+		assertEquals(LocatorAnalyzer.suggestCssSelector(By.xpath("//input[@type='text'][@required]")),
+						"input[type='text'][required]");
+	}
+	
+	@Test
+	public void testAttributeFunctions() {
+		assertEquals(LocatorAnalyzer.suggestCssSelector(By.xpath("//a[contains(@href, 'login')]")),
+						"a[href*='login']");
+		assertEquals(LocatorAnalyzer.suggestCssSelector(By.xpath("//a[starts-with(@href, \"https\")]")),
+						"a[href^='https']");
+	}
+	
+	@Test
+	public void testQuotesWithinValues() {
+		assertEquals(LocatorAnalyzer.suggestCssSelector(By.xpath("//input[@value=\"it's\"]")),
+						"input[value=\"it's\"]");
+		assertEquals(LocatorAnalyzer.suggestCssSelector(By.xpath("//div[@title='a/b']/span")),
+						"div[title='a/b'] > span");
+	}
+	
+	@Test
+	public void testPositionalPredicates() {
+		assertEquals(LocatorAnalyzer.suggestCssSelector(By.xpath("//ul/li[2]")), "ul > li:nth-of-type(2)");
+		assertNull(LocatorAnalyzer.suggestCssSelector(By.xpath("//ul/*[2]")));
+	}
+	
+	@Test
+	public void testExpressionsWithoutCssEquivalent() {
+		assertNull(LocatorAnalyzer.suggestCssSelector(By.xpath("//button[text()='Save']")));
+		assertNull(LocatorAnalyzer.suggestCssSelector(By.xpath("//input/ancestor::form")));
+		assertNull(LocatorAnalyzer.suggestCssSelector(By.xpath("//input/..")));
+		assertNull(LocatorAnalyzer.suggestCssSelector(By.xpath("(//input)[1]")));
+		assertNull(LocatorAnalyzer.suggestCssSelector(By.xpath("input")));
+		assertNull(LocatorAnalyzer.suggestCssSelector(By.xpath("//div[@id='main'")));
+	}
+	
+	@Test
+	public void testNonXpathLocators() {
+		assertNull(LocatorAnalyzer.suggestCssSelector(By.id("main")));
+		assertNull(LocatorAnalyzer.suggestCssSelector(By.cssSelector("div#main")));
+	}
+}
\ No newline at end of file
@@ -0,0 +1,99 @@
+package com.autopia4j.framework.webdriver.utils;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+
+/**
+ * Tests for the ordering guarantees of the {@link SerialExecutor}
+ * @author vj
+ */
+public class SerialExecutorTest {
+	private static final int N_TASKS = 1000;
+	
+	private ExecutorService sharedExecutor;
+	
+	@BeforeMethod
+	public void setUp() {
+		sharedExecutor = Executors.newFixedThreadPool(8);
+	}
+	
+	@AfterMethod(alwaysRun = true)
+	public void tearDown() {
+		sharedExecutor.shutdownNow();
+	}
+	
+	@Test
+	public void testTasksRunOneAtATimeInSubmissionOrder() throws InterruptedException {
+		SerialExecutor serialExecutor = new SerialExecutor(sharedExecutor);
+		List<Integer> executionOrder = Collections.synchronizedList(new ArrayList<>());
+		AtomicInteger activeTasks = new AtomicInteger();
+		AtomicInteger maxActiveTasks = new AtomicInteger();
+		CountDownLatch completion = new CountDownLatch(N_TASKS);
+		
+		for (int taskNum = 0; taskNum < N_TASKS; taskNum++) {
+			final int currentTaskNum = taskNum;
+			serialExecutor.execute(() -> {
+				maxActiveTasks.accumulateAndGet(activeTasks.incrementAndGet(), Math::max);
+				executionOrder.add(currentTaskNum);
+				activeTasks.decrementAndGet();
+				completion.countDown();
+			});
+		}
+		
+		assertTrue(completion.await(30, TimeUnit.SECONDS));
+		assertEquals(maxActiveTasks.get(), 1);
+		for (int taskNum = 0; taskNum < N_TASKS; taskNum++) {
+			assertEquals(executionOrder.get(taskNum).intValue(), taskNum);
+		}
+	}
+	
+	@Test
+	public void testFailedTaskDoesNotBlockSubsequentTasks() throws InterruptedException {
+		SerialExecutor serialExecutor = new SerialExecutor(sharedExecutor);
+		CountDownLatch completion = new CountDownLatch(1);
+		
+		serialExecutor.execute(() -> {
+			throw new IllegalStateException("Expected failure");
+		});
+		serialExecutor.execute(completion::countDown);
+		
+		assertTrue(completion.await(30, TimeUnit.SECONDS));
+	}
+	
+	@Test
+	public void testSeparateSerialExecutorsRunConcurrently() throws InterruptedException {
+		SerialExecutor firstExecutor = new SerialExecutor(sharedExecutor);
+		SerialExecutor secondExecutor = new SerialExecutor(sharedExecutor);
+		CountDownLatch bothStarted = new CountDownLatch(2);
+		CountDownLatch completion = new CountDownLatch(2);
+		
+		Runnable task = () -> {
+			bothStarted.countDown();
+			try {
+				if (bothStarted.await(30, TimeUnit.SECONDS)) {
+					completion.countDown();
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		};
+		firstExecutor.execute(task);
+		secondExecutor.execute(task);
+		
+		assertTrue(completion.await(30, TimeUnit.SECONDS));
+	}
+}
\ No newline at end of file